@@ -0,0 +1,92 @@
+package aml.openwlf.api.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs CPU-bound screening work for request handlers.
+ * With virtual threads enabled (spring.threads.virtual.enabled on JDK 21+) requests are served
+ * on virtual threads, so matching is handed to a bounded pool of platform threads: the request
+ * thread parks cheaply while it waits, and matching never occupies more cores than the pool size.
+ * On platform request threads the work simply runs inline.
+ */
+@Slf4j
+@Component
+public class ScreeningExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "screening-cpu-";
+
+    private final ExecutorService cpuPool;
+
+    public ScreeningExecutor(Environment environment,
+                             @Value("${screening.cpu-pool.size:0}") int poolSize) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+            this.cpuPool = createPool(threads);
+            log.info("Virtual thread mode: screening runs on {} platform threads", threads);
+        } else {
+            this.cpuPool = null;
+        }
+    }
+
+    /**
+     * Whether screening is handed off to the platform thread pool
+     */
+    public boolean isOffloading() {
+        return cpuPool != null;
+    }
+
+    /**
+     * Run a screening task and return its result, rethrowing its unchecked exceptions as-is
+     */
+    public <T> T execute(Supplier<T> task) {
+        if (cpuPool == null) {
+            return task.get();
+        }
+
+        Future<T> future = cpuPool.submit(task::get);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for screening", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Screening failed", cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (cpuPool != null) {
+            cpuPool.shutdown();
+        }
+    }
+
+    private static ExecutorService createPool(int threads) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
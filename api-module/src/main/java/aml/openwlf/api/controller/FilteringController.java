@@ -1,13 +1,15 @@
 package aml.openwlf.api.controller;
 
+import aml.openwlf.api.config.ScreeningExecutor;
 import aml.openwlf.api.dto.*;
+import aml.openwlf.core.filtering.BatchFilteringService;
 import aml.openwlf.core.filtering.FilteringService;
+import aml.openwlf.core.model.BatchFilteringResult;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.FilteringResult;
 import aml.openwlf.core.model.MatchedRule;
-import aml.openwlf.data.entity.AlertEntity;
-import aml.openwlf.data.service.AlertService;
-import aml.openwlf.data.service.FilteringHistoryService;
+import aml.openwlf.core.model.ProfiledFilteringResult;
+import aml.openwlf.data.service.FilteringPersistencePipeline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,13 +17,18 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,15 +41,23 @@ import java.util.stream.Collectors;
 @Tag(name = "Watchlist Filtering", description = "APIs for watchlist filtering operations")
 public class FilteringController {
     
+    /**
+     * Request header that turns on the cost breakdown for one screening
+     */
+    public static final String PROFILE_HEADER = "X-Screening-Profile";
+    
     private final FilteringService filteringService;
-    private final FilteringHistoryService historyService;
-    private final AlertService alertService;
+    private final FilteringPersistencePipeline persistencePipeline;
+    private final BatchFilteringService batchFilteringService;
+    private final Validator validator;
+    private final ScreeningExecutor screeningExecutor;
     
     @PostMapping("/customer")
     @Operation(
             summary = "Filter customer against watchlists",
             description = "Checks customer information against all active watchlists and returns risk assessment. " +
-                    "If score >= 50, an alert is automatically created with NEW status."
+                    "If score >= 50, an alert is automatically created with NEW status. " +
+                    "Send " + PROFILE_HEADER + ": true to also get the cost breakdown of this screening."
     )
     @ApiResponses({
             @ApiResponse(
@@ -61,44 +76,36 @@ public class FilteringController {
     })
     public ResponseEntity<FilteringResponse> filterCustomer(
             @Parameter(description = "Customer information to filter", required = true)
-            @Valid @RequestBody CustomerFilterRequest request) {
+            @Valid @RequestBody CustomerFilterRequest request,
+            @Parameter(description = "Set to true to include the screening cost breakdown")
+            @RequestHeader(name = PROFILE_HEADER, defaultValue = "false") boolean profile) {
         
         log.info("Received filtering request for customer: {}", request.getName());
         
         // Convert DTO to domain model
-        CustomerInfo customerInfo = CustomerInfo.builder()
-                .name(request.getName())
-                .dateOfBirth(request.getDateOfBirth())
-                .nationality(request.getNationality())
-                .customerId(request.getCustomerId())
-                .build();
-        
-        // Perform filtering
-        FilteringResult result = filteringService.filterCustomer(customerInfo);
+        CustomerInfo customerInfo = toCustomerInfo(request);
         
-        // Save to history (async would be better in production)
-        try {
-            historyService.saveFilteringResult(result);
-        } catch (Exception e) {
-            log.error("Failed to save filtering history", e);
-            // Don't fail the request if history save fails
+        // Perform filtering (on the CPU pool when requests run on virtual threads)
+        ProfiledFilteringResult profiled = null;
+        FilteringResult result;
+        if (profile) {
+            profiled = screeningExecutor.execute(() -> filteringService.profileCustomer(customerInfo));
+            result = profiled.getResult();
+        } else {
+            result = screeningExecutor.execute(() -> filteringService.filterCustomer(customerInfo));
         }
         
-        // Create alert if score >= 50
-        String alertReference = null;
-        try {
-            Optional<AlertEntity> alert = alertService.createAlertIfNeeded(result);
-            if (alert.isPresent()) {
-                alertReference = alert.get().getAlertReference();
-                log.info("Alert created: {} for customer: {}", alertReference, request.getName());
-            }
-        } catch (Exception e) {
-            log.error("Failed to create alert", e);
-            // Don't fail the request if alert creation fails
+        // Save history and create alert if score >= 50 (synchronously or write-behind)
+        String alertReference = persistencePipeline.persist(result);
+        if (alertReference != null) {
+            log.info("Alert created: {} for customer: {}", alertReference, request.getName());
         }
         
         // Convert to response DTO
         FilteringResponse response = toFilteringResponse(result, alertReference);
+        if (profiled != null) {
+            response.setProfile(profiled.getProfile());
+        }
         
         log.info("Filtering completed: alert={}, score={}, alertReference={}", 
                 response.isAlert(), response.getScore(), alertReference);
@@ -106,12 +113,206 @@ public class FilteringController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/customer/profile")
+    @Operation(
+            summary = "Explain the cost of screening a customer",
+            description = "Screens the customer like /customer and returns the result with a cost breakdown: " +
+                    "stage timings, time per rule and per match type, entry counts after each stage, " +
+                    "the slowest watchlist entries and the bytes allocated by the screening thread. " +
+                    "The screening runs sequentially and bypasses the result cache. " +
+                    "Nothing is saved: no history entry or alert is created."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Profiling completed successfully",
+                    content = @Content(schema = @Schema(implementation = FilteringResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request data"
+            )
+    })
+    public ResponseEntity<FilteringResponse> profileCustomer(
+            @Parameter(description = "Customer information to profile", required = true)
+            @Valid @RequestBody CustomerFilterRequest request) {
+        
+        log.info("Received profiling request for customer: {}", request.getName());
+        
+        CustomerInfo customerInfo = toCustomerInfo(request);
+        ProfiledFilteringResult profiled = screeningExecutor.execute(
+                () -> filteringService.profileCustomer(customerInfo));
+        
+        FilteringResponse response = toFilteringResponse(profiled.getResult(), null);
+        response.setProfile(profiled.getProfile());
+        
+        log.info("Profiling completed: score={}, totalNanos={}, allocatedBytes={}",
+                response.getScore(), profiled.getProfile().getTotalNanos(), profiled.getProfile().getAllocatedBytes());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Filter a batch of customers against watchlists",
+            description = "Screens every customer against one watchlist snapshot and rule plan, in parallel on a bounded pool. " +
+                    "Invalid or failing customers are reported per item without failing the batch. " +
+                    "History and alerts (score >= 50) are saved in bulk. The batch size is limited by filtering.batch.max-size."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed (check per-item success flags)",
+                    content = @Content(schema = @Schema(implementation = BatchFilteringResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty batch or batch size exceeds the configured maximum"
+            )
+    })
+    public ResponseEntity<BatchFilteringResponse> filterBatch(
+            @Parameter(description = "Customers to filter", required = true)
+            @Valid @RequestBody BatchFilterRequest request) {
+        
+        long startNanos = System.nanoTime();
+        List<CustomerFilterRequest> requests = request.getCustomers();
+        int maxBatchSize = batchFilteringService.getMaxBatchSize();
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch size " + requests.size()
+                    + " exceeds maximum of " + maxBatchSize);
+        }
+        
+        log.info("Received batch filtering request for {} customers", requests.size());
+        
+        // Validate each item on its own so one bad record does not reject the batch
+        BatchFilteringResponse.ItemResult[] items = new BatchFilteringResponse.ItemResult[requests.size()];
+        List<Integer> screenedIndexes = new ArrayList<>();
+        List<CustomerInfo> customers = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String violation = validate(requests.get(i));
+            if (violation != null) {
+                items[i] = toFailedItem(i, requests.get(i), violation);
+            } else {
+                screenedIndexes.add(i);
+                customers.add(toCustomerInfo(requests.get(i)));
+            }
+        }
+        
+        // Screen all valid customers against one snapshot
+        BatchFilteringResult batchResult = batchFilteringService.filterCustomers(customers);
+        
+        List<Integer> succeededIndexes = new ArrayList<>();
+        List<FilteringResult> results = new ArrayList<>();
+        for (BatchFilteringResult.Item item : batchResult.getItems()) {
+            int index = screenedIndexes.get(item.getIndex());
+            if (item.isSuccess()) {
+                succeededIndexes.add(index);
+                results.add(item.getResult());
+            } else {
+                items[index] = toFailedItem(index, requests.get(index), item.getError());
+            }
+        }
+        
+        // Save history and alerts in bulk
+        long persistenceStartNanos = System.nanoTime();
+        List<String> alertReferences = persistencePipeline.persistAll(results);
+        long persistenceMillis = (System.nanoTime() - persistenceStartNanos) / 1_000_000;
+        
+        int alertCount = 0;
+        for (int k = 0; k < results.size(); k++) {
+            int index = succeededIndexes.get(k);
+            String alertReference = alertReferences.get(k);
+            if (alertReference != null) {
+                alertCount++;
+            }
+            items[index] = BatchFilteringResponse.ItemResult.builder()
+                    .index(index)
+                    .customerId(requests.get(index).getCustomerId())
+                    .success(true)
+                    .result(toFilteringResponse(results.get(k), alertReference))
+                    .build();
+        }
+        
+        BatchFilteringResponse response = BatchFilteringResponse.builder()
+                .totalCount(requests.size())
+                .successCount(results.size())
+                .failureCount(requests.size() - results.size())
+                .alertCount(alertCount)
+                .watchlistSize(batchResult.getWatchlistSize())
+                .ruleVersion(batchResult.getRuleVersion())
+                .items(Arrays.asList(items))
+                .timing(BatchFilteringResponse.Timing.builder()
+                        .screeningMillis(batchResult.getElapsedMillis())
+                        .persistenceMillis(persistenceMillis)
+                        .totalMillis((System.nanoTime() - startNanos) / 1_000_000)
+                        .build())
+                .build();
+        
+        log.info("Batch filtering completed: total={}, success={}, alerts={}, timing={}",
+                response.getTotalCount(), response.getSuccessCount(), alertCount, response.getTiming());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/persistence/stats")
+    @Operation(
+            summary = "Get persistence pipeline statistics",
+            description = "Retrieves the history/alert persistence mode, write-behind queue depth, throughput counters " +
+                    "and write lag (age of the oldest queued result and enqueue-to-commit time of the last batch)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved persistence statistics",
+            content = @Content(schema = @Schema(implementation = FilteringPersistencePipeline.PipelineStats.class))
+    )
+    public ResponseEntity<FilteringPersistencePipeline.PipelineStats> getPersistenceStats() {
+        return ResponseEntity.ok(persistencePipeline.getStats());
+    }
+    
     @GetMapping("/health")
     @Operation(summary = "Health check", description = "Check if the filtering service is operational")
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("Watchlist Filtering Service is operational");
     }
     
+    /**
+     * Bean-validate one batch item
+     * @return violation summary, or null when the item is valid
+     */
+    private String validate(CustomerFilterRequest request) {
+        if (request == null) {
+            return "Customer information is required";
+        }
+        
+        Set<ConstraintViolation<CustomerFilterRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+    
+    private BatchFilteringResponse.ItemResult toFailedItem(int index, CustomerFilterRequest request, String error) {
+        return BatchFilteringResponse.ItemResult.builder()
+                .index(index)
+                .customerId(request != null ? request.getCustomerId() : null)
+                .success(false)
+                .error(error)
+                .build();
+    }
+    
+    private CustomerInfo toCustomerInfo(CustomerFilterRequest request) {
+        return CustomerInfo.builder()
+                .name(request.getName())
+                .dateOfBirth(request.getDateOfBirth())
+                .nationality(request.getNationality())
+                .customerId(request.getCustomerId())
+                .customerType(request.getCustomerType())
+                .build();
+    }
+    
     private FilteringResponse toFilteringResponse(FilteringResult result, String alertReference) {
         return FilteringResponse.builder()
                 .alert(result.isAlert())
@@ -3,6 +3,7 @@ package aml.openwlf.api.controller;
 import aml.openwlf.config.rule.RuleConfiguration;
 import aml.openwlf.config.rule.RuleDefinition;
 import aml.openwlf.core.rule.RuleEngine;
+import aml.openwlf.core.rule.RuleExecutionPlan;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -121,6 +122,23 @@ public class RuleController {
         return ResponseEntity.ok(ruleEngine.getSupportedMatchTypes());
     }
     
+    @GetMapping("/execution-plan")
+    @Operation(
+            summary = "룰 실행 계획 조회",
+            description = "컴파일된 실행 계획의 룰 평가 순서(비용 낮은 순, 같은 비용이면 우선순위 순)와 "
+                    + "구조적 게이트별 생략 횟수를 반환합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    public ResponseEntity<Map<String, Object>> getExecutionPlan() {
+        RuleExecutionPlan plan = ruleEngine.getExecutionPlan();
+        
+        return ResponseEntity.ok(Map.of(
+                "version", plan.getSource().getVersion(),
+                "executionOrder", plan.getRules().stream().map(RuleDefinition::getId).toList(),
+                "gateSkips", plan.getGateStatistics()
+        ));
+    }
+    
     @GetMapping("/stats")
     @Operation(
             summary = "룰 통계 조회",
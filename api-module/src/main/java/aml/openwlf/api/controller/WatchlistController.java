@@ -1,7 +1,9 @@
 package aml.openwlf.api.controller;
 
 import aml.openwlf.api.dto.WatchlistEntryDto;
+import aml.openwlf.core.filtering.ScreeningResultCache;
 import aml.openwlf.data.entity.WatchlistEntryEntity;
+import aml.openwlf.data.service.SanctionsWatchlistService;
 import aml.openwlf.data.service.WatchlistDataService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class WatchlistController {
     
     private final WatchlistDataService watchlistDataService;
+    private final ScreeningResultCache screeningResultCache;
+    private final SanctionsWatchlistService sanctionsWatchlistService;
     
     @GetMapping
     @Operation(
@@ -144,6 +148,21 @@ public class WatchlistController {
         return ResponseEntity.ok(watchlistDataService.getCacheStats());
     }
     
+    @GetMapping("/cache/screening-results/stats")
+    @Operation(
+            summary = "Get screening result cache statistics",
+            description = "Retrieves hit/miss counts, hit ratio, occupancy and the watchlist version and rule generation the screening result cache is keyed to"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved screening result cache statistics",
+            content = @Content(schema = @Schema(implementation = ScreeningResultCache.CacheStats.class))
+    )
+    public ResponseEntity<ScreeningResultCache.CacheStats> getScreeningResultCacheStats() {
+        log.info("Fetching screening result cache statistics");
+        return ResponseEntity.ok(screeningResultCache.getStats());
+    }
+    
     @PostMapping("/cache/refresh")
     @Operation(
             summary = "Refresh watchlist cache",
@@ -171,6 +190,48 @@ public class WatchlistController {
         }
     }
     
+    @GetMapping("/cache/sanctions/stats")
+    @Operation(
+            summary = "Get sanctions watchlist cache statistics",
+            description = "Retrieves entry count, list sources, version and last refresh time of the cache built from the synced OFAC/UN/EU sanctions lists"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved sanctions watchlist cache statistics",
+            content = @Content(schema = @Schema(implementation = WatchlistDataService.CacheStats.class))
+    )
+    public ResponseEntity<WatchlistDataService.CacheStats> getSanctionsCacheStats() {
+        log.info("Fetching sanctions watchlist cache statistics");
+        return ResponseEntity.ok(sanctionsWatchlistService.getCacheStats());
+    }
+    
+    @PostMapping("/cache/sanctions/refresh")
+    @Operation(
+            summary = "Refresh sanctions watchlist cache",
+            description = "Manually reloads the sanctions watchlist cache from the synced sanctions tables"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cache refreshed successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to refresh cache"
+            )
+    })
+    public ResponseEntity<WatchlistDataService.CacheStats> refreshSanctionsCache() {
+        log.info("Manual sanctions watchlist cache refresh requested");
+        
+        try {
+            sanctionsWatchlistService.refreshCache();
+            return ResponseEntity.ok(sanctionsWatchlistService.getCacheStats());
+        } catch (Exception e) {
+            log.error("Failed to refresh sanctions watchlist cache", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
     private WatchlistEntryDto toDto(WatchlistEntryEntity entity) {
         return WatchlistEntryDto.builder()
                 .id(entity.getId())
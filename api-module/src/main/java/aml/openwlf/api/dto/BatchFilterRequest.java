@@ -0,0 +1,25 @@
+package aml.openwlf.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for batch customer filtering
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch of customers for watchlist filtering")
+public class BatchFilterRequest {
+    
+    @NotEmpty(message = "At least one customer is required")
+    @Schema(description = "Customers to filter (invalid items are reported per item, not rejected as a whole)")
+    private List<CustomerFilterRequest> customers;
+}
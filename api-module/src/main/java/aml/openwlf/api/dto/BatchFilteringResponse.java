@@ -0,0 +1,82 @@
+package aml.openwlf.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for batch filtering result
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch watchlist filtering result")
+public class BatchFilteringResponse {
+    
+    @Schema(description = "Number of customers in the request", example = "100")
+    private int totalCount;
+    
+    @Schema(description = "Number of customers screened successfully", example = "99")
+    private int successCount;
+    
+    @Schema(description = "Number of customers that failed validation or screening", example = "1")
+    private int failureCount;
+    
+    @Schema(description = "Number of alerts created", example = "3")
+    private int alertCount;
+    
+    @Schema(description = "Number of watchlist entries in the snapshot used for the whole batch", example = "15000")
+    private int watchlistSize;
+    
+    @Schema(description = "Rule configuration version used for the whole batch", example = "1.0.0")
+    private String ruleVersion;
+    
+    @Schema(description = "Per-item results in request order")
+    private List<ItemResult> items;
+    
+    @Schema(description = "Batch timing")
+    private Timing timing;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Filtering result for one customer of the batch")
+    public static class ItemResult {
+        @Schema(description = "Position of the customer in the request", example = "0")
+        private int index;
+        
+        @Schema(description = "Customer ID from the request", example = "CUST-12345")
+        private String customerId;
+        
+        @Schema(description = "Whether the customer was screened successfully")
+        private boolean success;
+        
+        @Schema(description = "Filtering result (present when success is true)")
+        private FilteringResponse result;
+        
+        @Schema(description = "Error message (present when success is false)", example = "name: Customer name is required")
+        private String error;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Batch timing in milliseconds")
+    public static class Timing {
+        @Schema(description = "Time spent screening all customers", example = "420")
+        private long screeningMillis;
+        
+        @Schema(description = "Time spent saving history and alerts", example = "35")
+        private long persistenceMillis;
+        
+        @Schema(description = "Total request processing time", example = "460")
+        private long totalMillis;
+    }
+}
@@ -33,4 +33,8 @@ public class CustomerFilterRequest {
     
     @Schema(description = "Customer ID (optional)", example = "CUST-12345")
     private String customerId;
+    
+    @Schema(description = "Customer type (optional)", example = "INDIVIDUAL",
+            allowableValues = {"INDIVIDUAL", "ENTITY"})
+    private String customerType;
 }
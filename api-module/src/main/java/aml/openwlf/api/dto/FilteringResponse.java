@@ -1,5 +1,7 @@
 package aml.openwlf.api.dto;
 
+import aml.openwlf.core.model.ScreeningProfile;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,4 +37,8 @@ public class FilteringResponse {
     
     @Schema(description = "Alert reference number (generated when score >= 50)", example = "ALT-20251228-A1B2C3D4")
     private String alertReference;
+    
+    @Schema(description = "Cost breakdown of the screening (profiled requests only)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ScreeningProfile profile;
 }
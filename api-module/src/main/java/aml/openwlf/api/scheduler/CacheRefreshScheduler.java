@@ -1,5 +1,7 @@
 package aml.openwlf.api.scheduler;
 
+import aml.openwlf.data.config.WatchlistProviderProperties;
+import aml.openwlf.data.service.SanctionsWatchlistService;
 import aml.openwlf.data.service.WatchlistDataService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,8 @@ import java.time.format.DateTimeFormatter;
 public class CacheRefreshScheduler {
     
     private final WatchlistDataService watchlistDataService;
+    private final SanctionsWatchlistService sanctionsWatchlistService;
+    private final WatchlistProviderProperties providerProperties;
     
     @Value("${cache.refresh.enabled:true}")
     private boolean refreshEnabled;
@@ -49,6 +53,10 @@ public class CacheRefreshScheduler {
             
             // 캐시 갱신 실행
             watchlistDataService.refreshCache();
+            if (providerProperties.usesSanctions()) {
+                // 배치가 별도 프로세스로 동기화한 경우에도 하루 한 번은 제재 리스트를 다시 읽음
+                sanctionsWatchlistService.refreshCache();
+            }
             
             // 갱신 후 상태
             WatchlistDataService.CacheStats afterStats = watchlistDataService.getCacheStats();
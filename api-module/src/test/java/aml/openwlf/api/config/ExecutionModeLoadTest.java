@@ -0,0 +1,162 @@
+package aml.openwlf.api.config;
+
+import aml.openwlf.api.OpenWlfApiApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares throughput and tail latency of the screening API with platform request threads
+ * (the default) and with virtual request threads plus the bounded screening CPU pool.
+ * Every request also writes filtering history and possibly an alert, so request threads
+ * spend part of their time blocked on JDBC.
+ *
+ * Excluded from the default test task; run with ./gradlew :api-module:loadTest
+ */
+@Tag("load")
+class ExecutionModeLoadTest {
+
+    private static final int CLIENTS = 400;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+
+    private static final String[] NAMES = {
+            "John Smith", "Vladimir Petrov", "Xyzabc Qwerty", "Kim Jong Un", "Maria Garcia",
+            "홍길동", "Ali Hassan", "Acme Trading LLC", "Jane Doe", "Mohammed Al-Rashid"
+    };
+
+    @Test
+    void comparePlatformAndVirtualThreadModes() throws Exception {
+        assumeTrue(JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE),
+                "Virtual threads require JDK 21+");
+
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        System.out.printf("%n%-10s %12s %10s %10s %10s%n", "mode", "req/s", "p50 ms", "p99 ms", "errors");
+        System.out.println(platform);
+        System.out.println(virtual);
+        System.out.printf("throughput x%.2f, p99 x%.2f (virtual / platform)%n%n",
+                virtual.throughput() / platform.throughput(), virtual.p99Millis() / platform.p99Millis());
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OpenWlfApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.aml.openwlf=WARN",
+                        "logging.level.org.hibernate=WARN")
+                .run()) {
+
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            URI uri = URI.create("http://localhost:" + port + "/api/filter/customer");
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(Executors.newFixedThreadPool(8))
+                    .build();
+
+            drive(client, uri, WARMUP_REQUESTS);
+
+            long start = System.nanoTime();
+            long[] latencies = drive(client, uri, MEASURED_REQUESTS);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            return LoadResult.of(mode, latencies, elapsedSeconds);
+        }
+    }
+
+    /**
+     * Issue the requests from a fixed set of closed-loop clients and return per-request
+     * latencies in nanoseconds (negative for failed requests)
+     */
+    private long[] drive(HttpClient client, URI uri, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        latencies[i] = send(client, uri, i);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return latencies;
+    }
+
+    private long send(HttpClient client, URI uri, int i) {
+        String body = String.format(
+                "{\"name\":\"%s\",\"dateOfBirth\":\"19%02d-01-01\",\"nationality\":\"US\",\"customerId\":\"LOAD-%d\"}",
+                NAMES[i % NAMES.length], 50 + i % 40, i);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long latency = System.nanoTime() - start;
+            return response.statusCode() == 200 ? latency : -1L;
+        } catch (Exception e) {
+            return -1L;
+        }
+    }
+
+    private record LoadResult(String mode, double throughput, double p50Millis, double p99Millis, int errors) {
+
+        static LoadResult of(String mode, long[] latencies, double elapsedSeconds) {
+            long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            int errors = latencies.length - succeeded.length;
+            return new LoadResult(mode, succeeded.length / elapsedSeconds,
+                    percentile(succeeded, 0.50), percentile(succeeded, 0.99), errors);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %12.1f %10.2f %10.2f %10d", mode, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package aml.openwlf.api.controller;
 
+import aml.openwlf.api.dto.BatchFilterRequest;
 import aml.openwlf.api.dto.CustomerFilterRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -69,6 +73,73 @@ class FilteringControllerTest {
                 .andExpect(jsonPath("$.explanation").exists());
     }
     
+    @Test
+    void testFilterCustomer_NoProfileByDefault() throws Exception {
+        CustomerFilterRequest request = CustomerFilterRequest.builder()
+                .name("John Smith")
+                .customerId("TEST-003")
+                .build();
+        
+        mockMvc.perform(post("/api/filter/customer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profile").doesNotExist());
+    }
+    
+    @Test
+    void testFilterCustomer_ProfileHeader() throws Exception {
+        CustomerFilterRequest request = CustomerFilterRequest.builder()
+                .name("John Smith")
+                .dateOfBirth(LocalDate.of(1975, 5, 15))
+                .nationality("US")
+                .customerId("TEST-004")
+                .build();
+        
+        mockMvc.perform(post("/api/filter/customer")
+                        .header(FilteringController.PROFILE_HEADER, "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").exists())
+                .andExpect(jsonPath("$.profile.totalNanos").exists())
+                .andExpect(jsonPath("$.profile.stageNanos.scan").exists())
+                .andExpect(jsonPath("$.profile.funnel.candidates").exists())
+                .andExpect(jsonPath("$.profile.rules").isArray())
+                .andExpect(jsonPath("$.profile.matchers").isArray());
+    }
+    
+    @Test
+    void testProfileCustomer() throws Exception {
+        CustomerFilterRequest request = CustomerFilterRequest.builder()
+                .name("John Smith")
+                .dateOfBirth(LocalDate.of(1975, 5, 15))
+                .nationality("US")
+                .customerId("TEST-005")
+                .build();
+        
+        mockMvc.perform(post("/api/filter/customer/profile")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alertReference").doesNotExist())
+                .andExpect(jsonPath("$.profile.terminationMode").exists())
+                .andExpect(jsonPath("$.profile.allocatedBytes").exists())
+                .andExpect(jsonPath("$.profile.slowestEntries").isArray());
+    }
+    
+    @Test
+    void testProfileCustomer_InvalidRequest() throws Exception {
+        CustomerFilterRequest request = CustomerFilterRequest.builder()
+                .name("")
+                .build();
+        
+        mockMvc.perform(post("/api/filter/customer/profile")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+    
     @Test
     void testFilterCustomer_InvalidRequest() throws Exception {
         CustomerFilterRequest request = CustomerFilterRequest.builder()
@@ -80,4 +151,78 @@ class FilteringControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+    
+    @Test
+    void testFilterBatch() throws Exception {
+        BatchFilterRequest request = BatchFilterRequest.builder()
+                .customers(List.of(
+                        CustomerFilterRequest.builder()
+                                .name("John Smith")
+                                .dateOfBirth(LocalDate.of(1975, 5, 15))
+                                .nationality("US")
+                                .customerId("BATCH-001")
+                                .build(),
+                        CustomerFilterRequest.builder()
+                                .name("Xyzabc Qwerty Testname")
+                                .customerId("BATCH-002")
+                                .build()))
+                .build();
+        
+        mockMvc.perform(post("/api/filter/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.successCount").value(2))
+                .andExpect(jsonPath("$.failureCount").value(0))
+                .andExpect(jsonPath("$.items[0].customerId").value("BATCH-001"))
+                .andExpect(jsonPath("$.items[0].result.score").exists())
+                .andExpect(jsonPath("$.items[1].customerId").value("BATCH-002"))
+                .andExpect(jsonPath("$.items[1].result.alert").value(false))
+                .andExpect(jsonPath("$.timing.totalMillis").exists());
+    }
+    
+    @Test
+    void testFilterBatch_InvalidItemReportedPerItem() throws Exception {
+        BatchFilterRequest request = BatchFilterRequest.builder()
+                .customers(List.of(
+                        CustomerFilterRequest.builder().name("").customerId("BATCH-003").build(),
+                        CustomerFilterRequest.builder().name("Xyzabc Qwerty Testname").customerId("BATCH-004").build()))
+                .build();
+        
+        mockMvc.perform(post("/api/filter/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successCount").value(1))
+                .andExpect(jsonPath("$.failureCount").value(1))
+                .andExpect(jsonPath("$.items[0].success").value(false))
+                .andExpect(jsonPath("$.items[0].error").exists())
+                .andExpect(jsonPath("$.items[1].success").value(true));
+    }
+    
+    @Test
+    void testFilterBatch_EmptyBatch() throws Exception {
+        BatchFilterRequest request = BatchFilterRequest.builder()
+                .customers(Collections.emptyList())
+                .build();
+        
+        mockMvc.perform(post("/api/filter/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void testFilterBatch_ExceedsMaxSize() throws Exception {
+        List<CustomerFilterRequest> customers = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            customers.add(CustomerFilterRequest.builder().name("Customer " + i).build());
+        }
+        
+        mockMvc.perform(post("/api/filter/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchFilterRequest(customers))))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,274 @@
+package aml.openwlf.api.controller;
+
+import aml.openwlf.api.OpenWlfApiApplication;
+import aml.openwlf.api.dto.CustomerFilterRequest;
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.core.testdata.SyntheticWatchlist;
+import aml.openwlf.data.entity.WatchlistEntryEntity;
+import aml.openwlf.data.service.WatchlistDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end screening load against a large synthetic watchlist.
+ * <p>
+ * Starts the application in-process on H2, seeds a generated watchlist through
+ * {@link WatchlistDataService} (by default 30k entries with about 150k aliases), then drives
+ * {@code /api/filter/customer} with a seeded customer stream from a fixed number of closed-loop
+ * clients per concurrency level. For each level it reports throughput, latency percentiles,
+ * GC count and time during the measured window, and heap usage.
+ * <p>
+ * Excluded from the default test task; run with
+ * {@code ./gradlew :api-module:loadTest --tests '*ScreeningLoadTest'} and override the defaults
+ * with {@code -Pload.<name>=<value>}: entries, aliases, collisionRate, scriptMix (latin,arabic,hangul),
+ * seed, concurrency (comma separated), requests (per level) and warmup.
+ */
+@Tag("load")
+class ScreeningLoadTest {
+
+    private static final int SEED_CHUNK = 5_000;
+
+    @Test
+    void screenCustomersAgainstLargeWatchlist() throws Exception {
+        double[] scriptMix = doubles(System.getProperty("load.scriptMix", "50,30,20"));
+        SyntheticWatchlist.Settings settings = SyntheticWatchlist.Settings.defaults()
+                .withSeed(Long.getLong("load.seed", 42L))
+                .withAliasesPerEntry(Integer.getInteger("load.aliases", 7))
+                .withCollisionRate(Double.parseDouble(System.getProperty("load.collisionRate", "0.05")))
+                .withScriptMix(scriptMix[0], scriptMix[1], scriptMix[2]);
+        int entryCount = Integer.getInteger("load.entries", 30_000);
+        int[] concurrencyLevels = Arrays.stream(System.getProperty("load.concurrency", "1,8,32,128").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        int requestsPerLevel = Integer.getInteger("load.requests", 10_000);
+        int warmupRequests = Integer.getInteger("load.warmup", 2_000);
+
+        SyntheticWatchlist generator = new SyntheticWatchlist(settings);
+        List<WatchlistEntry> entries = generator.entries(entryCount);
+        List<CustomerInfo> customers = generator.customers(entries, requestsPerLevel);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OpenWlfApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:screening-load;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.aml.openwlf=WARN",
+                        "logging.level.org.hibernate=WARN")
+                .run()) {
+
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            long seedStart = System.nanoTime();
+            int aliasCount = seed(context.getBean(WatchlistDataService.class), objectMapper, entries);
+            System.out.printf("%nseeded %d entries with %d aliases in %.1fs (seed %d, collision rate %.2f)%n",
+                    entries.size(), aliasCount, (System.nanoTime() - seedStart) / 1e9,
+                    settings.seed(), settings.collisionRate());
+
+            List<String> bodies = new ArrayList<>(customers.size());
+            for (CustomerInfo customer : customers) {
+                bodies.add(objectMapper.writeValueAsString(toRequest(customer)));
+            }
+
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            URI uri = URI.create("http://localhost:" + port + "/api/filter/customer");
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(Executors.newFixedThreadPool(8))
+                    .build();
+
+            drive(client, uri, bodies, Arrays.stream(concurrencyLevels).max().orElse(1), warmupRequests);
+
+            List<LevelResult> results = new ArrayList<>();
+            for (int clients : concurrencyLevels) {
+                results.add(measure(client, uri, bodies, clients, requestsPerLevel));
+            }
+
+            System.out.printf("%n%8s %10s %9s %9s %9s %9s %9s %7s %6s %8s %10s %10s%n",
+                    "clients", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+                    "errors", "gcs", "gc ms", "heap MB", "peak MB");
+            results.forEach(System.out::println);
+            System.out.println();
+
+            for (LevelResult result : results) {
+                assertThat(result.errors()).as("errors at %d clients", result.clients()).isZero();
+            }
+        }
+    }
+
+    /**
+     * Save the generated entries in chunks so each save applies one cache update
+     *
+     * @return number of aliases saved
+     */
+    private int seed(WatchlistDataService watchlistDataService, ObjectMapper objectMapper,
+                     List<WatchlistEntry> entries) throws Exception {
+        int aliasCount = 0;
+        List<WatchlistEntryEntity> chunk = new ArrayList<>(SEED_CHUNK);
+        for (WatchlistEntry entry : entries) {
+            aliasCount += entry.getAliases().size();
+            chunk.add(WatchlistEntryEntity.builder()
+                    .name(entry.getName())
+                    .aliases(objectMapper.writeValueAsString(entry.getAliases()))
+                    .dateOfBirth(entry.getDateOfBirth())
+                    .nationality(entry.getNationality())
+                    .listSource(entry.getListSource())
+                    .entryType(entry.getEntryType())
+                    .isActive(true)
+                    .versionDate(LocalDate.now())
+                    .build());
+            if (chunk.size() == SEED_CHUNK) {
+                watchlistDataService.saveAll(chunk);
+                chunk = new ArrayList<>(SEED_CHUNK);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            watchlistDataService.saveAll(chunk);
+        }
+        return aliasCount;
+    }
+
+    private LevelResult measure(HttpClient client, URI uri, List<String> bodies, int clients, int requests)
+            throws Exception {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+
+        long start = System.nanoTime();
+        long[] latencies = drive(client, uri, bodies, clients, requests);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long heapPeak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return LevelResult.of(clients, latencies, elapsedSeconds,
+                gcCount() - gcCountBefore, gcMillis() - gcMillisBefore, heapUsed, heapPeak);
+    }
+
+    /**
+     * Issue the requests from a fixed set of closed-loop clients and return per-request
+     * latencies in nanoseconds (negative for failed requests)
+     */
+    private long[] drive(HttpClient client, URI uri, List<String> bodies, int clients, int requests)
+            throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        latencies[i] = send(client, uri, bodies.get(i % bodies.size()));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return latencies;
+    }
+
+    private long send(HttpClient client, URI uri, String body) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long latency = System.nanoTime() - start;
+            return response.statusCode() == 200 ? latency : -1L;
+        } catch (Exception e) {
+            return -1L;
+        }
+    }
+
+    private static CustomerFilterRequest toRequest(CustomerInfo customer) {
+        return CustomerFilterRequest.builder()
+                .name(customer.getName())
+                .dateOfBirth(customer.getDateOfBirth())
+                .nationality(customer.getNationality())
+                .customerId(customer.getCustomerId())
+                .customerType(customer.getCustomerType())
+                .build();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(millis -> millis > 0)
+                .sum();
+    }
+
+    private static double[] doubles(String csv) {
+        return Arrays.stream(csv.split(",")).mapToDouble(value -> Double.parseDouble(value.trim())).toArray();
+    }
+
+    private record LevelResult(int clients, double throughput, double p50Millis, double p90Millis,
+                               double p99Millis, double p999Millis, double maxMillis, int errors,
+                               long gcCount, long gcMillis, long heapUsedBytes, long heapPeakBytes) {
+
+        static LevelResult of(int clients, long[] latencies, double elapsedSeconds,
+                              long gcCount, long gcMillis, long heapUsedBytes, long heapPeakBytes) {
+            long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            return new LevelResult(clients, succeeded.length / elapsedSeconds,
+                    percentile(succeeded, 0.50), percentile(succeeded, 0.90), percentile(succeeded, 0.99),
+                    percentile(succeeded, 0.999), percentile(succeeded, 1.0),
+                    latencies.length - succeeded.length, gcCount, gcMillis, heapUsedBytes, heapPeakBytes);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %6d %8d %10d %10d",
+                    clients, throughput, p50Millis, p90Millis, p99Millis, p999Millis, maxMillis,
+                    errors, gcCount, gcMillis, heapUsedBytes >> 20, heapPeakBytes >> 20);
+        }
+    }
+}
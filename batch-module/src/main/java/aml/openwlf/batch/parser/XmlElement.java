@@ -0,0 +1,126 @@
+package aml.openwlf.batch.parser;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StAX로 읽은 XML 엘리먼트 하나의 경량 트리
+ *
+ * 스트리밍 파서가 레코드 단위(DistinctParty 등) 서브트리만 메모리에 올릴 때 사용합니다.
+ * 조회 메서드는 W3C DOM의 Element와 같은 의미로 동작하므로(하위 엘리먼트 문서 순서 검색,
+ * 없는 속성은 빈 문자열, 하위 텍스트 전체 연결) DOM 기반 변환 로직을 그대로 옮겨 쓸 수 있습니다.
+ */
+final class XmlElement {
+
+    private final String name;
+    private final Map<String, String> attributes;
+    private final List<Object> content = new ArrayList<>();
+
+    private XmlElement(String name, Map<String, String> attributes) {
+        this.name = name;
+        this.attributes = attributes;
+    }
+
+    /**
+     * 현재 START_ELEMENT부터 짝이 되는 END_ELEMENT까지 읽어 트리 생성
+     *
+     * 반환 시 리더는 해당 엘리먼트의 END_ELEMENT에 위치합니다.
+     */
+    static XmlElement read(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement root = start(reader);
+        Deque<XmlElement> open = new ArrayDeque<>();
+        open.push(root);
+
+        while (!open.isEmpty()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    XmlElement child = start(reader);
+                    open.peek().content.add(child);
+                    open.push(child);
+                }
+                case XMLStreamConstants.END_ELEMENT -> open.pop();
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        open.peek().content.add(reader.getText());
+                default -> {
+                    // 주석·처리 명령은 DOM의 텍스트 내용에도 포함되지 않음
+                }
+            }
+        }
+        return root;
+    }
+
+    private static XmlElement start(XMLStreamReader reader) {
+        int count = reader.getAttributeCount();
+        Map<String, String> attributes = count == 0 ? Map.of() : new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            attributes.put(qualifiedName(reader.getAttributeName(i)), reader.getAttributeValue(i));
+        }
+        return new XmlElement(qualifiedName(reader.getName()), attributes);
+    }
+
+    /**
+     * 네임스페이스 비인식 DOM과 같은 접두사 포함 이름
+     */
+    static String qualifiedName(QName name) {
+        String prefix = name.getPrefix();
+        return prefix == null || prefix.isEmpty() ? name.getLocalPart() : prefix + ":" + name.getLocalPart();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * 속성 값 (없으면 빈 문자열)
+     */
+    String getAttribute(String attributeName) {
+        return attributes.getOrDefault(attributeName, "");
+    }
+
+    /**
+     * 이름이 같은 하위 엘리먼트를 문서 순서로 반환 (자기 자신 제외)
+     */
+    List<XmlElement> getElementsByTagName(String tagName) {
+        List<XmlElement> matches = new ArrayList<>();
+        collect(tagName, matches);
+        return matches;
+    }
+
+    private void collect(String tagName, List<XmlElement> matches) {
+        for (Object node : content) {
+            if (node instanceof XmlElement child) {
+                if (child.name.equals(tagName)) {
+                    matches.add(child);
+                }
+                child.collect(tagName, matches);
+            }
+        }
+    }
+
+    /**
+     * 하위 텍스트 전체를 문서 순서로 연결한 값
+     */
+    String getTextContent() {
+        StringBuilder text = new StringBuilder();
+        appendText(text);
+        return text.toString();
+    }
+
+    private void appendText(StringBuilder text) {
+        for (Object node : content) {
+            if (node instanceof XmlElement child) {
+                child.appendText(text);
+            } else {
+                text.append((String) node);
+            }
+        }
+    }
+}
@@ -12,8 +12,10 @@ import aml.openwlf.data.entity.EntityNameEntity;
 import aml.openwlf.data.entity.SanctionsEntity;
 import aml.openwlf.data.entity.SanctionsSyncHistoryEntity;
 import aml.openwlf.data.repository.SanctionsEntityRepository;
+import aml.openwlf.data.service.SanctionsSyncCompletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +43,7 @@ public class SanctionsSyncService {
     private final NormalizationService normalizationService;
     private final SanctionsDownloadProperties properties;
     private final SanctionsSyncHistoryService historyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * OFAC 제재 리스트 동기화
@@ -60,6 +63,7 @@ public class SanctionsSyncService {
             result.setDurationMs(java.time.Duration.between(history.getStartedAt(), LocalDateTime.now()).toMillis());
             
             historyService.completeSuccess(history.getHistoryId(), result);
+            publishSyncCompleted(result);
             return result;
             
         } catch (Exception e) {
@@ -88,6 +92,7 @@ public class SanctionsSyncService {
             result.setDurationMs(java.time.Duration.between(history.getStartedAt(), LocalDateTime.now()).toMillis());
             
             historyService.completeSuccess(history.getHistoryId(), result);
+            publishSyncCompleted(result);
             return result;
             
         } catch (Exception e) {
@@ -116,6 +121,7 @@ public class SanctionsSyncService {
             result.setDurationMs(java.time.Duration.between(history.getStartedAt(), LocalDateTime.now()).toMillis());
 
             historyService.completeSuccess(history.getHistoryId(), result);
+            publishSyncCompleted(result);
             return result;
 
         } catch (Exception e) {
@@ -205,6 +211,16 @@ public class SanctionsSyncService {
         return result;
     }
 
+    /**
+     * 변경이 있었던 동기화 완료를 알려 스크리닝 캐시가 해당 리스트를 다시 읽도록 함
+     */
+    private void publishSyncCompleted(SyncResult result) {
+        int changedCount = result.getInsertCount() + result.getUpdateCount() + result.getDeactivatedCount();
+        if (changedCount > 0) {
+            eventPublisher.publishEvent(new SanctionsSyncCompletedEvent(result.getSourceFile(), changedCount));
+        }
+    }
+
     private String generateExistingHash(SanctionsEntity entity) {
         ParsedSanctionsData parsed = ParsedSanctionsData.builder()
                 .sourceUid(entity.getSourceUid())
@@ -0,0 +1,380 @@
+package aml.openwlf.batch.parser;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streaming parse of a full-size synthetic OFAC Advanced XML file.
+ * <p>
+ * Writes a seeded file shaped like {@code sdn_advanced.xml} (reference values first, then by default
+ * 18k DistinctParty elements with aliases, features, addresses, ID documents and programs) and parses it
+ * through the streaming consumer API, which holds one party at a time, and through the list API the sync
+ * job uses. For each round it reports throughput, peak heap across all heap pools, peak old generation
+ * (what the parse actually retains), and GC count and time.
+ * <p>
+ * Excluded from the default test task; run with {@code ./gradlew :batch-module:loadTest} and override the
+ * defaults with {@code -Pload.<name>=<value>}: parties, seed, rounds, and heap (max heap of the test JVM,
+ * 512m by default, well below what a DOM of the same file needs).
+ */
+@Tag("load")
+class OfacXmlParserLoadTest {
+
+    private static final String[] SYLLABLES = {
+            "al", "an", "ba", "da", "el", "fa", "ha", "ib", "ja", "ka", "lu", "ma", "na", "or",
+            "ra", "sa", "ta", "ul", "va", "ya", "za", "mir", "dor", "kov", "han", "sul", "rim"};
+    private static final String[] ARABIC_SYLLABLES = {"عب", "د", "ال", "له", "مح", "مد", "حس", "ين", "كر", "يم"};
+    private static final String[] CITIES = {"Tehran", "Damascus", "Caracas", "Pyongyang", "Minsk", "Havana", "Dubai"};
+    private static final String[] PROGRAMS = {"SDGT", "IRAN", "SYRIA", "VENEZUELA-EO13850", "DPRK3", "BELARUS-EO14038"};
+    private static final String[][] COUNTRIES = {
+            {"AF", "Afghanistan"}, {"BY", "Belarus"}, {"CU", "Cuba"}, {"IR", "Iran"}, {"KP", "North Korea"},
+            {"RU", "Russia"}, {"SY", "Syria"}, {"VE", "Venezuela"}, {"AE", "United Arab Emirates"}, {"LB", "Lebanon"}};
+
+    @Test
+    void parseFullSizeAdvancedXml() throws Exception {
+        int partyCount = Integer.getInteger("load.parties", 18_000);
+        long seed = Long.getLong("load.seed", 42L);
+        int rounds = Integer.getInteger("load.rounds", 3);
+
+        Path file = Files.createTempFile("sdn_advanced-", ".xml");
+        try {
+            long writeStart = System.nanoTime();
+            writeAdvancedXml(file, partyCount, new Random(seed));
+            long fileBytes = Files.size(file);
+            System.out.printf("%nwrote %d parties, %.1f MB in %.1fs (seed %d, max heap %d MB)%n",
+                    partyCount, fileBytes / 1e6, (System.nanoTime() - writeStart) / 1e9, seed,
+                    Runtime.getRuntime().maxMemory() >> 20);
+
+            OfacXmlParser parser = new OfacXmlParser();
+            ParseRun streaming = in -> {
+                int[] names = new int[1];
+                int parsed = parser.parse(in, data -> names[0] += data.getNames().size());
+                assertThat(names[0]).isGreaterThanOrEqualTo(parsed);
+                return parsed;
+            };
+            ParseRun collecting = in -> parser.parse(in).size();
+
+            measure("warmup", file, fileBytes, streaming);
+            measure("warmup", file, fileBytes, collecting);
+
+            List<RoundResult> results = new ArrayList<>();
+            for (int round = 0; round < rounds; round++) {
+                results.add(measure("stream", file, fileBytes, streaming));
+                results.add(measure("list", file, fileBytes, collecting));
+            }
+
+            System.out.printf("%n%8s %9s %10s %8s %9s %9s %6s %8s%n",
+                    "mode", "seconds", "parties/s", "MB/s", "peak MB", "old MB", "gcs", "gc ms");
+            results.forEach(System.out::println);
+            System.out.println();
+
+            for (RoundResult result : results) {
+                assertThat(result.parsed()).as("%s parsed parties", result.mode()).isEqualTo(partyCount);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RoundResult measure(String mode, Path file, long fileBytes, ParseRun run) throws Exception {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+
+        long start = System.nanoTime();
+        int parsed;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024)) {
+            parsed = run.parse(in);
+        }
+        long nanos = System.nanoTime() - start;
+
+        long peakHeap = 0;
+        long peakOld = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            long peak = pool.getPeakUsage().getUsed();
+            peakHeap += peak;
+            if (pool.getName().contains("Old") || pool.getName().contains("Tenured")) {
+                peakOld += peak;
+            }
+        }
+        return new RoundResult(mode, parsed, nanos, fileBytes, peakHeap, peakOld,
+                gcCount() - gcCount, gcMillis() - gcMillis);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    /**
+     * Write an Advanced XML file with the reference value sets the parser resolves and the
+     * given number of parties (70% individuals, 25% entities, 5% vessels)
+     */
+    static void writeAdvancedXml(Path file, int partyCount, Random random) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n");
+            out.write("<Sanctions xmlns=\"http://www.un.org/sanctions/1.0\">\n");
+            writeReferenceValueSets(out);
+            out.write("  <DistinctParties>\n");
+            for (int i = 0; i < partyCount; i++) {
+                writeParty(out, 10_000 + i, random);
+            }
+            out.write("  </DistinctParties>\n");
+            out.write("</Sanctions>\n");
+        }
+    }
+
+    private static void writeReferenceValueSets(BufferedWriter out) throws IOException {
+        out.write("""
+                  <ReferenceValueSets>
+                    <AliasTypeValues>
+                      <AliasType ID="1400">A.K.A.</AliasType>
+                      <AliasType ID="1401">F.K.A.</AliasType>
+                      <AliasType ID="1402">N.K.A.</AliasType>
+                      <AliasType ID="1403">Name</AliasType>
+                    </AliasTypeValues>
+                    <FeatureTypeValues>
+                      <FeatureType ID="8">Birthdate</FeatureType>
+                      <FeatureType ID="10">Nationality</FeatureType>
+                      <FeatureType ID="25">Location</FeatureType>
+                      <FeatureType ID="224">Gender</FeatureType>
+                      <FeatureType ID="3">Vessel Flag</FeatureType>
+                    </FeatureTypeValues>
+                    <NamePartTypeValues>
+                      <NamePartType ID="1520">Last Name</NamePartType>
+                      <NamePartType ID="1521">First Name</NamePartType>
+                      <NamePartType ID="1522">Middle Name</NamePartType>
+                      <NamePartType ID="1525">Entity Name</NamePartType>
+                    </NamePartTypeValues>
+                    <PartySubTypeValues>
+                      <PartySubType ID="1" PartyTypeID="2">Vessel</PartySubType>
+                      <PartySubType ID="3" PartyTypeID="2">Entity</PartySubType>
+                      <PartySubType ID="4" PartyTypeID="1">Individual</PartySubType>
+                    </PartySubTypeValues>
+                    <ScriptValues>
+                      <Script ID="215" ScriptCode="Latn">Latin</Script>
+                      <Script ID="220" ScriptCode="Arab">Arabic</Script>
+                    </ScriptValues>
+                    <IDRegDocTypeValues>
+                      <IDRegDocType ID="1571">Passport</IDRegDocType>
+                      <IDRegDocType ID="1584">National ID No.</IDRegDocType>
+                      <IDRegDocType ID="1626">Vessel Registration Identification</IDRegDocType>
+                    </IDRegDocTypeValues>
+                    <DetailTypeValues>
+                      <DetailType ID="1450">City</DetailType>
+                      <DetailType ID="1451">State/Province</DetailType>
+                      <DetailType ID="1452">Postal Code</DetailType>
+                      <DetailType ID="1453">Address1</DetailType>
+                    </DetailTypeValues>
+                """);
+        out.write("      <AreaCodeValues>\n");
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            out.write("        <AreaCode ID=\"" + (10_000 + i) + "\" CountryID=\"" + (11_000 + i)
+                    + "\" Description=\"" + COUNTRIES[i][1] + "\">" + COUNTRIES[i][0] + "</AreaCode>\n");
+        }
+        out.write("      </AreaCodeValues>\n");
+        out.write("      <CountryValues>\n");
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            out.write("        <Country ID=\"" + (11_000 + i) + "\" ISO2=\"" + COUNTRIES[i][0] + "\">"
+                    + COUNTRIES[i][1] + "</Country>\n");
+        }
+        out.write("      </CountryValues>\n");
+        out.write("    </ReferenceValueSets>\n");
+    }
+
+    private static void writeParty(BufferedWriter out, int fixedRef, Random random) throws IOException {
+        int kind = random.nextInt(20);
+        boolean individual = kind < 14;
+        boolean vessel = kind == 19;
+        String subType = individual ? "4" : vessel ? "1" : "3";
+
+        out.write("    <DistinctParty FixedRef=\"" + fixedRef + "\">\n");
+        out.write("      <Comment />\n");
+        out.write("      <Profile ID=\"" + fixedRef + "\" PartySubTypeID=\"" + subType + "\">\n");
+        out.write("        <Identity ID=\"" + (fixedRef + 500_000) + "\" FixedRef=\"" + fixedRef
+                + "\" Primary=\"true\" False=\"false\">\n");
+        int aliases = 1 + random.nextInt(6);
+        for (int a = 0; a < aliases; a++) {
+            String aliasType = a == 0 ? "1403" : random.nextInt(4) == 0 ? "1401" : "1400";
+            boolean lowQuality = a > 0 && random.nextInt(5) == 0;
+            boolean arabic = individual && a > 0 && random.nextInt(6) == 0;
+            out.write("          <Alias FixedRef=\"" + fixedRef + "\" AliasTypeID=\"" + aliasType
+                    + "\" Primary=\"" + (a == 0) + "\" LowQuality=\"" + lowQuality + "\">\n");
+            out.write("            <DocumentedName ID=\"" + (fixedRef * 10 + a) + "\" FixedRef=\"" + fixedRef
+                    + "\" DocNameStatusID=\"1\">\n");
+            if (individual) {
+                writeNamePart(out, "1520", arabic, random);
+                writeNamePart(out, "1521", arabic, random);
+                if (random.nextBoolean()) {
+                    writeNamePart(out, "1522", arabic, random);
+                }
+            } else {
+                String name = capitalize(word(random, 3)) + (random.nextInt(8) == 0 ? " &amp; Co" : " Trading LLC");
+                writeNamePart(out, "1525", name, "215");
+            }
+            out.write("            </DocumentedName>\n");
+            out.write("          </Alias>\n");
+        }
+        out.write("        </Identity>\n");
+
+        int country = random.nextInt(COUNTRIES.length);
+        if (individual) {
+            out.write("        <Feature ID=\"" + fixedRef + "1\" FeatureTypeID=\"8\">\n");
+            out.write("          <FeatureVersion ID=\"" + fixedRef + "1\" ReliabilityID=\"1\">\n");
+            out.write("            <Comment />\n");
+            out.write("            <DatePeriod CalendarTypeID=\"1\" YearFixed=\"false\" MonthFixed=\"false\" DayFixed=\"false\">\n");
+            out.write("              <Start Approximate=\"false\" YearFixed=\"false\" MonthFixed=\"false\" DayFixed=\"false\">\n");
+            out.write("                <From><Year>" + (1940 + random.nextInt(60)) + "</Year><Month>"
+                    + (1 + random.nextInt(12)) + "</Month><Day>" + (1 + random.nextInt(28)) + "</Day></From>\n");
+            out.write("                <To><Year>2000</Year><Month>1</Month><Day>1</Day></To>\n");
+            out.write("              </Start>\n");
+            out.write("            </DatePeriod>\n");
+            out.write("          </FeatureVersion>\n");
+            out.write("        </Feature>\n");
+            writeDetailFeature(out, fixedRef + "2", "224", random.nextInt(4) == 0 ? "Female" : "Male");
+            writeLocationFeature(out, fixedRef + "3", "10", 11_000 + country);
+        } else if (vessel) {
+            writeLocationFeature(out, fixedRef + "3", "3", 11_000 + country);
+        }
+        writeLocationFeature(out, fixedRef + "4", "25", 11_000 + random.nextInt(COUNTRIES.length));
+
+        out.write("        <Location ID=\"" + fixedRef + "5\">\n");
+        out.write("          <LocationAreaCode AreaCodeID=\"" + (10_000 + country) + "\" />\n");
+        out.write("          <LocationCountry CountryID=\"" + (11_000 + country) + "\" />\n");
+        writeLocationPart(out, "1453", random.nextInt(900) + 1 + " " + capitalize(word(random, 2)) + " Street");
+        writeLocationPart(out, "1450", CITIES[random.nextInt(CITIES.length)]);
+        if (random.nextBoolean()) {
+            writeLocationPart(out, "1452", String.valueOf(10_000 + random.nextInt(90_000)));
+        }
+        out.write("        </Location>\n");
+
+        int documents = individual ? random.nextInt(3) : vessel ? 1 : 0;
+        for (int d = 0; d < documents; d++) {
+            String docType = vessel ? "1626" : d == 0 ? "1571" : "1584";
+            out.write("        <IDRegDocument ID=\"" + fixedRef + "6" + d + "\" IDRegDocTypeID=\"" + docType
+                    + "\" IdentityID=\"" + (fixedRef + 500_000) + "\">\n");
+            out.write("          <Comment>" + (random.nextBoolean() ? "issued " + word(random, 2) : "") + "</Comment>\n");
+            out.write("          <IDRegistrationNo>" + (char) ('A' + random.nextInt(26))
+                    + (1_000_000 + random.nextInt(9_000_000)) + "</IDRegistrationNo>\n");
+            out.write("          <IssuingAuthority>Ministry of " + capitalize(word(random, 2)) + "</IssuingAuthority>\n");
+            out.write("          <IDRegDocIssuedBy CountryID=\"" + (11_000 + country) + "\" />\n");
+            out.write("          <IDRegDocDateOfIssue><DatePeriod><Start><From><Year>" + (2005 + random.nextInt(10))
+                    + "</Year><Month>" + (1 + random.nextInt(12)) + "</Month><Day>" + (1 + random.nextInt(28))
+                    + "</Day></From></Start></DatePeriod></IDRegDocDateOfIssue>\n");
+            out.write("          <IDRegDocExpiry><DatePeriod><Start><From><Year>" + (2025 + random.nextInt(10))
+                    + "</Year></From></Start></DatePeriod></IDRegDocExpiry>\n");
+            out.write("        </IDRegDocument>\n");
+        }
+
+        int programs = 1 + random.nextInt(2);
+        for (int p = 0; p < programs; p++) {
+            out.write("        <SanctionsMeasure ID=\"" + fixedRef + "7" + p + "\" SanctionsTypeID=\"1\">\n");
+            out.write("          <SanctionsProgram>" + PROGRAMS[random.nextInt(PROGRAMS.length)] + "</SanctionsProgram>\n");
+            out.write("        </SanctionsMeasure>\n");
+        }
+        out.write("      </Profile>\n");
+        out.write("    </DistinctParty>\n");
+    }
+
+    private static void writeNamePart(BufferedWriter out, String partType, boolean arabic, Random random)
+            throws IOException {
+        if (arabic) {
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < 2 + random.nextInt(2); i++) {
+                name.append(ARABIC_SYLLABLES[random.nextInt(ARABIC_SYLLABLES.length)]);
+            }
+            writeNamePart(out, partType, name.toString(), "220");
+        } else {
+            writeNamePart(out, partType, capitalize(word(random, 2 + random.nextInt(2))), "215");
+        }
+    }
+
+    private static void writeNamePart(BufferedWriter out, String partType, String value, String script)
+            throws IOException {
+        out.write("              <DocumentedNamePart>\n");
+        out.write("                <NamePartValue NamePartGroupID=\"" + partType + "\" ScriptID=\"" + script
+                + "\" ScriptStatusID=\"1\" Acronym=\"false\">" + value + "</NamePartValue>\n");
+        out.write("              </DocumentedNamePart>\n");
+    }
+
+    private static void writeDetailFeature(BufferedWriter out, String id, String featureType, String value)
+            throws IOException {
+        out.write("        <Feature ID=\"" + id + "\" FeatureTypeID=\"" + featureType + "\">\n");
+        out.write("          <FeatureVersion ID=\"" + id + "\" ReliabilityID=\"1\">\n");
+        out.write("            <VersionDetail DetailTypeID=\"1432\">" + value + "</VersionDetail>\n");
+        out.write("          </FeatureVersion>\n");
+        out.write("        </Feature>\n");
+    }
+
+    private static void writeLocationFeature(BufferedWriter out, String id, String featureType, int countryId)
+            throws IOException {
+        out.write("        <Feature ID=\"" + id + "\" FeatureTypeID=\"" + featureType + "\">\n");
+        out.write("          <FeatureVersion ID=\"" + id + "\" ReliabilityID=\"1\">\n");
+        out.write("            <VersionLocation LocationID=\"" + countryId + "\" />\n");
+        out.write("          </FeatureVersion>\n");
+        out.write("        </Feature>\n");
+    }
+
+    private static void writeLocationPart(BufferedWriter out, String partType, String value) throws IOException {
+        out.write("          <LocationPart LocPartTypeID=\"" + partType + "\">\n");
+        out.write("            <LocationPartValue LocPartTypeID=\"" + partType + "\" Primary=\"true\">"
+                + value + "</LocationPartValue>\n");
+        out.write("          </LocationPart>\n");
+    }
+
+    private static String word(Random random, int syllables) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    @FunctionalInterface
+    private interface ParseRun {
+        int parse(InputStream in) throws Exception;
+    }
+
+    private record RoundResult(String mode, int parsed, long nanos, long bytes, long peakHeap, long peakOld,
+                               long gcs, long gcMillis) {
+
+        @Override
+        public String toString() {
+            double seconds = nanos / 1e9;
+            return String.format("%8s %9.2f %10.0f %8.1f %9.1f %9.1f %6d %8d",
+                    mode, seconds, parsed / seconds, bytes / 1e6 / seconds,
+                    peakHeap / 1048576.0, peakOld / 1048576.0, gcs, gcMillis);
+        }
+    }
+}
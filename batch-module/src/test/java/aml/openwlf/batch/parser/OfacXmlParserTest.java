@@ -6,9 +6,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import javax.xml.stream.XMLStreamException;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -234,6 +236,84 @@ class OfacXmlParserTest {
         }
     }
 
+    @Nested
+    @DisplayName("parse(InputStream, Consumer) - 스트리밍 파싱")
+    class StreamingParsing {
+
+        @Test
+        @DisplayName("DistinctParty를 문서 순서대로 콜백에 전달하고 전달 건수를 반환한다")
+        void shouldEmitPartiesInDocumentOrder() throws Exception {
+            // given
+            String xml = createOfacXmlWithMultipleParties();
+            InputStream inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+            List<ParsedSanctionsData> emitted = new ArrayList<>();
+
+            // when
+            int count = parser.parse(inputStream, emitted::add);
+
+            // then
+            assertThat(count).isEqualTo(2);
+            assertThat(emitted)
+                    .extracting(ParsedSanctionsData::getSourceUid)
+                    .containsExactly("OFAC-11111", "OFAC-22222");
+            assertThat(emitted)
+                    .extracting(ParsedSanctionsData::getEntityType)
+                    .containsExactly("Individual", "Entity");
+        }
+
+        @Test
+        @DisplayName("ReferenceValueSets가 DistinctParty 뒤에 있어도 참조값을 적용한다")
+        void shouldResolveReferenceValuesDeclaredAfterParties() throws Exception {
+            // given
+            String xml = createOfacXmlWithMultipleParties()
+                    .replaceFirst("(?s)(<ReferenceValueSets>.*</ReferenceValueSets>)\\s*(.*</DistinctParty>)",
+                            "$2\n$1");
+            InputStream inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+
+            // when
+            List<ParsedSanctionsData> result = parser.parse(inputStream);
+
+            // then
+            assertThat(xml.indexOf("<ReferenceValueSets>")).isGreaterThan(xml.lastIndexOf("</DistinctParty>"));
+            assertThat(result)
+                    .extracting(ParsedSanctionsData::getEntityType)
+                    .containsExactly("Individual", "Entity");
+        }
+
+        @Test
+        @DisplayName("이전 파싱의 참조값은 다음 파싱에 남지 않는다")
+        void shouldNotReuseReferenceValuesAcrossParses() throws Exception {
+            // given
+            String withReferences = createOfacXmlWithPartySubType("1", "Individual");
+            String withoutReferences = withReferences.replaceFirst("(?s)<ReferenceValueSets>.*</ReferenceValueSets>", "");
+            parser.parse(new ByteArrayInputStream(withReferences.getBytes(StandardCharsets.UTF_8)));
+
+            // when
+            List<ParsedSanctionsData> result =
+                    parser.parse(new ByteArrayInputStream(withoutReferences.getBytes(StandardCharsets.UTF_8)));
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getEntityType()).isEqualTo("Entity");
+        }
+
+        @Test
+        @DisplayName("외부 엔티티는 해석하지 않고 예외를 던진다")
+        void shouldRejectExternalEntities() {
+            // given
+            String xml = createBasicOfacXml()
+                    .replace("<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                                    + "<!DOCTYPE Sanctions [<!ENTITY xxe SYSTEM \"file:///etc/hostname\">]>")
+                    .replace("John Doe", "&xxe;");
+            InputStream inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+
+            // when & then
+            assertThatThrownBy(() -> parser.parse(inputStream))
+                    .isInstanceOf(XMLStreamException.class);
+        }
+    }
+
     // ========================================
     // Helper Methods for XML Generation
     // ========================================
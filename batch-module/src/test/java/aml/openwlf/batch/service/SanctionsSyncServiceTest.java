@@ -9,6 +9,7 @@ import aml.openwlf.core.normalization.NormalizationService;
 import aml.openwlf.data.entity.SanctionsEntity;
 import aml.openwlf.data.entity.SanctionsSyncHistoryEntity;
 import aml.openwlf.data.repository.SanctionsEntityRepository;
+import aml.openwlf.data.service.SanctionsSyncCompletedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.io.InputStream;
 import java.time.LocalDate;
@@ -53,6 +55,9 @@ class SanctionsSyncServiceTest {
     @Mock
     private SanctionsSyncHistoryService historyService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SanctionsDownloadProperties properties;
     private SanctionsSyncService syncService;
 
@@ -69,7 +74,8 @@ class SanctionsSyncServiceTest {
                 sanctionsRepository,
                 normalizationService,
                 properties,
-                historyService
+                historyService,
+                eventPublisher
         );
     }
 
@@ -104,6 +110,7 @@ class SanctionsSyncServiceTest {
             verify(downloadService).downloadOfacXmlAsBytes();
             verify(ofacXmlParser).parse(any(InputStream.class));
             verify(historyService).completeSuccess(eq(history.getHistoryId()), any(SyncResult.class));
+            verify(eventPublisher).publishEvent(new SanctionsSyncCompletedEvent("OFAC", 3));
         }
 
         @Test
@@ -124,6 +131,7 @@ class SanctionsSyncServiceTest {
             assertThat(result.getErrorMessage()).contains("Download failed");
             
             verify(historyService).completeFail(eq(history.getHistoryId()), anyString(), anyString());
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -0,0 +1,124 @@
+package aml.openwlf.benchmark;
+
+import aml.openwlf.core.filtering.CandidateIndex;
+import aml.openwlf.core.filtering.WatchlistProvider;
+import aml.openwlf.core.matching.NameFeatureCompiler;
+import aml.openwlf.core.rule.WatchlistColumns;
+import aml.openwlf.core.rule.WatchlistEntry;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.util.List;
+
+/**
+ * 벤치마크용 Spring 컨텍스트
+ *
+ * core·config 모듈의 컴포넌트를 운영과 같은 방식(@Value 기본값, 룰 YAML, @PostConstruct)으로 구성하고,
+ * 감시목록은 메모리 공급자로 대신한다. 설정은 시스템 속성으로 바꿀 수 있다.
+ * (예: -Dfiltering.parallel.enabled=true)
+ */
+public final class BenchmarkContext implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final InMemoryWatchlistProvider provider;
+
+    private BenchmarkContext(ConfigurableApplicationContext context, InMemoryWatchlistProvider provider) {
+        this.context = context;
+        this.provider = provider;
+    }
+
+    /**
+     * 컨텍스트 시작 후 감시목록 적재
+     *
+     * @param entries 감시목록 항목 (매칭 특징은 이 시점에 컴파일된다)
+     * @return 시작된 컨텍스트
+     */
+    public static BenchmarkContext start(List<WatchlistEntry> entries) {
+        InMemoryWatchlistProvider provider = new InMemoryWatchlistProvider();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Components.class)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties("logging.level.root=WARN")
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("watchlistProvider", provider))
+                .run();
+        BenchmarkContext benchmarkContext = new BenchmarkContext(context, provider);
+        benchmarkContext.load(entries);
+        return benchmarkContext;
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 데이터 서비스와 같은 순서로 특징 컴파일 → 후보 색인 → 열 배치를 만들어 교체
+     */
+    public void load(List<WatchlistEntry> entries) {
+        NameFeatureCompiler featureCompiler = bean(NameFeatureCompiler.class);
+        for (WatchlistEntry entry : entries) {
+            entry.setFeatures(featureCompiler.compileEntry(entry));
+        }
+        provider.replace(entries);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    @SpringBootConfiguration
+    @EnableConfigurationProperties
+    @ComponentScan(basePackages = {"aml.openwlf.core", "aml.openwlf.config"})
+    static class Components {
+    }
+
+    /**
+     * 메모리 감시목록 공급자
+     */
+    static final class InMemoryWatchlistProvider implements WatchlistProvider {
+
+        private volatile List<WatchlistEntry> entries = List.of();
+        private volatile CandidateIndex candidateIndex;
+        private volatile WatchlistColumns columns;
+        private volatile long version;
+
+        void replace(List<WatchlistEntry> newEntries) {
+            List<WatchlistEntry> snapshot = List.copyOf(newEntries);
+            candidateIndex = CandidateIndex.build(snapshot);
+            columns = WatchlistColumns.build(snapshot);
+            entries = snapshot;
+            version++;
+        }
+
+        @Override
+        public List<WatchlistEntry> getAllEntries() {
+            return entries;
+        }
+
+        @Override
+        public List<WatchlistEntry> getEntriesBySource(String source) {
+            return entries.stream()
+                    .filter(entry -> source.equals(entry.getListSource()))
+                    .toList();
+        }
+
+        @Override
+        public CandidateIndex getCandidateIndex() {
+            return candidateIndex;
+        }
+
+        @Override
+        public WatchlistColumns getColumns() {
+            return columns;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package aml.openwlf.benchmark;
+
+import aml.openwlf.core.filtering.FilteringService;
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.FilteringResult;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.core.testdata.SyntheticWatchlist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고객 한 명을 감시목록 전체와 대조하는 필터링
+ *
+ * 고객은 감시목록 이름 그대로 10%, 오타·표기 변형 25%, 무관한 이름 65%로 섞는다.
+ * 병렬 스캔·결과 캐시 등은 시스템 속성으로 켜서 비교한다. (예: -Dfiltering.parallel.enabled=true)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilteringServiceBenchmark {
+
+    private static final int CUSTOMERS = 256;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private BenchmarkContext context;
+    private FilteringService filteringService;
+    private CustomerInfo[] customers;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticWatchlist watchlist = new SyntheticWatchlist(42);
+        List<WatchlistEntry> entries = watchlist.entries(size);
+        context = BenchmarkContext.start(entries);
+        filteringService = context.bean(FilteringService.class);
+        customers = watchlist.customers(entries, CUSTOMERS).toArray(CustomerInfo[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public FilteringResult filterCustomer() {
+        return filteringService.filterCustomer(customers[cursor++ & (CUSTOMERS - 1)]);
+    }
+}
@@ -0,0 +1,71 @@
+package aml.openwlf.benchmark;
+
+import aml.openwlf.core.matching.strategy.JaroWinklerMatchingStrategy;
+import aml.openwlf.core.matching.strategy.KoreanNameMatchingStrategy;
+import aml.openwlf.core.matching.strategy.MatchingStrategy;
+import aml.openwlf.core.matching.strategy.MetaphoneMatchingStrategy;
+import aml.openwlf.core.matching.strategy.NGramMatchingStrategy;
+import aml.openwlf.core.matching.strategy.SoundexMatchingStrategy;
+import aml.openwlf.core.testdata.SyntheticWatchlist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매칭 전략별 이름 쌍 유사도 계산
+ *
+ * 표기 체계별로 오타·표기 변형 쌍과 무관한 쌍을 반씩 섞어 호출마다 다음 쌍을 계산한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatchingStrategyBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    @Param({"SOUNDEX", "METAPHONE", "JARO_WINKLER", "NGRAM", "KOREAN"})
+    private String strategyName;
+
+    @Param({"LATIN", "HANGUL", "ARABIC"})
+    private SyntheticWatchlist.Script script;
+
+    private MatchingStrategy strategy;
+    private String[] left;
+    private String[] right;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        strategy = List.of(
+                        new SoundexMatchingStrategy(),
+                        new MetaphoneMatchingStrategy(),
+                        new JaroWinklerMatchingStrategy(),
+                        new NGramMatchingStrategy(),
+                        new KoreanNameMatchingStrategy()).stream()
+                .filter(candidate -> candidate.getStrategyName().equals(strategyName))
+                .findFirst()
+                .orElseThrow();
+
+        List<String[]> pairs = new SyntheticWatchlist(42).namePairs(script, PAIRS);
+        left = new String[PAIRS];
+        right = new String[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            left[i] = pairs.get(i)[0];
+            right[i] = pairs.get(i)[1];
+        }
+    }
+
+    @Benchmark
+    public double calculateSimilarity() {
+        int i = cursor++ & (PAIRS - 1);
+        return strategy.calculateSimilarity(left[i], right[i]);
+    }
+}
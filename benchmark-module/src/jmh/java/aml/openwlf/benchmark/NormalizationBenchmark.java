@@ -0,0 +1,58 @@
+package aml.openwlf.benchmark;
+
+import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.testdata.SyntheticWatchlist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름 정규화와 정규화 후 편집 거리 유사도 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NormalizationBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    @Param({"LATIN", "HANGUL", "ARABIC"})
+    private SyntheticWatchlist.Script script;
+
+    private NormalizationService normalizationService;
+    private String[] left;
+    private String[] right;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        normalizationService = new NormalizationService();
+
+        List<String[]> pairs = new SyntheticWatchlist(42).namePairs(script, PAIRS);
+        left = new String[PAIRS];
+        right = new String[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            left[i] = pairs.get(i)[0];
+            right[i] = pairs.get(i)[1];
+        }
+    }
+
+    @Benchmark
+    public String normalizeName() {
+        return normalizationService.normalizeName(left[cursor++ & (PAIRS - 1)]);
+    }
+
+    @Benchmark
+    public double calculateSimilarity() {
+        int i = cursor++ & (PAIRS - 1);
+        return normalizationService.calculateSimilarity(left[i], right[i]);
+    }
+}
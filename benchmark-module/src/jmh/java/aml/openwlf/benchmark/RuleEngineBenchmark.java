@@ -0,0 +1,53 @@
+package aml.openwlf.benchmark;
+
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.rule.RuleEngine;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.core.testdata.SyntheticWatchlist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활성 룰 전체를 한 고객·감시목록 항목 쌍에 적용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RuleEngineBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    private BenchmarkContext context;
+    private RuleEngine ruleEngine;
+    private SyntheticWatchlist.ScreeningPair[] pairs;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticWatchlist watchlist = new SyntheticWatchlist(42);
+        List<WatchlistEntry> entries = watchlist.entries(4096);
+        context = BenchmarkContext.start(entries);
+        ruleEngine = context.bean(RuleEngine.class);
+        pairs = watchlist.screeningPairs(entries, PAIRS).toArray(SyntheticWatchlist.ScreeningPair[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MatchedRule> applyRules() {
+        SyntheticWatchlist.ScreeningPair pair = pairs[cursor++ & (PAIRS - 1)];
+        return ruleEngine.applyRules(pair.customer(), pair.entry());
+    }
+}
@@ -0,0 +1,68 @@
+package aml.openwlf.benchmark;
+
+import aml.openwlf.config.rule.RuleConfigurationLoader;
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.core.rule.evaluator.CompiledRule;
+import aml.openwlf.core.rule.evaluator.RuleEvaluatorRegistry;
+import aml.openwlf.core.testdata.SyntheticWatchlist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매칭 타입별 룰 평가기
+ *
+ * 룰 YAML에서 매칭 타입이 같은 첫 룰을 (비활성 룰 포함) 컴파일해
+ * 호출마다 다음 고객·감시목록 항목 쌍을 평가한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RuleEvaluatorBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    @Param({"EXACT", "FUZZY", "CONTAINS", "DATE_RANGE", "PHONETIC", "JARO_WINKLER", "NGRAM", "KOREAN", "COMPOSITE"})
+    private String matchType;
+
+    private BenchmarkContext context;
+    private CompiledRule rule;
+    private SyntheticWatchlist.ScreeningPair[] pairs;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticWatchlist watchlist = new SyntheticWatchlist(42);
+        List<WatchlistEntry> entries = watchlist.entries(4096);
+        context = BenchmarkContext.start(entries);
+
+        RuleDefinition definition = context.bean(RuleConfigurationLoader.class).getConfiguration().getRules().stream()
+                .filter(candidate -> matchType.equals(candidate.getCondition().getMatchType()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No rule for match type: " + matchType));
+        rule = context.bean(RuleEvaluatorRegistry.class).getEvaluator(matchType).compile(definition);
+        pairs = watchlist.screeningPairs(entries, PAIRS).toArray(SyntheticWatchlist.ScreeningPair[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MatchedRule> evaluate() {
+        SyntheticWatchlist.ScreeningPair pair = pairs[cursor++ & (PAIRS - 1)];
+        return rule.evaluate(pair.customer(), pair.entry());
+    }
+}
@@ -0,0 +1,206 @@
+package aml.openwlf.benchmark;
+
+import aml.openwlf.config.rule.RuleConfiguration;
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.collection.LongIntHashMap;
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.rule.RuleExecutionPlan;
+import aml.openwlf.core.rule.WatchlistColumns;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.core.rule.evaluator.DateRangeMatchEvaluator;
+import aml.openwlf.core.rule.evaluator.ExactMatchEvaluator;
+import aml.openwlf.core.rule.evaluator.FieldValueExtractor;
+import aml.openwlf.core.rule.evaluator.RuleEvaluatorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감시목록 객체 배치와 열(struct-of-arrays) 배치 비교
+ *
+ * 같은 데이터로 id 조회, 생년월일 범위 스캔, 룰 실행 계획 스캔을
+ * 객체 그래프 경로와 {@link WatchlistColumns} 경로로 각각 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WatchlistLayoutBenchmark {
+
+    private static final String[] NATIONALITIES = {"US", "GB", "KR", "RU", "IR", "KP", "SY", "CN"};
+    private static final String[] SOURCES = {"OFAC", "UN", "EU"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<WatchlistEntry> entries;
+    private WatchlistColumns columns;
+    private Map<Long, WatchlistEntry> boxedIds;
+    private LongIntHashMap primitiveIds;
+    private long[] lookupIds;
+    private RuleExecutionPlan plan;
+    private CustomerInfo customer;
+    private int customerDay;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(WatchlistEntry.builder()
+                    .id(1_000_000L + i * 7L)
+                    .name("Person " + i)
+                    .dateOfBirth(random.nextInt(10) == 0 ? null
+                            : LocalDate.of(1940, 1, 1).plusDays(random.nextInt(30_000)))
+                    .nationality(NATIONALITIES[random.nextInt(NATIONALITIES.length)])
+                    .listSource(SOURCES[random.nextInt(SOURCES.length)])
+                    .entryType(random.nextInt(5) == 0 ? "ENTITY" : "INDIVIDUAL")
+                    .build());
+        }
+        columns = WatchlistColumns.build(entries);
+
+        boxedIds = new HashMap<>();
+        primitiveIds = new LongIntHashMap(size);
+        for (int i = 0; i < size; i++) {
+            boxedIds.put(entries.get(i).getId(), entries.get(i));
+            primitiveIds.put(entries.get(i).getId(), i);
+        }
+        lookupIds = new long[1024];
+        for (int i = 0; i < lookupIds.length; i++) {
+            lookupIds[i] = entries.get(random.nextInt(size)).getId();
+        }
+
+        FieldValueExtractor fieldExtractor = new FieldValueExtractor();
+        RuleEvaluatorRegistry registry = new RuleEvaluatorRegistry(List.of(
+                new ExactMatchEvaluator(fieldExtractor, new NormalizationService()),
+                new DateRangeMatchEvaluator(fieldExtractor)));
+        registry.init();
+        plan = RuleExecutionPlan.compile(RuleConfiguration.builder()
+                .version("benchmark")
+                .rules(List.of(dobRule(), nationalityRule()))
+                .build(), registry);
+
+        customer = CustomerInfo.builder()
+                .name("Person 42")
+                .nationality("KR")
+                .dateOfBirth(LocalDate.of(1975, 6, 15))
+                .customerType("INDIVIDUAL")
+                .build();
+        customerDay = (int) customer.getDateOfBirth().toEpochDay();
+    }
+
+    @Benchmark
+    public void idLookupBoxed(Blackhole blackhole) {
+        for (long id : lookupIds) {
+            blackhole.consume(boxedIds.get(id));
+        }
+    }
+
+    @Benchmark
+    public void idLookupPrimitive(Blackhole blackhole) {
+        for (long id : lookupIds) {
+            blackhole.consume(primitiveIds.get(id));
+        }
+    }
+
+    @Benchmark
+    public int dobWindowObjects() {
+        LocalDate from = customer.getDateOfBirth().minusDays(365);
+        LocalDate to = customer.getDateOfBirth().plusDays(365);
+        int count = 0;
+        for (WatchlistEntry entry : entries) {
+            LocalDate dob = entry.getDateOfBirth();
+            if (dob != null && !dob.isBefore(from) && !dob.isAfter(to)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int dobWindowColumns() {
+        int count = 0;
+        for (int ordinal = 0, n = columns.size(); ordinal < n; ordinal++) {
+            int day = columns.dobEpochDay(ordinal);
+            if (day != WatchlistColumns.NO_DATE && Math.abs(day - customerDay) <= 365) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public void planScanObjects(Blackhole blackhole) {
+        for (WatchlistEntry entry : entries) {
+            blackhole.consume(plan.apply(customer, entry));
+        }
+    }
+
+    @Benchmark
+    public void planScanColumns(Blackhole blackhole) {
+        RuleExecutionPlan.ColumnScan scan = plan.bind(customer, columns);
+        for (WatchlistEntry entry : entries) {
+            List<MatchedRule> results = scan.apply(entry);
+            blackhole.consume(results);
+        }
+    }
+
+    private static RuleDefinition dobRule() {
+        return RuleDefinition.builder()
+                .id("DOB_MATCH")
+                .type("DOB")
+                .enabled(true)
+                .priority(1)
+                .condition(RuleDefinition.MatchCondition.builder()
+                        .matchType("DATE_RANGE")
+                        .sourceField("dateOfBirth")
+                        .targetField("dateOfBirth")
+                        .parameters(Map.of("rangeDays", 365))
+                        .build())
+                .score(RuleDefinition.ScoreConfig.builder()
+                        .exactMatch(30.0)
+                        .partialMatch(15.0)
+                        .maxScore(30.0)
+                        .build())
+                .gates(RuleDefinition.GateConfig.builder()
+                        .matchEntryType(true)
+                        .build())
+                .build();
+    }
+
+    private static RuleDefinition nationalityRule() {
+        return RuleDefinition.builder()
+                .id("NATIONALITY_MATCH")
+                .type("NATIONALITY")
+                .enabled(true)
+                .priority(2)
+                .condition(RuleDefinition.MatchCondition.builder()
+                        .matchType("EXACT")
+                        .sourceField("nationality")
+                        .targetField("nationality")
+                        .build())
+                .score(RuleDefinition.ScoreConfig.builder()
+                        .exactMatch(20.0)
+                        .maxScore(20.0)
+                        .build())
+                .gates(RuleDefinition.GateConfig.builder()
+                        .maxDobYearsApart(15)
+                        .build())
+                .build();
+    }
+}
@@ -42,7 +42,7 @@ public class RuleDefinition {
     private boolean enabled;
     
     /**
-     * 우선순위 (낮을수록 먼저 실행)
+     * 우선순위 (낮을수록 먼저 실행, 평가 비용이 같은 룰 사이의 실행 순서)
      */
     private int priority;
     
@@ -56,6 +56,11 @@ public class RuleDefinition {
      */
     private ScoreConfig score;
     
+    /**
+     * 구조적 게이트 (통과하지 못한 고객-항목 쌍에는 이 룰을 평가하지 않음)
+     */
+    private GateConfig gates;
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -174,4 +179,22 @@ public class RuleDefinition {
          */
         private double maxScore;
     }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GateConfig {
+        /**
+         * 고객과 항목의 생년월일이 이 연수보다 더 떨어져 있으면 평가 생략
+         * (둘 중 하나라도 생년월일이 없으면 통과)
+         */
+        private Integer maxDobYearsApart;
+        
+        /**
+         * true면 고객 유형과 항목 유형(entryType)이 다를 때 평가 생략
+         * (둘 중 하나라도 유형이 없으면 통과)
+         */
+        private boolean matchEntryType;
+    }
 }
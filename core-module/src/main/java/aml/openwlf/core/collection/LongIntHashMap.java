@@ -0,0 +1,222 @@
+package aml.openwlf.core.collection;
+
+/**
+ * long 키 → int 값 오픈 어드레싱 해시 맵
+ *
+ * 감시목록 id → 슬롯/ordinal 조회용입니다. 키와 값을 원시 배열에 나란히 저장하므로
+ * HashMap&lt;Long, Integer&gt;와 달리 항목마다 Long·Integer·Node 객체를 만들지 않고,
+ * 조회는 배열 두 개만 읽습니다. 선형 탐사(linear probing)를 사용하며, 삭제 시 뒤따르는
+ * 항목을 앞으로 당겨(backward shift) 삭제 표식 없이 탐사 구간을 유지합니다.
+ *
+ * 값은 0 이상이어야 합니다(없는 키는 MISSING 반환). 스레드 안전하지 않으므로 공유하는
+ * 인스턴스는 변경하지 말고 copy로 복사한 뒤 변경해야 합니다.
+ */
+public final class LongIntHashMap {
+
+    /**
+     * 키가 없을 때 반환하는 값
+     */
+    public static final int MISSING = -1;
+
+    private static final long EMPTY_KEY = 0L;
+    private static final int MIN_CAPACITY = 8;
+    private static final double LOAD_FACTOR = 0.6;
+
+    // 0은 빈 칸 표식이므로 키 0은 배열 밖에 따로 보관
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int shift;
+    private int size;
+    private int resizeAt;
+    private int zeroValue = MISSING;
+
+    public LongIntHashMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize 재할당 없이 담을 수 있어야 하는 키 수
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    private LongIntHashMap(LongIntHashMap source) {
+        this.keys = source.keys.clone();
+        this.values = source.values.clone();
+        this.mask = source.mask;
+        this.shift = source.shift;
+        this.size = source.size;
+        this.resizeAt = source.resizeAt;
+        this.zeroValue = source.zeroValue;
+    }
+
+    /**
+     * 키에 대응하는 값 (없으면 MISSING)
+     */
+    public int get(long key) {
+        if (key == EMPTY_KEY) {
+            return zeroValue;
+        }
+        int index = slot(key);
+        while (true) {
+            long current = keys[index];
+            if (current == key) {
+                return values[index];
+            }
+            if (current == EMPTY_KEY) {
+                return MISSING;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != MISSING;
+    }
+
+    /**
+     * 키에 값을 저장
+     *
+     * @param key 키
+     * @param value 값 (0 이상)
+     * @return 이전 값 (없었으면 MISSING)
+     */
+    public int put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        if (key == EMPTY_KEY) {
+            int previous = zeroValue;
+            zeroValue = value;
+            if (previous == MISSING) {
+                size++;
+            }
+            return previous;
+        }
+
+        int index = slot(key);
+        while (true) {
+            long current = keys[index];
+            if (current == key) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            if (current == EMPTY_KEY) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size > resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return MISSING;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * 키 삭제
+     *
+     * @return 삭제된 값 (없었으면 MISSING)
+     */
+    public int remove(long key) {
+        if (key == EMPTY_KEY) {
+            int previous = zeroValue;
+            if (previous != MISSING) {
+                zeroValue = MISSING;
+                size--;
+            }
+            return previous;
+        }
+
+        int index = slot(key);
+        while (true) {
+            long current = keys[index];
+            if (current == EMPTY_KEY) {
+                return MISSING;
+            }
+            if (current == key) {
+                int previous = values[index];
+                shiftBack(index);
+                size--;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 독립적으로 변경할 수 있는 복사본
+     */
+    public LongIntHashMap copy() {
+        return new LongIntHashMap(this);
+    }
+
+    /**
+     * 비워진 칸 뒤의 탐사 구간을 앞으로 당겨 조회가 빈 칸에서 끊기지 않도록 유지
+     */
+    private void shiftBack(int freed) {
+        int gap = freed;
+        int index = (gap + 1) & mask;
+        while (keys[index] != EMPTY_KEY) {
+            int home = slot(keys[index]);
+            // home이 (gap, index] 구간 밖이면 gap으로 옮겨도 탐사 경로가 유지됨
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = EMPTY_KEY;
+        values[gap] = 0;
+    }
+
+    private int slot(long key) {
+        // 피보나치 해싱: 상위 비트가 고르게 섞이므로 연속된 id도 흩어짐
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int index = slot(key);
+                while (keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1;
+        if (required > 1 << 30) {
+            throw new IllegalArgumentException("Too many keys: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+}
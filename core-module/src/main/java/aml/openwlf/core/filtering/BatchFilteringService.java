@@ -0,0 +1,161 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.core.model.BatchFilteringResult;
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.FilteringResult;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Screens a batch of customers against a single pinned snapshot.
+ * Items run on a dedicated fixed-size pool; each batch submits at most
+ * parallelism workers that pull items by index, so one large batch cannot
+ * flood the pool queue. Failures are captured per item and never abort the batch.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchFilteringService {
+    
+    private static final String THREAD_NAME_PREFIX = "screening-batch-";
+    
+    private final FilteringService filteringService;
+    private final FilteringProperties filteringProperties;
+    
+    private volatile ExecutorService pool;
+    
+    /**
+     * Maximum number of customers accepted in one batch
+     */
+    public int getMaxBatchSize() {
+        return filteringProperties.getBatch().getMaxSize();
+    }
+    
+    /**
+     * Screen customers and return per-item outcomes in input order
+     */
+    public BatchFilteringResult filterCustomers(List<CustomerInfo> customers) {
+        if (customers.size() > getMaxBatchSize()) {
+            throw new IllegalArgumentException("Batch size " + customers.size()
+                    + " exceeds maximum of " + getMaxBatchSize());
+        }
+        
+        long startNanos = System.nanoTime();
+        ScreeningSnapshot snapshot = filteringService.openSnapshot();
+        BatchFilteringResult.Item[] items = new BatchFilteringResult.Item[customers.size()];
+        
+        int workers = Math.min(customers.size(), getParallelism());
+        if (workers <= 1) {
+            for (int i = 0; i < customers.size(); i++) {
+                items[i] = screen(i, customers.get(i), snapshot);
+            }
+        } else {
+            runWorkers(workers, customers, snapshot, items);
+        }
+        
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Batch screening completed: {} customers against {} entries in {} ms",
+                customers.size(), snapshot.getEntries().size(), elapsedMillis);
+        
+        return BatchFilteringResult.builder()
+                .items(Arrays.asList(items))
+                .watchlistSize(snapshot.getEntries().size())
+                .ruleVersion(snapshot.getPlan().getSource().getVersion())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+    
+    private void runWorkers(int workers, List<CustomerInfo> customers, ScreeningSnapshot snapshot,
+                            BatchFilteringResult.Item[] items) {
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < customers.size(); i = next.getAndIncrement()) {
+                items[i] = screen(i, customers.get(i), snapshot);
+            }
+        };
+        
+        List<Future<?>> futures = new ArrayList<>(workers);
+        ExecutorService executor = getPool();
+        for (int w = 0; w < workers; w++) {
+            futures.add(executor.submit(worker));
+        }
+        
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch screening interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch screening worker failed", e.getCause());
+        }
+    }
+    
+    private BatchFilteringResult.Item screen(int index, CustomerInfo customer, ScreeningSnapshot snapshot) {
+        try {
+            FilteringResult result = filteringService.filterCustomer(customer, snapshot);
+            return BatchFilteringResult.Item.builder().index(index).result(result).build();
+        } catch (Exception e) {
+            log.error("Batch item {} failed for customer: {}", index, customer.getName(), e);
+            return BatchFilteringResult.Item.builder()
+                    .index(index)
+                    .error(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName())
+                    .build();
+        }
+    }
+    
+    private int getParallelism() {
+        int configured = filteringProperties.getBatch().getParallelism();
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+    
+    private ExecutorService getPool() {
+        ExecutorService current = pool;
+        if (current == null) {
+            synchronized (this) {
+                current = pool;
+                if (current == null) {
+                    current = createPool();
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    private ExecutorService createPool() {
+        int parallelism = getParallelism();
+        
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        
+        log.info("Starting batch screening pool with {} threads", parallelism);
+        return Executors.newFixedThreadPool(parallelism, factory);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        ExecutorService current = pool;
+        if (current != null) {
+            current.shutdown();
+        }
+    }
+}
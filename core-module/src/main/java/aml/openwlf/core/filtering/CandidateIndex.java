@@ -0,0 +1,418 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.core.rule.WatchlistEntry;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+/**
+ * 감시목록 후보 선별용 역색인 (Candidate Blocking)
+ *
+ * 이름/별칭을 정규화한 뒤 토큰 단위 Bigram(양 끝 '_' 패딩)으로 분해하여
+ * Bigram → 엔트리 ordinal 목록 형태의 역색인을 구성합니다.
+ * 한글 이름은 음절 Bigram 외에 초성 Bigram도 함께 색인하여
+ * 초성 매칭("김철수" ≈ "강창석")이 후보 단계에서 누락되지 않도록 합니다.
+ *
+ * 조회 시 고객 이름의 Bigram 중 일정 비율 이상을 공유하는 엔트리만 후보로 반환하며,
+ * 이 비율(recall floor)이 낮을수록 재현율은 높아지고 후보 수는 늘어납니다.
+ *
+ * 인스턴스는 불변입니다. 감시목록 캐시가 전체 갱신될 때는 새로 생성하고, 항목 단위 변경은
+ * withChanges로 기존 색인을 공유하는 새 인스턴스를 만들어 변경 건수에 비례하는 비용으로 반영합니다.
+ *
+ * 엔트리는 슬롯 번호(ordinal)로 식별하며, 빈 슬롯(null)은 색인하지 않습니다.
+ * 변경된 슬롯은 기본 색인에서 가리고(mask) 소규모 오버레이에 따로 보관하며,
+ * 오버레이가 COMPACTION_THRESHOLD를 넘으면 현재 슬롯 전체로 기본 색인을 다시 구성합니다.
+ */
+public final class CandidateIndex {
+
+    private static final char PAD = '_';
+    private static final int[] EMPTY_POSTING = new int[0];
+    private static final WatchlistEntry[] NO_ENTRIES = new WatchlistEntry[0];
+    private static final int[][] NO_GRAMS = new int[0][];
+
+    /**
+     * 기본 색인을 재구성하기 전까지 허용하는 변경 슬롯 수 (조회 시 오버레이는 선형 비교)
+     */
+    static final int COMPACTION_THRESHOLD = 512;
+
+    private static final char[] CHOSUNG_LIST = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 기본 색인: 슬롯별 엔트리와 Bigram → 슬롯 목록
+    private final WatchlistEntry[] baseEntries;
+    private final Map<Integer, int[]> postings;
+
+    // 기본 색인 이후 변경분: 가려진 기본 슬롯(정렬), 오버레이 슬롯(정렬)과 엔트리·Bigram
+    private final int[] maskedSlots;
+    private final int[] overlaySlots;
+    private final WatchlistEntry[] overlayEntries;
+    private final int[][] overlayGrams;
+
+    private final int size;
+    private volatile List<WatchlistEntry> liveEntries;
+
+    private CandidateIndex(WatchlistEntry[] baseEntries, Map<Integer, int[]> postings, int[] maskedSlots,
+                           int[] overlaySlots, WatchlistEntry[] overlayEntries, int[][] overlayGrams, int size) {
+        this.baseEntries = baseEntries;
+        this.postings = postings;
+        this.maskedSlots = maskedSlots;
+        this.overlaySlots = overlaySlots;
+        this.overlayEntries = overlayEntries;
+        this.overlayGrams = overlayGrams;
+        this.size = size;
+    }
+
+    /**
+     * 감시목록 엔트리 목록으로부터 역색인 생성
+     *
+     * @param entries 감시목록 엔트리 (순서가 ordinal이 됨)
+     * @return 불변 역색인
+     */
+    public static CandidateIndex build(List<WatchlistEntry> entries) {
+        return buildSlots(entries.toArray(NO_ENTRIES));
+    }
+
+    /**
+     * 슬롯 배열로부터 역색인 생성 (null 슬롯은 비어 있는 것으로 간주)
+     */
+    private static CandidateIndex buildSlots(WatchlistEntry[] slots) {
+        Map<Integer, GrowableIntArray> building = new HashMap<>();
+        int size = 0;
+
+        for (int ordinal = 0; ordinal < slots.length; ordinal++) {
+            if (slots[ordinal] == null) {
+                continue;
+            }
+            size++;
+            for (int gram : entryGrams(slots[ordinal])) {
+                building.computeIfAbsent(gram, k -> new GrowableIntArray()).add(ordinal);
+            }
+        }
+
+        Map<Integer, int[]> postings = new HashMap<>(building.size() * 2);
+        building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+
+        return new CandidateIndex(slots, postings, EMPTY_POSTING, EMPTY_POSTING, NO_ENTRIES, NO_GRAMS, size);
+    }
+
+    /**
+     * 슬롯 단위 변경을 반영한 새 역색인 생성
+     *
+     * 기존 인스턴스는 그대로 유지되므로, 이미 이 색인을 사용 중인 요청에는 영향이 없습니다.
+     * 누적 변경 슬롯이 COMPACTION_THRESHOLD를 넘으면 slots로 전체 색인을 다시 구성합니다.
+     *
+     * @param changes 변경된 슬롯 → 새 엔트리 (null이면 빈 슬롯)
+     * @param slots 변경 반영 후 슬롯 조회 함수 (재구성 시 사용)
+     * @param slotCount 변경 반영 후 슬롯 수
+     * @return 변경이 반영된 불변 역색인
+     */
+    public CandidateIndex withChanges(Map<Integer, WatchlistEntry> changes,
+                                      IntFunction<WatchlistEntry> slots, int slotCount) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+
+        TreeMap<Integer, WatchlistEntry> overlay = new TreeMap<>();
+        Map<Integer, int[]> grams = new HashMap<>();
+        for (int i = 0; i < overlaySlots.length; i++) {
+            overlay.put(overlaySlots[i], overlayEntries[i]);
+            grams.put(overlaySlots[i], overlayGrams[i]);
+        }
+        TreeSet<Integer> masked = new TreeSet<>();
+        for (int slot : maskedSlots) {
+            masked.add(slot);
+        }
+
+        int newSize = size;
+        for (Map.Entry<Integer, WatchlistEntry> change : changes.entrySet()) {
+            int slot = change.getKey();
+            WatchlistEntry entry = change.getValue();
+
+            if (overlay.remove(slot) != null || (isBaseSlot(slot) && masked.add(slot))) {
+                newSize--;
+            }
+            grams.remove(slot);
+            if (entry != null) {
+                overlay.put(slot, entry);
+                grams.put(slot, entryGrams(entry));
+                newSize++;
+            }
+        }
+
+        if (overlay.size() + masked.size() > COMPACTION_THRESHOLD) {
+            WatchlistEntry[] compacted = new WatchlistEntry[slotCount];
+            for (int slot = 0; slot < slotCount; slot++) {
+                compacted[slot] = slots.apply(slot);
+            }
+            return buildSlots(compacted);
+        }
+
+        int[] newOverlaySlots = new int[overlay.size()];
+        WatchlistEntry[] newOverlayEntries = new WatchlistEntry[overlay.size()];
+        int[][] newOverlayGrams = new int[overlay.size()][];
+        int i = 0;
+        for (Map.Entry<Integer, WatchlistEntry> entry : overlay.entrySet()) {
+            newOverlaySlots[i] = entry.getKey();
+            newOverlayEntries[i] = entry.getValue();
+            newOverlayGrams[i] = grams.get(entry.getKey());
+            i++;
+        }
+        int[] newMaskedSlots = masked.stream().mapToInt(Integer::intValue).toArray();
+
+        return new CandidateIndex(baseEntries, postings, newMaskedSlots,
+                newOverlaySlots, newOverlayEntries, newOverlayGrams, newSize);
+    }
+
+    private boolean isBaseSlot(int slot) {
+        return slot < baseEntries.length && baseEntries[slot] != null;
+    }
+
+    /**
+     * 이름과 충분한 Bigram을 공유하는 후보 엔트리 조회
+     *
+     * 고객 이름에서 Bigram을 하나도 추출할 수 없는 경우(빈 이름, 비지원 문자 체계 등)에는
+     * 누락을 방지하기 위해 전체 엔트리를 반환합니다.
+     *
+     * @param name 고객 이름
+     * @param minSharedGramRatio 후보로 인정할 최소 Bigram 공유 비율 (0.0 ~ 1.0)
+     * @return 후보 엔트리 목록 (원래 순서 유지)
+     */
+    public List<WatchlistEntry> findCandidates(String name, double minSharedGramRatio) {
+        int[] queryGrams = grams(name);
+        if (queryGrams.length == 0 || minSharedGramRatio <= 0.0) {
+            return entries();
+        }
+
+        int required = Math.max(1, (int) Math.ceil(queryGrams.length * minSharedGramRatio));
+        int[] sharedCounts = new int[baseEntries.length];
+        boolean[] selected = new boolean[baseEntries.length];
+        int selectedCount = 0;
+
+        for (int gram : queryGrams) {
+            for (int ordinal : postings.getOrDefault(gram, EMPTY_POSTING)) {
+                if (++sharedCounts[ordinal] == required) {
+                    selected[ordinal] = true;
+                    selectedCount++;
+                }
+            }
+        }
+        for (int slot : maskedSlots) {
+            if (selected[slot]) {
+                selected[slot] = false;
+                selectedCount--;
+            }
+        }
+
+        boolean[] overlaySelected = new boolean[overlaySlots.length];
+        for (int i = 0; i < overlaySlots.length; i++) {
+            if (sharedGramCount(queryGrams, overlayGrams[i]) >= required) {
+                overlaySelected[i] = true;
+                selectedCount++;
+            }
+        }
+
+        // 기본 색인과 오버레이 후보를 슬롯 순서로 병합
+        List<WatchlistEntry> candidates = new ArrayList<>(selectedCount);
+        int overlay = 0;
+        for (int ordinal = 0; ordinal < selected.length && candidates.size() < selectedCount; ordinal++) {
+            while (overlay < overlaySlots.length && overlaySlots[overlay] < ordinal) {
+                if (overlaySelected[overlay]) {
+                    candidates.add(overlayEntries[overlay]);
+                }
+                overlay++;
+            }
+            if (selected[ordinal]) {
+                candidates.add(baseEntries[ordinal]);
+            }
+        }
+        for (; overlay < overlaySlots.length; overlay++) {
+            if (overlaySelected[overlay]) {
+                candidates.add(overlayEntries[overlay]);
+            }
+        }
+        return Collections.unmodifiableList(candidates);
+    }
+
+    /**
+     * 색인된 전체 엔트리 (슬롯 순서, 최초 조회 시 한 번 구성)
+     */
+    private List<WatchlistEntry> entries() {
+        List<WatchlistEntry> current = liveEntries;
+        if (current == null) {
+            List<WatchlistEntry> building = new ArrayList<>(size);
+            int overlay = 0;
+            for (int ordinal = 0; ordinal < baseEntries.length; ordinal++) {
+                while (overlay < overlaySlots.length && overlaySlots[overlay] < ordinal) {
+                    building.add(overlayEntries[overlay++]);
+                }
+                if (baseEntries[ordinal] != null && Arrays.binarySearch(maskedSlots, ordinal) < 0) {
+                    building.add(baseEntries[ordinal]);
+                }
+            }
+            while (overlay < overlaySlots.length) {
+                building.add(overlayEntries[overlay++]);
+            }
+            current = Collections.unmodifiableList(building);
+            liveEntries = current;
+        }
+        return current;
+    }
+
+    /**
+     * 정렬된 두 Bigram 배열의 공통 원소 수
+     */
+    private static int sharedGramCount(int[] left, int[] right) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                shared++;
+                i++;
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * 색인된 엔트리 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 색인된 고유 Bigram 수
+     */
+    public int gramCount() {
+        return postings.size();
+    }
+
+    private static int[] entryGrams(WatchlistEntry entry) {
+        StringBuilder names = new StringBuilder();
+        if (entry.getName() != null) {
+            names.append(entry.getName());
+        }
+        if (entry.getAliases() != null) {
+            for (String alias : entry.getAliases()) {
+                if (alias != null) {
+                    names.append(' ').append(alias);
+                }
+            }
+        }
+        return grams(names.toString());
+    }
+
+    /**
+     * 문자열의 고유 Bigram 코드 배열 (정렬됨)
+     */
+    static int[] grams(String value) {
+        String normalized = normalizeForIndex(value);
+        if (normalized.isEmpty()) {
+            return EMPTY_POSTING;
+        }
+
+        GrowableIntArray result = new GrowableIntArray();
+        for (String token : normalized.split(" ")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            addTokenGrams(token, result);
+
+            String chosung = extractChosung(token);
+            if (!chosung.isEmpty()) {
+                addTokenGrams(chosung, result);
+            }
+        }
+
+        int[] grams = result.toArray();
+        Arrays.sort(grams);
+        return distinct(grams);
+    }
+
+    private static void addTokenGrams(String token, GrowableIntArray target) {
+        char previous = PAD;
+        for (int i = 0; i < token.length(); i++) {
+            char current = token.charAt(i);
+            target.add(encode(previous, current));
+            previous = current;
+        }
+        target.add(encode(previous, PAD));
+    }
+
+    private static int encode(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static int[] distinct(int[] sorted) {
+        if (sorted.length == 0) {
+            return sorted;
+        }
+        int length = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[length - 1]) {
+                sorted[length++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, length);
+    }
+
+    private static String extractChosung(String token) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                result.append(CHOSUNG_LIST[(c - 0xAC00) / (21 * 28)]);
+            }
+        }
+        return result.toString();
+    }
+
+    private static String normalizeForIndex(String str) {
+        if (str == null) return "";
+
+        // NFD는 한글 음절도 자모로 분해하므로 악센트 제거 후 NFC로 재조합
+        String normalized = Normalizer.normalize(str, Normalizer.Form.NFD);
+        normalized = normalized.replaceAll("\\p{M}", "");
+        normalized = Normalizer.normalize(normalized, Normalizer.Form.NFC);
+
+        return normalized.toUpperCase()
+                .replaceAll("[^A-Z0-9가-힣\\s]", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /**
+     * 박싱 없는 가변 int 배열 (색인 구축 전용)
+     */
+    private static final class GrowableIntArray {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package aml.openwlf.core.filtering;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 필터링 실행 설정
+ *
+ * application.yml에서 filtering 프리픽스로 설정 가능
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "filtering")
+public class FilteringProperties {
+
+    /**
+     * 후보 선별(Candidate Blocking) 설정
+     */
+    private Candidate candidate = new Candidate();
+
+    /**
+     * 병렬 분할 스캔 설정
+     */
+    private Parallel parallel = new Parallel();
+
+    /**
+     * 점수 상한 기반 조기 종료 설정
+     */
+    private Termination termination = new Termination();
+
+    /**
+     * 배치 스크리닝 설정
+     */
+    private Batch batch = new Batch();
+
+    /**
+     * 스크리닝 결과 캐시 설정
+     */
+    private ResultCache resultCache = new ResultCache();
+
+    /**
+     * 스크리닝 메트릭 설정
+     */
+    private Metrics metrics = new Metrics();
+
+    @Data
+    public static class Candidate {
+        /**
+         * true면 역색인을 사용하지 않고 전체 감시목록을 평가 (감사/검증용)
+         */
+        private boolean exhaustive = false;
+
+        /**
+         * 후보로 인정할 최소 Bigram 공유 비율 (recall floor)
+         * 낮출수록 재현율이 높아지고 평가 대상이 늘어납니다.
+         */
+        private double minSharedGramRatio = 0.3;
+    }
+
+    @Data
+    public static class Parallel {
+        /**
+         * true면 후보가 minEntries 이상일 때 전용 ForkJoinPool에서 분할 평가
+         */
+        private boolean enabled = false;
+
+        /**
+         * 전용 풀의 병렬도 (0 이하면 가용 프로세서 수)
+         */
+        private int parallelism = 0;
+
+        /**
+         * 이 값 미만의 후보 수는 요청 스레드에서 순차 평가
+         */
+        private int minEntries = 4096;
+
+        /**
+         * 작업 단위 파티션 크기 (연속된 항목 구간)
+         */
+        private int partitionSize = 512;
+    }
+
+    @Data
+    public static class Termination {
+        /**
+         * 조기 종료 모드
+         * FULL: 모든 룰/항목 평가 (기본값)
+         * SATURATION: 최대 점수에 도달한 룰 타입 평가 생략 (점수·알림 여부 동일)
+         * DECISION: 알림 임계값 도달 또는 도달 불가 확정 시 스캔 종료 (알림 여부 동일, 점수는 하한값)
+         */
+        private TerminationMode mode = TerminationMode.FULL;
+    }
+
+    @Data
+    public static class Batch {
+        /**
+         * 한 번의 배치 요청에 허용하는 최대 고객 수
+         */
+        private int maxSize = 1000;
+
+        /**
+         * 배치 전용 풀의 스레드 수 (0 이하면 가용 프로세서 수)
+         */
+        private int parallelism = 0;
+    }
+
+    @Data
+    public static class ResultCache {
+        /**
+         * true면 같은 고객 정보의 스크리닝 결과를 감시목록 버전·룰 세대가 바뀔 때까지 재사용
+         */
+        private boolean enabled = false;
+
+        /**
+         * 캐시에 보관할 최대 결과 수 (초과 시 최근 사용 순으로 제거)
+         */
+        private int maxSize = 10_000;
+
+        /**
+         * 결과 보관 시간(초)
+         */
+        private long ttlSeconds = 60;
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * 룰 평가 시간을 표본 측정하는 평균 간격 (N회 평가당 1회, 2의 거듭제곱으로 올림, 0 이하면 측정 안 함)
+         * 평가·매칭·오류 횟수는 간격과 관계없이 모든 평가에서 집계됩니다.
+         */
+        private int ruleTimingSampleInterval = 64;
+
+        /**
+         * 프로파일링 요청의 응답에 담을 가장 느린 감시목록 항목 수
+         */
+        private int profileSlowestEntries = 10;
+    }
+
+    public enum TerminationMode {
+        FULL,
+        SATURATION,
+        DECISION
+    }
+}
@@ -1,9 +1,17 @@
 package aml.openwlf.core.filtering;
 
+import aml.openwlf.core.metrics.ScanTally;
+import aml.openwlf.core.matching.NameFeatureCompiler;
+import aml.openwlf.core.metrics.ScreeningMetrics;
+import aml.openwlf.core.metrics.ScreeningProfiler;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.FilteringResult;
 import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.model.ProfiledFilteringResult;
 import aml.openwlf.core.rule.RuleEngine;
+import aml.openwlf.core.rule.RuleExecutionPlan;
+import aml.openwlf.core.rule.ScoreBound;
+import aml.openwlf.core.rule.WatchlistColumns;
 import aml.openwlf.core.rule.WatchlistEntry;
 import aml.openwlf.core.scoring.ScoringService;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +20,13 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
- * Main filtering service orchestrating the entire filtering process
+ * Main filtering service orchestrating the entire filtering process.
+ * Every screening records its latency, score band and scan totals in {@link ScreeningMetrics}.
+ * {@link #profileCustomer} additionally returns a per-request cost breakdown.
  */
 @Slf4j
 @Service
@@ -24,30 +36,270 @@ public class FilteringService {
     private final RuleEngine ruleEngine;
     private final ScoringService scoringService;
     private final WatchlistProvider watchlistProvider;
+    private final FilteringProperties filteringProperties;
+    private final ParallelScanExecutor parallelScanExecutor;
+    private final ScreeningResultCache resultCache;
+    private final ScreeningMetrics screeningMetrics;
+    private final NameFeatureCompiler nameFeatureCompiler;
     
     /**
      * Filter customer against all watchlists
      */
     public FilteringResult filterCustomer(CustomerInfo customerInfo) {
-        log.info("Starting filtering for customer: {}", customerInfo.getName());
+        log.debug("Starting filtering for customer: {}", customerInfo.getName());
+        long startNanos = System.nanoTime();
         
-        // Get all watchlist entries
-        List<WatchlistEntry> watchlistEntries = watchlistProvider.getAllEntries();
+        if (!resultCache.isEnabled()) {
+            return recordScreening(screen(customerInfo), startNanos);
+        }
+        
+        // Read the versions before the data so a cached result is never older than its key
+        long watchlistVersion = watchlistProvider.getVersion();
+        long ruleGeneration = ruleEngine.getExecutionPlan().getGeneration();
+        return recordScreening(resultCache.getOrCompute(customerInfo, watchlistVersion, ruleGeneration,
+                () -> screen(customerInfo)), startNanos);
+    }
+    
+    /**
+     * Filter customer against a pinned snapshot instead of the live watchlist and rules
+     */
+    public FilteringResult filterCustomer(CustomerInfo customerInfo, ScreeningSnapshot snapshot) {
+        log.debug("Starting filtering for customer: {}", customerInfo.getName());
+        long startNanos = System.nanoTime();
+        
+        if (!resultCache.isEnabled()) {
+            return recordScreening(screen(customerInfo, snapshot), startNanos);
+        }
+        
+        return recordScreening(resultCache.getOrCompute(customerInfo, snapshot.getWatchlistVersion(),
+                snapshot.getPlan().getGeneration(), () -> screen(customerInfo, snapshot)), startNanos);
+    }
+    
+    /**
+     * Filter customer against all watchlists and record where the time went: stage timings,
+     * cost per rule and per match type, the candidate funnel, the slowest entries and the bytes
+     * allocated by the screening thread.
+     * <p>
+     * A profiled screening times every rule evaluation, so it always runs sequentially on the
+     * calling thread and bypasses the result cache. Regular screenings carry no profiler and are
+     * unaffected. The normalization stage times the customer name normalization and feature
+     * compilation on its own; the matchers repeat that work once, inside the scan.
+     */
+    public ProfiledFilteringResult profileCustomer(CustomerInfo customerInfo) {
+        log.debug("Starting profiled filtering for customer: {}", customerInfo.getName());
+        long startNanos = System.nanoTime();
+        
+        RuleExecutionPlan plan = ruleEngine.getExecutionPlan();
+        ScreeningProfiler profiler = new ScreeningProfiler(plan.getRules(),
+                filteringProperties.getMetrics().getProfileSlowestEntries());
+        
+        long stageStart = System.nanoTime();
+        nameFeatureCompiler.compileName(customerInfo.getName());
+        profiler.recordStage(ScreeningProfiler.NORMALIZATION, System.nanoTime() - stageStart);
+        
+        stageStart = System.nanoTime();
+        List<WatchlistEntry> allEntries = watchlistProvider.getAllEntries();
+        List<WatchlistEntry> watchlistEntries = selectCandidates(customerInfo, allEntries,
+                watchlistProvider::getCandidateIndex);
+        profiler.recordCandidates(allEntries.size(), watchlistEntries.size());
+        profiler.recordStage(ScreeningProfiler.CANDIDATE_SELECTION, System.nanoTime() - stageStart);
+        
+        stageStart = System.nanoTime();
+        FilteringProperties.TerminationMode terminationMode = filteringProperties.getTermination().getMode();
+        ScanTally tally = new ScanTally(profiler);
+        List<MatchedRule> allMatchedRules = profiledScan(customerInfo, watchlistEntries,
+                watchlistProvider.getColumns(), plan, terminationMode, tally);
+        profiler.recordStage(ScreeningProfiler.SCAN, System.nanoTime() - stageStart);
+        screeningMetrics.recordScan(tally, allMatchedRules.size());
+        
+        stageStart = System.nanoTime();
+        FilteringResult result = score(customerInfo, allMatchedRules);
+        profiler.recordStage(ScreeningProfiler.SCORING, System.nanoTime() - stageStart);
+        
+        return ProfiledFilteringResult.builder()
+                .result(recordScreening(result, startNanos))
+                .profile(profiler.finish(terminationMode.name()))
+                .build();
+    }
+    
+    /**
+     * Pin the current watchlist entries, candidate index and rule plan for reuse across customers
+     */
+    public ScreeningSnapshot openSnapshot() {
+        long watchlistVersion = watchlistProvider.getVersion();
+        return new ScreeningSnapshot(watchlistProvider.getAllEntries(), watchlistProvider.getCandidateIndex(),
+                watchlistProvider.getColumns(), ruleEngine.getExecutionPlan(), watchlistVersion);
+    }
+    
+    private FilteringResult screen(CustomerInfo customerInfo) {
+        // Get candidate watchlist entries
+        List<WatchlistEntry> watchlistEntries = selectCandidates(customerInfo,
+                watchlistProvider.getAllEntries(), watchlistProvider::getCandidateIndex);
         
         // Collect all matched rules
-        List<MatchedRule> allMatchedRules = new ArrayList<>();
+        ScanTally tally = new ScanTally();
+        List<MatchedRule> allMatchedRules = scan(customerInfo, watchlistEntries, watchlistProvider.getColumns(),
+                ruleEngine::getExecutionPlan, ruleEngine::applyRules, tally);
+        screeningMetrics.recordScan(tally, allMatchedRules.size());
+        
+        return score(customerInfo, allMatchedRules);
+    }
+    
+    private FilteringResult screen(CustomerInfo customerInfo, ScreeningSnapshot snapshot) {
+        List<WatchlistEntry> watchlistEntries = selectCandidates(customerInfo,
+                snapshot.getEntries(), snapshot::getCandidateIndex);
+        
+        RuleExecutionPlan plan = snapshot.getPlan();
+        ScanTally tally = new ScanTally();
+        List<MatchedRule> allMatchedRules = scan(customerInfo, watchlistEntries, snapshot.getColumns(),
+                () -> plan, plan::apply, tally);
+        screeningMetrics.recordScan(tally, allMatchedRules.size());
+        
+        return score(customerInfo, allMatchedRules);
+    }
+    
+    /**
+     * Evaluate the rules against every entry.
+     * With a column layout, gates and rule pre-filters read the primitive columns bound once
+     * for the customer instead of each entry object; the results are the same.
+     * Entries scanned and rules evaluated are added to the request tally.
+     */
+    private List<MatchedRule> scan(CustomerInfo customerInfo, List<WatchlistEntry> watchlistEntries,
+                                   WatchlistColumns columns, Supplier<RuleExecutionPlan> planSupplier,
+                                   EntryRules rules, ScanTally tally) {
+        FilteringProperties.TerminationMode terminationMode = filteringProperties.getTermination().getMode();
+        
+        if (terminationMode != FilteringProperties.TerminationMode.FULL) {
+            return scanWithScoreBound(customerInfo, watchlistEntries, columns, planSupplier.get(),
+                    terminationMode, tally);
+        }
+        
+        tally.addEntriesScanned(watchlistEntries.size());
+        Function<WatchlistEntry, List<MatchedRule>> evaluator = columns != null
+                ? planSupplier.get().bind(customerInfo, columns, tally)::apply
+                : entry -> rules.apply(customerInfo, entry, tally);
+        if (parallelScanExecutor.isApplicable(watchlistEntries.size())) {
+            return parallelScanExecutor.scan(watchlistEntries, evaluator);
+        }
         
+        List<MatchedRule> allMatchedRules = new ArrayList<>();
         for (WatchlistEntry entry : watchlistEntries) {
-            List<MatchedRule> matchedRules = ruleEngine.applyRules(customerInfo, entry);
+            List<MatchedRule> matchedRules = evaluator.apply(entry);
             allMatchedRules.addAll(matchedRules);
         }
-        
+        return allMatchedRules;
+    }
+    
+    private FilteringResult score(CustomerInfo customerInfo, List<MatchedRule> allMatchedRules) {
         // Calculate score and determine alert
         FilteringResult result = scoringService.calculateScore(customerInfo, allMatchedRules);
         
-        log.info("Filtering completed for customer: {} - Alert: {}, Score: {}", 
+        log.debug("Filtering completed for customer: {} - Alert: {}, Score: {}", 
                 customerInfo.getName(), result.isAlert(), result.getScore());
         
         return result;
     }
+    
+    private FilteringResult recordScreening(FilteringResult result, long startNanos) {
+        screeningMetrics.recordScreening(result, scoringService.getReviewThreshold(), System.nanoTime() - startNanos);
+        return result;
+    }
+    
+    /**
+     * Sequential scan that skips rule evaluations which can no longer change the result.
+     * In DECISION mode the scan stops once the alert decision is settled.
+     */
+    private List<MatchedRule> scanWithScoreBound(CustomerInfo customerInfo, List<WatchlistEntry> entries,
+                                                 WatchlistColumns columns, RuleExecutionPlan plan,
+                                                 FilteringProperties.TerminationMode mode, ScanTally tally) {
+        ScoreBound bound = mode == FilteringProperties.TerminationMode.DECISION
+                ? plan.decisionBound(customerInfo, scoringService.getAlertThreshold())
+                : plan.saturationBound(customerInfo);
+        RuleExecutionPlan.ColumnScan columnScan = columns != null ? plan.bind(customerInfo, columns, tally) : null;
+        
+        List<MatchedRule> allMatchedRules = new ArrayList<>();
+        int scanned = 0;
+        for (WatchlistEntry entry : entries) {
+            if (bound.isResolved()) {
+                break;
+            }
+            allMatchedRules.addAll(columnScan != null
+                    ? columnScan.apply(entry, bound)
+                    : plan.apply(customerInfo, entry, bound, tally));
+            scanned++;
+        }
+        tally.addEntriesScanned(scanned);
+        
+        log.debug("{} scan evaluated {} of {} entries, skipped {} rule evaluations for customer: {}",
+                mode, scanned, entries.size(), bound.getSkippedEvaluations(), customerInfo.getName());
+        
+        return allMatchedRules;
+    }
+    
+    /**
+     * Sequential scan for a profiled screening that times each entry.
+     * Applies the configured termination mode the same way as the regular scan.
+     */
+    private List<MatchedRule> profiledScan(CustomerInfo customerInfo, List<WatchlistEntry> entries,
+                                           WatchlistColumns columns, RuleExecutionPlan plan,
+                                           FilteringProperties.TerminationMode mode, ScanTally tally) {
+        ScoreBound bound = switch (mode) {
+            case FULL -> null;
+            case SATURATION -> plan.saturationBound(customerInfo);
+            case DECISION -> plan.decisionBound(customerInfo, scoringService.getAlertThreshold());
+        };
+        RuleExecutionPlan.ColumnScan columnScan = columns != null ? plan.bind(customerInfo, columns, tally) : null;
+        ScreeningProfiler profiler = tally.getProfiler();
+        
+        List<MatchedRule> allMatchedRules = new ArrayList<>();
+        int scanned = 0;
+        for (WatchlistEntry entry : entries) {
+            if (bound != null && bound.isResolved()) {
+                break;
+            }
+            long entryStart = System.nanoTime();
+            List<MatchedRule> matchedRules = columnScan != null
+                    ? columnScan.apply(entry, bound)
+                    : plan.apply(customerInfo, entry, bound, tally);
+            profiler.recordEntry(entry, matchedRules.size(), System.nanoTime() - entryStart);
+            allMatchedRules.addAll(matchedRules);
+            scanned++;
+        }
+        tally.addEntriesScanned(scanned);
+        
+        return allMatchedRules;
+    }
+    
+    /**
+     * Narrow the watchlist down to entries sharing enough name grams with the customer.
+     * Falls back to the full list in exhaustive mode or when no index is available.
+     */
+    private List<WatchlistEntry> selectCandidates(CustomerInfo customerInfo, List<WatchlistEntry> allEntries,
+                                                  Supplier<CandidateIndex> indexSupplier) {
+        FilteringProperties.Candidate candidate = filteringProperties.getCandidate();
+        if (candidate.isExhaustive()) {
+            return allEntries;
+        }
+        
+        CandidateIndex index = indexSupplier.get();
+        if (index == null) {
+            return allEntries;
+        }
+        
+        List<WatchlistEntry> candidates = index.findCandidates(
+                customerInfo.getName(), candidate.getMinSharedGramRatio());
+        
+        log.debug("Candidate blocking selected {} of {} entries for customer: {}",
+                candidates.size(), index.size(), customerInfo.getName());
+        
+        return candidates;
+    }
+    
+    /**
+     * Rule evaluation of one entry that adds the rules it evaluated to the request tally
+     */
+    @FunctionalInterface
+    private interface EntryRules {
+        List<MatchedRule> apply(CustomerInfo customerInfo, WatchlistEntry entry, ScanTally tally);
+    }
 }
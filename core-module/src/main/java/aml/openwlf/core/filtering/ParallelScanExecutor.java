@@ -0,0 +1,135 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.rule.WatchlistEntry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Partitioned parallel scan over a watchlist snapshot.
+ * Runs on a dedicated work-stealing pool (never the common pool) and merges
+ * partition results in entry order, so the output is identical to a sequential scan.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelScanExecutor {
+    
+    private static final String THREAD_NAME_PREFIX = "screening-scan-";
+    
+    private final FilteringProperties filteringProperties;
+    
+    private volatile ForkJoinPool pool;
+    
+    /**
+     * Whether a scan over the given number of entries should run in parallel
+     */
+    public boolean isApplicable(int entryCount) {
+        FilteringProperties.Parallel parallel = filteringProperties.getParallel();
+        return parallel.isEnabled() && entryCount >= parallel.getMinEntries();
+    }
+    
+    /**
+     * Evaluate every entry and return the concatenated results in entry order
+     */
+    public List<MatchedRule> scan(List<WatchlistEntry> entries,
+                                  Function<WatchlistEntry, List<MatchedRule>> evaluator) {
+        int partitionSize = Math.max(1, filteringProperties.getParallel().getPartitionSize());
+        return getPool().invoke(new ScanTask(entries, 0, entries.size(), partitionSize, evaluator));
+    }
+    
+    private ForkJoinPool getPool() {
+        ForkJoinPool current = pool;
+        if (current == null) {
+            synchronized (this) {
+                current = pool;
+                if (current == null) {
+                    current = createPool();
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    private ForkJoinPool createPool() {
+        int configured = filteringProperties.getParallel().getParallelism();
+        int parallelism = configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+        
+        AtomicInteger threadCounter = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName(THREAD_NAME_PREFIX + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        
+        log.info("Starting screening scan pool with parallelism {}", parallelism);
+        return new ForkJoinPool(parallelism, factory, null, false);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        ForkJoinPool current = pool;
+        if (current != null) {
+            current.shutdown();
+        }
+    }
+    
+    /**
+     * Splits [from, to) in halves until a partition fits partitionSize.
+     * Left results are always placed before right results.
+     */
+    private static final class ScanTask extends RecursiveTask<List<MatchedRule>> {
+        
+        private final List<WatchlistEntry> entries;
+        private final int from;
+        private final int to;
+        private final int partitionSize;
+        private final Function<WatchlistEntry, List<MatchedRule>> evaluator;
+        
+        ScanTask(List<WatchlistEntry> entries, int from, int to, int partitionSize,
+                 Function<WatchlistEntry, List<MatchedRule>> evaluator) {
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.partitionSize = partitionSize;
+            this.evaluator = evaluator;
+        }
+        
+        @Override
+        protected List<MatchedRule> compute() {
+            if (to - from <= partitionSize) {
+                List<MatchedRule> results = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    results.addAll(evaluator.apply(entries.get(i)));
+                }
+                return results;
+            }
+            
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(entries, from, middle, partitionSize, evaluator);
+            ScanTask right = new ScanTask(entries, middle, to, partitionSize, evaluator);
+            
+            left.fork();
+            List<MatchedRule> rightResults = right.compute();
+            List<MatchedRule> leftResults = left.join();
+            
+            if (leftResults.isEmpty()) {
+                return rightResults;
+            }
+            leftResults.addAll(rightResults);
+            return leftResults;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.FilteringResult;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of screening results for repeat counterparties.
+ * Keys combine the screened customer fields with the watchlist version and rule plan
+ * generation, so a refresh, entry save or rule reload makes older results unreachable;
+ * the first lookup under a newer version also clears them eagerly.
+ * Entries are evicted least-recently-used per segment and expire after the configured TTL.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScreeningResultCache {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final FilteringProperties filteringProperties;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private volatile Segment[] segments;
+    private volatile Versions currentVersions = new Versions(-1L, -1L);
+
+    /**
+     * Whether results are cached at all
+     */
+    public boolean isEnabled() {
+        return filteringProperties.getResultCache().isEnabled();
+    }
+
+    /**
+     * Return the cached result for the customer under the given versions, or screen and cache it.
+     * A negative watchlist version means the provider does not track changes, so nothing is cached.
+     *
+     * @param customer customer being screened
+     * @param watchlistVersion version of the watchlist snapshot the screening runs against
+     * @param ruleGeneration generation of the rule execution plan the screening runs with
+     * @param screening computes the result on a miss
+     * @return result carrying the requesting customer's info
+     */
+    public FilteringResult getOrCompute(CustomerInfo customer, long watchlistVersion, long ruleGeneration,
+                                        Supplier<FilteringResult> screening) {
+        if (!isEnabled() || watchlistVersion < 0) {
+            return screening.get();
+        }
+
+        boolean current = observe(watchlistVersion, ruleGeneration);
+        Key key = Key.of(customer, watchlistVersion, ruleGeneration);
+        Segment segment = segmentFor(key);
+
+        FilteringResult cached = segment.get(key, System.nanoTime());
+        if (cached != null) {
+            hits.increment();
+            log.debug("Screening result cache hit for customer: {}", customer.getName());
+            return withCustomer(cached, customer);
+        }
+
+        misses.increment();
+        FilteringResult result = screening.get();
+        if (current) {
+            long ttlNanos = TimeUnit.SECONDS.toNanos(filteringProperties.getResultCache().getTtlSeconds());
+            segment.put(key, detach(result), System.nanoTime() + ttlNanos);
+        }
+        return result;
+    }
+
+    /**
+     * Drop every cached result
+     */
+    public void invalidateAll() {
+        Segment[] current = segments;
+        if (current != null) {
+            for (Segment segment : current) {
+                segment.clear();
+            }
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * Hit/miss counters and current occupancy
+     */
+    public CacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+
+        int size = 0;
+        Segment[] current = segments;
+        if (current != null) {
+            for (Segment segment : current) {
+                size += segment.size();
+            }
+        }
+
+        Versions versions = currentVersions;
+        FilteringProperties.ResultCache config = filteringProperties.getResultCache();
+        return CacheStats.builder()
+                .enabled(config.isEnabled())
+                .size(size)
+                .maxSize(config.getMaxSize())
+                .ttlSeconds(config.getTtlSeconds())
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRatio(lookups > 0 ? (double) hitCount / lookups : 0.0)
+                .evictions(evictions.sum())
+                .expirations(expirations.sum())
+                .invalidations(invalidations.sum())
+                .watchlistVersion(versions.watchlist())
+                .ruleGeneration(versions.rules())
+                .build();
+    }
+
+    /**
+     * Track the newest versions seen and clear the cache when they advance.
+     * Returns false for lookups made against versions older than the newest seen,
+     * whose results must not be cached.
+     */
+    private boolean observe(long watchlistVersion, long ruleGeneration) {
+        Versions seen = currentVersions;
+        if (seen.watchlist() == watchlistVersion && seen.rules() == ruleGeneration) {
+            return true;
+        }
+
+        synchronized (this) {
+            seen = currentVersions;
+            if (seen.watchlist() == watchlistVersion && seen.rules() == ruleGeneration) {
+                return true;
+            }
+            if (watchlistVersion < seen.watchlist() || ruleGeneration < seen.rules()) {
+                return false;
+            }
+
+            currentVersions = new Versions(watchlistVersion, ruleGeneration);
+            if (seen.watchlist() >= 0) {
+                invalidateAll();
+                log.info("Screening result cache invalidated: watchlist version {} -> {}, rule generation {} -> {}",
+                        seen.watchlist(), watchlistVersion, seen.rules(), ruleGeneration);
+            }
+            return true;
+        }
+    }
+
+    private Segment segmentFor(Key key) {
+        Segment[] current = segments;
+        if (current == null) {
+            synchronized (this) {
+                current = segments;
+                if (current == null) {
+                    int capacity = Math.max(1, filteringProperties.getResultCache().getMaxSize() / SEGMENT_COUNT);
+                    current = new Segment[SEGMENT_COUNT];
+                    for (int i = 0; i < SEGMENT_COUNT; i++) {
+                        current[i] = new Segment(capacity);
+                    }
+                    segments = current;
+                }
+            }
+        }
+        int hash = key.hashCode();
+        return current[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Copy stored in the cache: immutable matched rules and no customer attached
+     */
+    private static FilteringResult detach(FilteringResult result) {
+        return FilteringResult.builder()
+                .alert(result.isAlert())
+                .score(result.getScore())
+                .matchedRules(result.getMatchedRules() != null ? List.copyOf(result.getMatchedRules()) : null)
+                .explanation(result.getExplanation())
+                .build();
+    }
+
+    /**
+     * Cached result bound to the customer of the current request
+     */
+    private static FilteringResult withCustomer(FilteringResult cached, CustomerInfo customer) {
+        return FilteringResult.builder()
+                .alert(cached.isAlert())
+                .score(cached.getScore())
+                .matchedRules(cached.getMatchedRules())
+                .explanation(cached.getExplanation())
+                .customerInfo(customer)
+                .build();
+    }
+
+    /**
+     * Cache key. The name is canonicalized without loss (Unicode NFC, trimmed, single spaces):
+     * NormalizationService.normalizeName drops non-Latin characters and reorders tokens,
+     * which would let different customers share a result.
+     */
+    record Key(String name, LocalDate dateOfBirth, String nationality, String customerType,
+               long watchlistVersion, long ruleGeneration) {
+
+        static Key of(CustomerInfo customer, long watchlistVersion, long ruleGeneration) {
+            return new Key(canonicalName(customer.getName()), customer.getDateOfBirth(),
+                    canonicalCode(customer.getNationality()), canonicalCode(customer.getCustomerType()),
+                    watchlistVersion, ruleGeneration);
+        }
+
+        private static String canonicalName(String name) {
+            if (name == null) {
+                return null;
+            }
+            String normalized = Normalizer.normalize(name, Normalizer.Form.NFC);
+            return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        }
+
+        private static String canonicalCode(String code) {
+            if (code == null || code.isBlank()) {
+                return null;
+            }
+            return code.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+
+    private record Versions(long watchlist, long rules) {}
+
+    private record Cached(FilteringResult result, long expiresAtNanos) {}
+
+    /**
+     * Access-ordered LRU map guarded by its own monitor
+     */
+    private final class Segment {
+
+        private final LinkedHashMap<Key, Cached> map;
+
+        Segment(int capacity) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized FilteringResult get(Key key, long now) {
+            Cached cached = map.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (now - cached.expiresAtNanos() >= 0) {
+                map.remove(key);
+                expirations.increment();
+                return null;
+            }
+            return cached.result();
+        }
+
+        synchronized void put(Key key, FilteringResult result, long expiresAtNanos) {
+            map.put(key, new Cached(result, expiresAtNanos));
+        }
+
+        synchronized void clear() {
+            map.clear();
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+
+    @Data
+    @Builder
+    public static class CacheStats {
+        private boolean enabled;
+        private int size;
+        private int maxSize;
+        private long ttlSeconds;
+        private long hits;
+        private long misses;
+        private double hitRatio;
+        private long evictions;
+        private long expirations;
+        private long invalidations;
+        private long watchlistVersion;
+        private long ruleGeneration;
+    }
+}
@@ -0,0 +1,66 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.core.rule.RuleExecutionPlan;
+import aml.openwlf.core.rule.WatchlistColumns;
+import aml.openwlf.core.rule.WatchlistEntry;
+
+import java.util.List;
+
+/**
+ * Watchlist entries, candidate index and rule plan pinned together for a unit of work.
+ * Screening many customers against one snapshot avoids re-reading provider state per
+ * customer and guarantees every customer in a batch sees the same data and rules,
+ * even if a cache refresh or rule reload happens mid-batch.
+ */
+public final class ScreeningSnapshot {
+    
+    private final List<WatchlistEntry> entries;
+    private final CandidateIndex candidateIndex;
+    private final WatchlistColumns columns;
+    private final RuleExecutionPlan plan;
+    private final long watchlistVersion;
+    
+    ScreeningSnapshot(List<WatchlistEntry> entries, CandidateIndex candidateIndex, WatchlistColumns columns,
+                      RuleExecutionPlan plan, long watchlistVersion) {
+        this.entries = entries;
+        this.candidateIndex = candidateIndex;
+        this.columns = columns;
+        this.plan = plan;
+        this.watchlistVersion = watchlistVersion;
+    }
+    
+    /**
+     * All watchlist entries at the time the snapshot was taken
+     */
+    public List<WatchlistEntry> getEntries() {
+        return entries;
+    }
+    
+    /**
+     * Candidate index built over the entries (null if the provider does not maintain one)
+     */
+    public CandidateIndex getCandidateIndex() {
+        return candidateIndex;
+    }
+    
+    /**
+     * Column layout of the entries (null if the provider does not maintain one)
+     */
+    public WatchlistColumns getColumns() {
+        return columns;
+    }
+    
+    /**
+     * Rule execution plan at the time the snapshot was taken
+     */
+    public RuleExecutionPlan getPlan() {
+        return plan;
+    }
+    
+    /**
+     * Watchlist version the entries were read at (negative if the provider does not track changes)
+     */
+    public long getWatchlistVersion() {
+        return watchlistVersion;
+    }
+}
@@ -1,5 +1,6 @@
 package aml.openwlf.core.filtering;
 
+import aml.openwlf.core.rule.WatchlistColumns;
 import aml.openwlf.core.rule.WatchlistEntry;
 
 import java.util.List;
@@ -18,4 +19,28 @@ public interface WatchlistProvider {
      * Get watchlist entries by source
      */
     List<WatchlistEntry> getEntriesBySource(String source);
+    
+    /**
+     * Get the candidate index built over the current entries
+     * (null if the provider does not maintain one)
+     */
+    default CandidateIndex getCandidateIndex() {
+        return null;
+    }
+    
+    /**
+     * Get the column layout of the current entries, used to check rule gates and filters
+     * without touching the entry objects (null if the provider does not maintain one)
+     */
+    default WatchlistColumns getColumns() {
+        return null;
+    }
+    
+    /**
+     * Version of the current entries, advanced on every change
+     * (negative if the provider does not track changes)
+     */
+    default long getVersion() {
+        return -1L;
+    }
 }
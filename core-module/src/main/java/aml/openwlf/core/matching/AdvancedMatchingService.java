@@ -30,6 +30,11 @@ public class AdvancedMatchingService {
     private final KoreanNameMatchingStrategy koreanStrategy;
     private final MatchingWeightProperties weightProperties;
 
+    /**
+     * 조기 종료 판정 여유 (부분 합 순서 차이로 생기는 반올림 오차 흡수)
+     */
+    private static final double BOUND_SLACK = 1e-9;
+
     // ==================== Soundex ====================
 
     /**
@@ -53,6 +58,20 @@ public class AdvancedMatchingService {
         return soundexStrategy.calculateSimilarity(name1, name2);
     }
 
+    /**
+     * 사전 계산된 Soundex 코드 간 매칭 여부 확인
+     */
+    public boolean matchesSoundexCodes(String code1, String code2) {
+        return soundexStrategy.matchesCodes(code1, code2);
+    }
+
+    /**
+     * 사전 계산된 Soundex 코드 간 유사도 계산 (0.0 ~ 1.0)
+     */
+    public double calculateSoundexCodeSimilarity(String code1, String code2) {
+        return soundexStrategy.calculateCodeSimilarity(code1, code2);
+    }
+
     // ==================== Double Metaphone ====================
 
     /**
@@ -77,6 +96,29 @@ public class AdvancedMatchingService {
         return metaphoneStrategy.calculateSimilarity(name1, name2);
     }
 
+    /**
+     * 사전 계산용 Double Metaphone 코드 생성
+     */
+    public MetaphoneMatchingStrategy.MetaphoneResult metaphoneProfile(String name) {
+        return metaphoneStrategy.getMetaphoneCode(name);
+    }
+
+    /**
+     * 사전 계산된 Double Metaphone 코드 간 매칭 여부 확인
+     */
+    public boolean matchesMetaphone(MetaphoneMatchingStrategy.MetaphoneResult code1,
+                                    MetaphoneMatchingStrategy.MetaphoneResult code2) {
+        return metaphoneStrategy.matches(code1, code2);
+    }
+
+    /**
+     * 사전 계산된 Double Metaphone 코드 간 유사도 계산 (0.0 ~ 1.0)
+     */
+    public double calculateMetaphoneSimilarity(MetaphoneMatchingStrategy.MetaphoneResult code1,
+                                               MetaphoneMatchingStrategy.MetaphoneResult code2) {
+        return metaphoneStrategy.calculateSimilarity(code1, code2);
+    }
+
     // ==================== Jaro-Winkler ====================
 
     /**
@@ -93,6 +135,29 @@ public class AdvancedMatchingService {
         return jaroWinklerStrategy.calculateTokenSimilarity(name1, name2);
     }
 
+    /**
+     * 사전 계산용 Jaro-Winkler 프로파일 생성
+     */
+    public JaroWinklerMatchingStrategy.TokenProfile jaroWinklerProfile(String name) {
+        return jaroWinklerStrategy.profile(name);
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 Jaro-Winkler 유사도 계산
+     */
+    public double calculateJaroWinklerSimilarity(JaroWinklerMatchingStrategy.TokenProfile profile1,
+                                                 JaroWinklerMatchingStrategy.TokenProfile profile2) {
+        return jaroWinklerStrategy.calculateSimilarity(profile1, profile2);
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 토큰별 Jaro-Winkler 유사도 계산
+     */
+    public double calculateTokenJaroWinklerSimilarity(JaroWinklerMatchingStrategy.TokenProfile profile1,
+                                                      JaroWinklerMatchingStrategy.TokenProfile profile2) {
+        return jaroWinklerStrategy.calculateTokenSimilarity(profile1, profile2);
+    }
+
     // ==================== N-Gram ====================
 
     /**
@@ -116,6 +181,30 @@ public class AdvancedMatchingService {
         return ngramStrategy.calculateTrigramSimilarity(str1, str2);
     }
 
+    /**
+     * 사전 계산용 N-Gram 프로파일 생성
+     */
+    public NGramMatchingStrategy.NGramProfile ngramProfile(String str, int n) {
+        return ngramStrategy.profile(str, n);
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 N-Gram 유사도 계산
+     */
+    public double calculateNGramSimilarity(NGramMatchingStrategy.NGramProfile profile1,
+                                           NGramMatchingStrategy.NGramProfile profile2) {
+        return ngramStrategy.calculateSimilarity(profile1, profile2);
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 N-Gram 유사도 계산 (minSimilarity 미만이 확정되면 0.0)
+     */
+    public double calculateNGramSimilarity(NGramMatchingStrategy.NGramProfile profile1,
+                                           NGramMatchingStrategy.NGramProfile profile2,
+                                           double minSimilarity) {
+        return ngramStrategy.calculateSimilarity(profile1, profile2, minSimilarity);
+    }
+
     // ==================== Korean Name Matching ====================
 
     /**
@@ -146,6 +235,47 @@ public class AdvancedMatchingService {
         return koreanStrategy.matchesChosung(name1, name2);
     }
 
+    /**
+     * 사전 계산용 한글 이름 프로파일 생성 (한글이 없으면 null)
+     */
+    public KoreanNameMatchingStrategy.KoreanProfile koreanProfile(String name) {
+        return koreanStrategy.profile(name);
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 한글 이름 유사도 계산
+     */
+    public double calculateKoreanNameSimilarity(KoreanNameMatchingStrategy.KoreanProfile profile1,
+                                                KoreanNameMatchingStrategy.KoreanProfile profile2) {
+        return koreanStrategy.calculateSimilarity(profile1, profile2);
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 한글 이름 유사도 계산 (최소 유사도 미만이 확실하면 자모 유사도 생략)
+     */
+    public double calculateKoreanNameSimilarity(KoreanNameMatchingStrategy.KoreanProfile profile1,
+                                                KoreanNameMatchingStrategy.KoreanProfile profile2,
+                                                double minSimilarity) {
+        return koreanStrategy.calculateSimilarity(profile1, profile2, minSimilarity);
+    }
+
+    /**
+     * 초성이 다른 두 한글 이름의 자모 유사도가 최소 유사도에 도달할 수 있는지 (false이면 확실히 미달)
+     */
+    public boolean canReachKoreanJamoSimilarity(KoreanNameMatchingStrategy.KoreanProfile profile1,
+                                                KoreanNameMatchingStrategy.KoreanProfile profile2,
+                                                double minSimilarity) {
+        return koreanStrategy.canReachByJamo(profile1, profile2, minSimilarity);
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 초성 매칭 여부 확인
+     */
+    public boolean matchesChosung(KoreanNameMatchingStrategy.KoreanProfile profile1,
+                                  KoreanNameMatchingStrategy.KoreanProfile profile2) {
+        return koreanStrategy.matchesChosung(profile1, profile2);
+    }
+
     // ==================== 복합 매칭 ====================
 
     /**
@@ -153,11 +283,131 @@ public class AdvancedMatchingService {
      * 여러 알고리즘의 결과를 가중 평균하여 최종 유사도 산출
      */
     public CompositeMatchResult calculateCompositeMatch(String name1, String name2) {
-        double jaroWinklerScore = jaroWinklerStrategy.calculateTokenSimilarity(name1, name2);
-        double metaphoneScore = metaphoneStrategy.calculateSimilarity(name1, name2);
-        double ngramScore = ngramStrategy.calculateBigramSimilarity(name1, name2);
-        double koreanScore = koreanStrategy.calculateSimilarity(name1, name2);
+        return calculateCompositeMatch(extractFeatures(name1), extractFeatures(name2));
+    }
+
+    /**
+     * 사전 계산된 특징 간 복합 유사도 계산
+     * 문자열 기반 calculateCompositeMatch와 동일한 결과를 반환합니다.
+     */
+    public CompositeMatchResult calculateCompositeMatch(NameFeatures features1, NameFeatures features2) {
+        double jaroWinklerScore = jaroWinklerStrategy.calculateTokenSimilarity(
+                features1.jaroWinkler(), features2.jaroWinkler());
+        double metaphoneScore = metaphoneStrategy.calculateSimilarity(
+                features1.metaphone(), features2.metaphone());
+        double ngramScore = ngramStrategy.calculateSimilarity(features1.bigrams(), features2.bigrams());
+        double koreanScore = koreanStrategy.calculateSimilarity(features1.korean(), features2.korean());
+
+        return buildCompositeResult(jaroWinklerScore, metaphoneScore, ngramScore, koreanScore,
+                metaphoneStrategy.matches(features1.metaphone(), features2.metaphone()),
+                soundexStrategy.matchesCodes(features1.soundexCode(), features2.soundexCode()));
+    }
+
+    /**
+     * 임계값 판정용 복합 매칭 (조기 종료)
+     *
+     * 결과가 {@link CompositeMatchResult#isHighConfidenceMatch(double)}를 만족하면
+     * calculateCompositeMatch와 같은 결과를, 만족할 수 없으면 null을 반환합니다.
+     *
+     * 발음 일치는 임계값과 무관하게 매칭이므로 먼저 확인하고, 이후에는
+     * 한글 → Metaphone → N-Gram → Jaro-Winkler 순(비용 오름차순)으로 계산하면서
+     * "지금까지의 가중 합 + 남은 알고리즘이 모두 1.0일 때의 가중치 합"이
+     * 임계값에 못 미치면 나머지 계산을 생략합니다.
+     * 한글 점수는 두 이름 모두 한글을 포함할 때만 계산합니다 (한글 프로파일 유무로 판별).
+     *
+     * @param features1 첫 번째 이름 특징
+     * @param features2 두 번째 이름 특징
+     * @param threshold 복합 유사도 임계값
+     * @return 고신뢰도 매칭 결과 (아니면 null)
+     */
+    public CompositeMatchResult matchComposite(NameFeatures features1, NameFeatures features2,
+                                               double threshold) {
+        boolean metaphoneMatch = metaphoneStrategy.matches(features1.metaphone(), features2.metaphone());
+        // 발음 일치면 항상 보고되므로 조기 종료 없이 전체 결과 계산
+        double target = metaphoneMatch ? Double.NEGATIVE_INFINITY : threshold - BOUND_SLACK;
+
+        double koreanScore = features1.korean() != null && features2.korean() != null
+                ? koreanStrategy.calculateSimilarity(features1.korean(), features2.korean())
+                : 0.0;
+
+        double jaroWinklerWeight;
+        double metaphoneWeight;
+        double ngramWeight;
+        double partial;
+        if (koreanScore > 0) {
+            var w = weightProperties.getWithKorean();
+            jaroWinklerWeight = w.getJaroWinkler();
+            metaphoneWeight = w.getMetaphone();
+            ngramWeight = w.getNgram();
+            partial = koreanScore * w.getKorean();
+        } else {
+            var w = weightProperties.getWithoutKorean();
+            jaroWinklerWeight = w.getJaroWinkler();
+            metaphoneWeight = w.getMetaphone();
+            ngramWeight = w.getNgram();
+            partial = 0.0;
+        }
+
+        double remaining = Math.max(metaphoneWeight, 0) + Math.max(ngramWeight, 0)
+                + Math.max(jaroWinklerWeight, 0);
+        if (partial + remaining < target) {
+            return null;
+        }
+
+        double metaphoneScore = metaphoneStrategy.calculateSimilarity(features1.metaphone(), features2.metaphone());
+        partial += metaphoneScore * metaphoneWeight;
+        remaining -= Math.max(metaphoneWeight, 0);
+        if (partial + remaining < target) {
+            return null;
+        }
+
+        // N-Gram은 임계값 도달에 필요한 최소 유사도를 넘겨 병합 도중 탈락 가능
+        double minNgram = ngramWeight > 0
+                ? (target - BOUND_SLACK - partial - Math.max(jaroWinklerWeight, 0)) / ngramWeight
+                : 0.0;
+        double ngramScore = ngramStrategy.calculateSimilarity(features1.bigrams(), features2.bigrams(), minNgram);
+        partial += ngramScore * ngramWeight;
+        remaining -= Math.max(ngramWeight, 0);
+        if (partial + remaining < target) {
+            return null;
+        }
+
+        double jaroWinklerScore = jaroWinklerStrategy.calculateTokenSimilarity(
+                features1.jaroWinkler(), features2.jaroWinkler());
+
+        CompositeMatchResult result = buildCompositeResult(jaroWinklerScore, metaphoneScore, ngramScore,
+                koreanScore, metaphoneMatch,
+                soundexStrategy.matchesCodes(features1.soundexCode(), features2.soundexCode()));
+        return result.isHighConfidenceMatch(threshold) ? result : null;
+    }
+
+    /**
+     * 복합 매칭용 특징 계산 (정규화 이름 제외)
+     *
+     * 이름을 한 번만 정규화하고, 발음용 문자열은 그 결과에서 도출합니다.
+     */
+    public NameFeatures extractFeatures(String name) {
+        if (name == null) {
+            return new NameFeatures(null, null, null, metaphoneStrategy.getMetaphoneCode(null),
+                    soundexStrategy.getSoundexCode(null), null, null);
+        }
+
+        String normalized = MatchingText.normalize(name);
+        String phonetic = MatchingText.phonetic(normalized);
+        return new NameFeatures(
+                name,
+                null,
+                jaroWinklerStrategy.profileFromNormalized(normalized),
+                metaphoneStrategy.getMetaphoneCodeFromPhonetic(phonetic),
+                soundexStrategy.getSoundexCodeFromPhonetic(phonetic),
+                ngramStrategy.profileFromNormalized(normalized, 2),
+                koreanStrategy.profile(name)
+        );
+    }
 
+    private CompositeMatchResult buildCompositeResult(double jaroWinklerScore, double metaphoneScore,
+                                                      double ngramScore, double koreanScore,
+                                                      boolean metaphoneMatch, boolean soundexMatch) {
         // 가중 평균 (한글이 있으면 한글 점수 반영)
         double compositeScore;
         if (koreanScore > 0) {
@@ -179,8 +429,8 @@ public class AdvancedMatchingService {
                 metaphoneScore,
                 ngramScore,
                 koreanScore,
-                metaphoneStrategy.matches(name1, name2),
-                soundexStrategy.matches(name1, name2)
+                metaphoneMatch,
+                soundexMatch
         );
     }
 
@@ -0,0 +1,17 @@
+package aml.openwlf.core.matching;
+
+import java.util.List;
+
+/**
+ * 감시 목록 항목 단위의 사전 계산 매칭 특징 레코드
+ *
+ * aliases는 WatchlistEntry.aliases와 같은 순서로 정렬되어 있습니다.
+ *
+ * @param name 이름 특징
+ * @param aliases 별칭 특징 목록
+ */
+public record EntryFeatures(
+        NameFeatures name,
+        List<NameFeatures> aliases
+) {
+}
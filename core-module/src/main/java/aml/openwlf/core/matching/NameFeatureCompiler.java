@@ -0,0 +1,63 @@
+package aml.openwlf.core.matching;
+
+import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.rule.WatchlistEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 감시 목록 항목의 매칭 특징 사전 계산기
+ *
+ * 감시 목록 스냅샷을 구성할 때 항목별로 한 번 호출되며,
+ * 생성된 특징은 각 RuleEvaluator가 타겟 쪽 계산 대신 재사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NameFeatureCompiler {
+
+    private static final int BIGRAM = 2;
+
+    private final NormalizationService normalizationService;
+    private final AdvancedMatchingService matchingService;
+
+    /**
+     * 이름 하나의 매칭 특징 계산
+     *
+     * @param name 이름
+     * @return 매칭 특징
+     */
+    public NameFeatures compileName(String name) {
+        return new NameFeatures(
+                name,
+                normalizationService.normalizeName(name),
+                matchingService.jaroWinklerProfile(name),
+                matchingService.metaphoneProfile(name),
+                matchingService.getSoundexCode(name),
+                matchingService.ngramProfile(name, BIGRAM),
+                matchingService.koreanProfile(name)
+        );
+    }
+
+    /**
+     * 감시 목록 항목의 이름/별칭 매칭 특징 계산
+     *
+     * @param entry 감시 목록 항목
+     * @return 항목 매칭 특징
+     */
+    public EntryFeatures compileEntry(WatchlistEntry entry) {
+        NameFeatures name = compileName(entry.getName() != null ? entry.getName() : "");
+
+        List<NameFeatures> aliases = new ArrayList<>();
+        if (entry.getAliases() != null) {
+            for (String alias : entry.getAliases()) {
+                aliases.add(compileName(alias));
+            }
+        }
+
+        return new EntryFeatures(name, Collections.unmodifiableList(aliases));
+    }
+}
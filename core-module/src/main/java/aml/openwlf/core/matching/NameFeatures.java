@@ -0,0 +1,31 @@
+package aml.openwlf.core.matching;
+
+import aml.openwlf.core.matching.strategy.JaroWinklerMatchingStrategy.TokenProfile;
+import aml.openwlf.core.matching.strategy.KoreanNameMatchingStrategy.KoreanProfile;
+import aml.openwlf.core.matching.strategy.MetaphoneMatchingStrategy.MetaphoneResult;
+import aml.openwlf.core.matching.strategy.NGramMatchingStrategy.NGramProfile;
+
+/**
+ * 이름 하나에 대한 사전 계산 매칭 특징 레코드
+ *
+ * 감시 목록 캐시 갱신 시 한 번만 계산해 두고, 요청마다 반복되는
+ * 정규화/발음 코드/N-Gram/자모 분해 비용을 고객 쪽에서만 지불하도록 합니다.
+ *
+ * @param value 원본 이름
+ * @param normalizedName NormalizationService 기준 정규화 이름 (토큰 정렬)
+ * @param jaroWinkler Jaro-Winkler 정규화 문자열 및 토큰
+ * @param metaphone Double Metaphone primary/alternate 코드
+ * @param soundexCode Soundex 코드 (단어별 '-' 구분)
+ * @param bigrams Bigram 집합
+ * @param korean 한글 음절/초성/자모 (한글이 없으면 null)
+ */
+public record NameFeatures(
+        String value,
+        String normalizedName,
+        TokenProfile jaroWinkler,
+        MetaphoneResult metaphone,
+        String soundexCode,
+        NGramProfile bigrams,
+        KoreanProfile korean
+) {
+}
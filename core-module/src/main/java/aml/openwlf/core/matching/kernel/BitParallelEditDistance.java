@@ -0,0 +1,170 @@
+package aml.openwlf.core.matching.kernel;
+
+import java.util.Arrays;
+
+/**
+ * Myers 비트 병렬 편집 거리 엔진
+ *
+ * 패턴(고객 이름)의 DP 열 전체를 비트 벡터로 표현하여 텍스트 한 글자당
+ * 상수 개의 비트 연산으로 한 열씩 갱신합니다 (Myers 1999, Hyyrö 2003).
+ * - 64자 이하: long 하나로 처리 (대부분의 이름/별칭)
+ * - 64자 초과: 64비트 블록 단위로 캐리를 전달하는 다중 워드 처리
+ * - transpositions=true: 인접 문자 교환을 1회 편집으로 계산 (Optimal String Alignment, Hyyrö 2001)
+ *
+ * maxDistance를 지정하면 남은 텍스트 길이로도 상한 이내로 돌아올 수 없게 되는 즉시 -1을 반환합니다.
+ */
+public final class BitParallelEditDistance {
+
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private static final long HIGH_BIT = 1L << (BitParallelPattern.WORD_SIZE - 1);
+
+    private BitParallelEditDistance() {
+    }
+
+    /**
+     * Levenshtein 거리 계산
+     *
+     * @param pattern 컴파일된 패턴
+     * @param text 비교 대상 문자열
+     * @return 편집 거리
+     */
+    public static int distance(BitParallelPattern pattern, CharSequence text) {
+        return distance(pattern, text, UNBOUNDED, false);
+    }
+
+    /**
+     * 상한이 있는 편집 거리 계산
+     *
+     * @param pattern 컴파일된 패턴
+     * @param text 비교 대상 문자열
+     * @param maxDistance 허용 최대 거리
+     * @param transpositions 인접 문자 교환을 1회 편집으로 볼지 여부
+     * @return 편집 거리 (maxDistance 초과 시 -1)
+     */
+    public static int distance(BitParallelPattern pattern, CharSequence text,
+                               int maxDistance, boolean transpositions) {
+        int m = pattern.length();
+        int n = text.length();
+
+        if (Math.abs(m - n) > maxDistance) {
+            return -1;
+        }
+        if (m == 0) {
+            return n;
+        }
+
+        return pattern.isSingleWord()
+                ? singleWord(pattern, text, maxDistance, transpositions)
+                : multiWord(pattern, text, maxDistance, transpositions);
+    }
+
+    private static int singleWord(BitParallelPattern pattern, CharSequence text,
+                                  int maxDistance, boolean transpositions) {
+        int m = pattern.length();
+        int n = text.length();
+        long last = 1L << (m - 1);
+
+        long vp = -1L;
+        long vn = 0L;
+        long d0 = 0L;
+        long prevEq = 0L;
+        int score = m;
+
+        for (int j = 0; j < n; j++) {
+            long eq = pattern.peq(text.charAt(j), 0);
+            long tc = transpositions ? (((~d0) & eq) << 1) & prevEq : 0L;
+
+            d0 = (((eq & vp) + vp) ^ vp) | eq | vn | tc;
+            long hp = vn | ~(d0 | vp);
+            long hn = vp & d0;
+
+            if ((hp & last) != 0) {
+                score++;
+            } else if ((hn & last) != 0) {
+                score--;
+            }
+
+            long x = (hp << 1) | 1L;
+            vn = x & d0;
+            vp = (hn << 1) | ~(x | d0);
+            prevEq = eq;
+
+            if (score - (n - j - 1) > maxDistance) {
+                return -1;
+            }
+        }
+
+        return score <= maxDistance ? score : -1;
+    }
+
+    private static int multiWord(BitParallelPattern pattern, CharSequence text,
+                                 int maxDistance, boolean transpositions) {
+        int m = pattern.length();
+        int n = text.length();
+        int blocks = pattern.blockCount();
+        int lastBlock = blocks - 1;
+        long last = 1L << ((m - 1) % BitParallelPattern.WORD_SIZE);
+
+        long[] vp = new long[blocks];
+        long[] vn = new long[blocks];
+        long[] d0 = new long[blocks];
+        long[] prevEq = new long[blocks];
+        Arrays.fill(vp, -1L);
+        int score = m;
+
+        for (int j = 0; j < n; j++) {
+            char c = text.charAt(j);
+            int hin = 1;
+            long tcCarry = 0L;
+
+            for (int b = 0; b < blocks; b++) {
+                long eq = pattern.peq(c, b);
+                long tc = 0L;
+                if (transpositions) {
+                    long candidates = (~d0[b]) & eq;
+                    tc = ((candidates << 1) | tcCarry) & prevEq[b];
+                    tcCarry = candidates >>> (BitParallelPattern.WORD_SIZE - 1);
+                }
+
+                long pv = vp[b];
+                long mv = vn[b];
+                long xv = eq | mv | tc;
+                long eqIn = hin < 0 ? eq | 1L : eq;
+                long xh = ((((eqIn & pv) + pv) ^ pv) | eqIn) | tc;
+
+                long ph = mv | ~(xh | pv);
+                long mh = pv & xh;
+
+                int hout = (ph & HIGH_BIT) != 0 ? 1 : ((mh & HIGH_BIT) != 0 ? -1 : 0);
+                if (b == lastBlock) {
+                    if ((ph & last) != 0) {
+                        score++;
+                    } else if ((mh & last) != 0) {
+                        score--;
+                    }
+                }
+
+                ph <<= 1;
+                mh <<= 1;
+                if (hin < 0) {
+                    mh |= 1L;
+                } else if (hin > 0) {
+                    ph |= 1L;
+                }
+
+                vp[b] = mh | ~(xv | ph);
+                vn[b] = ph & xv;
+                d0[b] = xh | xv;
+                prevEq[b] = eq;
+                hin = hout;
+            }
+
+            if (score - (n - j - 1) > maxDistance) {
+                return -1;
+            }
+        }
+
+        return score <= maxDistance ? score : -1;
+    }
+}
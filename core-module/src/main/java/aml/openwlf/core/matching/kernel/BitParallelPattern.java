@@ -0,0 +1,106 @@
+package aml.openwlf.core.matching.kernel;
+
+import java.util.Arrays;
+
+/**
+ * Myers 비트 병렬 편집 거리용 패턴 (컴파일된 고객 이름)
+ *
+ * 패턴 문자열의 각 문자에 대해 "해당 문자가 나타나는 위치" 비트마스크(Peq)를
+ * 미리 계산해 둡니다. 64자 이하의 패턴은 long 하나(단일 워드)로 표현되며,
+ * 더 긴 패턴은 64비트 블록 여러 개로 나누어 표현됩니다.
+ *
+ * 요청당 한 번 생성하여 모든 후보 비교에 재사용하는 것을 전제로 하며,
+ * 인스턴스는 불변이므로 스레드 간 공유가 가능합니다.
+ */
+public final class BitParallelPattern {
+
+    static final int WORD_SIZE = 64;
+    private static final int ASCII_SIZE = 128;
+
+    private final String pattern;
+    private final int blockCount;
+    private final long[] asciiPeq;
+    private final char[] otherChars;
+    private final long[] otherPeq;
+
+    private BitParallelPattern(String pattern, int blockCount, long[] asciiPeq,
+                               char[] otherChars, long[] otherPeq) {
+        this.pattern = pattern;
+        this.blockCount = blockCount;
+        this.asciiPeq = asciiPeq;
+        this.otherChars = otherChars;
+        this.otherPeq = otherPeq;
+    }
+
+    /**
+     * 패턴 컴파일
+     *
+     * @param pattern 패턴 문자열 (일반적으로 정규화된 고객 이름)
+     * @return 컴파일된 패턴
+     */
+    public static BitParallelPattern compile(String pattern) {
+        String value = pattern != null ? pattern : "";
+        int length = value.length();
+        int blockCount = Math.max(1, (length + WORD_SIZE - 1) / WORD_SIZE);
+
+        char[] otherChars = value.chars()
+                .filter(c -> c >= ASCII_SIZE)
+                .distinct()
+                .sorted()
+                .collect(StringBuilder::new, (sb, c) -> sb.append((char) c), StringBuilder::append)
+                .toString()
+                .toCharArray();
+
+        long[] asciiPeq = new long[ASCII_SIZE * blockCount];
+        long[] otherPeq = new long[otherChars.length * blockCount];
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            int block = i / WORD_SIZE;
+            long bit = 1L << (i % WORD_SIZE);
+            if (c < ASCII_SIZE) {
+                asciiPeq[c * blockCount + block] |= bit;
+            } else {
+                otherPeq[Arrays.binarySearch(otherChars, c) * blockCount + block] |= bit;
+            }
+        }
+
+        return new BitParallelPattern(value, blockCount, asciiPeq, otherChars, otherPeq);
+    }
+
+    /**
+     * 원본 패턴 문자열
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * 패턴 길이
+     */
+    public int length() {
+        return pattern.length();
+    }
+
+    /**
+     * 단일 워드(64자 이하)로 처리 가능한지 여부
+     */
+    public boolean isSingleWord() {
+        return blockCount == 1;
+    }
+
+    int blockCount() {
+        return blockCount;
+    }
+
+    /**
+     * 문자 c가 패턴의 block번째 64자 구간에서 나타나는 위치 비트마스크
+     */
+    long peq(char c, int block) {
+        if (c < ASCII_SIZE) {
+            return asciiPeq[c * blockCount + block];
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index >= 0 ? otherPeq[index * blockCount + block] : 0L;
+    }
+}
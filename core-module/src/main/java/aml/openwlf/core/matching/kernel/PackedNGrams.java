@@ -0,0 +1,220 @@
+package aml.openwlf.core.matching.kernel;
+
+import java.util.Arrays;
+
+/**
+ * 정수 압축 N-Gram 집합과 Jaccard 계산
+ *
+ * 문자 하나는 16비트이므로 N-Gram을 문자열 대신 정수로 압축합니다.
+ * N이 2 이하이면 int 하나, 4 이하이면 long 하나에 담기며 서로 다른 N-Gram은
+ * 서로 다른 값이 됩니다. 집합은 정렬·중복 제거된 배열로 표현하고,
+ * 교집합은 두 배열을 한 번씩 훑는 병합으로 계산합니다.
+ *
+ * N-Gram은 정규화된 문자열의 양 끝에 '_'를 붙이고 공백을 '_'로 바꾼
+ * 문자열에서 추출합니다 (패딩 문자열을 실제로 만들지는 않음).
+ */
+public final class PackedNGrams {
+
+    /**
+     * int 하나에 담을 수 있는 최대 N
+     */
+    public static final int MAX_INT_N = 2;
+
+    /**
+     * long 하나에 담을 수 있는 최대 N
+     */
+    public static final int MAX_LONG_N = 4;
+
+    private static final char PADDING = '_';
+
+    private PackedNGrams() {
+    }
+
+    /**
+     * N-Gram을 int로 압축한 정렬 배열 생성 (N ≤ 2)
+     *
+     * @param normalized 정규화된 문자열
+     * @param n N 값
+     * @return 정렬·중복 제거된 N-Gram 배열
+     */
+    public static int[] packInts(String normalized, int n) {
+        if (n < 1 || n > MAX_INT_N) {
+            throw new IllegalArgumentException("N-Gram size out of int range: " + n);
+        }
+        int count = gramCount(normalized, n);
+        int[] grams = new int[count];
+        for (int start = 0; start < count; start++) {
+            int gram = 0;
+            for (int k = 0; k < n; k++) {
+                gram = (gram << Character.SIZE) | paddedChar(normalized, start + k);
+            }
+            grams[start] = gram;
+        }
+        Arrays.sort(grams);
+        return Arrays.copyOf(grams, dedupe(grams));
+    }
+
+    /**
+     * N-Gram을 long으로 압축한 정렬 배열 생성 (N ≤ 4)
+     *
+     * @param normalized 정규화된 문자열
+     * @param n N 값
+     * @return 정렬·중복 제거된 N-Gram 배열
+     */
+    public static long[] packLongs(String normalized, int n) {
+        if (n < 1 || n > MAX_LONG_N) {
+            throw new IllegalArgumentException("N-Gram size out of long range: " + n);
+        }
+        int count = gramCount(normalized, n);
+        long[] grams = new long[count];
+        for (int start = 0; start < count; start++) {
+            long gram = 0;
+            for (int k = 0; k < n; k++) {
+                gram = (gram << Character.SIZE) | paddedChar(normalized, start + k);
+            }
+            grams[start] = gram;
+        }
+        Arrays.sort(grams);
+        return Arrays.copyOf(grams, dedupe(grams));
+    }
+
+    /**
+     * 두 N-Gram 집합의 Jaccard 유사도
+     *
+     * 결과가 minSimilarity 이상이면 정확한 값을 반환합니다. 크기 비율이나
+     * 병합 도중 남은 원소로 minSimilarity에 도달할 수 없음이 확정되면 0.0을 반환합니다.
+     *
+     * @param a 정렬·중복 제거된 집합
+     * @param b 정렬·중복 제거된 집합
+     * @param minSimilarity 관심 있는 최소 유사도 (0 이하이면 항상 정확한 값)
+     * @return Jaccard 유사도
+     */
+    public static double jaccard(int[] a, int[] b, double minSimilarity) {
+        int required = requiredIntersection(a.length, b.length, minSimilarity);
+        if (required < 0) {
+            return 0.0;
+        }
+
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (intersection + Math.min(a.length - i, b.length - j) < required) {
+                return 0.0;
+            }
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return ratio(intersection, a.length, b.length, required);
+    }
+
+    /**
+     * 두 N-Gram 집합의 Jaccard 유사도 (long 압축)
+     *
+     * @see #jaccard(int[], int[], double)
+     */
+    public static double jaccard(long[] a, long[] b, double minSimilarity) {
+        int required = requiredIntersection(a.length, b.length, minSimilarity);
+        if (required < 0) {
+            return 0.0;
+        }
+
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (intersection + Math.min(a.length - i, b.length - j) < required) {
+                return 0.0;
+            }
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return ratio(intersection, a.length, b.length, required);
+    }
+
+    private static double ratio(int intersection, int sizeA, int sizeB, int required) {
+        if (intersection < required) {
+            return 0.0;
+        }
+        int union = sizeA + sizeB - intersection;
+        if (union == 0) {
+            return 0.0;
+        }
+        return (double) intersection / union;
+    }
+
+    /**
+     * minSimilarity에 도달하기 위한 최소 교집합 크기 (도달 불가능하면 -1)
+     *
+     * 교집합 k의 Jaccard는 k / (|A| + |B| - k)로 k에 대해 단조 증가하므로,
+     * 부동소수점 비교 결과가 실제 계산과 같도록 경계 값을 직접 확인합니다.
+     * 작은 집합 크기를 넘는 k가 필요하면 크기 비율 상한만으로 탈락입니다.
+     */
+    private static int requiredIntersection(int sizeA, int sizeB, double minSimilarity) {
+        if (!(minSimilarity > 0.0)) {
+            return 0;
+        }
+        int total = sizeA + sizeB;
+        int maxIntersection = Math.min(sizeA, sizeB);
+        int k = (int) Math.ceil(minSimilarity * total / (1.0 + minSimilarity));
+        k = Math.max(0, Math.min(k, maxIntersection + 1));
+        while (k > 0 && reaches(k - 1, total, minSimilarity)) {
+            k--;
+        }
+        while (k <= maxIntersection && !reaches(k, total, minSimilarity)) {
+            k++;
+        }
+        return k > maxIntersection ? -1 : k;
+    }
+
+    private static boolean reaches(int intersection, int total, double minSimilarity) {
+        int union = total - intersection;
+        return union != 0 && (double) intersection / union >= minSimilarity;
+    }
+
+    private static int gramCount(String normalized, int n) {
+        return Math.max(0, normalized.length() + 2 - n + 1);
+    }
+
+    private static char paddedChar(String normalized, int index) {
+        if (index == 0 || index == normalized.length() + 1) {
+            return PADDING;
+        }
+        char c = normalized.charAt(index - 1);
+        return c == ' ' ? PADDING : c;
+    }
+
+    private static int dedupe(int[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+
+    private static int dedupe(long[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+}
@@ -3,8 +3,6 @@ package aml.openwlf.core.matching.strategy;
 import org.apache.commons.text.similarity.JaroWinklerSimilarity;
 import org.springframework.stereotype.Component;
 
-import java.text.Normalizer;
-
 /**
  * Jaro-Winkler 유사도 기반 매칭 전략
  *
@@ -23,18 +21,26 @@ public class JaroWinklerMatchingStrategy implements MatchingStrategy {
 
     @Override
     public double calculateSimilarity(String str1, String str2) {
-        if (str1 == null || str2 == null) {
+        return calculateSimilarity(profile(str1), profile(str2));
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 Jaro-Winkler 유사도 계산
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일
+     * @return 유사도 (0.0 ~ 1.0)
+     */
+    public double calculateSimilarity(TokenProfile profile1, TokenProfile profile2) {
+        if (profile1 == null || profile2 == null) {
             return 0.0;
         }
 
-        String s1 = normalizeForMatching(str1);
-        String s2 = normalizeForMatching(str2);
-
-        if (s1.isEmpty() || s2.isEmpty()) {
+        if (profile1.normalized().isEmpty() || profile2.normalized().isEmpty()) {
             return 0.0;
         }
 
-        return jaroWinkler.apply(s1, s2);
+        return jaroWinkler.apply(profile1.normalized(), profile2.normalized());
     }
 
     @Override
@@ -51,12 +57,23 @@ public class JaroWinklerMatchingStrategy implements MatchingStrategy {
      * @return 토큰 기반 유사도
      */
     public double calculateTokenSimilarity(String name1, String name2) {
-        if (name1 == null || name2 == null) {
+        return calculateTokenSimilarity(profile(name1), profile(name2));
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 토큰별 Jaro-Winkler 유사도 계산
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일
+     * @return 토큰 기반 유사도
+     */
+    public double calculateTokenSimilarity(TokenProfile profile1, TokenProfile profile2) {
+        if (profile1 == null || profile2 == null) {
             return 0.0;
         }
 
-        String[] tokens1 = normalizeForMatching(name1).split("\\s+");
-        String[] tokens2 = normalizeForMatching(name2).split("\\s+");
+        String[] tokens1 = profile1.tokens();
+        String[] tokens2 = profile2.tokens();
 
         if (tokens1.length == 0 || tokens2.length == 0) {
             return 0.0;
@@ -88,15 +105,35 @@ public class JaroWinklerMatchingStrategy implements MatchingStrategy {
         return totalSimilarity / Math.max(tokens1.length, tokens2.length);
     }
 
-    private String normalizeForMatching(String str) {
-        if (str == null) return "";
-
-        String normalized = Normalizer.normalize(str, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("\\p{M}", "");
+    /**
+     * 매칭용 프로파일 생성 (정규화 문자열 + 토큰)
+     * 감시 목록 항목 쪽은 한 번만 생성하여 재사용할 수 있습니다.
+     *
+     * @param str 대상 문자열
+     * @return 프로파일 (null 입력 시 null)
+     */
+    public TokenProfile profile(String str) {
+        if (str == null) {
+            return null;
+        }
+        return profileFromNormalized(MatchingText.normalize(str));
+    }
 
-        return normalized.toUpperCase()
-                .replaceAll("[^A-Z0-9가-힣\\s]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+    /**
+     * 이미 정규화된 문자열로 프로파일 생성
+     *
+     * 정규화 문자열은 단일 공백으로 구분되므로 공백 기준으로 토큰을 나눕니다.
+     * (빈 문자열은 빈 토큰 하나)
+     *
+     * @param normalized {@link MatchingText#normalize(String)} 결과
+     * @return 프로파일
+     */
+    public TokenProfile profileFromNormalized(String normalized) {
+        return new TokenProfile(normalized, normalized.split(" "));
     }
+
+    /**
+     * Jaro-Winkler 매칭용 사전 계산 프로파일
+     */
+    public record TokenProfile(String normalized, String[] tokens) {}
 }
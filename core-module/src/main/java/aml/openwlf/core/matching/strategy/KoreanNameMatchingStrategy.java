@@ -17,6 +17,16 @@ public class KoreanNameMatchingStrategy implements MatchingStrategy {
 
     private final JaroWinklerSimilarity jaroWinkler = new JaroWinklerSimilarity();
 
+    /**
+     * 상한 판정 여유 (상한 식과 실제 계산의 연산 순서 차이로 생기는 반올림 오차 흡수)
+     */
+    private static final double BOUND_SLACK = 1e-9;
+
+    /**
+     * Jaro-Winkler 접두사 가중치 상한 (scaling factor 0.1 × 최대 접두사 길이 4)
+     */
+    private static final double MAX_PREFIX_BOOST = 0.4;
+
     private static final char[] CHOSUNG_LIST = {
             'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
             'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
@@ -40,32 +50,121 @@ public class KoreanNameMatchingStrategy implements MatchingStrategy {
 
     @Override
     public double calculateSimilarity(String str1, String str2) {
-        if (str1 == null || str2 == null) {
+        return calculateSimilarity(profile(str1), profile(str2));
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 한글 이름 유사도 계산
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일
+     * @return 유사도 (한글이 없으면 0.0)
+     */
+    public double calculateSimilarity(KoreanProfile profile1, KoreanProfile profile2) {
+        if (profile1 == null || profile2 == null) {
             return 0.0;
         }
 
-        if (!containsKorean(str1) || !containsKorean(str2)) {
+        if (profile1.syllables().equals(profile2.syllables())) {
+            return 1.0;
+        }
+
+        if (profile1.chosung().equals(profile2.chosung()) && !profile1.chosung().isEmpty()) {
+            return 0.8;
+        }
+
+        return jaroWinkler.apply(profile1.jamo(), profile2.jamo()) * 0.9;
+    }
+
+    /**
+     * 최소 유사도를 넘을 수 있을 때만 자모 유사도를 계산하는 한글 이름 유사도
+     *
+     * 결과가 minSimilarity 이상이면 calculateSimilarity와 같은 값을 반환합니다.
+     * 자모 상한({@link #similarityUpperBound})이 minSimilarity에 못 미치면
+     * Jaro-Winkler를 계산하지 않고 0.0을 반환합니다.
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일
+     * @param minSimilarity 관심 있는 최소 유사도 (0 이하이면 항상 정확한 값)
+     * @return 유사도
+     */
+    public double calculateSimilarity(KoreanProfile profile1, KoreanProfile profile2, double minSimilarity) {
+        if (!canReach(profile1, profile2, minSimilarity)) {
             return 0.0;
         }
+        return calculateSimilarity(profile1, profile2);
+    }
 
-        String korean1 = extractKorean(str1);
-        String korean2 = extractKorean(str2);
+    /**
+     * 유사도가 minSimilarity에 도달할 수 있는지 (false이면 확실히 미달)
+     */
+    public boolean canReach(KoreanProfile profile1, KoreanProfile profile2, double minSimilarity) {
+        return similarityUpperBound(profile1, profile2) >= minSimilarity - BOUND_SLACK;
+    }
 
-        if (korean1.equals(korean2)) {
-            return 1.0;
+    /**
+     * 초성이 다른 두 프로파일의 유사도가 minSimilarity에 도달할 수 있는지
+     *
+     * 초성이 다르면 음절도 다르므로 유사도는 자모 유사도뿐입니다.
+     * 문자열 비교 없이 자모 길이와 비트마스크만 읽습니다.
+     */
+    public boolean canReachByJamo(KoreanProfile profile1, KoreanProfile profile2, double minSimilarity) {
+        return jamoSimilarityUpperBound(profile1, profile2) >= minSimilarity - BOUND_SLACK;
+    }
+
+    /**
+     * 한글 이름 유사도 상한
+     *
+     * 음절·초성이 같으면 정확한 값(1.0, 0.8)이고, 그 외에는 자모 유사도 상한입니다.
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일
+     * @return 유사도 상한
+     */
+    public double similarityUpperBound(KoreanProfile profile1, KoreanProfile profile2) {
+        if (profile1 == null || profile2 == null) {
+            return 0.0;
         }
 
-        String chosung1 = extractChosung(korean1);
-        String chosung2 = extractChosung(korean2);
+        if (profile1.syllables().equals(profile2.syllables())) {
+            return 1.0;
+        }
 
-        if (chosung1.equals(chosung2) && !chosung1.isEmpty()) {
+        if (profile1.chosung().equals(profile2.chosung()) && !profile1.chosung().isEmpty()) {
             return 0.8;
         }
 
-        String jamo1 = decomposeToJamo(korean1);
-        String jamo2 = decomposeToJamo(korean2);
+        return jamoSimilarityUpperBound(profile1, profile2);
+    }
 
-        return jaroWinkler.apply(jamo1, jamo2) * 0.9;
+    /**
+     * 자모 유사도(자모 Jaro-Winkler × 0.9) 상한
+     *
+     * Jaro의 일치 문자 수 m은 한쪽에만 있는 자모를 뺀 길이를 넘을 수 없으므로
+     * m ≤ min(|a| - |A \ B|, |b| - |B \ A|) (A, B는 자모 비트마스크)이고,
+     * Jaro ≤ (m/|a| + m/|b| + 1) / 3, Winkler 보정은 최대 0.4 × (1 - Jaro)입니다.
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일
+     * @return 자모 유사도 상한
+     */
+    public double jamoSimilarityUpperBound(KoreanProfile profile1, KoreanProfile profile2) {
+        if (profile1 == null || profile2 == null) {
+            return 0.0;
+        }
+
+        int length1 = profile1.jamo().length();
+        int length2 = profile2.jamo().length();
+        long mask1 = profile1.jamoMask();
+        long mask2 = profile2.jamoMask();
+        int shared = Math.min(length1 - Long.bitCount(mask1 & ~mask2), length2 - Long.bitCount(mask2 & ~mask1));
+        if (shared <= 0) {
+            return 0.0;
+        }
+
+        double jaro = ((double) shared / length1 + (double) shared / length2 + 1.0) / 3;
+        double jaroWinklerBound = jaro < 0.7 ? jaro : jaro + MAX_PREFIX_BOOST * (1.0 - jaro);
+        return jaroWinklerBound * 0.9;
     }
 
     @Override
@@ -146,6 +245,59 @@ public class KoreanNameMatchingStrategy implements MatchingStrategy {
         return !chosung1.isEmpty() && chosung1.equals(chosung2);
     }
 
+    /**
+     * 사전 계산된 프로파일 간 초성 매칭 여부 확인
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일
+     * @return 초성 일치 여부
+     */
+    public boolean matchesChosung(KoreanProfile profile1, KoreanProfile profile2) {
+        if (profile1 == null || profile2 == null) {
+            return false;
+        }
+        return !profile1.chosung().isEmpty() && profile1.chosung().equals(profile2.chosung());
+    }
+
+    /**
+     * 매칭용 프로파일 생성 (한글 음절, 초성, 자모)
+     * 감시 목록 항목 쪽은 한 번만 생성하여 재사용할 수 있습니다.
+     * 음절·초성·자모는 문자열을 한 번 순회하며 함께 추출합니다.
+     *
+     * @param str 대상 문자열
+     * @return 프로파일 (한글이 없으면 null)
+     */
+    public KoreanProfile profile(String str) {
+        if (str == null) {
+            return null;
+        }
+
+        StringBuilder syllables = new StringBuilder();
+        StringBuilder chosung = new StringBuilder();
+        StringBuilder jamo = new StringBuilder();
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                int base = c - 0xAC00;
+                int cho = base / (21 * 28);
+                int jong = base % 28;
+
+                syllables.append(c);
+                chosung.append(CHOSUNG_LIST[cho]);
+                jamo.append(CHOSUNG_LIST[cho]);
+                jamo.append(JUNGSUNG_LIST[(base % (21 * 28)) / 28]);
+                if (jong != 0) {
+                    jamo.append(JONGSUNG_LIST[jong]);
+                }
+            }
+        }
+
+        if (syllables.isEmpty()) {
+            return null;
+        }
+        return new KoreanProfile(syllables.toString(), chosung.toString(), jamo.toString());
+    }
+
     /**
      * 한글 포함 여부 확인
      *
@@ -172,4 +324,34 @@ public class KoreanNameMatchingStrategy implements MatchingStrategy {
         }
         return result.toString();
     }
+
+    /**
+     * 한글 이름 매칭용 사전 계산 프로파일
+     *
+     * 자모 비트마스크는 호환 자모(ㄱ U+3131 ~ ㅣ U+3163) 51자를 비트 하나씩에 대응시키며,
+     * 그 밖의 문자는 모두 마지막 비트 하나를 공유합니다 (상한 계산에는 안전한 방향).
+     *
+     * @param syllables 한글 음절만 남긴 문자열
+     * @param chosung 초성 문자열
+     * @param jamo 자모 분리 문자열
+     * @param jamoMask 자모에 쓰인 문자 집합 비트마스크 (유사도 상한 계산용)
+     */
+    public record KoreanProfile(String syllables, String chosung, String jamo, long jamoMask) {
+
+        private static final char FIRST_JAMO = 'ㄱ';
+        private static final char LAST_JAMO = 'ㅣ';
+
+        public KoreanProfile(String syllables, String chosung, String jamo) {
+            this(syllables, chosung, jamo, jamoMask(jamo));
+        }
+
+        private static long jamoMask(String jamo) {
+            long mask = 0L;
+            for (int i = 0; i < jamo.length(); i++) {
+                char c = jamo.charAt(i);
+                mask |= c >= FIRST_JAMO && c <= LAST_JAMO ? 1L << (c - FIRST_JAMO) : Long.MIN_VALUE;
+            }
+            return mask;
+        }
+    }
 }
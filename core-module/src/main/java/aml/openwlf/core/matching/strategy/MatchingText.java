@@ -0,0 +1,126 @@
+package aml.openwlf.core.matching.strategy;
+
+import java.text.Normalizer;
+
+/**
+ * 매칭 전략 공용 문자열 정규화
+ *
+ * Jaro-Winkler·N-Gram이 쓰는 매칭용 정규화와 Soundex·Metaphone이 쓰는 발음용 정규화를
+ * 정규식 없이 한 번의 순회로 수행합니다. 발음용 정규화는 매칭용 정규화 결과에서
+ * 숫자 등을 걸러 얻을 수 있으므로, 복합 매칭에서는 이름당 한 번만 정규화합니다.
+ *
+ * 결과는 다음 정규식 파이프라인과 같습니다.
+ * <pre>
+ * NFD 분해 → \p{M} 제거 → toUpperCase() → [^A-Z0-9가-힣\s] 제거 → \s+ 를 공백 하나로 → trim()
+ * </pre>
+ * 결합 부호는 허용 문자가 아니므로 마지막 필터에서 함께 걸러집니다.
+ */
+public final class MatchingText {
+
+    private MatchingText() {
+    }
+
+    /**
+     * 매칭용 정규화 (영문 대문자, 숫자, 한글 음절, 단일 공백)
+     *
+     * @param str 원본 문자열
+     * @return 정규화된 문자열 (null 입력 시 빈 문자열)
+     */
+    public static String normalize(String str) {
+        if (str == null) return "";
+
+        String decomposed = isAscii(str) ? str : Normalizer.normalize(str, Normalizer.Form.NFD);
+        String upper = decomposed.toUpperCase();
+
+        StringBuilder normalized = new StringBuilder(upper.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < upper.length(); i++) {
+            char c = upper.charAt(i);
+            if (isRegexWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+            } else if (isMatchingChar(c)) {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 매칭용 정규화 결과에서 발음용 문자열 도출 (영문 대문자, 단일 공백)
+     *
+     * normalize()의 결과만 입력으로 받으며, 원본 문자열을 [^A-Z\s] 필터로
+     * 정규화한 것과 같은 결과를 반환합니다.
+     *
+     * @param normalized {@link #normalize(String)} 결과
+     * @return 발음용 문자열
+     */
+    public static String phonetic(String normalized) {
+        if (isPhoneticOnly(normalized)) {
+            return normalized;
+        }
+
+        StringBuilder phonetic = new StringBuilder(normalized.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == ' ') {
+                pendingSpace = phonetic.length() > 0;
+            } else if (isPhoneticChar(c)) {
+                if (pendingSpace) {
+                    phonetic.append(' ');
+                    pendingSpace = false;
+                }
+                phonetic.append(c);
+            }
+        }
+        return phonetic.toString();
+    }
+
+    /**
+     * 발음용 정규화 (영문 대문자, 단일 공백)
+     *
+     * @param str 원본 문자열
+     * @return 정규화된 문자열 (null 입력 시 빈 문자열)
+     */
+    public static String normalizePhonetic(String str) {
+        return phonetic(normalize(str));
+    }
+
+    private static boolean isAscii(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPhoneticOnly(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c != ' ' && !isPhoneticChar(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMatchingChar(char c) {
+        return isPhoneticChar(c) || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣');
+    }
+
+    private static boolean isPhoneticChar(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * 정규식 \s와 같은 공백 문자 집합 ([ \t\n\x0B\f\r])
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -4,7 +4,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.language.DoubleMetaphone;
 import org.springframework.stereotype.Component;
 
-import java.text.Normalizer;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -28,9 +27,17 @@ public class MetaphoneMatchingStrategy implements MatchingStrategy {
 
     @Override
     public double calculateSimilarity(String str1, String str2) {
-        MetaphoneResult result1 = getMetaphoneCode(str1);
-        MetaphoneResult result2 = getMetaphoneCode(str2);
+        return calculateSimilarity(getMetaphoneCode(str1), getMetaphoneCode(str2));
+    }
 
+    /**
+     * 사전 계산된 Metaphone 코드 간 유사도 계산
+     *
+     * @param result1 첫 번째 코드
+     * @param result2 두 번째 코드
+     * @return 유사도 (0.0 ~ 1.0)
+     */
+    public double calculateSimilarity(MetaphoneResult result1, MetaphoneResult result2) {
         if (result1.isEmpty() || result2.isEmpty()) {
             return 0.0;
         }
@@ -57,9 +64,17 @@ public class MetaphoneMatchingStrategy implements MatchingStrategy {
 
     @Override
     public boolean matches(String str1, String str2) {
-        MetaphoneResult result1 = getMetaphoneCode(str1);
-        MetaphoneResult result2 = getMetaphoneCode(str2);
+        return matches(getMetaphoneCode(str1), getMetaphoneCode(str2));
+    }
 
+    /**
+     * 사전 계산된 Metaphone 코드 간 매칭 여부 확인
+     *
+     * @param result1 첫 번째 코드
+     * @param result2 두 번째 코드
+     * @return 매칭 여부
+     */
+    public boolean matches(MetaphoneResult result1, MetaphoneResult result2) {
         if (result1.isEmpty() || result2.isEmpty()) {
             return false;
         }
@@ -82,16 +97,25 @@ public class MetaphoneMatchingStrategy implements MatchingStrategy {
             return new MetaphoneResult("", "");
         }
 
-        try {
-            String normalized = normalizeForPhonetic(name);
-            if (normalized.isEmpty()) {
-                return new MetaphoneResult("", "");
-            }
+        return getMetaphoneCodeFromPhonetic(MatchingText.normalizePhonetic(name));
+    }
 
+    /**
+     * 이미 발음용으로 정규화된 문자열의 Double Metaphone 코드 생성
+     *
+     * @param normalized {@link MatchingText#phonetic(String)} 결과
+     * @return MetaphoneResult (primary, alternate)
+     */
+    public MetaphoneResult getMetaphoneCodeFromPhonetic(String normalized) {
+        if (normalized.isEmpty()) {
+            return new MetaphoneResult("", "");
+        }
+
+        try {
             StringBuilder primary = new StringBuilder();
             StringBuilder alternate = new StringBuilder();
 
-            for (String word : normalized.split("\\s+")) {
+            for (String word : normalized.split(" ")) {
                 if (!word.isEmpty()) {
                     String p = doubleMetaphone.doubleMetaphone(word, false);
                     String a = doubleMetaphone.doubleMetaphone(word, true);
@@ -106,7 +130,7 @@ public class MetaphoneMatchingStrategy implements MatchingStrategy {
                     alternate.length() > 0 ? alternate.substring(0, alternate.length() - 1) : ""
             );
         } catch (Exception e) {
-            log.debug("Double Metaphone encoding failed for: {}", name);
+            log.debug("Double Metaphone encoding failed for: {}", normalized);
             return new MetaphoneResult("", "");
         }
     }
@@ -126,18 +150,6 @@ public class MetaphoneMatchingStrategy implements MatchingStrategy {
         return !tokens1.isEmpty();
     }
 
-    private String normalizeForPhonetic(String str) {
-        if (str == null) return "";
-
-        String normalized = Normalizer.normalize(str, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("\\p{M}", "");
-
-        return normalized.toUpperCase()
-                .replaceAll("[^A-Z\\s]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
-    }
-
     public record MetaphoneResult(String primary, String alternate) {
         public boolean isEmpty() {
             return (primary == null || primary.isEmpty()) &&
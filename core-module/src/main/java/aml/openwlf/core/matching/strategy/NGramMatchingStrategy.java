@@ -1,8 +1,9 @@
 package aml.openwlf.core.matching.strategy;
 
+import aml.openwlf.core.matching.kernel.PackedNGrams;
 import org.springframework.stereotype.Component;
 
-import java.text.Normalizer;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -11,6 +12,9 @@ import java.util.Set;
  *
  * 부분 문자열 기반 매칭으로 오타에 강합니다.
  * Jaccard 유사도를 사용합니다.
+ *
+ * N-Gram은 정수로 압축한 정렬 배열로 다루며({@link PackedNGrams}),
+ * 교집합은 선형 병합으로 계산합니다.
  */
 @Component
 public class NGramMatchingStrategy implements MatchingStrategy {
@@ -42,31 +46,87 @@ public class NGramMatchingStrategy implements MatchingStrategy {
      * @return Jaccard 유사도
      */
     public double calculateNGramSimilarity(String str1, String str2, int n) {
-        if (str1 == null || str2 == null) {
+        return calculateSimilarity(profile(str1, n), profile(str2, n));
+    }
+
+    /**
+     * 사전 계산된 프로파일 간 N-Gram 유사도 계산 (0.0 ~ 1.0)
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일 (같은 N 값으로 생성되어야 함)
+     * @return Jaccard 유사도
+     */
+    public double calculateSimilarity(NGramProfile profile1, NGramProfile profile2) {
+        return calculateSimilarity(profile1, profile2, 0.0);
+    }
+
+    /**
+     * 최소 유사도를 아는 경우의 N-Gram 유사도 계산
+     *
+     * 결과가 minSimilarity 이상이면 {@link #calculateSimilarity(NGramProfile, NGramProfile)}와
+     * 같은 값을 반환하고, 미달이 확정되면 집합 크기 비율이나 병합 도중에 0.0을 반환합니다.
+     *
+     * @param profile1 첫 번째 프로파일
+     * @param profile2 두 번째 프로파일 (같은 N 값으로 생성되어야 함)
+     * @param minSimilarity 관심 있는 최소 유사도 (0 이하이면 항상 정확한 값)
+     * @return Jaccard 유사도
+     */
+    public double calculateSimilarity(NGramProfile profile1, NGramProfile profile2, double minSimilarity) {
+        if (profile1 == null || profile2 == null) {
             return 0.0;
         }
+        if (profile1.n() != profile2.n()) {
+            throw new IllegalArgumentException(
+                    "N-Gram size mismatch: " + profile1.n() + " vs " + profile2.n());
+        }
 
-        String s1 = normalizeForMatching(str1);
-        String s2 = normalizeForMatching(str2);
+        int n = profile1.n();
+        String s1 = profile1.normalized();
+        String s2 = profile2.normalized();
 
         if (s1.length() < n || s2.length() < n) {
             return s1.equals(s2) ? 1.0 : 0.0;
         }
 
-        Set<String> ngrams1 = generateNGrams(s1, n);
-        Set<String> ngrams2 = generateNGrams(s2, n);
-
-        Set<String> intersection = new HashSet<>(ngrams1);
-        intersection.retainAll(ngrams2);
-
-        Set<String> union = new HashSet<>(ngrams1);
-        union.addAll(ngrams2);
+        if (profile1.grams() != null && profile2.grams() != null) {
+            return PackedNGrams.jaccard(profile1.grams(), profile2.grams(), minSimilarity);
+        }
+        if (profile1.wideGrams() != null && profile2.wideGrams() != null) {
+            return PackedNGrams.jaccard(profile1.wideGrams(), profile2.wideGrams(), minSimilarity);
+        }
+        return calculateSetSimilarity(generateNGrams(s1, n), generateNGrams(s2, n));
+    }
 
-        if (union.isEmpty()) {
-            return 0.0;
+    /**
+     * 매칭용 프로파일 생성 (정규화 문자열 + 정수 압축 N-Gram 배열)
+     * 감시 목록 항목 쪽은 한 번만 생성하여 재사용할 수 있습니다.
+     *
+     * @param str 대상 문자열
+     * @param n N 값
+     * @return 프로파일 (null 입력 시 null)
+     */
+    public NGramProfile profile(String str, int n) {
+        if (str == null) {
+            return null;
         }
+        return profileFromNormalized(MatchingText.normalize(str), n);
+    }
 
-        return (double) intersection.size() / union.size();
+    /**
+     * 이미 정규화된 문자열로 프로파일 생성
+     *
+     * @param normalized {@link MatchingText#normalize(String)} 결과
+     * @param n N 값
+     * @return 프로파일
+     */
+    public NGramProfile profileFromNormalized(String normalized, int n) {
+        if (normalized.length() < n || n > PackedNGrams.MAX_LONG_N) {
+            return new NGramProfile(normalized, n, null, null);
+        }
+        if (n <= PackedNGrams.MAX_INT_N) {
+            return new NGramProfile(normalized, n, PackedNGrams.packInts(normalized, n), null);
+        }
+        return new NGramProfile(normalized, n, null, PackedNGrams.packLongs(normalized, n));
     }
 
     /**
@@ -102,15 +162,68 @@ public class NGramMatchingStrategy implements MatchingStrategy {
         return ngrams;
     }
 
-    private String normalizeForMatching(String str) {
-        if (str == null) return "";
+    /**
+     * 문자열 N-Gram 집합 간 Jaccard 유사도 (정수로 압축할 수 없는 N 값용)
+     */
+    private double calculateSetSimilarity(Set<String> ngrams1, Set<String> ngrams2) {
+        Set<String> smaller = ngrams1.size() <= ngrams2.size() ? ngrams1 : ngrams2;
+        Set<String> larger = smaller == ngrams1 ? ngrams2 : ngrams1;
+
+        int intersection = 0;
+        for (String ngram : smaller) {
+            if (larger.contains(ngram)) {
+                intersection++;
+            }
+        }
+
+        int union = smaller.size() + larger.size() - intersection;
+        if (union == 0) {
+            return 0.0;
+        }
+
+        return (double) intersection / union;
+    }
+
+    /**
+     * N-Gram 매칭용 사전 계산 프로파일
+     *
+     * N-Gram 집합은 정렬·중복 제거된 정수 배열로 보관합니다.
+     * N ≤ 2이면 grams, N ≤ 4이면 wideGrams를 사용하고, 정규화 문자열이 N보다 짧거나
+     * N이 더 크면 둘 다 null입니다 (유사도 계산 시 문자열 집합으로 처리).
+     *
+     * @param normalized 정규화된 문자열
+     * @param n N 값
+     * @param grams int로 압축한 N-Gram (N ≤ 2)
+     * @param wideGrams long으로 압축한 N-Gram (3 ≤ N ≤ 4)
+     */
+    public record NGramProfile(String normalized, int n, int[] grams, long[] wideGrams) {
 
-        String normalized = Normalizer.normalize(str, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("\\p{M}", "");
+        /**
+         * 서로 다른 N-Gram 개수 (배열이 없으면 0)
+         */
+        public int size() {
+            return grams != null ? grams.length : (wideGrams != null ? wideGrams.length : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NGramProfile other)) return false;
+            return n == other.n
+                    && normalized.equals(other.normalized)
+                    && Arrays.equals(grams, other.grams)
+                    && Arrays.equals(wideGrams, other.wideGrams);
+        }
 
-        return normalized.toUpperCase()
-                .replaceAll("[^A-Z0-9가-힣\\s]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * normalized.hashCode() + n) + Arrays.hashCode(grams))
+                    + Arrays.hashCode(wideGrams);
+        }
+
+        @Override
+        public String toString() {
+            return "NGramProfile[normalized=" + normalized + ", n=" + n + ", size=" + size() + "]";
+        }
     }
 }
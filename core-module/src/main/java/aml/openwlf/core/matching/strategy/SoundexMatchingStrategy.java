@@ -4,7 +4,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.language.Soundex;
 import org.springframework.stereotype.Component;
 
-import java.text.Normalizer;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -29,9 +28,17 @@ public class SoundexMatchingStrategy implements MatchingStrategy {
 
     @Override
     public double calculateSimilarity(String str1, String str2) {
-        String code1 = getSoundexCode(str1);
-        String code2 = getSoundexCode(str2);
+        return calculateCodeSimilarity(getSoundexCode(str1), getSoundexCode(str2));
+    }
 
+    /**
+     * 사전 계산된 Soundex 코드 간 유사도 계산
+     *
+     * @param code1 첫 번째 코드
+     * @param code2 두 번째 코드
+     * @return 유사도 (0.0 ~ 1.0)
+     */
+    public double calculateCodeSimilarity(String code1, String code2) {
         if (code1.isEmpty() || code2.isEmpty()) {
             return 0.0;
         }
@@ -52,9 +59,17 @@ public class SoundexMatchingStrategy implements MatchingStrategy {
 
     @Override
     public boolean matches(String str1, String str2) {
-        String code1 = getSoundexCode(str1);
-        String code2 = getSoundexCode(str2);
+        return matchesCodes(getSoundexCode(str1), getSoundexCode(str2));
+    }
 
+    /**
+     * 사전 계산된 Soundex 코드 간 매칭 여부 확인
+     *
+     * @param code1 첫 번째 코드
+     * @param code2 두 번째 코드
+     * @return 매칭 여부
+     */
+    public boolean matchesCodes(String code1, String code2) {
         if (code1.isEmpty() || code2.isEmpty()) {
             return false;
         }
@@ -81,13 +96,22 @@ public class SoundexMatchingStrategy implements MatchingStrategy {
             return "";
         }
 
-        try {
-            String normalized = normalizeForPhonetic(name);
-            if (normalized.isEmpty()) {
-                return "";
-            }
+        return getSoundexCodeFromPhonetic(MatchingText.normalizePhonetic(name));
+    }
+
+    /**
+     * 이미 발음용으로 정규화된 문자열의 Soundex 코드 생성
+     *
+     * @param normalized {@link MatchingText#phonetic(String)} 결과
+     * @return Soundex 코드 (단어별 '-'로 구분)
+     */
+    public String getSoundexCodeFromPhonetic(String normalized) {
+        if (normalized.isEmpty()) {
+            return "";
+        }
 
-            return Arrays.stream(normalized.split("\\s+"))
+        try {
+            return Arrays.stream(normalized.split(" "))
                     .filter(word -> !word.isEmpty())
                     .map(word -> {
                         try {
@@ -99,7 +123,7 @@ public class SoundexMatchingStrategy implements MatchingStrategy {
                     .filter(code -> !code.isEmpty())
                     .collect(Collectors.joining("-"));
         } catch (Exception e) {
-            log.debug("Soundex encoding failed for: {}", name);
+            log.debug("Soundex encoding failed for: {}", normalized);
             return "";
         }
     }
@@ -109,19 +133,6 @@ public class SoundexMatchingStrategy implements MatchingStrategy {
         if (str == null || str.isBlank()) {
             return false;
         }
-        String normalized = normalizeForPhonetic(str);
-        return !normalized.isEmpty();
-    }
-
-    private String normalizeForPhonetic(String str) {
-        if (str == null) return "";
-
-        String normalized = Normalizer.normalize(str, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("\\p{M}", "");
-
-        return normalized.toUpperCase()
-                .replaceAll("[^A-Z\\s]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+        return !MatchingText.normalizePhonetic(str).isEmpty();
     }
 }
@@ -0,0 +1,105 @@
+package aml.openwlf.core.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 룰 하나의 누적 평가 통계
+ *
+ * 평가 횟수·매칭 수·오류 수는 모든 평가에서 LongAdder로 집계하고, 평가 시간은 표본으로만 측정합니다.
+ * 표본 여부는 스레드 로컬 난수를 마스크와 비교해 정하므로 평가 루프에서 객체를 할당하지 않으며,
+ * 표본의 평균 시간에 전체 평가 횟수를 곱해 총 평가 시간을 추정합니다.
+ *
+ * 인스턴스는 ScreeningMetrics가 룰 ID·매칭 타입별로 하나씩 만들어, 룰 설정이 리로드되어도
+ * 같은 룰이면 계속 누적합니다.
+ */
+public final class RuleStats {
+
+    /**
+     * 시간을 측정하지 않는 마스크
+     */
+    static final int NEVER_TIMED = -1;
+
+    private final int timingSampleMask;
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timedEvaluations = new LongAdder();
+    private final LongAdder timedNanos = new LongAdder();
+
+    /**
+     * @param timingSampleMask 난수와 AND한 결과가 0이면 측정 (2^n - 1, 음수면 측정 안 함)
+     */
+    RuleStats(int timingSampleMask) {
+        this.timingSampleMask = timingSampleMask;
+    }
+
+    /**
+     * 메트릭 레지스트리에 등록하지 않는 통계 (시간 측정 안 함)
+     */
+    public static RuleStats untracked() {
+        return new RuleStats(NEVER_TIMED);
+    }
+
+    /**
+     * 이번 평가의 시간을 측정할지 여부
+     */
+    public boolean sample() {
+        return timingSampleMask >= 0 && (ThreadLocalRandom.current().nextInt() & timingSampleMask) == 0;
+    }
+
+    /**
+     * 시간을 측정하지 않은 평가 기록
+     */
+    public void record(int matchCount) {
+        evaluations.increment();
+        if (matchCount > 0) {
+            matches.add(matchCount);
+        }
+    }
+
+    /**
+     * 시간을 측정한 평가 기록
+     */
+    public void recordTimed(int matchCount, long nanos) {
+        record(matchCount);
+        timedEvaluations.increment();
+        timedNanos.add(nanos);
+    }
+
+    /**
+     * 예외로 끝난 평가 기록
+     */
+    public void recordError() {
+        evaluations.increment();
+        errors.increment();
+    }
+
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    public long getMatches() {
+        return matches.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getTimedEvaluations() {
+        return timedEvaluations.sum();
+    }
+
+    /**
+     * 표본 평균 시간 × 전체 평가 횟수로 추정한 총 평가 시간 (나노초, 표본이 없으면 0)
+     */
+    public double getEstimatedTotalNanos() {
+        long timed = timedEvaluations.sum();
+        if (timed == 0) {
+            return 0.0;
+        }
+        return (double) timedNanos.sum() / timed * evaluations.sum();
+    }
+}
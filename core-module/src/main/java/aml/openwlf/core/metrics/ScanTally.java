@@ -0,0 +1,59 @@
+package aml.openwlf.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스크리닝 요청 한 건의 스캔 집계
+ *
+ * 요청마다 하나를 만들어 스캔 경로에 넘기면, 실행 계획이 항목 하나를 평가할 때마다 그 항목에서
+ * 평가한 룰 수를 한 번에 더합니다. 병렬 스캔에서는 여러 파티션이 같은 집계를 갱신하므로
+ * LongAdder로 누적하고, 요청이 끝난 뒤 ScreeningMetrics가 합계를 한 번 읽어 기록합니다.
+ *
+ * 프로파일링 요청의 집계에는 ScreeningProfiler가 실려 있어 실행 계획이 룰 평가마다 시간을 기록합니다.
+ */
+public final class ScanTally {
+
+    private final LongAdder entriesScanned = new LongAdder();
+    private final LongAdder rulesEvaluated = new LongAdder();
+    private final ScreeningProfiler profiler;
+
+    public ScanTally() {
+        this(null);
+    }
+
+    /**
+     * @param profiler 룰 평가를 기록할 프로파일러 (null이면 프로파일링하지 않음)
+     */
+    public ScanTally(ScreeningProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * 평가한 감시목록 항목 수 누적
+     */
+    public void addEntriesScanned(int count) {
+        entriesScanned.add(count);
+    }
+
+    /**
+     * 항목 하나에서 평가한 룰 수 누적
+     */
+    public void addRulesEvaluated(int count) {
+        rulesEvaluated.add(count);
+    }
+
+    public long getEntriesScanned() {
+        return entriesScanned.sum();
+    }
+
+    public long getRulesEvaluated() {
+        return rulesEvaluated.sum();
+    }
+
+    /**
+     * 이 요청의 프로파일러 (프로파일링하지 않는 요청이면 null)
+     */
+    public ScreeningProfiler getProfiler() {
+        return profiler;
+    }
+}
@@ -0,0 +1,160 @@
+package aml.openwlf.core.metrics;
+
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.filtering.FilteringProperties;
+import aml.openwlf.core.model.FilteringResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스크리닝 파이프라인 메트릭
+ *
+ * 요청 단위 메트릭(종단 지연 시간, 스캔한 항목·평가한 룰·매칭 수, 점수 구간별 결과)은 요청이 끝날 때
+ * 한 번 기록하고, 고객-항목 쌍 단위의 룰 평가는 RuleStats의 LongAdder에 누적했다가 조회 시점에
+ * FunctionCounter·FunctionTimer로 읽어 갑니다. 따라서 평가 루프에는 타이머 샘플이나 태그 객체가
+ * 생기지 않습니다.
+ *
+ * Actuator가 MeterRegistry를 제공하면 그 레지스트리에 등록하고, 없으면(벤치마크, 단독 실행)
+ * 메모리 레지스트리에 등록합니다.
+ */
+@Component
+public class ScreeningMetrics {
+
+    private static final int MAX_SAMPLE_INTERVAL = 1 << 30;
+
+    private final MeterRegistry registry;
+    private final int ruleTimingSampleMask;
+
+    private final Timer screeningDuration;
+    private final DistributionSummary entriesScanned;
+    private final DistributionSummary rulesEvaluated;
+    private final DistributionSummary matchesProduced;
+    private final Counter alertResults;
+    private final Counter reviewResults;
+    private final Counter clearResults;
+
+    private final Map<String, RuleStats> ruleStats = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ScreeningMetrics(ObjectProvider<MeterRegistry> registry, FilteringProperties filteringProperties) {
+        this(registry.getIfAvailable(SimpleMeterRegistry::new), filteringProperties);
+    }
+
+    public ScreeningMetrics(MeterRegistry registry, FilteringProperties filteringProperties) {
+        this.registry = registry;
+        this.ruleTimingSampleMask = sampleMask(filteringProperties.getMetrics().getRuleTimingSampleInterval());
+
+        this.screeningDuration = Timer.builder("openwlf.screening.duration")
+                .description("End-to-end latency of one customer screening, including result cache hits")
+                .register(registry);
+        this.entriesScanned = DistributionSummary.builder("openwlf.screening.entries.scanned")
+                .description("Watchlist entries evaluated per screening")
+                .baseUnit("entries")
+                .register(registry);
+        this.rulesEvaluated = DistributionSummary.builder("openwlf.screening.rules.evaluated")
+                .description("Rule evaluations performed per screening")
+                .baseUnit("evaluations")
+                .register(registry);
+        this.matchesProduced = DistributionSummary.builder("openwlf.screening.matches")
+                .description("Matched rules produced per screening")
+                .baseUnit("matches")
+                .register(registry);
+        this.alertResults = resultCounter("alert");
+        this.reviewResults = resultCounter("review");
+        this.clearResults = resultCounter("clear");
+    }
+
+    private Counter resultCounter(String band) {
+        return Counter.builder("openwlf.screening.results")
+                .description("Screening results by score band (alert, review, clear)")
+                .tag("band", band)
+                .register(registry);
+    }
+
+    /**
+     * 표본 간격을 2의 거듭제곱으로 올린 마스크 (0 이하면 측정 안 함)
+     */
+    static int sampleMask(int interval) {
+        if (interval <= 0) {
+            return RuleStats.NEVER_TIMED;
+        }
+        int bounded = Math.min(interval, MAX_SAMPLE_INTERVAL);
+        int power = Integer.highestOneBit(bounded);
+        if (power < bounded) {
+            power <<= 1;
+        }
+        return power - 1;
+    }
+
+    /**
+     * 룰의 누적 평가 통계 (룰 ID·매칭 타입별로 하나, 처음 요청될 때 레지스트리에 등록)
+     */
+    public RuleStats ruleStats(RuleDefinition rule) {
+        String matchType = rule.getCondition().getMatchType();
+        return ruleStats.computeIfAbsent(rule.getId() + '|' + matchType,
+                key -> register(rule.getId(), matchType, rule.getType()));
+    }
+
+    private RuleStats register(String ruleId, String matchType, String ruleType) {
+        RuleStats stats = new RuleStats(ruleTimingSampleMask);
+        Tags tags = Tags.of("rule", ruleId, "match.type", matchType, "rule.type", String.valueOf(ruleType));
+
+        FunctionTimer.builder("openwlf.rule.evaluation", stats,
+                        RuleStats::getEvaluations, RuleStats::getEstimatedTotalNanos, TimeUnit.NANOSECONDS)
+                .description("Rule evaluations; total time is estimated from sampled evaluations")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("openwlf.rule.matches", stats, RuleStats::getMatches)
+                .description("Matched rules produced by the rule")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("openwlf.rule.errors", stats, RuleStats::getErrors)
+                .description("Rule evaluations that ended with an exception")
+                .tags(tags)
+                .register(registry);
+        return stats;
+    }
+
+    /**
+     * 스캔 한 번의 집계 기록
+     *
+     * @param tally 요청의 스캔 집계
+     * @param matchCount 스캔이 만든 매칭 룰 수
+     */
+    public void recordScan(ScanTally tally, int matchCount) {
+        entriesScanned.record(tally.getEntriesScanned());
+        rulesEvaluated.record(tally.getRulesEvaluated());
+        matchesProduced.record(matchCount);
+    }
+
+    /**
+     * 스크리닝 한 건의 지연 시간과 점수 구간 기록
+     *
+     * @param result 스크리닝 결과
+     * @param reviewThreshold 검토 구간 하한 점수
+     * @param nanos 종단 지연 시간
+     */
+    public void recordScreening(FilteringResult result, double reviewThreshold, long nanos) {
+        screeningDuration.record(nanos, TimeUnit.NANOSECONDS);
+        if (result.isAlert()) {
+            alertResults.increment();
+        } else if (result.getScore() >= reviewThreshold) {
+            reviewResults.increment();
+        } else {
+            clearResults.increment();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package aml.openwlf.core.metrics;
+
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.model.ScreeningProfile;
+import aml.openwlf.core.rule.WatchlistEntry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 스크리닝 요청 한 건의 비용 프로파일러
+ *
+ * 프로파일링 요청에서만 만들어 ScanTally에 실어 보내면, 실행 계획이 모든 룰 평가의 시간과 매칭 수를
+ * 실행 순서의 룰 인덱스로 기록합니다. 일반 요청의 집계에는 프로파일러가 없으므로 항목당 null 검사
+ * 한 번 외에는 비용이 들지 않습니다.
+ *
+ * 프로파일링 요청은 호출 스레드에서 순차로 스캔하므로 동기화하지 않으며, 할당 바이트는 생성 시점부터
+ * 현재 스레드가 할당한 양(ThreadMXBean)으로 측정합니다. 프로파일러 자신의 할당도 포함됩니다.
+ */
+public final class ScreeningProfiler {
+
+    public static final String NORMALIZATION = "normalization";
+    public static final String CANDIDATE_SELECTION = "candidateSelection";
+    public static final String SCAN = "scan";
+    public static final String SCORING = "scoring";
+
+    private static final Comparator<ScreeningProfile.EntryCost> BY_NANOS =
+            Comparator.comparingLong(ScreeningProfile.EntryCost::getNanos);
+
+    private final List<RuleDefinition> rules;
+    private final long[] evaluations;
+    private final long[] matches;
+    private final long[] errors;
+    private final long[] totalNanos;
+    private final long[] maxNanos;
+    private final int slowestEntryLimit;
+    private final PriorityQueue<ScreeningProfile.EntryCost> slowestEntries;
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+    private final long startNanos;
+    private final long startAllocatedBytes;
+
+    private long evaluationCount;
+    private long evaluationsBeforeEntry;
+    private int watchlistEntries;
+    private int candidates;
+    private int scanned;
+    private int evaluatedEntries;
+    private int matchedEntries;
+    private int matchedRules;
+
+    /**
+     * @param rules 실행 계획의 룰 정의 (실행 순서, RuleExecutionPlan#getRules)
+     * @param slowestEntryLimit 보관할 느린 항목 수
+     */
+    public ScreeningProfiler(List<RuleDefinition> rules, int slowestEntryLimit) {
+        this.rules = rules;
+        this.evaluations = new long[rules.size()];
+        this.matches = new long[rules.size()];
+        this.errors = new long[rules.size()];
+        this.totalNanos = new long[rules.size()];
+        this.maxNanos = new long[rules.size()];
+        this.slowestEntryLimit = Math.max(0, slowestEntryLimit);
+        this.slowestEntries = new PriorityQueue<>(this.slowestEntryLimit + 1, BY_NANOS);
+        this.startAllocatedBytes = currentThreadAllocatedBytes();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 단계 소요 시간 기록 (같은 단계는 합산)
+     */
+    public void recordStage(String stage, long nanos) {
+        stageNanos.merge(stage, nanos, Long::sum);
+    }
+
+    /**
+     * 후보 선별 전후 항목 수 기록
+     */
+    public void recordCandidates(int watchlistEntries, int candidates) {
+        this.watchlistEntries = watchlistEntries;
+        this.candidates = candidates;
+    }
+
+    /**
+     * 룰 평가 한 번 기록
+     *
+     * @param ruleIndex 실행 계획의 룰 인덱스
+     */
+    public void recordRule(int ruleIndex, int matchCount, long nanos) {
+        evaluationCount++;
+        evaluations[ruleIndex]++;
+        matches[ruleIndex] += matchCount;
+        totalNanos[ruleIndex] += nanos;
+        if (nanos > maxNanos[ruleIndex]) {
+            maxNanos[ruleIndex] = nanos;
+        }
+    }
+
+    /**
+     * 예외로 끝난 룰 평가 기록
+     */
+    public void recordRuleError(int ruleIndex) {
+        evaluationCount++;
+        evaluations[ruleIndex]++;
+        errors[ruleIndex]++;
+    }
+
+    /**
+     * 항목 하나의 평가 기록 (이 항목에서 평가한 룰 수는 직전 항목 이후 기록된 룰 평가 수)
+     */
+    public void recordEntry(WatchlistEntry entry, int matchCount, long nanos) {
+        int rulesEvaluated = (int) (evaluationCount - evaluationsBeforeEntry);
+        evaluationsBeforeEntry = evaluationCount;
+        scanned++;
+        if (rulesEvaluated > 0) {
+            evaluatedEntries++;
+        }
+        if (matchCount > 0) {
+            matchedEntries++;
+            matchedRules += matchCount;
+        }
+
+        if (slowestEntryLimit == 0
+                || (slowestEntries.size() == slowestEntryLimit && nanos <= slowestEntries.peek().getNanos())) {
+            return;
+        }
+        slowestEntries.add(ScreeningProfile.EntryCost.builder()
+                .entryId(entry.getId())
+                .name(entry.getName())
+                .listSource(entry.getListSource())
+                .nanos(nanos)
+                .rulesEvaluated(rulesEvaluated)
+                .matches(matchCount)
+                .build());
+        if (slowestEntries.size() > slowestEntryLimit) {
+            slowestEntries.poll();
+        }
+    }
+
+    /**
+     * 기록을 마치고 프로파일 생성
+     *
+     * @param terminationMode 스캔에 적용한 조기 종료 모드
+     */
+    public ScreeningProfile finish(String terminationMode) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long endAllocatedBytes = currentThreadAllocatedBytes();
+
+        List<ScreeningProfile.RuleCost> ruleCosts = new ArrayList<>(rules.size());
+        Map<String, ScreeningProfile.MatcherCost> matcherCosts = new LinkedHashMap<>();
+        for (int i = 0; i < rules.size(); i++) {
+            String matchType = rules.get(i).getCondition().getMatchType();
+            ruleCosts.add(ScreeningProfile.RuleCost.builder()
+                    .ruleId(rules.get(i).getId())
+                    .matchType(matchType)
+                    .evaluations(evaluations[i])
+                    .skipped(scanned - evaluations[i])
+                    .matches(matches[i])
+                    .errors(errors[i])
+                    .totalNanos(totalNanos[i])
+                    .maxNanos(maxNanos[i])
+                    .build());
+
+            ScreeningProfile.MatcherCost matcher = matcherCosts.computeIfAbsent(matchType,
+                    type -> ScreeningProfile.MatcherCost.builder().matchType(type).build());
+            matcher.setRules(matcher.getRules() + 1);
+            matcher.setEvaluations(matcher.getEvaluations() + evaluations[i]);
+            matcher.setMatches(matcher.getMatches() + matches[i]);
+            matcher.setTotalNanos(matcher.getTotalNanos() + totalNanos[i]);
+        }
+        ruleCosts.sort(Comparator.comparingLong(ScreeningProfile.RuleCost::getTotalNanos).reversed());
+        List<ScreeningProfile.MatcherCost> matchers = new ArrayList<>(matcherCosts.values());
+        matchers.sort(Comparator.comparingLong(ScreeningProfile.MatcherCost::getTotalNanos).reversed());
+        List<ScreeningProfile.EntryCost> slowest = new ArrayList<>(slowestEntries);
+        slowest.sort(BY_NANOS.reversed());
+
+        return ScreeningProfile.builder()
+                .terminationMode(terminationMode)
+                .totalNanos(elapsedNanos)
+                .allocatedBytes(startAllocatedBytes >= 0 && endAllocatedBytes >= 0
+                        ? endAllocatedBytes - startAllocatedBytes
+                        : -1L)
+                .stageNanos(new LinkedHashMap<>(stageNanos))
+                .funnel(ScreeningProfile.Funnel.builder()
+                        .watchlistEntries(watchlistEntries)
+                        .candidates(candidates)
+                        .scanned(scanned)
+                        .evaluated(evaluatedEntries)
+                        .matched(matchedEntries)
+                        .matchedRules(matchedRules)
+                        .build())
+                .rules(ruleCosts)
+                .matchers(matchers)
+                .slowestEntries(slowest)
+                .build();
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 바이트 (JVM이 지원하지 않거나 꺼져 있으면 -1)
+     */
+    static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean allocationThreads
+                && allocationThreads.isThreadAllocatedMemorySupported()
+                && allocationThreads.isThreadAllocatedMemoryEnabled()) {
+            return allocationThreads.getCurrentThreadAllocatedBytes();
+        }
+        return -1L;
+    }
+}
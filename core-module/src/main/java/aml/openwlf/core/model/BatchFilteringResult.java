@@ -0,0 +1,39 @@
+package aml.openwlf.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of screening a batch of customers against one snapshot
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchFilteringResult {
+    private List<Item> items;
+    private int watchlistSize;
+    private String ruleVersion;
+    private long elapsedMillis;
+    
+    /**
+     * Outcome for one customer, in request order (either result or error is set)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private int index;
+        private FilteringResult result;
+        private String error;
+        
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
@@ -19,4 +19,5 @@ public class CustomerInfo {
     private LocalDate dateOfBirth;
     private String nationality;
     private String customerId;
+    private String customerType; // INDIVIDUAL, ENTITY (optional)
 }
@@ -0,0 +1,18 @@
+package aml.openwlf.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a profiled screening together with its cost breakdown
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfiledFilteringResult {
+    private FilteringResult result;
+    private ScreeningProfile profile;
+}
@@ -0,0 +1,104 @@
+package aml.openwlf.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cost breakdown of one profiled screening (all durations in nanoseconds)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScreeningProfile {
+    private String terminationMode;
+    private long totalNanos;
+    /**
+     * Bytes allocated by the screening thread, or -1 when the JVM cannot measure it
+     */
+    private long allocatedBytes;
+    /**
+     * Stage name → elapsed time, in execution order
+     */
+    private Map<String, Long> stageNanos;
+    private Funnel funnel;
+    /**
+     * Rules in descending order of total evaluation time
+     */
+    private List<RuleCost> rules;
+    /**
+     * Rule costs grouped by match type, in descending order of total evaluation time
+     */
+    private List<MatcherCost> matchers;
+    /**
+     * Slowest watchlist entries, slowest first
+     */
+    private List<EntryCost> slowestEntries;
+
+    /**
+     * How many entries survived each stage
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Funnel {
+        private int watchlistEntries;
+        private int candidates;
+        private int scanned;
+        /**
+         * Entries that had at least one rule evaluated (the rest were skipped by gates, pre-filters or the score bound)
+         */
+        private int evaluated;
+        private int matched;
+        private int matchedRules;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RuleCost {
+        private String ruleId;
+        private String matchType;
+        private long evaluations;
+        /**
+         * Scanned entries this rule was not evaluated against
+         */
+        private long skipped;
+        private long matches;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MatcherCost {
+        private String matchType;
+        private int rules;
+        private long evaluations;
+        private long matches;
+        private long totalNanos;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EntryCost {
+        private Long entryId;
+        private String name;
+        private String listSource;
+        private long nanos;
+        private int rulesEvaluated;
+        private int matches;
+    }
+}
@@ -1,11 +1,14 @@
 package aml.openwlf.core.normalization;
 
+import aml.openwlf.core.matching.kernel.BitParallelEditDistance;
+import aml.openwlf.core.matching.kernel.BitParallelPattern;
 import aml.openwlf.core.model.CustomerInfo;
 import org.apache.commons.text.similarity.LevenshteinDistance;
 import org.springframework.stereotype.Service;
 
 import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -16,6 +19,14 @@ public class NormalizationService {
     
     private static final LevenshteinDistance LEVENSHTEIN = new LevenshteinDistance();
     
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^A-Z0-9\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
+    // Per-thread DP rows for the bounded edit distance, grown on demand and reused across calls
+    private static final ThreadLocal<int[][]> DISTANCE_ROWS =
+            ThreadLocal.withInitial(() -> new int[][]{new int[64], new int[64]});
+    
     /**
      * Normalize customer name for matching
      * - Convert to uppercase
@@ -30,16 +41,14 @@ public class NormalizationService {
         
         // Remove accents and diacritics
         String normalized = Normalizer.normalize(name, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("\\p{M}", "");
+        normalized = DIACRITICS.matcher(normalized).replaceAll("");
         
         // Convert to uppercase and remove special characters
-        normalized = normalized.toUpperCase()
-                              .replaceAll("[^A-Z0-9\\s]", "")
-                              .replaceAll("\\s+", " ")
-                              .trim();
+        normalized = NON_ALPHANUMERIC.matcher(normalized.toUpperCase()).replaceAll("");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
         
         // Sort name parts alphabetically for better matching
-        String[] parts = normalized.split("\\s+");
+        String[] parts = WHITESPACE.split(normalized);
         Arrays.sort(parts);
         
         return Arrays.stream(parts)
@@ -65,10 +74,14 @@ public class NormalizationService {
             return 0.0;
         }
         
-        String s1 = normalizeName(str1);
-        String s2 = normalizeName(str2);
-        
-        if (s1.isEmpty() || s2.isEmpty()) {
+        return calculateNormalizedSimilarity(normalizeName(str1), normalizeName(str2));
+    }
+    
+    /**
+     * Calculate similarity score between two names already passed through normalizeName (0.0 to 1.0)
+     */
+    public double calculateNormalizedSimilarity(String s1, String s2) {
+        if (s1 == null || s2 == null || s1.isEmpty() || s2.isEmpty()) {
             return 0.0;
         }
         
@@ -78,6 +91,147 @@ public class NormalizationService {
         return 1.0 - ((double) distance / maxLength);
     }
     
+    /**
+     * Calculate similarity score only if it can reach the given threshold (0.0 to 1.0).
+     * Returns 0.0 as soon as the edit distance is known to exceed the bound implied by the threshold.
+     */
+    public double calculateSimilarity(String str1, String str2, double threshold) {
+        if (str1 == null || str2 == null) {
+            return 0.0;
+        }
+        
+        return calculateNormalizedSimilarity(normalizeName(str1), normalizeName(str2), threshold);
+    }
+    
+    /**
+     * Threshold-bounded variant of calculateNormalizedSimilarity for names already passed through normalizeName.
+     * Results at or above the threshold are identical to the unbounded calculation.
+     */
+    public double calculateNormalizedSimilarity(String s1, String s2, double threshold) {
+        if (s1 == null || s2 == null || s1.isEmpty() || s2.isEmpty()) {
+            return 0.0;
+        }
+        
+        int maxLength = Math.max(s1.length(), s2.length());
+        int maxDistance = maxDistanceFor(threshold, maxLength);
+        if (maxDistance < 0 || Math.abs(s1.length() - s2.length()) > maxDistance) {
+            return 0.0;
+        }
+        
+        int distance = boundedDistance(s1, s2, maxDistance);
+        if (distance < 0) {
+            return 0.0;
+        }
+        
+        return 1.0 - ((double) distance / maxLength);
+    }
+    
+    /**
+     * Threshold-bounded similarity against a name compiled once with BitParallelPattern.compile(normalizeName(...)).
+     * Uses the bit-parallel edit distance kernel; results are identical to the string variant.
+     */
+    public double calculateNormalizedSimilarity(BitParallelPattern source, String target, double threshold) {
+        if (source == null || target == null || source.length() == 0 || target.isEmpty()) {
+            return 0.0;
+        }
+        
+        int maxLength = Math.max(source.length(), target.length());
+        int maxDistance = maxDistanceFor(threshold, maxLength);
+        if (maxDistance < 0 || Math.abs(source.length() - target.length()) > maxDistance) {
+            return 0.0;
+        }
+        
+        int distance = BitParallelEditDistance.distance(source, target, maxDistance, false);
+        if (distance < 0) {
+            return 0.0;
+        }
+        
+        return 1.0 - ((double) distance / maxLength);
+    }
+    
+    /**
+     * Largest edit distance whose similarity still satisfies the threshold, evaluated
+     * with the same floating-point expression as calculateNormalizedSimilarity (-1 if none).
+     */
+    static int maxDistanceFor(double threshold, int maxLength) {
+        int bound = (int) Math.floor((1.0 - threshold) * maxLength);
+        bound = Math.max(-1, Math.min(maxLength, bound));
+        while (bound < maxLength && 1.0 - ((double) (bound + 1) / maxLength) >= threshold) {
+            bound++;
+        }
+        while (bound >= 0 && 1.0 - ((double) bound / maxLength) < threshold) {
+            bound--;
+        }
+        return bound;
+    }
+    
+    /**
+     * Levenshtein distance restricted to a diagonal band of width 2 * maxDistance + 1 (Ukkonen).
+     * Returns -1 as soon as every cell of a row exceeds maxDistance.
+     */
+    static int boundedDistance(CharSequence left, CharSequence right, int maxDistance) {
+        if (left.length() > right.length()) {
+            CharSequence tmp = left;
+            left = right;
+            right = tmp;
+        }
+        
+        int n = left.length();
+        int m = right.length();
+        if (m - n > maxDistance) {
+            return -1;
+        }
+        if (n == 0) {
+            return m;
+        }
+        
+        int[][] rows = DISTANCE_ROWS.get();
+        if (rows[0].length < n + 1) {
+            rows[0] = new int[Math.max(n + 1, rows[0].length * 2)];
+            rows[1] = new int[rows[0].length];
+        }
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        
+        int boundary = Math.min(n, maxDistance) + 1;
+        for (int i = 0; i < boundary; i++) {
+            previous[i] = i;
+        }
+        Arrays.fill(previous, boundary, n + 1, Integer.MAX_VALUE);
+        Arrays.fill(current, 0, n + 1, Integer.MAX_VALUE);
+        
+        for (int j = 1; j <= m; j++) {
+            char rightChar = right.charAt(j - 1);
+            current[0] = j;
+            
+            int min = Math.max(1, j - maxDistance);
+            int max = Math.min(n, j + maxDistance);
+            if (min > 1) {
+                current[min - 1] = Integer.MAX_VALUE;
+            }
+            
+            int rowMinimum = current[0];
+            for (int i = min; i <= max; i++) {
+                if (left.charAt(i - 1) == rightChar) {
+                    current[i] = previous[i - 1];
+                } else {
+                    current[i] = 1 + Math.min(Math.min(current[i - 1], previous[i]), previous[i - 1]);
+                }
+                rowMinimum = Math.min(rowMinimum, current[i]);
+            }
+            
+            if (rowMinimum > maxDistance) {
+                return -1;
+            }
+            
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        
+        return previous[n] <= maxDistance ? previous[n] : -1;
+    }
+    
     /**
      * Check if name contains all words from another name (fuzzy match)
      */
@@ -2,22 +2,25 @@ package aml.openwlf.core.rule;
 
 import aml.openwlf.config.rule.RuleConfiguration;
 import aml.openwlf.config.rule.RuleConfigurationLoader;
-import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.metrics.ScanTally;
+import aml.openwlf.core.metrics.ScreeningMetrics;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
-import aml.openwlf.core.rule.evaluator.RuleEvaluator;
 import aml.openwlf.core.rule.evaluator.RuleEvaluatorRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 외부 설정 파일 기반 룰 엔진
  * 
  * YAML 파일에서 룰 정의를 읽어와 동적으로 평가합니다.
+ * 룰 설정은 로드될 때마다 RuleExecutionPlan으로 한 번 컴파일되며,
+ * 리로드 시 새 계획으로 원자적으로 교체됩니다.
  */
 @Slf4j
 @Service
@@ -26,44 +29,49 @@ public class RuleEngine {
     
     private final RuleConfigurationLoader configLoader;
     private final RuleEvaluatorRegistry evaluatorRegistry;
+    private final ScreeningMetrics screeningMetrics;
+    private final AtomicReference<RuleExecutionPlan> executionPlan = new AtomicReference<>();
     
     /**
      * 고객 정보를 감시목록 항목과 대조하여 매칭되는 룰 반환
      */
     public List<MatchedRule> applyRules(CustomerInfo customer, WatchlistEntry entry) {
-        List<MatchedRule> matchedRules = new ArrayList<>();
-        
-        RuleConfiguration config = configLoader.getConfiguration();
-        List<RuleDefinition> enabledRules = config.getEnabledRules();
-        
-        log.debug("Applying {} enabled rules for customer: {}", 
-                enabledRules.size(), customer.getName());
-        
-        for (RuleDefinition rule : enabledRules) {
-            try {
-                List<MatchedRule> results = evaluateRule(customer, entry, rule);
-                matchedRules.addAll(results);
-            } catch (Exception e) {
-                log.error("Error evaluating rule {}: {}", rule.getId(), e.getMessage());
-            }
-        }
-        
-        return matchedRules;
+        return getExecutionPlan().apply(customer, entry);
     }
     
     /**
-     * 단일 룰 평가
+     * 매칭되는 룰을 반환하면서 평가한 룰 수를 스캔 집계에 누적
      */
-    private List<MatchedRule> evaluateRule(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        String matchType = rule.getCondition().getMatchType();
-        
-        if (!evaluatorRegistry.isSupported(matchType)) {
-            log.warn("Unsupported match type: {} for rule: {}", matchType, rule.getId());
-            return List.of();
+    public List<MatchedRule> applyRules(CustomerInfo customer, WatchlistEntry entry, ScanTally tally) {
+        return getExecutionPlan().apply(customer, entry, tally);
+    }
+    
+    /**
+     * 현재 룰 설정에 해당하는 실행 계획 반환
+     * 
+     * 설정 로더가 다른 설정 객체를 반환하면(파일 변경 감지 등) 새로 컴파일합니다.
+     * 여러 항목을 연속으로 평가할 때는 반환된 계획을 직접 재사용할 수 있습니다.
+     */
+    public RuleExecutionPlan getExecutionPlan() {
+        RuleConfiguration config = configLoader.getConfiguration();
+        RuleExecutionPlan plan = executionPlan.get();
+        if (plan != null && plan.getSource() == config) {
+            return plan;
+        }
+        return recompile(config);
+    }
+    
+    private synchronized RuleExecutionPlan recompile(RuleConfiguration config) {
+        RuleExecutionPlan plan = executionPlan.get();
+        if (plan != null && plan.getSource() == config) {
+            return plan;
         }
         
-        RuleEvaluator evaluator = evaluatorRegistry.getEvaluator(matchType);
-        return evaluator.evaluate(customer, entry, rule);
+        RuleExecutionPlan compiled = RuleExecutionPlan.compile(config, evaluatorRegistry, screeningMetrics);
+        executionPlan.set(compiled);
+        log.info("Compiled rule execution plan: {} rules (version: {})",
+                compiled.size(), config.getVersion());
+        return compiled;
     }
     
     /**
@@ -78,9 +86,17 @@ public class RuleEngine {
      */
     public void reloadConfiguration() {
         configLoader.reload();
+        recompile(configLoader.getConfiguration());
         log.info("Rule configuration reloaded");
     }
     
+    /**
+     * 현재 실행 계획의 게이트별 생략 횟수 (계획이 교체되면 0부터 다시 누적)
+     */
+    public Map<String, Long> getGateStatistics() {
+        return getExecutionPlan().getGateStatistics();
+    }
+    
     /**
      * 지원하는 매칭 타입 목록
      */
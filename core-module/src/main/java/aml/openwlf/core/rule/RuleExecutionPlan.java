@@ -0,0 +1,482 @@
+package aml.openwlf.core.rule;
+
+import aml.openwlf.config.rule.RuleConfiguration;
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.collection.LongIntHashMap;
+import aml.openwlf.core.metrics.RuleStats;
+import aml.openwlf.core.metrics.ScanTally;
+import aml.openwlf.core.metrics.ScreeningMetrics;
+import aml.openwlf.core.metrics.ScreeningProfiler;
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.rule.evaluator.ColumnFilter;
+import aml.openwlf.core.rule.evaluator.CompiledRule;
+import aml.openwlf.core.rule.evaluator.RuleEvaluator;
+import aml.openwlf.core.rule.evaluator.RuleEvaluatorRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 컴파일된 룰 실행 계획
+ *
+ * 룰 설정 한 건을 로드 시점에 한 번 컴파일한 불변 객체입니다.
+ * 활성화된 룰만 평가 비용이 낮은 순(비용이 같으면 우선순위 순)으로 담고 있으며, 각 룰에는
+ * 평가기·파라미터·필드 접근자가 이미 바인딩되어 있어 평가 루프에서는 설정 조회나 문자열 비교가
+ * 발생하지 않습니다.
+ *
+ * 룰에 구조적 게이트(RuleGate)가 설정되어 있으면 고객-항목 쌍마다 게이트를 먼저 검사하고,
+ * 통과하지 못한 룰은 평가하지 않습니다. 같은 게이트는 한 쌍에 대해 한 번만 검사하며,
+ * 게이트별 생략 횟수는 계획 단위로 누적됩니다.
+ *
+ * 감시목록 열 배치(WatchlistColumns)가 있으면 bind로 고객에 바인딩한 ColumnScan을 사용하여
+ * 게이트와 평가기의 사전 필터(ColumnFilter)를 항목 객체 대신 원시 배열로 검사할 수 있습니다.
+ *
+ * 룰마다 누적 평가 통계(RuleStats)가 연결되어 평가 횟수·매칭 수와 표본 평가 시간이 집계되며,
+ * 스캔 집계(ScanTally)를 넘기면 항목마다 평가한 룰 수를 요청 단위로 더합니다.
+ * 집계에 프로파일러(ScreeningProfiler)가 실려 있으면 표본과 관계없이 모든 룰 평가의 시간을 측정해
+ * 프로파일러에 기록합니다.
+ */
+@Slf4j
+public final class RuleExecutionPlan {
+
+    /**
+     * 게이트 통과 여부를 long 비트마스크로 캐싱하므로 계획당 고유 게이트 수 제한
+     */
+    private static final int MAX_GATES = Long.SIZE;
+
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
+    private final RuleConfiguration source;
+    private final PlannedRule[] rules;
+    private final int typeCount;
+    private final RuleGate[] gates;
+    private final LongAdder[] gateSkips;
+    private final long generation;
+
+    private RuleExecutionPlan(RuleConfiguration source, PlannedRule[] rules, int typeCount, RuleGate[] gates) {
+        this.source = source;
+        this.rules = rules;
+        this.typeCount = typeCount;
+        this.gates = gates;
+        this.generation = GENERATIONS.incrementAndGet();
+        this.gateSkips = new LongAdder[gates.length];
+        for (int i = 0; i < gates.length; i++) {
+            gateSkips[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 룰 설정을 실행 계획으로 컴파일
+     *
+     * 지원하지 않는 매칭 타입이나 컴파일에 실패한 룰은 경고 후 계획에서 제외됩니다.
+     * 룰은 평가기 비용(RuleEvaluator#getCost) 순으로 안정 정렬되므로, 비용이 같은 룰은
+     * 설정의 우선순위 순서를 유지합니다.
+     *
+     * @param configuration 룰 설정
+     * @param registry 평가기 레지스트리
+     * @return 불변 실행 계획
+     */
+    public static RuleExecutionPlan compile(RuleConfiguration configuration, RuleEvaluatorRegistry registry) {
+        return compile(configuration, registry, null);
+    }
+
+    /**
+     * 룰 설정을 실행 계획으로 컴파일하고 룰별 평가 통계를 메트릭에 연결
+     *
+     * @param configuration 룰 설정
+     * @param registry 평가기 레지스트리
+     * @param metrics 스크리닝 메트릭 (null이면 레지스트리에 등록하지 않는 통계 사용)
+     * @return 불변 실행 계획
+     */
+    public static RuleExecutionPlan compile(RuleConfiguration configuration, RuleEvaluatorRegistry registry,
+                                            ScreeningMetrics metrics) {
+        List<PlannedRule> planned = new ArrayList<>();
+        Map<String, Integer> typeIndexes = new HashMap<>();
+        Map<String, Integer> gateIndexes = new HashMap<>();
+        List<RuleGate> gates = new ArrayList<>();
+
+        for (RuleDefinition rule : configuration.getEnabledRules()) {
+            try {
+                String matchType = rule.getCondition().getMatchType();
+
+                if (matchType == null || !registry.isSupported(matchType)) {
+                    log.warn("Unsupported match type: {} for rule: {}", matchType, rule.getId());
+                    continue;
+                }
+
+                RuleEvaluator evaluator = registry.getEvaluator(matchType);
+                CompiledRule compiled = evaluator.compile(rule);
+                long gateMask = gateMask(rule, gates, gateIndexes);
+
+                planned.add(new PlannedRule(
+                        rule,
+                        compiled,
+                        evaluator.applicability(rule),
+                        typeIndexes.computeIfAbsent(rule.getType(), type -> typeIndexes.size()),
+                        maxAttainableScore(rule.getScore()),
+                        evaluator.getCost(),
+                        gateMask,
+                        evaluator.columnFilter(rule),
+                        metrics != null ? metrics.ruleStats(rule) : RuleStats.untracked()
+                ));
+            } catch (Exception e) {
+                log.error("Error compiling rule {}: {}", rule.getId(), e.getMessage());
+            }
+        }
+
+        planned.sort(Comparator.comparingInt(PlannedRule::cost));
+
+        return new RuleExecutionPlan(configuration, planned.toArray(new PlannedRule[0]),
+                typeIndexes.size(), gates.toArray(new RuleGate[0]));
+    }
+
+    /**
+     * 룰에 설정된 게이트를 계획 공용 게이트 목록에 등록하고 비트마스크로 반환
+     */
+    private static long gateMask(RuleDefinition rule, List<RuleGate> gates, Map<String, Integer> gateIndexes) {
+        long mask = 0L;
+        for (RuleGate gate : RuleGate.from(rule.getGates())) {
+            Integer index = gateIndexes.get(gate.getName());
+            if (index == null) {
+                if (gates.size() >= MAX_GATES) {
+                    throw new IllegalStateException("Too many distinct rule gates (max " + MAX_GATES + ")");
+                }
+                index = gates.size();
+                gates.add(gate);
+                gateIndexes.put(gate.getName(), index);
+            }
+            mask |= 1L << index;
+        }
+        return mask;
+    }
+
+    /**
+     * 룰 하나가 낼 수 있는 최대 점수
+     *
+     * 평가기는 정확 일치 점수, 부분 일치 점수, 유사도 비례 점수(최대 maxScore) 중 하나를 부여합니다.
+     */
+    private static double maxAttainableScore(RuleDefinition.ScoreConfig score) {
+        return Math.max(score.getExactMatch(), Math.max(score.getPartialMatch(), score.getMaxScore()));
+    }
+
+    /**
+     * 고객 정보를 감시목록 항목과 대조하여 매칭되는 룰 반환
+     */
+    public List<MatchedRule> apply(CustomerInfo customer, WatchlistEntry entry) {
+        return evaluate(customer, entry, null, null);
+    }
+
+    /**
+     * 매칭되는 룰을 반환하면서 평가한 룰 수를 스캔 집계에 누적
+     */
+    public List<MatchedRule> apply(CustomerInfo customer, WatchlistEntry entry, ScanTally tally) {
+        return evaluate(customer, entry, null, tally);
+    }
+
+    /**
+     * 점수 상한을 반영하여 매칭되는 룰 반환
+     *
+     * 추적기가 생략을 지시한 룰(고객에게 적용 불가, 또는 룰 타입 포화)은 평가하지 않으며,
+     * 추적기가 해소(resolved) 상태가 되면 남은 룰 평가를 중단합니다.
+     */
+    public List<MatchedRule> apply(CustomerInfo customer, WatchlistEntry entry, ScoreBound bound) {
+        return evaluate(customer, entry, bound, null);
+    }
+
+    /**
+     * 점수 상한을 반영하여 매칭되는 룰을 반환하면서 평가한 룰 수를 스캔 집계에 누적
+     */
+    public List<MatchedRule> apply(CustomerInfo customer, WatchlistEntry entry, ScoreBound bound,
+                                   ScanTally tally) {
+        return evaluate(customer, entry, bound, tally);
+    }
+
+    /**
+     * 고객과 감시목록 열 배치에 바인딩된 스캔 생성
+     *
+     * 한 고객을 여러 항목과 대조할 때 게이트와 룰 사전 필터를 고객당 한 번만 준비합니다.
+     */
+    public ColumnScan bind(CustomerInfo customer, WatchlistColumns columns) {
+        return new ColumnScan(customer, columns, null);
+    }
+
+    /**
+     * 고객과 감시목록 열 배치에 바인딩된 스캔 생성 (평가한 룰 수를 스캔 집계에 누적)
+     */
+    public ColumnScan bind(CustomerInfo customer, WatchlistColumns columns, ScanTally tally) {
+        return new ColumnScan(customer, columns, tally);
+    }
+
+    private List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, ScoreBound bound,
+                                       ScanTally tally) {
+        return evaluate(customer, entry, null, LongIntHashMap.MISSING, bound, tally);
+    }
+
+    /**
+     * @param scan 열 배치 검사 함수 (null이면 게이트를 항목 객체로 검사하고 사전 필터는 사용하지 않음)
+     * @param ordinal scan 열 배치에서 항목의 ordinal
+     * @param tally 평가한 룰 수를 더할 스캔 집계 (null이면 집계하지 않음, 프로파일러가 있으면 룰 평가마다 기록)
+     */
+    private List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, ColumnScan scan,
+                                       int ordinal, ScoreBound bound, ScanTally tally) {
+        List<MatchedRule> matchedRules = new ArrayList<>();
+        long passedGates = 0L;
+        long failedGates = 0L;
+        int evaluated = 0;
+        ScreeningProfiler profiler = tally != null ? tally.getProfiler() : null;
+
+        for (int i = 0; i < rules.length; i++) {
+            if (bound != null) {
+                if (bound.isResolved()) {
+                    break;
+                }
+                if (!bound.shouldEvaluate(i)) {
+                    continue;
+                }
+            }
+
+            PlannedRule rule = rules[i];
+            long pending = rule.gateMask() & ~passedGates;
+            if (pending != 0L) {
+                if ((pending & failedGates) != 0L) {
+                    gateSkips[Long.numberOfTrailingZeros(pending & failedGates)].increment();
+                    continue;
+                }
+
+                int failed = scan != null
+                        ? scan.firstFailingGate(ordinal, pending)
+                        : firstFailingGate(customer, entry, pending);
+                if (failed >= 0) {
+                    failedGates |= 1L << failed;
+                    gateSkips[failed].increment();
+                    continue;
+                }
+                passedGates |= pending;
+            }
+
+            if (scan != null && scan.filters[i] != null && !scan.filters[i].test(ordinal)) {
+                continue;
+            }
+
+            RuleStats stats = rule.stats();
+            evaluated++;
+            try {
+                List<MatchedRule> results;
+                if (profiler != null) {
+                    long start = System.nanoTime();
+                    results = rule.compiled().evaluate(customer, entry);
+                    long elapsed = System.nanoTime() - start;
+                    stats.recordTimed(results.size(), elapsed);
+                    profiler.recordRule(i, results.size(), elapsed);
+                } else if (stats.sample()) {
+                    long start = System.nanoTime();
+                    results = rule.compiled().evaluate(customer, entry);
+                    stats.recordTimed(results.size(), System.nanoTime() - start);
+                } else {
+                    results = rule.compiled().evaluate(customer, entry);
+                    stats.record(results.size());
+                }
+                if (bound != null) {
+                    for (MatchedRule result : results) {
+                        bound.record(i, result.getScore());
+                    }
+                }
+                matchedRules.addAll(results);
+            } catch (Exception e) {
+                stats.recordError();
+                if (profiler != null) {
+                    profiler.recordRuleError(i);
+                }
+                log.error("Error evaluating rule {}: {}", rule.definition().getId(), e.getMessage());
+            }
+        }
+
+        if (tally != null && evaluated > 0) {
+            tally.addRulesEvaluated(evaluated);
+        }
+        return matchedRules;
+    }
+
+    /**
+     * 아직 검사하지 않은 게이트를 순서대로 검사하여 처음 실패한 게이트 인덱스 반환 (모두 통과하면 -1)
+     */
+    private int firstFailingGate(CustomerInfo customer, WatchlistEntry entry, long pending) {
+        long remaining = pending;
+        while (remaining != 0L) {
+            int index = Long.numberOfTrailingZeros(remaining);
+            if (!gates[index].test(customer, entry)) {
+                return index;
+            }
+            remaining &= remaining - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * 포화된 룰 타입 평가만 생략하는 점수 상한 추적기 생성
+     *
+     * 최종 점수와 알림 여부는 전체 평가와 같으며, 매칭 룰 목록에는 룰 타입별 최고 점수 매칭이 남습니다.
+     */
+    public ScoreBound saturationBound(CustomerInfo customer) {
+        return newBound(customer, Double.NaN);
+    }
+
+    /**
+     * 알림 판정이 확정되면 스캔을 종료하는 결정 전용 추적기 생성
+     *
+     * 알림 여부는 전체 평가와 같지만, 점수는 판정 확정 시점까지의 값입니다.
+     *
+     * @param customer 고객 정보
+     * @param alertThreshold 알림 임계값
+     */
+    public ScoreBound decisionBound(CustomerInfo customer, double alertThreshold) {
+        return newBound(customer, alertThreshold);
+    }
+
+    private ScoreBound newBound(CustomerInfo customer, double decisionThreshold) {
+        boolean[] applicable = new boolean[rules.length];
+        int[] ruleTypes = new int[rules.length];
+        double[] attainable = new double[typeCount];
+
+        for (int i = 0; i < rules.length; i++) {
+            PlannedRule rule = rules[i];
+            ruleTypes[i] = rule.typeIndex();
+            applicable[i] = rule.applicability().test(customer);
+            if (applicable[i]) {
+                attainable[rule.typeIndex()] = Math.max(attainable[rule.typeIndex()], rule.maxScore());
+            }
+        }
+
+        return new ScoreBound(applicable, ruleTypes, attainable, decisionThreshold);
+    }
+
+    /**
+     * 계획을 생성한 원본 룰 설정
+     */
+    public RuleConfiguration getSource() {
+        return source;
+    }
+
+    /**
+     * 계획 세대 (컴파일할 때마다 증가하므로 리로드 전후 계획을 구분하는 데 사용)
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 실행 순서대로 정렬된 룰 정의 목록
+     */
+    public List<RuleDefinition> getRules() {
+        List<RuleDefinition> definitions = new ArrayList<>(rules.length);
+        for (PlannedRule rule : rules) {
+            definitions.add(rule.definition());
+        }
+        return List.copyOf(definitions);
+    }
+
+    /**
+     * 게이트별 누적 생략 횟수 (게이트 이름 → 생략된 룰 평가 수, 등록 순서)
+     */
+    public Map<String, Long> getGateStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        for (int i = 0; i < gates.length; i++) {
+            statistics.put(gates[i].getName(), gateSkips[i].sum());
+        }
+        return statistics;
+    }
+
+    /**
+     * 계획에 포함된 룰 수
+     */
+    public int size() {
+        return rules.length;
+    }
+
+    private record PlannedRule(RuleDefinition definition, CompiledRule compiled,
+                               Predicate<CustomerInfo> applicability, int typeIndex, double maxScore,
+                               int cost, long gateMask, ColumnFilter columnFilter, RuleStats stats) {}
+
+    /**
+     * 고객 한 명과 감시목록 열 배치에 바인딩된 실행 계획
+     *
+     * 열 배치에 들어 있는 항목은 게이트와 룰 사전 필터를 원시 배열로 검사하고, 필터를 통과한 룰만
+     * 항목 객체로 평가합니다. 열 배치에 없는 항목(다른 스냅샷의 항목 등)은 항목 객체로만 평가합니다.
+     * 어느 경우든 결과는 같은 항목에 대한 apply와 같습니다.
+     */
+    public final class ColumnScan {
+
+        private final CustomerInfo customer;
+        private final WatchlistColumns columns;
+        private final IntPredicate[] gateTests;
+        private final IntPredicate[] filters;
+        private final ScanTally tally;
+
+        private ColumnScan(CustomerInfo customer, WatchlistColumns columns, ScanTally tally) {
+            this.customer = customer;
+            this.columns = columns;
+            this.tally = tally;
+            this.gateTests = new IntPredicate[gates.length];
+            for (int i = 0; i < gates.length; i++) {
+                gateTests[i] = gates[i].bind(customer, columns);
+            }
+            this.filters = new IntPredicate[rules.length];
+            for (int i = 0; i < rules.length; i++) {
+                filters[i] = bindFilter(rules[i]);
+            }
+        }
+
+        /**
+         * 고객 정보를 감시목록 항목과 대조하여 매칭되는 룰 반환
+         */
+        public List<MatchedRule> apply(WatchlistEntry entry) {
+            return apply(entry, null);
+        }
+
+        /**
+         * 점수 상한을 반영하여 매칭되는 룰 반환
+         */
+        public List<MatchedRule> apply(WatchlistEntry entry, ScoreBound bound) {
+            int ordinal = columns.ordinalOf(entry);
+            if (ordinal == LongIntHashMap.MISSING) {
+                return evaluate(customer, entry, null, ordinal, bound, tally);
+            }
+            return evaluate(customer, entry, this, ordinal, bound, tally);
+        }
+
+        private IntPredicate bindFilter(PlannedRule rule) {
+            if (rule.columnFilter() == null) {
+                return null;
+            }
+            try {
+                return rule.columnFilter().bind(customer, columns);
+            } catch (Exception e) {
+                // 필터 없이 항목 객체로 평가
+                log.error("Error binding column filter for rule {}: {}", rule.definition().getId(), e.getMessage());
+                return null;
+            }
+        }
+
+        private int firstFailingGate(int ordinal, long pending) {
+            long remaining = pending;
+            while (remaining != 0L) {
+                int index = Long.numberOfTrailingZeros(remaining);
+                if (!gateTests[index].test(ordinal)) {
+                    return index;
+                }
+                remaining &= remaining - 1;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package aml.openwlf.core.rule;
+
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.model.CustomerInfo;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * 룰 평가 전 고객-항목 쌍에 적용하는 저비용 구조 검사
+ *
+ * 게이트를 통과하지 못한 쌍에는 해당 게이트가 설정된 룰을 평가하지 않습니다.
+ * 값이 없어 판단할 수 없는 경우에는 누락을 막기 위해 항상 통과시킵니다.
+ */
+public interface RuleGate {
+
+    /**
+     * 게이트 식별 이름 (같은 이름의 게이트는 한 쌍에 대해 한 번만 검사)
+     */
+    String getName();
+
+    /**
+     * 고객-항목 쌍의 게이트 통과 여부
+     */
+    boolean test(CustomerInfo customer, WatchlistEntry entry);
+
+    /**
+     * 고객에 바인딩된 열 배치 검사 함수
+     *
+     * 결과는 같은 항목에 대한 test와 같아야 합니다. 기본 구현은 항목 객체로 test를 호출합니다.
+     *
+     * @param customer 고객 정보
+     * @param columns 감시목록 열 배치
+     * @return ordinal → 통과 여부
+     */
+    default IntPredicate bind(CustomerInfo customer, WatchlistColumns columns) {
+        return ordinal -> test(customer, columns.entry(ordinal));
+    }
+
+    /**
+     * 룰 정의의 게이트 설정을 게이트 목록으로 변환
+     *
+     * @param config 게이트 설정 (null 가능)
+     * @return 게이트 목록 (설정이 없으면 빈 리스트)
+     */
+    static List<RuleGate> from(RuleDefinition.GateConfig config) {
+        List<RuleGate> gates = new ArrayList<>();
+        if (config == null) {
+            return gates;
+        }
+        if (config.getMaxDobYearsApart() != null) {
+            gates.add(new DobDistanceGate(config.getMaxDobYearsApart()));
+        }
+        if (config.isMatchEntryType()) {
+            gates.add(new EntryTypeGate());
+        }
+        return gates;
+    }
+
+    /**
+     * 생년월일 차이가 maxYears년을 넘으면 차단
+     */
+    record DobDistanceGate(int maxYears) implements RuleGate {
+
+        @Override
+        public String getName() {
+            return "DOB_WITHIN_" + maxYears + "Y";
+        }
+
+        @Override
+        public boolean test(CustomerInfo customer, WatchlistEntry entry) {
+            LocalDate customerDob = customer.getDateOfBirth();
+            LocalDate entryDob = entry.getDateOfBirth();
+            if (customerDob == null || entryDob == null) {
+                return true;
+            }
+
+            long yearsApart = customerDob.isBefore(entryDob)
+                    ? ChronoUnit.YEARS.between(customerDob, entryDob)
+                    : ChronoUnit.YEARS.between(entryDob, customerDob);
+            return yearsApart <= maxYears;
+        }
+
+        /**
+         * 일수 차이로 판정하고, 윤일 때문에 연수가 갈리는 경계 구간만 날짜로 계산
+         */
+        @Override
+        public IntPredicate bind(CustomerInfo customer, WatchlistColumns columns) {
+            LocalDate customerDob = customer.getDateOfBirth();
+            if (customerDob == null) {
+                return ordinal -> true;
+            }
+
+            long customerDay = customerDob.toEpochDay();
+            // (maxYears + 1)년은 365 * (maxYears + 1)일 이상, 366 * (maxYears + 1)일 이하
+            long surelyWithin = 365L * (maxYears + 1L);
+            long surelyBeyond = 366L * (maxYears + 1L);
+            return ordinal -> {
+                int entryDay = columns.dobEpochDay(ordinal);
+                if (entryDay == WatchlistColumns.NO_DATE) {
+                    return true;
+                }
+                long daysApart = Math.abs(customerDay - entryDay);
+                if (daysApart < surelyWithin) {
+                    return true;
+                }
+                if (daysApart >= surelyBeyond) {
+                    return false;
+                }
+                return test(customer, columns.entry(ordinal));
+            };
+        }
+    }
+
+    /**
+     * 고객 유형과 항목 유형(entryType)이 다르면 차단
+     */
+    record EntryTypeGate() implements RuleGate {
+
+        @Override
+        public String getName() {
+            return "ENTRY_TYPE";
+        }
+
+        @Override
+        public boolean test(CustomerInfo customer, WatchlistEntry entry) {
+            String customerType = customer.getCustomerType();
+            String entryType = entry.getEntryType();
+            if (customerType == null || customerType.isBlank() || entryType == null || entryType.isBlank()) {
+                return true;
+            }
+            return customerType.trim().equalsIgnoreCase(entryType.trim());
+        }
+
+        /**
+         * 항목 유형 사전의 부호별 통과 여부를 고객당 한 번 계산
+         */
+        @Override
+        public IntPredicate bind(CustomerInfo customer, WatchlistColumns columns) {
+            String customerType = customer.getCustomerType();
+            if (customerType == null || customerType.isBlank()) {
+                return ordinal -> true;
+            }
+
+            String trimmed = customerType.trim();
+            List<String> entryTypes = columns.getEntryTypes();
+            boolean[] passes = new boolean[entryTypes.size()];
+            for (int code = 0; code < passes.length; code++) {
+                String entryType = entryTypes.get(code);
+                passes[code] = entryType.isBlank() || trimmed.equalsIgnoreCase(entryType.trim());
+            }
+            return ordinal -> {
+                short code = columns.entryTypeCode(ordinal);
+                return code == WatchlistColumns.NO_CODE || passes[code];
+            };
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package aml.openwlf.core.rule;
+
+/**
+ * 고객 1명 스크리닝 동안의 점수 상한 추적기
+ *
+ * ScoringService는 룰 타입별 최고 점수의 합(최대 100)으로 최종 점수를 계산합니다.
+ * 이 추적기는 같은 방식으로 현재 점수를 누적하면서, 룰 정의의 ScoreConfig에서 도출한
+ * 룰 타입별 도달 가능 최대 점수와 비교하여 다음을 판단합니다.
+ *
+ * - 포화: 이미 최대 점수에 도달한 룰 타입(또는 총점 100 도달)은 더 평가해도 점수가 바뀌지 않으므로 생략
+ * - 결정 전용: 알림 임계값에 도달했거나 도달할 수 없음이 확정되면 스캔 종료
+ *
+ * 인스턴스는 RuleExecutionPlan이 생성하며, 스레드 안전하지 않으므로 요청 스레드 하나에서만 사용합니다.
+ */
+public final class ScoreBound {
+
+    private static final double MAX_TOTAL_SCORE = 100.0;
+
+    private final boolean[] applicable;
+    private final int[] ruleTypes;
+    private final double[] attainable;
+    private final double[] best;
+    private final double decisionThreshold;
+
+    private double total;
+    private int unsaturatedTypes;
+    private boolean decided;
+    private long skippedEvaluations;
+
+    /**
+     * @param applicable 룰별 고객 적용 가능 여부 (계획 내 실행 순서 기준)
+     * @param ruleTypes 룰별 룰 타입 인덱스
+     * @param attainable 룰 타입별 도달 가능 최대 점수
+     * @param decisionThreshold 결정 전용 모드의 알림 임계값 (NaN이면 포화 생략만 수행)
+     */
+    ScoreBound(boolean[] applicable, int[] ruleTypes, double[] attainable, double decisionThreshold) {
+        this.applicable = applicable;
+        this.ruleTypes = ruleTypes;
+        this.attainable = attainable;
+        this.best = new double[attainable.length];
+        this.decisionThreshold = decisionThreshold;
+
+        double potential = 0.0;
+        for (double score : attainable) {
+            if (score > 0.0) {
+                unsaturatedTypes++;
+                potential += score;
+            }
+        }
+
+        // 모든 룰이 만점을 내도 임계값에 못 미치면 스캔할 필요가 없음
+        if (Math.min(potential, MAX_TOTAL_SCORE) < decisionThreshold) {
+            decided = true;
+        }
+    }
+
+    /**
+     * 룰 평가 필요 여부 (생략하는 경우 생략 횟수 누적)
+     *
+     * @param ruleIndex 계획 내 룰 인덱스
+     */
+    boolean shouldEvaluate(int ruleIndex) {
+        if (applicable[ruleIndex]) {
+            int type = ruleTypes[ruleIndex];
+            if (best[type] < attainable[type] && total < MAX_TOTAL_SCORE) {
+                return true;
+            }
+        }
+        skippedEvaluations++;
+        return false;
+    }
+
+    /**
+     * 매칭 점수 반영
+     *
+     * @param ruleIndex 계획 내 룰 인덱스
+     * @param score 매칭 점수
+     */
+    void record(int ruleIndex, double score) {
+        int type = ruleTypes[ruleIndex];
+        if (score <= best[type]) {
+            return;
+        }
+
+        boolean wasUnsaturated = best[type] < attainable[type];
+        total += score - best[type];
+        best[type] = score;
+        if (wasUnsaturated && score >= attainable[type]) {
+            unsaturatedTypes--;
+        }
+
+        if (getCurrentScore() >= decisionThreshold) {
+            decided = true;
+        }
+    }
+
+    /**
+     * 남은 평가가 결과에 영향을 줄 수 없는지 여부
+     *
+     * 결정 전용 모드에서 판정이 확정되었거나, 모든 룰 타입이 포화되었으면 true입니다.
+     */
+    public boolean isResolved() {
+        return decided || unsaturatedTypes == 0 || total >= MAX_TOTAL_SCORE;
+    }
+
+    /**
+     * 현재까지 누적된 점수 (ScoringService와 같은 방식, 최대 100)
+     */
+    public double getCurrentScore() {
+        return Math.min(total, MAX_TOTAL_SCORE);
+    }
+
+    /**
+     * 생략된 룰 평가 횟수
+     */
+    public long getSkippedEvaluations() {
+        return skippedEvaluations;
+    }
+}
@@ -0,0 +1,434 @@
+package aml.openwlf.core.rule;
+
+import aml.openwlf.core.collection.LongIntHashMap;
+import aml.openwlf.core.matching.EntryFeatures;
+import aml.openwlf.core.matching.NameFeatures;
+import aml.openwlf.core.matching.strategy.KoreanNameMatchingStrategy.KoreanProfile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 감시목록 항목의 열 지향(struct-of-arrays) 배치
+ *
+ * 항목 목록의 순서를 ordinal로 삼아 필드마다 원시 배열 하나에 담습니다.
+ * - id: long[]
+ * - 생년월일: epoch day int[] (없으면 NO_DATE)
+ * - 국적·리스트 출처·항목 유형: 사전 부호화한 short[] (없으면 NO_CODE)
+ * - 정규화된 이름·별칭: 공유 char[]와 구간 오프셋 (이름이 구간 0, 별칭이 그 뒤)
+ * - 한글 이름·별칭: 구간별 한글 프로파일과 초성 → ordinal 색인 (이름, 별칭 각각)
+ *
+ * 게이트와 룰 사전 필터는 항목 객체를 따라가지 않고 이 배열만 순차로 읽습니다.
+ * 정규화 이름은 사전 계산된 매칭 특징(EntryFeatures)에서 가져오며, 특징이 없거나 별칭과
+ * 어긋난 항목은 hasNormalizedNames가 false입니다. 인스턴스는 불변이며 감시목록 스냅샷마다 한 번 생성합니다.
+ */
+public final class WatchlistColumns {
+
+    /**
+     * 생년월일이 없는 항목의 epoch day 값
+     */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    /**
+     * 값이 없는 항목의 사전 부호
+     */
+    public static final short NO_CODE = -1;
+
+    private static final int[] EMPTY_ORDINALS = new int[0];
+
+    private final List<WatchlistEntry> entries;
+    private final long[] ids;
+    private final int[] dobEpochDays;
+    private final short[] nationalityCodes;
+    private final short[] sourceCodes;
+    private final short[] entryTypeCodes;
+    private final List<String> nationalities;
+    private final List<String> sources;
+    private final List<String> entryTypes;
+
+    // ordinal i의 이름 구간은 [nameStarts[i], nameStarts[i + 1]), 구간 k의 문자는 [spanStarts[k], spanStarts[k + 1])
+    private final int[] nameStarts;
+    private final int[] spanStarts;
+    private final char[] nameChars;
+    private final long[] normalized;
+    private final KoreanProfile[] koreanSpans;
+    private final Map<String, int[]> nameChosungs;
+    private final Map<String, int[]> aliasChosungs;
+
+    private final LongIntHashMap ordinals;
+
+    private WatchlistColumns(Builder builder, List<WatchlistEntry> entries) {
+        this.entries = entries;
+        this.ids = builder.ids;
+        this.dobEpochDays = builder.dobEpochDays;
+        this.nationalityCodes = builder.nationalityCodes;
+        this.sourceCodes = builder.sourceCodes;
+        this.entryTypeCodes = builder.entryTypeCodes;
+        this.nationalities = builder.nationalities.values();
+        this.sources = builder.sources.values();
+        this.entryTypes = builder.entryTypes.values();
+        this.nameStarts = builder.nameStarts;
+        this.spanStarts = builder.spanStarts.toArray();
+        this.nameChars = builder.nameChars.toArray();
+        this.normalized = builder.normalized;
+        this.koreanSpans = builder.koreanSpans.toArray(new KoreanProfile[0]);
+        this.nameChosungs = builder.nameChosungs.toIndex();
+        this.aliasChosungs = builder.aliasChosungs.toIndex();
+        this.ordinals = builder.ordinals;
+    }
+
+    /**
+     * 항목 목록으로부터 열 배치 생성
+     *
+     * @param entries 감시목록 항목 (순서가 ordinal이 됨)
+     * @return 불변 열 배치
+     */
+    public static WatchlistColumns build(List<WatchlistEntry> entries) {
+        Builder builder = new Builder(entries.size());
+        for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+            builder.add(ordinal, entries.get(ordinal));
+        }
+        builder.nameStarts[entries.size()] = builder.spanStarts.size() - 1;
+        return new WatchlistColumns(builder, List.copyOf(entries));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * ordinal 순서의 항목 목록
+     */
+    public List<WatchlistEntry> getEntries() {
+        return entries;
+    }
+
+    public WatchlistEntry entry(int ordinal) {
+        return entries.get(ordinal);
+    }
+
+    public long id(int ordinal) {
+        return ids[ordinal];
+    }
+
+    /**
+     * id의 ordinal (없으면 LongIntHashMap.MISSING)
+     *
+     * id가 중복되면 처음 나온 항목의 ordinal을 반환합니다.
+     */
+    public int ordinalOf(long id) {
+        return ordinals.get(id);
+    }
+
+    /**
+     * 이 배치에 들어 있는 바로 그 항목 객체의 ordinal (다른 객체이거나 없으면 LongIntHashMap.MISSING)
+     */
+    public int ordinalOf(WatchlistEntry entry) {
+        Long id = entry.getId();
+        if (id == null) {
+            return LongIntHashMap.MISSING;
+        }
+        int ordinal = ordinals.get(id);
+        return ordinal != LongIntHashMap.MISSING && entries.get(ordinal) == entry
+                ? ordinal : LongIntHashMap.MISSING;
+    }
+
+    /**
+     * 생년월일 epoch day (없으면 NO_DATE)
+     */
+    public int dobEpochDay(int ordinal) {
+        return dobEpochDays[ordinal];
+    }
+
+    /**
+     * 국적 사전 부호 (없으면 NO_CODE, 부호는 getNationalities의 인덱스)
+     */
+    public short nationalityCode(int ordinal) {
+        return nationalityCodes[ordinal];
+    }
+
+    /**
+     * 리스트 출처 사전 부호 (없으면 NO_CODE, 부호는 getSources의 인덱스)
+     */
+    public short sourceCode(int ordinal) {
+        return sourceCodes[ordinal];
+    }
+
+    /**
+     * 항목 유형 사전 부호 (없으면 NO_CODE, 부호는 getEntryTypes의 인덱스)
+     */
+    public short entryTypeCode(int ordinal) {
+        return entryTypeCodes[ordinal];
+    }
+
+    public List<String> getNationalities() {
+        return nationalities;
+    }
+
+    public List<String> getSources() {
+        return sources;
+    }
+
+    public List<String> getEntryTypes() {
+        return entryTypes;
+    }
+
+    /**
+     * 정규화된 이름·별칭이 들어 있는지 (매칭 특징이 사전 계산된 항목만 true)
+     */
+    public boolean hasNormalizedNames(int ordinal) {
+        return (normalized[ordinal >>> 6] & (1L << ordinal)) != 0L;
+    }
+
+    /**
+     * 정규화된 이름이 주어진 값과 같은지
+     */
+    public boolean normalizedNameEquals(int ordinal, String value) {
+        int start = nameStarts[ordinal];
+        return start < nameStarts[ordinal + 1] && spanEquals(start, value);
+    }
+
+    /**
+     * 정규화된 별칭 중 주어진 값과 같은 것이 있는지
+     */
+    public boolean normalizedAliasEquals(int ordinal, String value) {
+        int end = nameStarts[ordinal + 1];
+        for (int span = nameStarts[ordinal] + 1; span < end; span++) {
+            if (spanEquals(span, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한글 초성이 주어진 값과 같은 이름(aliases가 true이면 별칭)을 가진 항목의 ordinal
+     *
+     * @param chosung 초성 문자열
+     * @param aliases 별칭 대상 여부
+     * @return 오름차순 ordinal 배열 (없으면 빈 배열, 수정 금지)
+     */
+    public int[] ordinalsWithChosung(String chosung, boolean aliases) {
+        int[] matches = (aliases ? aliasChosungs : nameChosungs).get(chosung);
+        return matches != null ? matches : EMPTY_ORDINALS;
+    }
+
+    /**
+     * 한글이 있는 이름(aliases가 true이면 별칭) 중 조건을 만족하는 것이 있는지
+     *
+     * @param ordinal 항목 ordinal
+     * @param aliases 별칭 대상 여부
+     * @param test 한글 프로파일 조건
+     * @return 만족하는 이름 존재 여부 (정규화 이름이 없는 항목은 false)
+     */
+    public boolean anyKoreanName(int ordinal, boolean aliases, Predicate<KoreanProfile> test) {
+        int start = nameStarts[ordinal];
+        int end = nameStarts[ordinal + 1];
+        if (start == end) {
+            return false;
+        }
+        if (!aliases) {
+            return koreanSpans[start] != null && test.test(koreanSpans[start]);
+        }
+        for (int span = start + 1; span < end; span++) {
+            if (koreanSpans[span] != null && test.test(koreanSpans[span])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean spanEquals(int span, String value) {
+        int start = spanStarts[span];
+        int length = spanStarts[span + 1] - start;
+        if (length != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (nameChars[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Builder {
+
+        private final long[] ids;
+        private final int[] dobEpochDays;
+        private final short[] nationalityCodes;
+        private final short[] sourceCodes;
+        private final short[] entryTypeCodes;
+        private final Dictionary nationalities = new Dictionary("nationality");
+        private final Dictionary sources = new Dictionary("list source");
+        private final Dictionary entryTypes = new Dictionary("entry type");
+        private final int[] nameStarts;
+        private final IntBuffer spanStarts = new IntBuffer();
+        private final CharBuffer nameChars = new CharBuffer();
+        private final long[] normalized;
+        private final List<KoreanProfile> koreanSpans = new ArrayList<>();
+        private final ChosungIndex nameChosungs = new ChosungIndex();
+        private final ChosungIndex aliasChosungs = new ChosungIndex();
+        private final LongIntHashMap ordinals;
+
+        Builder(int size) {
+            ids = new long[size];
+            dobEpochDays = new int[size];
+            nationalityCodes = new short[size];
+            sourceCodes = new short[size];
+            entryTypeCodes = new short[size];
+            nameStarts = new int[size + 1];
+            normalized = new long[(size + Long.SIZE - 1) / Long.SIZE];
+            ordinals = new LongIntHashMap(size);
+            spanStarts.add(0);
+        }
+
+        void add(int ordinal, WatchlistEntry entry) {
+            Long id = entry.getId();
+            ids[ordinal] = id != null ? id : 0L;
+            if (id != null && !ordinals.containsKey(id)) {
+                ordinals.put(id, ordinal);
+            }
+            dobEpochDays[ordinal] = entry.getDateOfBirth() != null
+                    ? Math.toIntExact(entry.getDateOfBirth().toEpochDay()) : NO_DATE;
+            nationalityCodes[ordinal] = nationalities.code(entry.getNationality());
+            sourceCodes[ordinal] = sources.code(entry.getListSource());
+            entryTypeCodes[ordinal] = entryTypes.code(entry.getEntryType());
+
+            nameStarts[ordinal] = spanStarts.size() - 1;
+            EntryFeatures features = entry.getFeatures();
+            int aliasCount = entry.getAliases() != null ? entry.getAliases().size() : 0;
+            // 특징과 별칭 수가 다르면 평가기가 원문을 다시 정규화하므로 정규화 이름을 담지 않음
+            if (features != null && features.aliases().size() == aliasCount) {
+                normalized[ordinal >>> 6] |= 1L << ordinal;
+                addSpan(ordinal, features.name(), nameChosungs);
+                for (NameFeatures alias : features.aliases()) {
+                    addSpan(ordinal, alias, aliasChosungs);
+                }
+            }
+        }
+
+        private void addSpan(int ordinal, NameFeatures features, ChosungIndex chosungs) {
+            String value = features.normalizedName();
+            if (value != null) {
+                nameChars.add(value);
+            }
+            spanStarts.add(nameChars.size());
+
+            KoreanProfile korean = features.korean();
+            koreanSpans.add(korean);
+            if (korean != null) {
+                chosungs.add(korean.chosung(), ordinal);
+            }
+        }
+    }
+
+    /**
+     * 초성 → ordinal 색인 빌더 (ordinal은 오름차순으로 추가되며 항목당 한 번만 기록)
+     */
+    private static final class ChosungIndex {
+
+        private final Map<String, IntBuffer> ordinals = new HashMap<>();
+
+        void add(String chosung, int ordinal) {
+            IntBuffer buffer = ordinals.computeIfAbsent(chosung, key -> new IntBuffer());
+            if (buffer.size() == 0 || buffer.last() != ordinal) {
+                buffer.add(ordinal);
+            }
+        }
+
+        Map<String, int[]> toIndex() {
+            Map<String, int[]> index = new HashMap<>(ordinals.size() * 2);
+            ordinals.forEach((chosung, buffer) -> index.put(chosung, buffer.toArray()));
+            return index;
+        }
+    }
+
+    /**
+     * 문자열 → short 부호 사전 (등장 순서대로 부호 부여)
+     */
+    private static final class Dictionary {
+
+        private final String field;
+        private final Map<String, Short> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        Dictionary(String field) {
+            this.field = field;
+        }
+
+        short code(String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            Short code = codes.get(value);
+            if (code == null) {
+                if (values.size() > Short.MAX_VALUE) {
+                    throw new IllegalStateException("Too many distinct " + field + " values (max "
+                            + (Short.MAX_VALUE + 1) + ")");
+                }
+                code = (short) values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        List<String> values() {
+            return Collections.unmodifiableList(values);
+        }
+    }
+
+    private static final class IntBuffer {
+
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int last() {
+            return values[size - 1];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class CharBuffer {
+
+        private char[] chars = new char[256];
+        private int size;
+
+        void add(String value) {
+            int required = size + value.length();
+            if (required > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(required, chars.length << 1));
+            }
+            value.getChars(0, value.length(), chars, size);
+            size = required;
+        }
+
+        int size() {
+            return size;
+        }
+
+        char[] toArray() {
+            return Arrays.copyOf(chars, size);
+        }
+    }
+}
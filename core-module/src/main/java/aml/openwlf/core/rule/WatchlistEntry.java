@@ -1,9 +1,12 @@
 package aml.openwlf.core.rule;
 
+import aml.openwlf.core.matching.EntryFeatures;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,4 +26,11 @@ public class WatchlistEntry {
     private String nationality;
     private String listSource; // OFAC, UN, EU, etc.
     private String entryType; // INDIVIDUAL, ENTITY
+
+    /**
+     * Precomputed match features for name and aliases (null when not compiled)
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private EntryFeatures features;
 }
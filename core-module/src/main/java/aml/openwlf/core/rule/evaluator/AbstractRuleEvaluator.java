@@ -1,19 +1,22 @@
 package aml.openwlf.core.rule.evaluator;
 
 import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.matching.NameFeatures;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.rule.WatchlistEntry;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * RuleEvaluator의 추상 기본 클래스
  *
  * 모든 RuleEvaluator 구현체에서 공통으로 사용하는 로직을 제공합니다:
  * - 점수 계산 로직
- * - 필드 값 추출 (FieldValueExtractor 위임)
+ * - 필드 접근자 바인딩 (FieldValueExtractor 위임)
  * - 유효성 검사
  */
 @RequiredArgsConstructor
@@ -46,25 +49,50 @@ public abstract class AbstractRuleEvaluator implements RuleEvaluator {
     }
 
     /**
-     * CustomerInfo에서 필드 값 추출
+     * 룰 정의를 평가 함수로 컴파일
      *
-     * @param customer 고객 정보
-     * @param field 필드 이름
-     * @return 필드 값
+     * 구현체는 파라미터 해석과 필드 접근자 결정을 이 메서드에서 한 번만 수행하고,
+     * 반환하는 평가 함수에서는 확정된 값만 사용해야 합니다.
+     *
+     * @param rule 룰 정의
+     * @return 룰에 바인딩된 평가 함수
+     */
+    @Override
+    public abstract CompiledRule compile(RuleDefinition rule);
+
+    /**
+     * 단건 평가 (컴파일 후 즉시 실행)
+     *
+     * 반복 평가에는 RuleEngine의 실행 계획처럼 compile 결과를 재사용해야 합니다.
      */
-    protected String getFieldValue(CustomerInfo customer, String field) {
-        return fieldExtractor.getCustomerFieldValue(customer, field);
+    @Override
+    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
+        return compile(rule).evaluate(customer, entry);
     }
 
     /**
-     * WatchlistEntry에서 필드 값 목록 추출
+     * 소스 필드 값이 비어 있는 고객에게는 적용되지 않음
+     */
+    @Override
+    public Predicate<CustomerInfo> applicability(RuleDefinition rule) {
+        Function<CustomerInfo, String> source =
+                fieldExtractor.customerFieldAccessor(rule.getCondition().getSourceField());
+        return customer -> isValidSourceValue(source.apply(customer));
+    }
+
+    /**
+     * 룰 조건의 소스/타겟 필드를 접근자로 바인딩
      *
-     * @param entry 감시 목록 항목
-     * @param field 필드 이름
-     * @return 필드 값 목록
+     * @param rule 룰 정의
+     * @return 필드 접근자 묶음
      */
-    protected List<String> getTargetFieldValues(WatchlistEntry entry, String field) {
-        return fieldExtractor.getWatchlistFieldValues(entry, field);
+    protected BoundFields bindFields(RuleDefinition rule) {
+        String targetField = rule.getCondition().getTargetField();
+        return new BoundFields(
+                fieldExtractor.customerFieldAccessor(rule.getCondition().getSourceField()),
+                fieldExtractor.watchlistFieldAccessor(targetField),
+                fieldExtractor.watchlistFeaturesAccessor(targetField)
+        );
     }
 
     /**
@@ -108,4 +136,45 @@ public abstract class AbstractRuleEvaluator implements RuleEvaluator {
                 .description(description)
                 .build();
     }
+
+    /**
+     * 룰 조건에 바인딩된 필드 접근자
+     *
+     * @param source 고객 필드 접근자
+     * @param target 감시목록 필드 접근자
+     * @param features 감시목록 이름 특징 접근자
+     */
+    protected record BoundFields(Function<CustomerInfo, String> source,
+                                 Function<WatchlistEntry, List<String>> target,
+                                 Function<WatchlistEntry, List<NameFeatures>> features) {
+
+        /**
+         * 고객 필드 값 (없으면 null)
+         */
+        public String sourceValue(CustomerInfo customer) {
+            return customer != null ? source.apply(customer) : null;
+        }
+
+        /**
+         * 감시목록 필드 값 목록 (없으면 빈 리스트)
+         */
+        public List<String> targetValues(WatchlistEntry entry) {
+            return entry != null ? target.apply(entry) : List.of();
+        }
+
+        /**
+         * 사전 계산된 이름 특징 목록
+         *
+         * @param entry 감시 목록 항목
+         * @param targetValues targetValues로 추출한 값 목록
+         * @return targetValues와 같은 순서의 특징 목록 (사용할 수 없으면 null)
+         */
+        public List<NameFeatures> targetFeatures(WatchlistEntry entry, List<String> targetValues) {
+            List<NameFeatures> values = entry != null ? features.apply(entry) : null;
+            if (values == null || values.size() != targetValues.size()) {
+                return null;
+            }
+            return values;
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package aml.openwlf.core.rule.evaluator;
+
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.rule.WatchlistColumns;
+
+import java.util.function.IntPredicate;
+
+/**
+ * 열 배치(WatchlistColumns) 기반 룰 사전 필터
+ *
+ * 고객 단위로 한 번 바인딩한 뒤 항목 ordinal마다 호출합니다. false를 반환한 항목은
+ * 컴파일된 룰로 평가해도 매칭이 없어야 하며, true인 항목만 항목 객체로 평가하므로
+ * 필터를 사용해도 평가 결과는 같습니다.
+ */
+@FunctionalInterface
+public interface ColumnFilter {
+
+    /**
+     * 고객에 바인딩된 항목 필터 생성
+     *
+     * @param customer 고객 정보
+     * @param columns 감시목록 열 배치
+     * @return ordinal → 매칭 가능성 여부
+     */
+    IntPredicate bind(CustomerInfo customer, WatchlistColumns columns);
+}
@@ -0,0 +1,26 @@
+package aml.openwlf.core.rule.evaluator;
+
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.rule.WatchlistEntry;
+
+import java.util.List;
+
+/**
+ * 룰 정의에 바인딩된 평가 함수
+ *
+ * 매칭 타입별 평가기, 타입 변환된 파라미터, 필드 접근자가 모두 확정된 상태이므로
+ * 평가 시점에는 문자열 조회나 파라미터 맵 접근이 발생하지 않습니다.
+ */
+@FunctionalInterface
+public interface CompiledRule {
+
+    /**
+     * 룰 평가 실행
+     *
+     * @param customer 고객 정보
+     * @param entry 감시목록 항목
+     * @return 매칭된 룰 목록 (매칭되지 않으면 빈 리스트)
+     */
+    List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry);
+}
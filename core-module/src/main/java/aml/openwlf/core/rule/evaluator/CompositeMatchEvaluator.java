@@ -3,6 +3,7 @@ package aml.openwlf.core.rule.evaluator;
 import aml.openwlf.config.rule.RuleDefinition;
 import aml.openwlf.core.matching.AdvancedMatchingService;
 import aml.openwlf.core.matching.CompositeMatchResult;
+import aml.openwlf.core.matching.NameFeatures;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.rule.WatchlistEntry;
@@ -27,6 +28,9 @@ import java.util.List;
  * 추가 보너스:
  * - Metaphone 완전 일치: 높은 신뢰도로 매칭
  * - Soundex 일치: 발음 기반 매칭 확인
+ *
+ * 고객 이름 특징은 요청당 한 번 계산하고, 항목별로는 임계값에 도달할 수 없음이
+ * 확정되는 즉시 나머지 알고리즘을 생략합니다.
  */
 @Slf4j
 @Component
@@ -36,10 +40,13 @@ public class CompositeMatchEvaluator extends AbstractRuleEvaluator {
 
     private static final double DEFAULT_THRESHOLD = 0.75;
 
+    private final SourceProfileCache<NameFeatures> sourceFeatures;
+
     public CompositeMatchEvaluator(FieldValueExtractor fieldExtractor,
                                    AdvancedMatchingService matchingService) {
         super(fieldExtractor);
         this.matchingService = matchingService;
+        this.sourceFeatures = new SourceProfileCache<>(matchingService::extractFeatures);
     }
 
     @Override
@@ -48,32 +55,50 @@ public class CompositeMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        List<MatchedRule> results = new ArrayList<>();
+    public int getCost() {
+        return 20;
+    }
+
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        BoundFields fields = bindFields(rule);
+        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
+
+        return (customer, entry) -> match(customer, entry, rule, fields, threshold);
+    }
 
-        String sourceField = rule.getCondition().getSourceField();
-        String targetField = rule.getCondition().getTargetField();
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, BoundFields fields,
+                                    double threshold) {
+        List<MatchedRule> results = new ArrayList<>();
 
-        String sourceValue = getFieldValue(customer, sourceField);
-        List<String> targetValues = getTargetFieldValues(entry, targetField);
+        String sourceValue = fields.sourceValue(customer);
+        List<String> targetValues = fields.targetValues(entry);
 
         if (!isValidSourceValue(sourceValue)) {
             return results;
         }
 
-        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
+        NameFeatures source = sourceFeatures.get(sourceValue);
+        List<NameFeatures> targetFeatures = fields.targetFeatures(entry, targetValues);
 
         CompositeMatchResult bestResult = null;
         String bestMatch = null;
 
-        for (String targetValue : targetValues) {
+        for (int i = 0; i < targetValues.size(); i++) {
+            String targetValue = targetValues.get(i);
             if (!isValidTargetValue(targetValue)) {
                 continue;
             }
 
-            CompositeMatchResult result = matchingService.calculateCompositeMatch(sourceValue, targetValue);
+            NameFeatures features = targetFeatures != null
+                    ? targetFeatures.get(i)
+                    : matchingService.extractFeatures(targetValue);
+
+            // 임계값에 도달할 수 없는 쌍은 null (나머지 알고리즘 계산 생략)
+            CompositeMatchResult result = matchingService.matchComposite(source, features, threshold);
 
-            if (result.isHighConfidenceMatch(threshold)) {
+            if (result != null) {
                 if (bestResult == null || result.compositeScore() > bestResult.compositeScore()) {
                     bestResult = result;
                     bestMatch = targetValue;
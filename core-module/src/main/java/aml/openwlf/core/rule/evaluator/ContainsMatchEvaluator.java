@@ -1,6 +1,7 @@
 package aml.openwlf.core.rule.evaluator;
 
 import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.matching.NameFeatures;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.normalization.NormalizationService;
@@ -32,29 +33,42 @@ public class ContainsMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        List<MatchedRule> results = new ArrayList<>();
+    public int getCost() {
+        return 3;
+    }
+
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        BoundFields fields = bindFields(rule);
+        boolean allWords = rule.getCondition().getParameter("allWords", true);
 
-        String sourceField = rule.getCondition().getSourceField();
-        String targetField = rule.getCondition().getTargetField();
+        return (customer, entry) -> match(customer, entry, rule, fields, allWords);
+    }
+
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, BoundFields fields,
+                                    boolean allWords) {
+        List<MatchedRule> results = new ArrayList<>();
 
-        String sourceValue = getFieldValue(customer, sourceField);
-        List<String> targetValues = getTargetFieldValues(entry, targetField);
+        String sourceValue = fields.sourceValue(customer);
+        List<String> targetValues = fields.targetValues(entry);
 
         if (!isValidSourceValue(sourceValue)) {
             return results;
         }
 
-        boolean allWords = rule.getCondition().getParameter("allWords", true);
-
         String normalizedSource = normalizationService.normalizeName(sourceValue);
+        List<NameFeatures> targetFeatures = fields.targetFeatures(entry, targetValues);
 
-        for (String targetValue : targetValues) {
+        for (int i = 0; i < targetValues.size(); i++) {
+            String targetValue = targetValues.get(i);
             if (!isValidTargetValue(targetValue)) {
                 continue;
             }
 
-            String normalizedTarget = normalizationService.normalizeName(targetValue);
+            String normalizedTarget = targetFeatures != null
+                    ? targetFeatures.get(i).normalizedName()
+                    : normalizationService.normalizeName(targetValue);
 
             boolean matched;
             if (allWords) {
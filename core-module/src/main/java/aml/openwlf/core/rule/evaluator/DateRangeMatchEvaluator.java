@@ -3,6 +3,7 @@ package aml.openwlf.core.rule.evaluator;
 import aml.openwlf.config.rule.RuleDefinition;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.rule.WatchlistColumns;
 import aml.openwlf.core.rule.WatchlistEntry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,7 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * 날짜 범위 매칭 평가기
@@ -31,7 +33,49 @@ public class DateRangeMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
+    public int getCost() {
+        return 1;
+    }
+
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        int rangeDays = rule.getCondition().getParameter("rangeDays", DEFAULT_RANGE_DAYS);
+
+        return (customer, entry) -> match(customer, entry, rule, rangeDays);
+    }
+
+    /**
+     * 생년월일이 없는 고객에게는 적용되지 않음
+     */
+    @Override
+    public Predicate<CustomerInfo> applicability(RuleDefinition rule) {
+        return customer -> customer.getDateOfBirth() != null;
+    }
+
+    /**
+     * 생년월일 열만 읽어 범위를 벗어난 항목을 제외
+     */
+    @Override
+    public ColumnFilter columnFilter(RuleDefinition rule) {
+        int rangeDays = rule.getCondition().getParameter("rangeDays", DEFAULT_RANGE_DAYS);
+
+        return (customer, columns) -> {
+            LocalDate customerDob = customer.getDateOfBirth();
+            if (customerDob == null) {
+                return ordinal -> false;
+            }
+
+            long customerDay = customerDob.toEpochDay();
+            return ordinal -> {
+                int entryDay = columns.dobEpochDay(ordinal);
+                return entryDay != WatchlistColumns.NO_DATE
+                        && (entryDay == customerDay || Math.abs(customerDay - entryDay) <= rangeDays);
+            };
+        };
+    }
+
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, int rangeDays) {
         List<MatchedRule> results = new ArrayList<>();
 
         LocalDate customerDob = customer.getDateOfBirth();
@@ -41,8 +85,6 @@ public class DateRangeMatchEvaluator extends AbstractRuleEvaluator {
             return results;
         }
 
-        int rangeDays = rule.getCondition().getParameter("rangeDays", DEFAULT_RANGE_DAYS);
-
         if (customerDob.equals(entryDob)) {
             log.debug("Exact DOB match: {} (Rule: {})", customerDob, rule.getId());
 
@@ -1,6 +1,7 @@
 package aml.openwlf.core.rule.evaluator;
 
 import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.matching.NameFeatures;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.normalization.NormalizationService;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * 정확히 일치하는지 평가하는 평가기
@@ -32,27 +34,73 @@ public class ExactMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        List<MatchedRule> results = new ArrayList<>();
+    public int getCost() {
+        return 2;
+    }
+
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        BoundFields fields = bindFields(rule);
+        UnaryOperator<String> sourceNormalizer = normalizerFor(rule.getCondition().getSourceField());
+        UnaryOperator<String> targetNormalizer = normalizerFor(rule.getCondition().getTargetField());
 
-        String sourceField = rule.getCondition().getSourceField();
+        return (customer, entry) -> match(customer, entry, rule, fields, sourceNormalizer, targetNormalizer);
+    }
+
+    /**
+     * 이름·별칭 대상 룰은 열 배치의 정규화 이름과 비교하여 일치할 수 없는 항목을 제외
+     */
+    @Override
+    public ColumnFilter columnFilter(RuleDefinition rule) {
         String targetField = rule.getCondition().getTargetField();
+        if (!fieldExtractor.isNameField(targetField)) {
+            return null;
+        }
+
+        boolean aliases = "aliases".equalsIgnoreCase(targetField);
+        BoundFields fields = bindFields(rule);
+        UnaryOperator<String> sourceNormalizer = normalizerFor(rule.getCondition().getSourceField());
+
+        return (customer, columns) -> {
+            String sourceValue = fields.sourceValue(customer);
+            if (!isValidSourceValue(sourceValue)) {
+                return ordinal -> false;
+            }
+
+            // 고객 값 정규화는 항목마다가 아니라 고객당 한 번
+            String normalizedSource = sourceNormalizer.apply(sourceValue);
+            return ordinal -> !columns.hasNormalizedNames(ordinal)
+                    || (aliases
+                        ? columns.normalizedAliasEquals(ordinal, normalizedSource)
+                        : columns.normalizedNameEquals(ordinal, normalizedSource));
+        };
+    }
+
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, BoundFields fields,
+                                    UnaryOperator<String> sourceNormalizer,
+                                    UnaryOperator<String> targetNormalizer) {
+        List<MatchedRule> results = new ArrayList<>();
 
-        String sourceValue = getFieldValue(customer, sourceField);
-        List<String> targetValues = getTargetFieldValues(entry, targetField);
+        String sourceValue = fields.sourceValue(customer);
+        List<String> targetValues = fields.targetValues(entry);
 
         if (!isValidSourceValue(sourceValue)) {
             return results;
         }
 
-        String normalizedSource = normalizeValue(sourceValue, sourceField);
+        String normalizedSource = sourceNormalizer.apply(sourceValue);
+        List<NameFeatures> targetFeatures = fields.targetFeatures(entry, targetValues);
 
-        for (String targetValue : targetValues) {
+        for (int i = 0; i < targetValues.size(); i++) {
+            String targetValue = targetValues.get(i);
             if (!isValidTargetValue(targetValue)) {
                 continue;
             }
 
-            String normalizedTarget = normalizeValue(targetValue, targetField);
+            String normalizedTarget = targetFeatures != null
+                    ? targetFeatures.get(i).normalizedName()
+                    : targetNormalizer.apply(targetValue);
 
             if (normalizedSource.equals(normalizedTarget)) {
                 log.debug("Exact match found: {} = {} (Rule: {})",
@@ -73,12 +121,12 @@ public class ExactMatchEvaluator extends AbstractRuleEvaluator {
         return results;
     }
 
-    private String normalizeValue(String value, String field) {
+    private UnaryOperator<String> normalizerFor(String field) {
         if (fieldExtractor.isNameField(field)) {
-            return normalizationService.normalizeName(value);
-        } else if (field.equalsIgnoreCase("nationality")) {
-            return normalizationService.normalizeNationality(value);
+            return normalizationService::normalizeName;
+        } else if ("nationality".equalsIgnoreCase(field)) {
+            return normalizationService::normalizeNationality;
         }
-        return value.toUpperCase().trim();
+        return value -> value.toUpperCase().trim();
     }
 }
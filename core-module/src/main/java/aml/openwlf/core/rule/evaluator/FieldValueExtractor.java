@@ -1,10 +1,13 @@
 package aml.openwlf.core.rule.evaluator;
 
+import aml.openwlf.core.matching.EntryFeatures;
+import aml.openwlf.core.matching.NameFeatures;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.rule.WatchlistEntry;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 필드 값 추출 유틸리티
@@ -27,13 +30,29 @@ public class FieldValueExtractor {
             return null;
         }
 
+        return customerFieldAccessor(field).apply(customer);
+    }
+
+    /**
+     * CustomerInfo 필드 접근자 결정
+     *
+     * 룰 컴파일 시 한 번 호출하여 필드 이름 해석을 평가 루프 밖으로 옮깁니다.
+     *
+     * @param field 필드 이름
+     * @return 필드 값 접근자 (알 수 없는 필드는 항상 null 반환)
+     */
+    public Function<CustomerInfo, String> customerFieldAccessor(String field) {
+        if (field == null) {
+            return customer -> null;
+        }
+
         return switch (field.toLowerCase()) {
-            case "name" -> customer.getName();
-            case "nationality" -> customer.getNationality();
-            case "dateofbirth", "dob" -> customer.getDateOfBirth() != null
+            case "name" -> CustomerInfo::getName;
+            case "nationality" -> CustomerInfo::getNationality;
+            case "dateofbirth", "dob" -> customer -> customer.getDateOfBirth() != null
                     ? customer.getDateOfBirth().toString() : null;
-            case "customerid" -> customer.getCustomerId();
-            default -> null;
+            case "customerid" -> CustomerInfo::getCustomerId;
+            default -> customer -> null;
         };
     }
 
@@ -49,13 +68,68 @@ public class FieldValueExtractor {
             return List.of();
         }
 
+        return watchlistFieldAccessor(field).apply(entry);
+    }
+
+    /**
+     * WatchlistEntry 필드 접근자 결정
+     *
+     * @param field 필드 이름
+     * @return 필드 값 목록 접근자 (알 수 없는 필드는 항상 빈 리스트 반환)
+     */
+    public Function<WatchlistEntry, List<String>> watchlistFieldAccessor(String field) {
+        if (field == null) {
+            return entry -> List.of();
+        }
+
         return switch (field.toLowerCase()) {
-            case "name" -> List.of(entry.getName() != null ? entry.getName() : "");
-            case "aliases" -> entry.getAliases() != null ? entry.getAliases() : List.of();
-            case "nationality" -> List.of(entry.getNationality() != null ? entry.getNationality() : "");
-            case "dateofbirth", "dob" -> List.of(entry.getDateOfBirth() != null
+            case "name" -> entry -> List.of(entry.getName() != null ? entry.getName() : "");
+            case "aliases" -> entry -> entry.getAliases() != null ? entry.getAliases() : List.of();
+            case "nationality" -> entry -> List.of(entry.getNationality() != null ? entry.getNationality() : "");
+            case "dateofbirth", "dob" -> entry -> List.of(entry.getDateOfBirth() != null
                     ? entry.getDateOfBirth().toString() : "");
-            default -> List.of();
+            default -> entry -> List.of();
+        };
+    }
+
+    /**
+     * WatchlistEntry에서 사전 계산된 이름 특징 목록 추출
+     *
+     * getWatchlistFieldValues와 같은 순서의 특징 목록을 반환합니다.
+     *
+     * @param entry 감시 목록 항목
+     * @param field 필드 이름
+     * @return 특징 목록 (사전 계산되지 않았거나 이름 필드가 아니면 null)
+     */
+    public List<NameFeatures> getWatchlistFieldFeatures(WatchlistEntry entry, String field) {
+        if (entry == null || field == null) {
+            return null;
+        }
+
+        return watchlistFeaturesAccessor(field).apply(entry);
+    }
+
+    /**
+     * WatchlistEntry 이름 특징 접근자 결정
+     *
+     * @param field 필드 이름
+     * @return 특징 목록 접근자 (사전 계산되지 않았거나 이름 필드가 아니면 null 반환)
+     */
+    public Function<WatchlistEntry, List<NameFeatures>> watchlistFeaturesAccessor(String field) {
+        if (field == null) {
+            return entry -> null;
+        }
+
+        return switch (field.toLowerCase()) {
+            case "name" -> entry -> {
+                EntryFeatures features = entry.getFeatures();
+                return features != null ? List.of(features.name()) : null;
+            };
+            case "aliases" -> entry -> {
+                EntryFeatures features = entry.getFeatures();
+                return features != null ? features.aliases() : null;
+            };
+            default -> entry -> null;
         };
     }
 
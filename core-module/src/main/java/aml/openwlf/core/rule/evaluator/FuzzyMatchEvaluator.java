@@ -1,6 +1,8 @@
 package aml.openwlf.core.rule.evaluator;
 
 import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.matching.NameFeatures;
+import aml.openwlf.core.matching.kernel.BitParallelPattern;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.normalization.NormalizationService;
@@ -13,6 +15,9 @@ import java.util.List;
 
 /**
  * 유사도 기반 매칭 평가기 (Levenshtein Distance)
+ *
+ * 고객 이름은 정규화 후 비트 병렬 패턴으로 한 번만 컴파일되어 모든 후보 비교에 재사용되며,
+ * 유사도 임계값에서 도출한 최대 편집 거리를 넘는 순간 비교를 중단합니다.
  */
 @Slf4j
 @Component
@@ -22,6 +27,9 @@ public class FuzzyMatchEvaluator extends AbstractRuleEvaluator {
 
     private static final double DEFAULT_THRESHOLD = 0.8;
 
+    private final SourceProfileCache<BitParallelPattern> sourcePatterns =
+            new SourceProfileCache<>(this::compileSource);
+
     public FuzzyMatchEvaluator(FieldValueExtractor fieldExtractor,
                                NormalizationService normalizationService) {
         super(fieldExtractor);
@@ -34,30 +42,48 @@ public class FuzzyMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        List<MatchedRule> results = new ArrayList<>();
+    public int getCost() {
+        return 5;
+    }
 
-        String sourceField = rule.getCondition().getSourceField();
-        String targetField = rule.getCondition().getTargetField();
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        BoundFields fields = bindFields(rule);
+        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
 
-        String sourceValue = getFieldValue(customer, sourceField);
-        List<String> targetValues = getTargetFieldValues(entry, targetField);
+        return (customer, entry) -> match(customer, entry, rule, fields, threshold);
+    }
+
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, BoundFields fields,
+                                    double threshold) {
+        List<MatchedRule> results = new ArrayList<>();
+
+        String sourceValue = fields.sourceValue(customer);
+        List<String> targetValues = fields.targetValues(entry);
 
         if (!isValidSourceValue(sourceValue)) {
             return results;
         }
 
-        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
+        BitParallelPattern sourcePattern = sourcePatterns.get(sourceValue);
+        List<NameFeatures> targetFeatures = fields.targetFeatures(entry, targetValues);
 
         double bestSimilarity = 0;
         String bestMatch = null;
 
-        for (String targetValue : targetValues) {
+        for (int i = 0; i < targetValues.size(); i++) {
+            String targetValue = targetValues.get(i);
             if (!isValidTargetValue(targetValue)) {
                 continue;
             }
 
-            double similarity = normalizationService.calculateSimilarity(sourceValue, targetValue);
+            String normalizedTarget = targetFeatures != null
+                    ? targetFeatures.get(i).normalizedName()
+                    : normalizationService.normalizeName(targetValue);
+
+            double similarity = normalizationService.calculateNormalizedSimilarity(
+                    sourcePattern, normalizedTarget, threshold);
 
             if (similarity >= threshold && similarity > bestSimilarity) {
                 bestSimilarity = similarity;
@@ -82,4 +108,8 @@ public class FuzzyMatchEvaluator extends AbstractRuleEvaluator {
 
         return results;
     }
+
+    private BitParallelPattern compileSource(String sourceValue) {
+        return BitParallelPattern.compile(normalizationService.normalizeName(sourceValue));
+    }
 }
@@ -2,6 +2,8 @@ package aml.openwlf.core.rule.evaluator;
 
 import aml.openwlf.config.rule.RuleDefinition;
 import aml.openwlf.core.matching.AdvancedMatchingService;
+import aml.openwlf.core.matching.NameFeatures;
+import aml.openwlf.core.matching.strategy.JaroWinklerMatchingStrategy.TokenProfile;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.rule.WatchlistEntry;
@@ -42,35 +44,52 @@ public class JaroWinklerMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        List<MatchedRule> results = new ArrayList<>();
+    public int getCost() {
+        return 8;
+    }
+
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        BoundFields fields = bindFields(rule);
+        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
+        boolean useTokenMatching = rule.getCondition().getParameter("tokenMatching", true);
 
-        String sourceField = rule.getCondition().getSourceField();
-        String targetField = rule.getCondition().getTargetField();
+        return (customer, entry) -> match(customer, entry, rule, fields, threshold, useTokenMatching);
+    }
+
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, BoundFields fields,
+                                    double threshold, boolean useTokenMatching) {
+        List<MatchedRule> results = new ArrayList<>();
 
-        String sourceValue = getFieldValue(customer, sourceField);
-        List<String> targetValues = getTargetFieldValues(entry, targetField);
+        String sourceValue = fields.sourceValue(customer);
+        List<String> targetValues = fields.targetValues(entry);
 
         if (!isValidSourceValue(sourceValue)) {
             return results;
         }
 
-        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
-        boolean useTokenMatching = rule.getCondition().getParameter("tokenMatching", true);
+        TokenProfile sourceProfile = matchingService.jaroWinklerProfile(sourceValue);
+        List<NameFeatures> targetFeatures = fields.targetFeatures(entry, targetValues);
 
         double bestSimilarity = 0;
         String bestMatch = null;
 
-        for (String targetValue : targetValues) {
+        for (int i = 0; i < targetValues.size(); i++) {
+            String targetValue = targetValues.get(i);
             if (!isValidTargetValue(targetValue)) {
                 continue;
             }
 
+            TokenProfile targetProfile = targetFeatures != null
+                    ? targetFeatures.get(i).jaroWinkler()
+                    : matchingService.jaroWinklerProfile(targetValue);
+
             double similarity;
             if (useTokenMatching) {
-                similarity = matchingService.calculateTokenJaroWinklerSimilarity(sourceValue, targetValue);
+                similarity = matchingService.calculateTokenJaroWinklerSimilarity(sourceProfile, targetProfile);
             } else {
-                similarity = matchingService.calculateJaroWinklerSimilarity(sourceValue, targetValue);
+                similarity = matchingService.calculateJaroWinklerSimilarity(sourceProfile, targetProfile);
             }
 
             if (similarity >= threshold && similarity > bestSimilarity) {
@@ -2,6 +2,8 @@ package aml.openwlf.core.rule.evaluator;
 
 import aml.openwlf.config.rule.RuleDefinition;
 import aml.openwlf.core.matching.AdvancedMatchingService;
+import aml.openwlf.core.matching.NameFeatures;
+import aml.openwlf.core.matching.strategy.KoreanNameMatchingStrategy.KoreanProfile;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.rule.WatchlistEntry;
@@ -9,7 +11,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * 한글 이름 특화 매칭 평가기
@@ -21,6 +26,10 @@ import java.util.List;
  * - 자모 분리 매칭: 오타에 강함
  * - 동명이인 감지 보조
  *
+ * 감시목록 쪽 한글 프로파일(음절·초성·자모)은 캐시 구축 시 사전 계산되어 있으며,
+ * 열 배치가 있으면 초성 색인으로 초성이 같은 항목을 바로 찾고, 나머지 항목은
+ * 자모 유사도 상한이 임계값에 닿는 경우에만 평가합니다.
+ *
  * 주의: 한글이 포함된 이름에만 적용됩니다.
  */
 @Slf4j
@@ -28,6 +37,7 @@ import java.util.List;
 public class KoreanNameMatchEvaluator extends AbstractRuleEvaluator {
 
     private final AdvancedMatchingService matchingService;
+    private final SourceProfileCache<KoreanProfile> sourceProfiles;
 
     private static final double DEFAULT_THRESHOLD = 0.7;
 
@@ -35,6 +45,7 @@ public class KoreanNameMatchEvaluator extends AbstractRuleEvaluator {
                                     AdvancedMatchingService matchingService) {
         super(fieldExtractor);
         this.matchingService = matchingService;
+        this.sourceProfiles = new SourceProfileCache<>(matchingService::koreanProfile);
     }
 
     @Override
@@ -43,59 +54,130 @@ public class KoreanNameMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        List<MatchedRule> results = new ArrayList<>();
+    public int getCost() {
+        return 8;
+    }
+
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        BoundFields fields = bindFields(rule);
+        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
+        boolean chosungOnly = rule.getCondition().getParameter("chosungOnly", false);
 
-        String sourceField = rule.getCondition().getSourceField();
+        return (customer, entry) -> match(customer, entry, rule, fields, threshold, chosungOnly);
+    }
+
+    /**
+     * 소스 값에 한글이 없는 고객에게는 적용되지 않음
+     */
+    @Override
+    public Predicate<CustomerInfo> applicability(RuleDefinition rule) {
+        Function<CustomerInfo, String> source =
+                fieldExtractor.customerFieldAccessor(rule.getCondition().getSourceField());
+        return customer -> containsKorean(source.apply(customer));
+    }
+
+    /**
+     * 이름·별칭 대상 룰은 열 배치의 초성 색인과 한글 프로파일로 매칭될 수 없는 항목을 제외
+     *
+     * 초성 색인에 있는 항목은 바로 통과시키고 (chosungOnly이면 색인이 곧 결과),
+     * 그 외 항목은 모든 한글 이름의 초성이 고객과 다르므로 자모 유사도 상한만 확인합니다.
+     */
+    @Override
+    public ColumnFilter columnFilter(RuleDefinition rule) {
         String targetField = rule.getCondition().getTargetField();
+        if (!fieldExtractor.isNameField(targetField)) {
+            return null;
+        }
 
-        String sourceValue = getFieldValue(customer, sourceField);
-        List<String> targetValues = getTargetFieldValues(entry, targetField);
+        boolean aliases = "aliases".equalsIgnoreCase(targetField);
+        BoundFields fields = bindFields(rule);
+        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
+        boolean chosungOnly = rule.getCondition().getParameter("chosungOnly", false);
+
+        return (customer, columns) -> {
+            String sourceValue = fields.sourceValue(customer);
+            KoreanProfile sourceProfile = isValidSourceValue(sourceValue)
+                    ? matchingService.koreanProfile(sourceValue) : null;
+            if (sourceProfile == null) {
+                return ordinal -> false;
+            }
+
+            int[] sameChosung = columns.ordinalsWithChosung(sourceProfile.chosung(), aliases);
+            if (chosungOnly) {
+                return ordinal -> !columns.hasNormalizedNames(ordinal)
+                        || Arrays.binarySearch(sameChosung, ordinal) >= 0;
+            }
+            Predicate<KoreanProfile> reachable = target ->
+                    matchingService.canReachKoreanJamoSimilarity(sourceProfile, target, threshold);
+            return ordinal -> !columns.hasNormalizedNames(ordinal)
+                    || Arrays.binarySearch(sameChosung, ordinal) >= 0
+                    || columns.anyKoreanName(ordinal, aliases, reachable);
+        };
+    }
+
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, BoundFields fields,
+                                    double threshold, boolean chosungOnly) {
+        List<MatchedRule> results = new ArrayList<>();
+
+        String sourceValue = fields.sourceValue(customer);
+        List<String> targetValues = fields.targetValues(entry);
 
         if (!isValidSourceValue(sourceValue)) {
             return results;
         }
 
-        if (!containsKorean(sourceValue)) {
+        // 고객 값 프로파일은 항목마다가 아니라 고객당 한 번 (한글이 없으면 null)
+        KoreanProfile sourceProfile = sourceProfiles.get(sourceValue);
+        if (sourceProfile == null) {
             return results;
         }
 
-        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
-        boolean chosungOnly = rule.getCondition().getParameter("chosungOnly", false);
+        List<NameFeatures> targetFeatures = fields.targetFeatures(entry, targetValues);
 
         double bestSimilarity = 0;
         String bestMatch = null;
+        KoreanProfile bestProfile = null;
         boolean isChosungMatch = false;
 
-        for (String targetValue : targetValues) {
+        for (int i = 0; i < targetValues.size(); i++) {
+            String targetValue = targetValues.get(i);
             if (!isValidTargetValue(targetValue) || !containsKorean(targetValue)) {
                 continue;
             }
 
+            KoreanProfile targetProfile = targetFeatures != null
+                    ? targetFeatures.get(i).korean()
+                    : matchingService.koreanProfile(targetValue);
+
             if (chosungOnly) {
-                if (matchingService.matchesChosung(sourceValue, targetValue)) {
+                if (matchingService.matchesChosung(sourceProfile, targetProfile)) {
                     bestSimilarity = 0.8;
                     bestMatch = targetValue;
+                    bestProfile = targetProfile;
                     isChosungMatch = true;
                     break;
                 }
                 continue;
             }
 
-            double similarity = matchingService.calculateKoreanNameSimilarity(sourceValue, targetValue);
+            double similarity = matchingService.calculateKoreanNameSimilarity(
+                    sourceProfile, targetProfile, threshold);
 
             if (similarity >= threshold && similarity > bestSimilarity) {
                 bestSimilarity = similarity;
                 bestMatch = targetValue;
-                isChosungMatch = matchingService.matchesChosung(sourceValue, targetValue);
+                bestProfile = targetProfile;
+                isChosungMatch = matchingService.matchesChosung(sourceProfile, targetProfile);
             }
         }
 
         if (bestMatch != null) {
             double score = calculateScore(bestSimilarity, rule.getScore());
 
-            String sourceChosung = matchingService.extractChosung(sourceValue);
-            String targetChosung = matchingService.extractChosung(bestMatch);
+            String sourceChosung = sourceProfile.chosung();
+            String targetChosung = bestProfile.chosung();
 
             log.debug("Korean name match found: {} ~ {} (similarity: {:.2f}, chosung: {} ≈ {}, Rule: {})",
                     sourceValue, bestMatch, bestSimilarity, sourceChosung, targetChosung, rule.getId());
@@ -2,6 +2,8 @@ package aml.openwlf.core.rule.evaluator;
 
 import aml.openwlf.config.rule.RuleDefinition;
 import aml.openwlf.core.matching.AdvancedMatchingService;
+import aml.openwlf.core.matching.NameFeatures;
+import aml.openwlf.core.matching.strategy.NGramMatchingStrategy.NGramProfile;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.rule.WatchlistEntry;
@@ -43,31 +45,48 @@ public class NGramMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        List<MatchedRule> results = new ArrayList<>();
+    public int getCost() {
+        return 6;
+    }
+
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        BoundFields fields = bindFields(rule);
+        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
+        int n = rule.getCondition().getParameter("ngramSize", DEFAULT_N);
 
-        String sourceField = rule.getCondition().getSourceField();
-        String targetField = rule.getCondition().getTargetField();
+        return (customer, entry) -> match(customer, entry, rule, fields, threshold, n);
+    }
 
-        String sourceValue = getFieldValue(customer, sourceField);
-        List<String> targetValues = getTargetFieldValues(entry, targetField);
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, BoundFields fields,
+                                    double threshold, int n) {
+        List<MatchedRule> results = new ArrayList<>();
+
+        String sourceValue = fields.sourceValue(customer);
+        List<String> targetValues = fields.targetValues(entry);
 
         if (!isValidSourceValue(sourceValue)) {
             return results;
         }
 
-        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
-        int n = rule.getCondition().getParameter("ngramSize", DEFAULT_N);
+        NGramProfile sourceProfile = matchingService.ngramProfile(sourceValue, n);
+        List<NameFeatures> targetFeatures = fields.targetFeatures(entry, targetValues);
 
         double bestSimilarity = 0;
         String bestMatch = null;
 
-        for (String targetValue : targetValues) {
+        for (int i = 0; i < targetValues.size(); i++) {
+            String targetValue = targetValues.get(i);
             if (!isValidTargetValue(targetValue)) {
                 continue;
             }
 
-            double similarity = matchingService.calculateNGramSimilarity(sourceValue, targetValue, n);
+            NGramProfile targetProfile = resolveTargetProfile(targetValue,
+                    targetFeatures != null ? targetFeatures.get(i) : null, n);
+
+            // 임계값 미만이 확정된 쌍은 교집합 계산 도중 0.0으로 끝남
+            double similarity = matchingService.calculateNGramSimilarity(sourceProfile, targetProfile, threshold);
 
             if (similarity >= threshold && similarity > bestSimilarity) {
                 bestSimilarity = similarity;
@@ -94,4 +113,14 @@ public class NGramMatchEvaluator extends AbstractRuleEvaluator {
 
         return results;
     }
+
+    /**
+     * 사전 계산된 Bigram은 N 값이 같을 때만 재사용
+     */
+    private NGramProfile resolveTargetProfile(String targetValue, NameFeatures features, int n) {
+        if (features != null && features.bigrams() != null && features.bigrams().n() == n) {
+            return features.bigrams();
+        }
+        return matchingService.ngramProfile(targetValue, n);
+    }
 }
@@ -2,6 +2,8 @@ package aml.openwlf.core.rule.evaluator;
 
 import aml.openwlf.config.rule.RuleDefinition;
 import aml.openwlf.core.matching.AdvancedMatchingService;
+import aml.openwlf.core.matching.NameFeatures;
+import aml.openwlf.core.matching.strategy.MetaphoneMatchingStrategy.MetaphoneResult;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.rule.WatchlistEntry;
@@ -39,28 +41,57 @@ public class PhoneticMatchEvaluator extends AbstractRuleEvaluator {
     }
 
     @Override
-    public List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule) {
-        List<MatchedRule> results = new ArrayList<>();
+    public int getCost() {
+        return 5;
+    }
+
+    @Override
+    public CompiledRule compile(RuleDefinition rule) {
+        BoundFields fields = bindFields(rule);
+        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
+        String algorithm = rule.getCondition().getParameter("algorithm", "METAPHONE");
 
-        String sourceField = rule.getCondition().getSourceField();
-        String targetField = rule.getCondition().getTargetField();
+        String upperAlgorithm = algorithm.toUpperCase();
+        Settings settings = new Settings(
+                threshold,
+                algorithm,
+                upperAlgorithm,
+                upperAlgorithm.equals("SOUNDEX") || upperAlgorithm.equals("BOTH"),
+                !upperAlgorithm.equals("SOUNDEX")
+        );
+
+        return (customer, entry) -> match(customer, entry, rule, fields, settings);
+    }
+
+    private List<MatchedRule> match(CustomerInfo customer, WatchlistEntry entry,
+                                    RuleDefinition rule, BoundFields fields, Settings settings) {
+        List<MatchedRule> results = new ArrayList<>();
 
-        String sourceValue = getFieldValue(customer, sourceField);
-        List<String> targetValues = getTargetFieldValues(entry, targetField);
+        String sourceValue = fields.sourceValue(customer);
+        List<String> targetValues = fields.targetValues(entry);
 
         if (!isValidSourceValue(sourceValue)) {
             return results;
         }
 
-        double threshold = rule.getCondition().getParameter("similarityThreshold", DEFAULT_THRESHOLD);
-        String algorithm = rule.getCondition().getParameter("algorithm", "METAPHONE");
+        String algorithm = settings.algorithm();
+        boolean useSoundex = settings.useSoundex();
+        boolean useMetaphone = settings.useMetaphone();
+
+        PhoneticCodes sourceCodes = computeCodes(sourceValue, useSoundex, useMetaphone);
+        List<NameFeatures> targetFeatures = fields.targetFeatures(entry, targetValues);
 
-        for (String targetValue : targetValues) {
+        for (int i = 0; i < targetValues.size(); i++) {
+            String targetValue = targetValues.get(i);
             if (!isValidTargetValue(targetValue)) {
                 continue;
             }
 
-            MatchResult matchResult = evaluatePhonetic(sourceValue, targetValue, algorithm, threshold);
+            PhoneticCodes targetCodes = targetFeatures != null
+                    ? new PhoneticCodes(targetFeatures.get(i).soundexCode(), targetFeatures.get(i).metaphone())
+                    : computeCodes(targetValue, useSoundex, useMetaphone);
+
+            MatchResult matchResult = evaluatePhonetic(sourceCodes, targetCodes, settings.upperAlgorithm(), settings.threshold());
 
             if (matchResult.isMatch()) {
                 double score = calculateScore(matchResult.similarity(), rule.getScore());
@@ -86,33 +117,38 @@ public class PhoneticMatchEvaluator extends AbstractRuleEvaluator {
         return results;
     }
 
-    private MatchResult evaluatePhonetic(String source, String target, String algorithm, double threshold) {
-        return switch (algorithm.toUpperCase()) {
-            case "SOUNDEX" -> evaluateSoundex(source, target, threshold);
-            case "METAPHONE", "DOUBLE_METAPHONE" -> evaluateMetaphone(source, target, threshold);
+    private PhoneticCodes computeCodes(String value, boolean useSoundex, boolean useMetaphone) {
+        return new PhoneticCodes(
+                useSoundex ? matchingService.getSoundexCode(value) : null,
+                useMetaphone ? matchingService.metaphoneProfile(value) : null
+        );
+    }
+
+    private MatchResult evaluatePhonetic(PhoneticCodes source, PhoneticCodes target,
+                                         String algorithm, double threshold) {
+        return switch (algorithm) {
+            case "SOUNDEX" -> evaluateSoundex(source.soundex(), target.soundex(), threshold);
+            case "METAPHONE", "DOUBLE_METAPHONE" -> evaluateMetaphone(source.metaphone(), target.metaphone(), threshold);
             case "BOTH" -> evaluateBoth(source, target, threshold);
-            default -> evaluateMetaphone(source, target, threshold);
+            default -> evaluateMetaphone(source.metaphone(), target.metaphone(), threshold);
         };
     }
 
-    private MatchResult evaluateSoundex(String source, String target, double threshold) {
-        double similarity = matchingService.calculateSoundexSimilarity(source, target);
-        boolean isMatch = similarity >= threshold || matchingService.matchesSoundex(source, target);
+    private MatchResult evaluateSoundex(String sourceCode, String targetCode, double threshold) {
+        double similarity = matchingService.calculateSoundexCodeSimilarity(sourceCode, targetCode);
+        boolean isMatch = similarity >= threshold || matchingService.matchesSoundexCodes(sourceCode, targetCode);
 
         return new MatchResult(
                 isMatch,
                 isMatch ? Math.max(similarity, 0.8) : similarity,
-                matchingService.getSoundexCode(source),
-                matchingService.getSoundexCode(target)
+                sourceCode,
+                targetCode
         );
     }
 
-    private MatchResult evaluateMetaphone(String source, String target, double threshold) {
-        double similarity = matchingService.calculateMetaphoneSimilarity(source, target);
-        boolean isMatch = similarity >= threshold || matchingService.matchesMetaphone(source, target);
-
-        var sourceCode = matchingService.getMetaphoneCode(source);
-        var targetCode = matchingService.getMetaphoneCode(target);
+    private MatchResult evaluateMetaphone(MetaphoneResult sourceCode, MetaphoneResult targetCode, double threshold) {
+        double similarity = matchingService.calculateMetaphoneSimilarity(sourceCode, targetCode);
+        boolean isMatch = similarity >= threshold || matchingService.matchesMetaphone(sourceCode, targetCode);
 
         return new MatchResult(
                 isMatch,
@@ -122,9 +158,9 @@ public class PhoneticMatchEvaluator extends AbstractRuleEvaluator {
         );
     }
 
-    private MatchResult evaluateBoth(String source, String target, double threshold) {
-        MatchResult soundex = evaluateSoundex(source, target, threshold);
-        MatchResult metaphone = evaluateMetaphone(source, target, threshold);
+    private MatchResult evaluateBoth(PhoneticCodes source, PhoneticCodes target, double threshold) {
+        MatchResult soundex = evaluateSoundex(source.soundex(), target.soundex(), threshold);
+        MatchResult metaphone = evaluateMetaphone(source.metaphone(), target.metaphone(), threshold);
 
         boolean isMatch = soundex.isMatch() || metaphone.isMatch();
         double similarity = Math.max(soundex.similarity(), metaphone.similarity());
@@ -137,5 +173,10 @@ public class PhoneticMatchEvaluator extends AbstractRuleEvaluator {
         );
     }
 
+    private record Settings(double threshold, String algorithm, String upperAlgorithm,
+                            boolean useSoundex, boolean useMetaphone) {}
+
+    private record PhoneticCodes(String soundex, MetaphoneResult metaphone) {}
+
     private record MatchResult(boolean isMatch, double similarity, String sourceCode, String targetCode) {}
 }
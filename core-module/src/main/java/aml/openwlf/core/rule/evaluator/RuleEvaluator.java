@@ -6,6 +6,7 @@ import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.rule.WatchlistEntry;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * 룰 평가기 인터페이스
@@ -18,6 +19,16 @@ public interface RuleEvaluator {
      */
     String getMatchType();
     
+    /**
+     * 상대 평가 비용 (클수록 비쌈)
+     * 
+     * RuleEngine은 비용이 낮은 룰부터 평가하며, 같은 비용이면 우선순위 순으로 평가합니다.
+     * 날짜/정확 비교는 1~2, 편집 거리·발음 계열은 5~8, 복합 알고리즘은 20 수준입니다.
+     */
+    default int getCost() {
+        return 10;
+    }
+    
     /**
      * 룰 평가 실행
      * 
@@ -27,4 +38,41 @@ public interface RuleEvaluator {
      * @return 매칭된 룰 목록 (매칭되지 않으면 빈 리스트)
      */
     List<MatchedRule> evaluate(CustomerInfo customer, WatchlistEntry entry, RuleDefinition rule);
+    
+    /**
+     * 룰 정의를 평가 함수로 컴파일
+     * 
+     * 파라미터 해석과 필드 접근자 결정은 이 시점에 한 번만 수행됩니다.
+     * 
+     * @param rule 룰 정의
+     * @return 룰에 바인딩된 평가 함수
+     */
+    default CompiledRule compile(RuleDefinition rule) {
+        return (customer, entry) -> evaluate(customer, entry, rule);
+    }
+    
+    /**
+     * 고객 단위 적용 가능 여부 판단 함수
+     * 
+     * false를 반환하는 고객에 대해서는 어떤 감시목록 항목과도 매칭되지 않아야 합니다.
+     * 점수 상한 계산과 평가 생략에 사용됩니다.
+     * 
+     * @param rule 룰 정의
+     * @return 고객에게 이 룰이 매칭될 가능성이 있는지 판단하는 함수
+     */
+    default Predicate<CustomerInfo> applicability(RuleDefinition rule) {
+        return customer -> true;
+    }
+    
+    /**
+     * 열 배치 기반 사전 필터
+     * 
+     * 항목 객체를 읽지 않고 원시 배열만으로 매칭될 수 없는 항목을 걸러냅니다.
+     * 
+     * @param rule 룰 정의
+     * @return 사전 필터 (지원하지 않으면 null)
+     */
+    default ColumnFilter columnFilter(RuleDefinition rule) {
+        return null;
+    }
 }
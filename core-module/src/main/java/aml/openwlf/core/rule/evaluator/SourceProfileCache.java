@@ -0,0 +1,41 @@
+package aml.openwlf.core.rule.evaluator;
+
+import java.util.function.Function;
+
+/**
+ * 고객(소스) 값 전처리 결과의 스레드별 단일 슬롯 캐시
+ *
+ * FilteringService는 한 고객을 후보 항목 전체와 연속으로 비교하므로,
+ * 직전 호출과 같은 소스 값이면 계산해 둔 프로파일(정규화 이름, 패턴 비트마스크 등)을
+ * 그대로 재사용합니다. 결과적으로 고객 쪽 전처리는 요청(스레드)당 한 번만 수행됩니다.
+ *
+ * @param <T> 프로파일 타입
+ */
+final class SourceProfileCache<T> {
+
+    private final Function<String, T> factory;
+    private final ThreadLocal<Slot<T>> slot = new ThreadLocal<>();
+
+    SourceProfileCache(Function<String, T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * 소스 값의 프로파일 조회 (직전 값과 다르면 새로 계산)
+     *
+     * @param source 소스 값 (null 불가)
+     * @return 프로파일
+     */
+    T get(String source) {
+        Slot<T> current = slot.get();
+        if (current != null && current.source().equals(source)) {
+            return current.profile();
+        }
+
+        T profile = factory.apply(source);
+        slot.set(new Slot<>(source, profile));
+        return profile;
+    }
+
+    private record Slot<T>(String source, T profile) {}
+}
@@ -23,6 +23,20 @@ public class ScoringService {
     @Value("${watchlist.threshold.review:50.0}")
     private double reviewThreshold;
     
+    /**
+     * Score at or above which a result is an alert
+     */
+    public double getAlertThreshold() {
+        return alertThreshold;
+    }
+    
+    /**
+     * Score at or above which a non-alert result needs manual review
+     */
+    public double getReviewThreshold() {
+        return reviewThreshold;
+    }
+    
     /**
      * Calculate total score from matched rules
      */
@@ -46,7 +60,7 @@ public class ScoringService {
         // Generate explanation
         String explanation = generateExplanation(totalScore, matchedRules, alert);
         
-        log.info("Filtering result for customer {}: score={}, alert={}", 
+        log.debug("Filtering result for customer {}: score={}, alert={}", 
                 customerInfo.getName(), totalScore, alert);
         
         return FilteringResult.builder()
@@ -0,0 +1,112 @@
+package aml.openwlf.core.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LongIntHashMap 테스트")
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("저장한 값을 조회하고 없는 키는 MISSING을 반환한다")
+    void shouldPutAndGet() {
+        // given
+        LongIntHashMap map = new LongIntHashMap();
+
+        // when
+        map.put(1L, 10);
+        map.put(0L, 20);
+        map.put(-7L, 30);
+        int previous = map.put(1L, 11);
+
+        // then
+        assertThat(previous).isEqualTo(10);
+        assertThat(map.get(1L)).isEqualTo(11);
+        assertThat(map.get(0L)).isEqualTo(20);
+        assertThat(map.get(-7L)).isEqualTo(30);
+        assertThat(map.get(2L)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제 후에도 같은 탐사 구간의 다른 키를 찾는다")
+    void shouldKeepProbeChainsAfterRemove() {
+        // given
+        LongIntHashMap map = new LongIntHashMap();
+        for (long key = 1; key <= 1000; key++) {
+            map.put(key, (int) key);
+        }
+
+        // when
+        for (long key = 1; key <= 1000; key += 2) {
+            assertThat(map.remove(key)).isEqualTo((int) key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(500);
+        for (long key = 1; key <= 1000; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? (int) key : LongIntHashMap.MISSING);
+        }
+        assertThat(map.remove(1L)).isEqualTo(LongIntHashMap.MISSING);
+    }
+
+    @Test
+    @DisplayName("임의의 추가·삭제 순서에서 HashMap과 같은 결과를 낸다")
+    void shouldBehaveLikeHashMap() {
+        // given
+        Random random = new Random(17);
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(500) - 100;
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertThat(map.remove(key)).isEqualTo(removed != null ? removed : LongIntHashMap.MISSING);
+            } else {
+                int value = random.nextInt(1000);
+                Integer replaced = expected.put(key, value);
+                assertThat(map.put(key, value)).isEqualTo(replaced != null ? replaced : LongIntHashMap.MISSING);
+            }
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    @DisplayName("복사본을 변경해도 원본은 변하지 않는다")
+    void shouldCopyIndependently() {
+        // given
+        LongIntHashMap original = new LongIntHashMap();
+        original.put(1L, 1);
+        original.put(2L, 2);
+
+        // when
+        LongIntHashMap copy = original.copy();
+        copy.remove(1L);
+        copy.put(3L, 3);
+
+        // then
+        assertThat(original.get(1L)).isEqualTo(1);
+        assertThat(original.containsKey(3L)).isFalse();
+        assertThat(original.size()).isEqualTo(2);
+        assertThat(copy.get(1L)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(copy.get(3L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("음수 값은 저장할 수 없다")
+    void shouldRejectNegativeValue() {
+        assertThatThrownBy(() -> new LongIntHashMap().put(1L, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,174 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.config.rule.RuleConfiguration;
+import aml.openwlf.core.model.BatchFilteringResult;
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.FilteringResult;
+import aml.openwlf.core.rule.RuleExecutionPlan;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.core.rule.evaluator.RuleEvaluatorRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchFilteringService 테스트")
+class BatchFilteringServiceTest {
+    
+    @Mock
+    private FilteringService filteringService;
+    
+    @Spy
+    private FilteringProperties filteringProperties = new FilteringProperties();
+    
+    @InjectMocks
+    private BatchFilteringService batchFilteringService;
+    
+    private ScreeningSnapshot snapshot;
+    
+    @BeforeEach
+    void setUp() {
+        RuleExecutionPlan plan = RuleExecutionPlan.compile(
+                RuleConfiguration.builder().version("1.0.0").build(),
+                new RuleEvaluatorRegistry(List.of()));
+        List<WatchlistEntry> entries = List.of(
+                WatchlistEntry.builder().id(1L).name("John Smith").build(),
+                WatchlistEntry.builder().id(2L).name("Maria Garcia").build());
+        snapshot = new ScreeningSnapshot(entries, null, null, plan, -1L);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        batchFilteringService.shutdown();
+    }
+    
+    @Nested
+    @DisplayName("배치 처리 테스트")
+    class BatchProcessingTest {
+        
+        @Test
+        @DisplayName("모든 고객을 하나의 스냅샷으로 평가하고 요청 순서대로 결과 반환")
+        void shouldScreenAllCustomersAgainstOneSnapshot() {
+            // given
+            filteringProperties.getBatch().setParallelism(1);
+            List<CustomerInfo> customers = createCustomers(3);
+            
+            when(filteringService.openSnapshot()).thenReturn(snapshot);
+            when(filteringService.filterCustomer(any(), eq(snapshot)))
+                    .thenAnswer(invocation -> createFilteringResult(invocation.getArgument(0)));
+            
+            // when
+            BatchFilteringResult result = batchFilteringService.filterCustomers(customers);
+            
+            // then
+            verify(filteringService, times(1)).openSnapshot();
+            verify(filteringService, never()).filterCustomer(any());
+            assertThat(result.getItems())
+                    .extracting(item -> item.getResult().getCustomerInfo())
+                    .containsExactlyElementsOf(customers);
+            assertThat(result.getWatchlistSize()).isEqualTo(2);
+            assertThat(result.getRuleVersion()).isEqualTo("1.0.0");
+        }
+        
+        @Test
+        @DisplayName("병렬 처리해도 결과는 요청 순서를 유지")
+        void shouldKeepRequestOrderWhenParallel() {
+            // given
+            filteringProperties.getBatch().setParallelism(4);
+            List<CustomerInfo> customers = createCustomers(200);
+            
+            when(filteringService.openSnapshot()).thenReturn(snapshot);
+            when(filteringService.filterCustomer(any(), eq(snapshot)))
+                    .thenAnswer(invocation -> createFilteringResult(invocation.getArgument(0)));
+            
+            // when
+            BatchFilteringResult result = batchFilteringService.filterCustomers(customers);
+            
+            // then
+            assertThat(result.getItems()).hasSize(200);
+            for (int i = 0; i < customers.size(); i++) {
+                BatchFilteringResult.Item item = result.getItems().get(i);
+                assertThat(item.getIndex()).isEqualTo(i);
+                assertThat(item.getResult().getCustomerInfo()).isSameAs(customers.get(i));
+            }
+        }
+    }
+    
+    @Nested
+    @DisplayName("에러 처리 테스트")
+    class ErrorHandlingTest {
+        
+        @Test
+        @DisplayName("한 고객의 실패는 해당 항목의 에러로만 기록")
+        void shouldCaptureItemFailure() {
+            // given
+            filteringProperties.getBatch().setParallelism(1);
+            List<CustomerInfo> customers = createCustomers(3);
+            
+            when(filteringService.openSnapshot()).thenReturn(snapshot);
+            when(filteringService.filterCustomer(any(), eq(snapshot)))
+                    .thenAnswer(invocation -> createFilteringResult(invocation.getArgument(0)));
+            when(filteringService.filterCustomer(customers.get(1), snapshot))
+                    .thenThrow(new IllegalStateException("Scoring failed"));
+            
+            // when
+            BatchFilteringResult result = batchFilteringService.filterCustomers(customers);
+            
+            // then
+            assertThat(result.getItems()).extracting(BatchFilteringResult.Item::isSuccess)
+                    .containsExactly(true, false, true);
+            assertThat(result.getItems().get(1).getError()).isEqualTo("Scoring failed");
+        }
+        
+        @Test
+        @DisplayName("최대 배치 크기를 넘으면 예외 발생")
+        void shouldRejectOversizedBatch() {
+            // given
+            filteringProperties.getBatch().setMaxSize(2);
+            
+            // when/then
+            assertThatThrownBy(() -> batchFilteringService.filterCustomers(createCustomers(3)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("exceeds maximum of 2");
+            verify(filteringService, never()).openSnapshot();
+        }
+    }
+    
+    private List<CustomerInfo> createCustomers(int count) {
+        List<CustomerInfo> customers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            customers.add(CustomerInfo.builder()
+                    .name("Customer " + i)
+                    .customerId("CUST-" + i)
+                    .build());
+        }
+        return customers;
+    }
+    
+    private FilteringResult createFilteringResult(CustomerInfo customer) {
+        return FilteringResult.builder()
+                .alert(false)
+                .score(0.0)
+                .matchedRules(Collections.emptyList())
+                .explanation("Test result")
+                .customerInfo(customer)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.core.rule.WatchlistEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CandidateIndex 테스트")
+class CandidateIndexTest {
+
+    private static final double RECALL_FLOOR = 0.3;
+
+    private WatchlistEntry mohammed;
+    private WatchlistEntry smith;
+    private WatchlistEntry garcia;
+    private WatchlistEntry korean;
+    private CandidateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        mohammed = WatchlistEntry.builder().id(1L).name("Mohammed Ali").build();
+        smith = WatchlistEntry.builder().id(2L).name("John Smith")
+                .aliases(List.of("Johnny Smith")).build();
+        garcia = WatchlistEntry.builder().id(3L).name("Maria Garcia").build();
+        korean = WatchlistEntry.builder().id(4L).name("강창석").build();
+
+        index = CandidateIndex.build(List.of(mohammed, smith, garcia, korean));
+    }
+
+    @Nested
+    @DisplayName("후보 조회 테스트")
+    class FindCandidatesTest {
+
+        @Test
+        @DisplayName("철자 변형 이름은 후보로 선별된다")
+        void shouldSelectSpellingVariants() {
+            assertThat(index.findCandidates("Muhammad Ali", RECALL_FLOOR)).containsExactly(mohammed);
+            assertThat(index.findCandidates("Jon Smyth", RECALL_FLOOR)).containsExactly(smith);
+        }
+
+        @Test
+        @DisplayName("악센트는 제거 후 비교한다")
+        void shouldIgnoreAccents() {
+            assertThat(index.findCandidates("José García", RECALL_FLOOR)).containsExactly(garcia);
+        }
+
+        @Test
+        @DisplayName("초성이 같은 한글 이름은 후보로 선별된다")
+        void shouldSelectKoreanNamesWithSameChosung() {
+            assertThat(index.findCandidates("김철수", RECALL_FLOOR)).containsExactly(korean);
+        }
+
+        @Test
+        @DisplayName("이름 순서가 달라도 후보로 선별된다")
+        void shouldSelectReorderedNames() {
+            assertThat(index.findCandidates("Smith John", RECALL_FLOOR)).containsExactly(smith);
+        }
+
+        @Test
+        @DisplayName("별칭만 유사해도 후보로 선별된다")
+        void shouldSelectByAlias() {
+            WatchlistEntry aliased = WatchlistEntry.builder().id(5L).name("Abu Bakr")
+                    .aliases(List.of("Ibrahim Awwad")).build();
+            CandidateIndex aliasIndex = CandidateIndex.build(List.of(garcia, aliased));
+
+            assertThat(aliasIndex.findCandidates("Ibrahim Awad", RECALL_FLOOR)).containsExactly(aliased);
+        }
+
+        @Test
+        @DisplayName("공유 Bigram이 없으면 후보에서 제외된다")
+        void shouldExcludeUnrelatedNames() {
+            assertThat(index.findCandidates("Xu Qiang", RECALL_FLOOR)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("재현율 보장 테스트")
+    class RecallTest {
+
+        @Test
+        @DisplayName("Bigram을 추출할 수 없는 이름은 전체 항목 반환")
+        void shouldReturnAllEntriesWhenNoGrams() {
+            assertThat(index.findCandidates("", RECALL_FLOOR)).hasSize(4);
+            assertThat(index.findCandidates(null, RECALL_FLOOR)).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("recall floor가 0이면 전체 항목 반환")
+        void shouldReturnAllEntriesWhenFloorIsZero() {
+            assertThat(index.findCandidates("Xu Qiang", 0.0)).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("후보는 원래 순서를 유지한다")
+        void shouldPreserveEntryOrder() {
+            CandidateIndex smithIndex = CandidateIndex.build(List.of(
+                    WatchlistEntry.builder().id(10L).name("John Smith").build(),
+                    garcia,
+                    WatchlistEntry.builder().id(11L).name("Jon Smith").build()
+            ));
+
+            assertThat(smithIndex.findCandidates("John Smith", RECALL_FLOOR))
+                    .extracting(WatchlistEntry::getId)
+                    .containsExactly(10L, 11L);
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 변경 테스트")
+    class IncrementalChangeTest {
+
+        private WatchlistEntry[] slots;
+
+        @BeforeEach
+        void setUpSlots() {
+            slots = new WatchlistEntry[]{mohammed, smith, garcia, korean, null, null};
+        }
+
+        private CandidateIndex change(CandidateIndex base, int slot, WatchlistEntry entry) {
+            slots[slot] = entry;
+            Map<Integer, WatchlistEntry> changes = new HashMap<>();
+            changes.put(slot, entry);
+            return base.withChanges(changes, slot2 -> slots[slot2], slots.length);
+        }
+
+        @Test
+        @DisplayName("추가, 교체, 삭제가 후보 조회에 반영된다")
+        void shouldReflectUpsertsAndRemovals() {
+            // given
+            WatchlistEntry smyth = WatchlistEntry.builder().id(5L).name("Jon Smyth").build();
+            WatchlistEntry renamed = WatchlistEntry.builder().id(3L).name("Xu Qiang").build();
+
+            // when
+            CandidateIndex changed = change(index, 4, smyth);
+            changed = change(changed, 2, renamed);
+            changed = change(changed, 1, null);
+
+            // then
+            assertThat(changed.size()).isEqualTo(4);
+            assertThat(changed.findCandidates("John Smith", RECALL_FLOOR)).containsExactly(smyth);
+            assertThat(changed.findCandidates("Maria Garcia", RECALL_FLOOR)).isEmpty();
+            assertThat(changed.findCandidates("Xu Qiang", RECALL_FLOOR)).containsExactly(renamed);
+            assertThat(changed.findCandidates("", RECALL_FLOOR))
+                    .containsExactly(mohammed, renamed, korean, smyth);
+        }
+
+        @Test
+        @DisplayName("변경 전 색인은 그대로 유지된다")
+        void shouldKeepPreviousIndexUnchanged() {
+            // when
+            change(index, 0, null);
+
+            // then
+            assertThat(index.size()).isEqualTo(4);
+            assertThat(index.findCandidates("Muhammad Ali", RECALL_FLOOR)).containsExactly(mohammed);
+        }
+
+        @Test
+        @DisplayName("누적 변경이 많아져 재구축해도 결과는 전체 재구축과 같다")
+        void shouldMatchFullRebuildAfterCompaction() {
+            // given
+            slots = Arrays.copyOf(slots, 4 + CandidateIndex.COMPACTION_THRESHOLD + 10);
+            CandidateIndex changed = index;
+
+            // when
+            for (int slot = 4; slot < slots.length; slot++) {
+                String name = (slot % 2 == 0 ? "John Smith " : "Maria Garcia ") + slot;
+                changed = change(changed, slot, WatchlistEntry.builder().id((long) slot).name(name).build());
+            }
+            changed = change(changed, 1, null);
+
+            // then
+            List<WatchlistEntry> live = Arrays.stream(slots).filter(Objects::nonNull).toList();
+            CandidateIndex rebuilt = CandidateIndex.build(live);
+            assertThat(changed.size()).isEqualTo(rebuilt.size());
+            for (String query : List.of("John Smith", "Maria Garcia 17", "Muhammad Ali", "김철수")) {
+                assertThat(changed.findCandidates(query, RECALL_FLOOR))
+                        .containsExactlyElementsOf(rebuilt.findCandidates(query, RECALL_FLOOR));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("색인 통계 조회")
+    void shouldExposeIndexStatistics() {
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.gramCount()).isPositive();
+    }
+}
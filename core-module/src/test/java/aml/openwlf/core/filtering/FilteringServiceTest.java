@@ -1,11 +1,20 @@
 package aml.openwlf.core.filtering;
 
+import aml.openwlf.core.matching.NameFeatureCompiler;
+import aml.openwlf.core.metrics.ScanTally;
+import aml.openwlf.core.metrics.ScreeningMetrics;
+import aml.openwlf.core.metrics.ScreeningProfiler;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.FilteringResult;
 import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.model.ProfiledFilteringResult;
+import aml.openwlf.core.model.ScreeningProfile;
 import aml.openwlf.core.rule.RuleEngine;
+import aml.openwlf.core.rule.RuleExecutionPlan;
+import aml.openwlf.core.rule.ScoreBound;
 import aml.openwlf.core.rule.WatchlistEntry;
 import aml.openwlf.core.scoring.ScoringService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +24,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -39,6 +49,21 @@ class FilteringServiceTest {
     @Mock
     private WatchlistProvider watchlistProvider;
     
+    @Spy
+    private FilteringProperties filteringProperties = new FilteringProperties();
+    
+    @Mock
+    private ParallelScanExecutor parallelScanExecutor;
+    
+    @Spy
+    private ScreeningResultCache resultCache = new ScreeningResultCache(filteringProperties);
+    
+    @Spy
+    private ScreeningMetrics screeningMetrics = new ScreeningMetrics(new SimpleMeterRegistry(), filteringProperties);
+    
+    @Mock
+    private NameFeatureCompiler nameFeatureCompiler;
+    
     @InjectMocks
     private FilteringService filteringService;
     
@@ -89,7 +114,7 @@ class FilteringServiceTest {
             // then
             assertThat(result.isAlert()).isFalse();
             assertThat(result.getScore()).isEqualTo(0.0);
-            verify(ruleEngine, never()).applyRules(any(), any());
+            verify(ruleEngine, never()).applyRules(any(), any(), any());
         }
         
         @Test
@@ -101,7 +126,7 @@ class FilteringServiceTest {
             WatchlistEntry entry3 = WatchlistEntry.builder().id(3L).name("Person C").build();
             
             when(watchlistProvider.getAllEntries()).thenReturn(List.of(entry1, entry2, entry3));
-            when(ruleEngine.applyRules(any(), any())).thenReturn(Collections.emptyList());
+            when(ruleEngine.applyRules(any(), any(), any())).thenReturn(Collections.emptyList());
             when(scoringService.calculateScore(any(), any())).thenReturn(
                     createFilteringResult(false, 0.0)
             );
@@ -110,10 +135,11 @@ class FilteringServiceTest {
             filteringService.filterCustomer(testCustomer);
             
             // then
-            verify(ruleEngine, times(3)).applyRules(eq(testCustomer), any(WatchlistEntry.class));
-            verify(ruleEngine).applyRules(testCustomer, entry1);
-            verify(ruleEngine).applyRules(testCustomer, entry2);
-            verify(ruleEngine).applyRules(testCustomer, entry3);
+            verify(ruleEngine, times(3))
+                    .applyRules(eq(testCustomer), any(WatchlistEntry.class), any(ScanTally.class));
+            verify(ruleEngine).applyRules(eq(testCustomer), eq(entry1), any(ScanTally.class));
+            verify(ruleEngine).applyRules(eq(testCustomer), eq(entry2), any(ScanTally.class));
+            verify(ruleEngine).applyRules(eq(testCustomer), eq(entry3), any(ScanTally.class));
         }
         
         @Test
@@ -127,8 +153,10 @@ class FilteringServiceTest {
             WatchlistEntry entry2 = WatchlistEntry.builder().id(2L).name("Person B").build();
             
             when(watchlistProvider.getAllEntries()).thenReturn(List.of(entry1, entry2));
-            when(ruleEngine.applyRules(testCustomer, entry1)).thenReturn(List.of(rule1));
-            when(ruleEngine.applyRules(testCustomer, entry2)).thenReturn(List.of(rule2));
+            when(ruleEngine.applyRules(eq(testCustomer), eq(entry1), any(ScanTally.class)))
+                    .thenReturn(List.of(rule1));
+            when(ruleEngine.applyRules(eq(testCustomer), eq(entry2), any(ScanTally.class)))
+                    .thenReturn(List.of(rule2));
             when(scoringService.calculateScore(any(), any())).thenReturn(
                     createFilteringResult(true, 100.0)
             );
@@ -162,7 +190,7 @@ class FilteringServiceTest {
                     .build();
             
             when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry));
-            when(ruleEngine.applyRules(any(), any())).thenReturn(List.of(exactMatch));
+            when(ruleEngine.applyRules(any(), any(), any())).thenReturn(List.of(exactMatch));
             
             FilteringResult expectedResult = FilteringResult.builder()
                     .alert(true)
@@ -186,7 +214,7 @@ class FilteringServiceTest {
         void shouldReturnNoAlertWhenNoMatch() {
             // given
             when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry));
-            when(ruleEngine.applyRules(any(), any())).thenReturn(Collections.emptyList());
+            when(ruleEngine.applyRules(any(), any(), any())).thenReturn(Collections.emptyList());
             when(scoringService.calculateScore(any(), any())).thenReturn(
                     createFilteringResult(false, 0.0)
             );
@@ -200,6 +228,438 @@ class FilteringServiceTest {
         }
     }
     
+    @Nested
+    @DisplayName("후보 선별 테스트")
+    class CandidateBlockingTest {
+        
+        @Test
+        @DisplayName("역색인이 있으면 이름 Bigram을 공유하는 항목에만 룰 엔진 호출")
+        void shouldApplyRulesOnlyToCandidates() {
+            // given
+            WatchlistEntry similar = WatchlistEntry.builder().id(1L).name("Jon Smyth").build();
+            WatchlistEntry different = WatchlistEntry.builder().id(2L).name("Maria Garcia").build();
+            List<WatchlistEntry> entries = List.of(similar, different);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(entries);
+            when(watchlistProvider.getCandidateIndex()).thenReturn(CandidateIndex.build(entries));
+            when(ruleEngine.applyRules(any(), any(), any())).thenReturn(Collections.emptyList());
+            when(scoringService.calculateScore(any(), any())).thenReturn(
+                    createFilteringResult(false, 0.0)
+            );
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(ruleEngine).applyRules(eq(testCustomer), eq(similar), any(ScanTally.class));
+            verify(ruleEngine, never()).applyRules(eq(testCustomer), eq(different), any(ScanTally.class));
+        }
+        
+        @Test
+        @DisplayName("exhaustive 모드에서는 역색인을 무시하고 전체 항목 평가")
+        void shouldApplyRulesToAllEntriesInExhaustiveMode() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            
+            WatchlistEntry similar = WatchlistEntry.builder().id(1L).name("Jon Smyth").build();
+            WatchlistEntry different = WatchlistEntry.builder().id(2L).name("Maria Garcia").build();
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(List.of(similar, different));
+            when(ruleEngine.applyRules(any(), any(), any())).thenReturn(Collections.emptyList());
+            when(scoringService.calculateScore(any(), any())).thenReturn(
+                    createFilteringResult(false, 0.0)
+            );
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(ruleEngine).applyRules(eq(testCustomer), eq(similar), any(ScanTally.class));
+            verify(ruleEngine).applyRules(eq(testCustomer), eq(different), any(ScanTally.class));
+            verify(watchlistProvider, never()).getCandidateIndex();
+        }
+    }
+    
+    @Nested
+    @DisplayName("점수 상한 조기 종료 테스트")
+    class TerminationTest {
+        
+        @Test
+        @DisplayName("판정이 확정되면 남은 항목은 평가하지 않음")
+        void shouldStopScanningWhenDecisionResolved() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            filteringProperties.getTermination().setMode(FilteringProperties.TerminationMode.DECISION);
+            
+            WatchlistEntry entry2 = WatchlistEntry.builder().id(2L).name("John Smyth").build();
+            MatchedRule exactMatch = createMatchedRule("EXACT_NAME_MATCH", 100.0);
+            RuleExecutionPlan plan = mock(RuleExecutionPlan.class);
+            ScoreBound bound = mock(ScoreBound.class);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry, entry2));
+            when(ruleEngine.getExecutionPlan()).thenReturn(plan);
+            when(scoringService.getAlertThreshold()).thenReturn(70.0);
+            when(plan.decisionBound(testCustomer, 70.0)).thenReturn(bound);
+            when(bound.isResolved()).thenReturn(false, true);
+            when(plan.apply(eq(testCustomer), eq(testEntry), eq(bound), any(ScanTally.class)))
+                    .thenReturn(List.of(exactMatch));
+            when(scoringService.calculateScore(any(), any())).thenReturn(
+                    createFilteringResult(true, 100.0)
+            );
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(plan, never()).apply(eq(testCustomer), eq(entry2), any(ScoreBound.class), any(ScanTally.class));
+            verify(ruleEngine, never()).applyRules(any(), any(), any());
+            verify(scoringService).calculateScore(eq(testCustomer), matchedRulesCaptor.capture());
+            assertThat(matchedRulesCaptor.getValue()).containsExactly(exactMatch);
+        }
+        
+        @Test
+        @DisplayName("포화 생략 모드는 알림 임계값 없이 추적기를 생성")
+        void shouldUseSaturationBound() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            filteringProperties.getTermination().setMode(FilteringProperties.TerminationMode.SATURATION);
+            
+            RuleExecutionPlan plan = mock(RuleExecutionPlan.class);
+            ScoreBound bound = mock(ScoreBound.class);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry));
+            when(ruleEngine.getExecutionPlan()).thenReturn(plan);
+            when(plan.saturationBound(testCustomer)).thenReturn(bound);
+            when(plan.apply(eq(testCustomer), eq(testEntry), eq(bound), any(ScanTally.class)))
+                    .thenReturn(Collections.emptyList());
+            when(scoringService.calculateScore(any(), any())).thenReturn(
+                    createFilteringResult(false, 0.0)
+            );
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(plan).apply(testCustomer, testEntry, bound);
+            verify(scoringService, never()).getAlertThreshold();
+        }
+    }
+    
+    @Nested
+    @DisplayName("병렬 스캔 테스트")
+    class ParallelScanTest {
+        
+        @Test
+        @DisplayName("병렬 스캔 대상이면 전용 실행기의 병합 결과를 스코어링에 전달")
+        void shouldDelegateToParallelScanExecutorWhenApplicable() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            MatchedRule rule1 = createMatchedRule("EXACT_NAME_MATCH", 100.0);
+            List<WatchlistEntry> entries = List.of(testEntry);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(entries);
+            when(parallelScanExecutor.isApplicable(1)).thenReturn(true);
+            when(parallelScanExecutor.scan(eq(entries), any())).thenReturn(List.of(rule1));
+            when(scoringService.calculateScore(any(), any())).thenReturn(
+                    createFilteringResult(true, 100.0)
+            );
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(scoringService).calculateScore(eq(testCustomer), matchedRulesCaptor.capture());
+            assertThat(matchedRulesCaptor.getValue()).containsExactly(rule1);
+            verify(ruleEngine, never()).applyRules(any(), any(), any());
+        }
+    }
+    
+    @Nested
+    @DisplayName("스냅샷 필터링 테스트")
+    class SnapshotFilteringTest {
+        
+        @Test
+        @DisplayName("스냅샷은 현재 감시목록·역색인·실행 계획을 한 번에 고정")
+        void shouldPinProviderStateAndPlan() {
+            // given
+            List<WatchlistEntry> entries = List.of(testEntry);
+            CandidateIndex index = CandidateIndex.build(entries);
+            RuleExecutionPlan plan = mock(RuleExecutionPlan.class);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(entries);
+            when(watchlistProvider.getCandidateIndex()).thenReturn(index);
+            when(ruleEngine.getExecutionPlan()).thenReturn(plan);
+            
+            // when
+            ScreeningSnapshot snapshot = filteringService.openSnapshot();
+            
+            // then
+            assertThat(snapshot.getEntries()).isSameAs(entries);
+            assertThat(snapshot.getCandidateIndex()).isSameAs(index);
+            assertThat(snapshot.getPlan()).isSameAs(plan);
+        }
+        
+        @Test
+        @DisplayName("스냅샷 기반 필터링은 고정된 계획으로 평가하고 현재 상태를 다시 조회하지 않음")
+        void shouldEvaluateWithPinnedPlan() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            MatchedRule rule1 = createMatchedRule("EXACT_NAME_MATCH", 100.0);
+            RuleExecutionPlan plan = mock(RuleExecutionPlan.class);
+            ScreeningSnapshot snapshot = new ScreeningSnapshot(List.of(testEntry), null, null, plan, -1L);
+            
+            when(plan.apply(eq(testCustomer), eq(testEntry), any(ScanTally.class))).thenReturn(List.of(rule1));
+            when(scoringService.calculateScore(any(), any())).thenReturn(
+                    createFilteringResult(true, 100.0)
+            );
+            
+            // when
+            filteringService.filterCustomer(testCustomer, snapshot);
+            
+            // then
+            verify(scoringService).calculateScore(eq(testCustomer), matchedRulesCaptor.capture());
+            assertThat(matchedRulesCaptor.getValue()).containsExactly(rule1);
+            verifyNoInteractions(watchlistProvider, ruleEngine);
+        }
+    }
+    
+    @Nested
+    @DisplayName("결과 캐시 테스트")
+    class ResultCacheTest {
+        
+        private RuleExecutionPlan plan;
+        
+        @BeforeEach
+        void setUpCache() {
+            filteringProperties.getResultCache().setEnabled(true);
+            filteringProperties.getCandidate().setExhaustive(true);
+            plan = mock(RuleExecutionPlan.class);
+            when(ruleEngine.getExecutionPlan()).thenReturn(plan);
+            when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry));
+            when(ruleEngine.applyRules(any(), any(), any()))
+                    .thenReturn(List.of(createMatchedRule("EXACT_NAME_MATCH", 100.0)));
+            when(scoringService.calculateScore(any(), any())).thenReturn(createFilteringResult(true, 100.0));
+        }
+        
+        @Test
+        @DisplayName("같은 고객 정보를 다시 스크리닝하면 캐시된 결과를 요청 고객 정보로 반환")
+        void shouldReuseResultForSameCustomer() {
+            // given
+            when(watchlistProvider.getVersion()).thenReturn(1L);
+            when(plan.getGeneration()).thenReturn(1L);
+            CustomerInfo repeat = CustomerInfo.builder()
+                    .name("  John   Smith ")
+                    .dateOfBirth(LocalDate.of(1985, 5, 15))
+                    .nationality("us")
+                    .customerId("CUST-002")
+                    .build();
+            
+            // when
+            FilteringResult first = filteringService.filterCustomer(testCustomer);
+            FilteringResult second = filteringService.filterCustomer(repeat);
+            
+            // then
+            assertThat(second.isAlert()).isEqualTo(first.isAlert());
+            assertThat(second.getScore()).isEqualTo(first.getScore());
+            assertThat(second.getCustomerInfo()).isSameAs(repeat);
+            verify(scoringService, times(1)).calculateScore(any(), any());
+            assertThat(resultCache.getStats().getHits()).isEqualTo(1);
+            assertThat(resultCache.getStats().getMisses()).isEqualTo(1);
+        }
+        
+        @Test
+        @DisplayName("감시목록 버전이 바뀌면 다시 스크리닝")
+        void shouldRescreenWhenWatchlistVersionChanges() {
+            // given
+            when(watchlistProvider.getVersion()).thenReturn(1L, 2L);
+            when(plan.getGeneration()).thenReturn(1L);
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(scoringService, times(2)).calculateScore(any(), any());
+            assertThat(resultCache.getStats().getInvalidations()).isEqualTo(1);
+        }
+        
+        @Test
+        @DisplayName("룰 세대가 바뀌면 다시 스크리닝")
+        void shouldRescreenWhenRuleGenerationChanges() {
+            // given
+            when(watchlistProvider.getVersion()).thenReturn(1L);
+            when(plan.getGeneration()).thenReturn(1L, 2L);
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(scoringService, times(2)).calculateScore(any(), any());
+        }
+        
+        @Test
+        @DisplayName("생년월일이 다른 고객은 캐시를 공유하지 않음")
+        void shouldNotShareResultAcrossDifferentDateOfBirth() {
+            // given
+            when(watchlistProvider.getVersion()).thenReturn(1L);
+            when(plan.getGeneration()).thenReturn(1L);
+            CustomerInfo other = CustomerInfo.builder()
+                    .name("John Smith")
+                    .dateOfBirth(LocalDate.of(1990, 1, 1))
+                    .nationality("US")
+                    .build();
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            filteringService.filterCustomer(other);
+            
+            // then
+            verify(scoringService, times(2)).calculateScore(any(), any());
+        }
+    }
+    
+    @Nested
+    @DisplayName("메트릭 기록 테스트")
+    class MetricsTest {
+        
+        @Test
+        @DisplayName("요청마다 스캔 항목 수·매칭 수와 결과를 한 번씩 기록")
+        void shouldRecordScanTotalsAndResultOncePerRequest() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            WatchlistEntry entry2 = WatchlistEntry.builder().id(2L).name("Jon Smith").build();
+            MatchedRule exactMatch = createMatchedRule("EXACT_NAME_MATCH", 100.0);
+            FilteringResult expectedResult = createFilteringResult(true, 100.0);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry, entry2));
+            when(ruleEngine.applyRules(eq(testCustomer), eq(testEntry), any(ScanTally.class)))
+                    .thenReturn(List.of(exactMatch));
+            when(ruleEngine.applyRules(eq(testCustomer), eq(entry2), any(ScanTally.class)))
+                    .thenReturn(Collections.emptyList());
+            when(scoringService.calculateScore(any(), any())).thenReturn(expectedResult);
+            when(scoringService.getReviewThreshold()).thenReturn(50.0);
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(screeningMetrics).recordScan(argThat(tally -> tally.getEntriesScanned() == 2), eq(1));
+            verify(screeningMetrics).recordScreening(eq(expectedResult), eq(50.0), anyLong());
+        }
+        
+        @Test
+        @DisplayName("캐시에서 반환한 결과도 지연 시간과 결과를 기록")
+        void shouldRecordCachedResults() {
+            // given
+            filteringProperties.getResultCache().setEnabled(true);
+            RuleExecutionPlan plan = mock(RuleExecutionPlan.class);
+            
+            when(watchlistProvider.getVersion()).thenReturn(1L);
+            when(ruleEngine.getExecutionPlan()).thenReturn(plan);
+            when(plan.getGeneration()).thenReturn(1L);
+            when(watchlistProvider.getAllEntries()).thenReturn(Collections.emptyList());
+            when(scoringService.calculateScore(any(), any())).thenReturn(createFilteringResult(false, 0.0));
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(screeningMetrics, times(1)).recordScan(any(), anyInt());
+            verify(screeningMetrics, times(2)).recordScreening(any(), anyDouble(), anyLong());
+        }
+    }
+    
+    @Nested
+    @DisplayName("프로파일링 테스트")
+    class ProfilingTest {
+        
+        @Test
+        @DisplayName("결과와 함께 단계별 시간·후보 단계별 항목 수·느린 항목을 반환")
+        void shouldReturnResultWithProfile() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            filteringProperties.getResultCache().setEnabled(true);
+            WatchlistEntry entry2 = WatchlistEntry.builder().id(2L).name("Jon Smith").build();
+            MatchedRule exactMatch = createMatchedRule("EXACT_NAME_MATCH", 100.0);
+            FilteringResult expectedResult = createFilteringResult(true, 100.0);
+            RuleExecutionPlan plan = mock(RuleExecutionPlan.class);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry, entry2));
+            when(ruleEngine.getExecutionPlan()).thenReturn(plan);
+            when(plan.apply(eq(testCustomer), eq(testEntry), isNull(), any(ScanTally.class)))
+                    .thenReturn(List.of(exactMatch));
+            when(scoringService.calculateScore(any(), any())).thenReturn(expectedResult);
+            
+            // when
+            ProfiledFilteringResult profiled = filteringService.profileCustomer(testCustomer);
+            
+            // then
+            ScreeningProfile profile = profiled.getProfile();
+            assertThat(profiled.getResult()).isSameAs(expectedResult);
+            assertThat(profile.getTerminationMode()).isEqualTo("FULL");
+            assertThat(profile.getStageNanos()).containsOnlyKeys(ScreeningProfiler.NORMALIZATION,
+                    ScreeningProfiler.CANDIDATE_SELECTION, ScreeningProfiler.SCAN, ScreeningProfiler.SCORING);
+            assertThat(profile.getFunnel().getWatchlistEntries()).isEqualTo(2);
+            assertThat(profile.getFunnel().getCandidates()).isEqualTo(2);
+            assertThat(profile.getFunnel().getScanned()).isEqualTo(2);
+            assertThat(profile.getFunnel().getMatched()).isEqualTo(1);
+            assertThat(profile.getSlowestEntries())
+                    .extracting(ScreeningProfile.EntryCost::getEntryId)
+                    .containsExactlyInAnyOrder(1L, 2L);
+            verify(nameFeatureCompiler).compileName("John Smith");
+            verify(resultCache, never()).getOrCompute(any(), anyLong(), anyLong(), any());
+            verify(parallelScanExecutor, never()).scan(any(), any());
+            verify(screeningMetrics).recordScan(argThat(tally -> tally.getEntriesScanned() == 2), eq(1));
+            verify(screeningMetrics).recordScreening(eq(expectedResult), anyDouble(), anyLong());
+        }
+        
+        @Test
+        @DisplayName("조기 종료 모드를 적용하고 판정이 확정되면 스캔을 멈춤")
+        void shouldApplyTerminationMode() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            filteringProperties.getTermination().setMode(FilteringProperties.TerminationMode.DECISION);
+            WatchlistEntry entry2 = WatchlistEntry.builder().id(2L).name("John Smyth").build();
+            RuleExecutionPlan plan = mock(RuleExecutionPlan.class);
+            ScoreBound bound = mock(ScoreBound.class);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry, entry2));
+            when(ruleEngine.getExecutionPlan()).thenReturn(plan);
+            when(scoringService.getAlertThreshold()).thenReturn(70.0);
+            when(plan.decisionBound(testCustomer, 70.0)).thenReturn(bound);
+            when(bound.isResolved()).thenReturn(false, true);
+            when(scoringService.calculateScore(any(), any())).thenReturn(createFilteringResult(true, 100.0));
+            
+            // when
+            ScreeningProfile profile = filteringService.profileCustomer(testCustomer).getProfile();
+            
+            // then
+            assertThat(profile.getTerminationMode()).isEqualTo("DECISION");
+            assertThat(profile.getFunnel().getScanned()).isEqualTo(1);
+            verify(plan, never()).apply(eq(testCustomer), eq(entry2), any(ScoreBound.class), any(ScanTally.class));
+        }
+        
+        @Test
+        @DisplayName("프로파일링하지 않는 요청의 스캔 집계에는 프로파일러가 없음")
+        void shouldNotProfileRegularRequests() {
+            // given
+            filteringProperties.getCandidate().setExhaustive(true);
+            
+            when(watchlistProvider.getAllEntries()).thenReturn(List.of(testEntry));
+            when(scoringService.calculateScore(any(), any())).thenReturn(createFilteringResult(false, 0.0));
+            
+            // when
+            filteringService.filterCustomer(testCustomer);
+            
+            // then
+            verify(ruleEngine).applyRules(eq(testCustomer), eq(testEntry),
+                    argThat(tally -> tally.getProfiler() == null));
+            verifyNoInteractions(nameFeatureCompiler);
+        }
+    }
+    
     @Nested
     @DisplayName("에러 처리 테스트")
     class ErrorHandlingTest {
@@ -211,7 +671,7 @@ class FilteringServiceTest {
             WatchlistEntry entry1 = WatchlistEntry.builder().id(1L).name("Person A").build();
 
             when(watchlistProvider.getAllEntries()).thenReturn(List.of(entry1));
-            when(ruleEngine.applyRules(testCustomer, entry1))
+            when(ruleEngine.applyRules(eq(testCustomer), eq(entry1), any(ScanTally.class)))
                     .thenThrow(new RuntimeException("Rule engine error"));
 
             // when/then - 현재 구현은 예외를 그대로 전파함
@@ -0,0 +1,124 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.rule.WatchlistEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ParallelScanExecutor 테스트")
+class ParallelScanExecutorTest {
+
+    private FilteringProperties properties;
+    private ParallelScanExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FilteringProperties();
+        properties.getParallel().setEnabled(true);
+        properties.getParallel().setParallelism(4);
+        properties.getParallel().setMinEntries(100);
+        properties.getParallel().setPartitionSize(16);
+        executor = new ParallelScanExecutor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Nested
+    @DisplayName("적용 여부 판단 테스트")
+    class ApplicabilityTest {
+
+        @Test
+        @DisplayName("최소 엔트리 수 이상이면 병렬 스캔 적용")
+        void shouldApplyAboveMinEntries() {
+            assertThat(executor.isApplicable(100)).isTrue();
+            assertThat(executor.isApplicable(99)).isFalse();
+        }
+
+        @Test
+        @DisplayName("비활성화 시 엔트리 수와 무관하게 미적용")
+        void shouldNotApplyWhenDisabled() {
+            properties.getParallel().setEnabled(false);
+
+            assertThat(executor.isApplicable(1_000_000)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("스캔 결과 테스트")
+    class ScanTest {
+
+        @Test
+        @DisplayName("병렬 스캔 결과는 순차 스캔 결과와 순서까지 동일")
+        void shouldMatchSequentialOrder() {
+            // given
+            List<WatchlistEntry> entries = createEntries(1_000);
+            Function<WatchlistEntry, List<MatchedRule>> evaluator = entry ->
+                    entry.getId() % 3 == 0 ? List.of() : List.of(
+                            createMatchedRule("RULE_A_" + entry.getId()),
+                            createMatchedRule("RULE_B_" + entry.getId()));
+
+            List<MatchedRule> sequential = new ArrayList<>();
+            for (WatchlistEntry entry : entries) {
+                sequential.addAll(evaluator.apply(entry));
+            }
+
+            // when
+            List<MatchedRule> parallel = executor.scan(entries, evaluator);
+
+            // then
+            assertThat(parallel).containsExactlyElementsOf(sequential);
+        }
+
+        @Test
+        @DisplayName("빈 목록은 빈 결과 반환")
+        void shouldReturnEmptyForNoEntries() {
+            assertThat(executor.scan(List.of(), entry -> List.of(createMatchedRule("X")))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("공용 풀이 아닌 전용 스캔 스레드에서 실행")
+        void shouldRunOnDedicatedPool() {
+            // given
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+            // when
+            executor.scan(createEntries(500), entry -> {
+                threadNames.add(Thread.currentThread().getName());
+                return List.of();
+            });
+
+            // then
+            assertThat(threadNames).isNotEmpty()
+                    .allSatisfy(name -> assertThat(name).startsWith("screening-scan-"));
+        }
+    }
+
+    private List<WatchlistEntry> createEntries(int count) {
+        List<WatchlistEntry> entries = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            entries.add(WatchlistEntry.builder().id(id).name("Name " + id).build());
+        }
+        return entries;
+    }
+
+    private MatchedRule createMatchedRule(String ruleName) {
+        return MatchedRule.builder()
+                .ruleName(ruleName)
+                .score(50.0)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package aml.openwlf.core.filtering;
+
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.FilteringResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScreeningResultCache 테스트")
+class ScreeningResultCacheTest {
+
+    private FilteringProperties properties;
+    private ScreeningResultCache cache;
+    private AtomicInteger screenings;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FilteringProperties();
+        properties.getResultCache().setEnabled(true);
+        cache = new ScreeningResultCache(properties);
+        screenings = new AtomicInteger();
+    }
+
+    private Supplier<FilteringResult> screening(CustomerInfo customer) {
+        return () -> {
+            screenings.incrementAndGet();
+            return FilteringResult.builder()
+                    .alert(false)
+                    .score(10.0)
+                    .matchedRules(List.of())
+                    .explanation("No matches found")
+                    .customerInfo(customer)
+                    .build();
+        };
+    }
+
+    private CustomerInfo customer(String name) {
+        return CustomerInfo.builder().name(name).nationality("KR").build();
+    }
+
+    @Nested
+    @DisplayName("캐시 키 테스트")
+    class KeyTest {
+
+        @Test
+        @DisplayName("한글 이름은 서로 다른 키로 구분")
+        void shouldDistinguishKoreanNames() {
+            // when
+            cache.getOrCompute(customer("홍길동"), 1L, 1L, screening(customer("홍길동")));
+            cache.getOrCompute(customer("김철수"), 1L, 1L, screening(customer("김철수")));
+
+            // then
+            assertThat(screenings.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("고객 유형이 다르면 다른 키")
+        void shouldDistinguishCustomerType() {
+            // given
+            CustomerInfo individual = CustomerInfo.builder().name("ACME").customerType("INDIVIDUAL").build();
+            CustomerInfo entity = CustomerInfo.builder().name("ACME").customerType("ENTITY").build();
+
+            // when
+            cache.getOrCompute(individual, 1L, 1L, screening(individual));
+            cache.getOrCompute(entity, 1L, 1L, screening(entity));
+
+            // then
+            assertThat(screenings.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("버전을 추적하지 않는 감시목록은 캐시하지 않음")
+        void shouldBypassUnversionedWatchlist() {
+            // given
+            CustomerInfo customer = customer("John Smith");
+
+            // when
+            cache.getOrCompute(customer, -1L, 1L, screening(customer));
+            cache.getOrCompute(customer, -1L, 1L, screening(customer));
+
+            // then
+            assertThat(screenings.get()).isEqualTo(2);
+            assertThat(cache.getStats().getSize()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("제거 및 무효화 테스트")
+    class EvictionTest {
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 결과 제거")
+        void shouldEvictBeyondMaxSize() {
+            // given
+            properties.getResultCache().setMaxSize(16);
+
+            // when
+            for (int i = 0; i < 200; i++) {
+                CustomerInfo customer = customer("Customer " + i);
+                cache.getOrCompute(customer, 1L, 1L, screening(customer));
+            }
+
+            // then
+            ScreeningResultCache.CacheStats stats = cache.getStats();
+            assertThat(stats.getSize()).isLessThanOrEqualTo(16);
+            assertThat(stats.getEvictions()).isEqualTo(200 - stats.getSize());
+        }
+
+        @Test
+        @DisplayName("보관 시간이 지난 결과는 다시 스크리닝")
+        void shouldExpireAfterTtl() {
+            // given
+            properties.getResultCache().setTtlSeconds(0);
+            CustomerInfo customer = customer("John Smith");
+
+            // when
+            cache.getOrCompute(customer, 1L, 1L, screening(customer));
+            cache.getOrCompute(customer, 1L, 1L, screening(customer));
+
+            // then
+            assertThat(screenings.get()).isEqualTo(2);
+            assertThat(cache.getStats().getExpirations()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("새 버전 조회 시 이전 결과를 모두 제거하고 이전 버전 결과는 저장하지 않음")
+        void shouldClearOnNewerVersionAndSkipStaleStores() {
+            // given
+            CustomerInfo customer = customer("John Smith");
+            cache.getOrCompute(customer, 1L, 1L, screening(customer));
+
+            // when
+            cache.getOrCompute(customer("Jane Doe"), 2L, 1L, screening(customer("Jane Doe")));
+            cache.getOrCompute(customer, 1L, 1L, screening(customer));
+
+            // then
+            ScreeningResultCache.CacheStats stats = cache.getStats();
+            assertThat(stats.getSize()).isEqualTo(1);
+            assertThat(stats.getInvalidations()).isEqualTo(1);
+            assertThat(stats.getWatchlistVersion()).isEqualTo(2L);
+            assertThat(screenings.get()).isEqualTo(3);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("AdvancedMatchingService 테스트")
@@ -242,6 +244,64 @@ class AdvancedMatchingServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("조기 종료 복합 매칭 테스트")
+    class EarlyExitCompositeMatchTest {
+
+        private final String[] names = {
+                "Muhammad Ali", "Mohammed Ali", "John Smith", "Jon Smyth", "Vladimir Putin",
+                "Wladimir Poutine", "김철수", "김철호", "홍길동 Hong", "José García", "Jose Garcia",
+                "Kim Jong Un", "Kim Jong-un", "Usama Bin Ladin", "Acme Trading LLC", "Agent 007", ""
+        };
+
+        @Test
+        @DisplayName("임계값 이상이거나 발음이 일치하면 전체 계산과 같은 결과를, 아니면 null을 반환한다")
+        void shouldMatchFullCompositeResult() {
+            Random random = new Random(19);
+            for (int i = 0; i < 5_000; i++) {
+                NameFeatures features1 = matchingService.extractFeatures(names[random.nextInt(names.length)]);
+                NameFeatures features2 = matchingService.extractFeatures(names[random.nextInt(names.length)]);
+                CompositeMatchResult full = matchingService.calculateCompositeMatch(features1, features2);
+                double threshold = random.nextInt(4) == 0 ? full.compositeScore() : random.nextDouble();
+
+                CompositeMatchResult result = matchingService.matchComposite(features1, features2, threshold);
+
+                if (full.isHighConfidenceMatch(threshold)) {
+                    assertThat(result).isEqualTo(full);
+                } else {
+                    assertThat(result).isNull();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("발음이 일치하면 임계값과 무관하게 결과를 반환한다")
+        void shouldReportPhoneticMatchRegardlessOfThreshold() {
+            // when
+            CompositeMatchResult result = matchingService.matchComposite(
+                    matchingService.extractFeatures("Muhammad Ali"),
+                    matchingService.extractFeatures("Mohammed Ali"), 1.1);
+
+            // then
+            assertThat(result).isNotNull();
+            assertThat(result.metaphoneMatch()).isTrue();
+        }
+
+        @Test
+        @DisplayName("한 쪽에만 한글이 있으면 한글 점수는 0이고 영문 가중치를 사용한다")
+        void shouldSkipKoreanLegWithoutHangulOnBothSides() {
+            // when
+            CompositeMatchResult result = matchingService.matchComposite(
+                    matchingService.extractFeatures("홍길동 Hong"),
+                    matchingService.extractFeatures("Hong"), 0.0);
+
+            // then
+            assertThat(result).isNotNull();
+            assertThat(result.koreanScore()).isZero();
+            assertThat(result).isEqualTo(matchingService.calculateCompositeMatch("홍길동 Hong", "Hong"));
+        }
+    }
+
     @Nested
     @DisplayName("Edge Case 테스트")
     class EdgeCaseTest {
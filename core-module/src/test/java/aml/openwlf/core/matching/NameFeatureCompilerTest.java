@@ -0,0 +1,111 @@
+package aml.openwlf.core.matching;
+
+import aml.openwlf.core.matching.strategy.*;
+import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.rule.WatchlistEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NameFeatureCompiler 테스트")
+class NameFeatureCompilerTest {
+
+    private AdvancedMatchingService matchingService;
+    private NameFeatureCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        matchingService = new AdvancedMatchingService(
+                new SoundexMatchingStrategy(),
+                new MetaphoneMatchingStrategy(),
+                new JaroWinklerMatchingStrategy(),
+                new NGramMatchingStrategy(),
+                new KoreanNameMatchingStrategy(),
+                new MatchingWeightProperties()
+        );
+        compiler = new NameFeatureCompiler(new NormalizationService(), matchingService);
+    }
+
+    @Nested
+    @DisplayName("항목 특징 계산 테스트")
+    class CompileEntryTest {
+
+        @Test
+        @DisplayName("이름과 별칭 특징을 같은 순서로 계산한다")
+        void shouldCompileNameAndAliasesInOrder() {
+            // given
+            WatchlistEntry entry = WatchlistEntry.builder()
+                    .id(1L)
+                    .name("John Smith")
+                    .aliases(List.of("Johnny Smith", "김철수"))
+                    .build();
+
+            // when
+            EntryFeatures features = compiler.compileEntry(entry);
+
+            // then
+            assertThat(features.name().normalizedName()).isEqualTo("JOHN SMITH");
+            assertThat(features.aliases())
+                    .extracting(NameFeatures::value)
+                    .containsExactly("Johnny Smith", "김철수");
+            assertThat(features.aliases().get(0).korean()).isNull();
+            assertThat(features.aliases().get(1).korean().chosung()).isEqualTo("ㄱㅊㅅ");
+        }
+
+        @Test
+        @DisplayName("이름과 별칭이 없어도 특징을 계산한다")
+        void shouldHandleMissingNameAndAliases() {
+            // when
+            EntryFeatures features = compiler.compileEntry(WatchlistEntry.builder().id(1L).build());
+
+            // then
+            assertThat(features.name().normalizedName()).isEmpty();
+            assertThat(features.aliases()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("사전 계산 결과 일치 테스트")
+    class EquivalenceTest {
+
+        @Test
+        @DisplayName("사전 계산 특징 기반 결과는 문자열 기반 결과와 같다")
+        void shouldMatchStringBasedResults() {
+            List<String[]> pairs = List.of(
+                    new String[]{"Muhammad Ali", "Mohammed Ali"},
+                    new String[]{"John Smith", "Smith John"},
+                    new String[]{"José García", "Maria Garcia"},
+                    new String[]{"김철수", "강창석"},
+                    new String[]{"홍길동", "홍길동"},
+                    new String[]{"Robert", "Rupert"},
+                    new String[]{"A", "AB"}
+            );
+
+            for (String[] pair : pairs) {
+                assertEquivalent(pair[0], pair[1]);
+            }
+        }
+
+        private void assertEquivalent(String name1, String name2) {
+            NameFeatures features1 = compiler.compileName(name1);
+            NameFeatures features2 = compiler.compileName(name2);
+
+            assertThat(matchingService.calculateCompositeMatch(features1, features2))
+                    .isEqualTo(matchingService.calculateCompositeMatch(name1, name2));
+            assertThat(matchingService.calculateTokenJaroWinklerSimilarity(
+                    features1.jaroWinkler(), features2.jaroWinkler()))
+                    .isEqualTo(matchingService.calculateTokenJaroWinklerSimilarity(name1, name2));
+            assertThat(matchingService.calculateNGramSimilarity(features1.bigrams(), features2.bigrams()))
+                    .isEqualTo(matchingService.calculateBigramSimilarity(name1, name2));
+            assertThat(matchingService.calculateKoreanNameSimilarity(features1.korean(), features2.korean()))
+                    .isEqualTo(matchingService.calculateKoreanNameSimilarity(name1, name2));
+            assertThat(matchingService.matchesSoundexCodes(features1.soundexCode(), features2.soundexCode()))
+                    .isEqualTo(matchingService.matchesSoundex(name1, name2));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package aml.openwlf.core.matching.kernel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BitParallelEditDistance 테스트")
+class BitParallelEditDistanceTest {
+
+    @Nested
+    @DisplayName("Levenshtein 거리 테스트")
+    class LevenshteinTest {
+
+        @Test
+        @DisplayName("기본 편집 거리 계산")
+        void shouldCalculateDistance() {
+            BitParallelPattern pattern = BitParallelPattern.compile("JOHN SMITH");
+
+            assertThat(BitParallelEditDistance.distance(pattern, "JOHN SMITH")).isZero();
+            assertThat(BitParallelEditDistance.distance(pattern, "JON SMITH")).isEqualTo(1);
+            assertThat(BitParallelEditDistance.distance(pattern, "JOHN SMYTHE")).isEqualTo(2);
+            assertThat(BitParallelEditDistance.distance(pattern, "")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("빈 패턴은 텍스트 길이를 반환")
+        void shouldReturnTextLengthForEmptyPattern() {
+            assertThat(BitParallelEditDistance.distance(BitParallelPattern.compile(""), "ABC")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("한글 등 비 ASCII 문자도 처리")
+        void shouldHandleNonAsciiCharacters() {
+            BitParallelPattern pattern = BitParallelPattern.compile("김철수");
+
+            assertThat(BitParallelEditDistance.distance(pattern, "김철수")).isZero();
+            assertThat(BitParallelEditDistance.distance(pattern, "김철민")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("64자를 넘는 패턴은 다중 워드로 처리")
+        void shouldHandleLongPatterns() {
+            String longName = "ABDUL RAHMAN IBN MUHAMMAD IBN ABDULLAH AL HASHIMI AL QURASHI AL MAKKI";
+            BitParallelPattern pattern = BitParallelPattern.compile(longName);
+
+            assertThat(pattern.isSingleWord()).isFalse();
+            assertThat(BitParallelEditDistance.distance(pattern, longName)).isZero();
+            assertThat(BitParallelEditDistance.distance(pattern, longName.replace("MAKKI", "MAKKY")))
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("상한 및 인접 교환 테스트")
+    class BoundAndTranspositionTest {
+
+        @Test
+        @DisplayName("상한을 넘으면 -1 반환")
+        void shouldReturnMinusOneWhenBoundExceeded() {
+            BitParallelPattern pattern = BitParallelPattern.compile("JOHN SMITH");
+
+            assertThat(BitParallelEditDistance.distance(pattern, "MARIA GARCIA", 2, false)).isEqualTo(-1);
+            assertThat(BitParallelEditDistance.distance(pattern, "JON SMITH", 2, false)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("인접 문자 교환은 1회 편집으로 계산")
+        void shouldCountTranspositionAsSingleEdit() {
+            BitParallelPattern pattern = BitParallelPattern.compile("SMITH");
+
+            assertThat(BitParallelEditDistance.distance(pattern, "SMIHT", BitParallelEditDistance.UNBOUNDED, false))
+                    .isEqualTo(2);
+            assertThat(BitParallelEditDistance.distance(pattern, "SMIHT", BitParallelEditDistance.UNBOUNDED, true))
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 문자열에서 동적 계획법 결과와 일치")
+    void shouldAgreeWithDynamicProgramming() {
+        Random random = new Random(42);
+
+        for (int k = 0; k < 3000; k++) {
+            String left = randomString(random, random.nextInt(k % 10 == 0 ? 150 : 40));
+            String right = randomString(random, random.nextInt(k % 10 == 0 ? 150 : 40));
+            boolean transpositions = random.nextBoolean();
+            int bound = random.nextInt(10);
+
+            BitParallelPattern pattern = BitParallelPattern.compile(left);
+            int expected = referenceDistance(left, right, transpositions);
+
+            assertThat(BitParallelEditDistance.distance(
+                    pattern, right, BitParallelEditDistance.UNBOUNDED, transpositions))
+                    .as("%s / %s", left, right)
+                    .isEqualTo(expected);
+            assertThat(BitParallelEditDistance.distance(pattern, right, bound, transpositions))
+                    .as("%s / %s (bound %d)", left, right, bound)
+                    .isEqualTo(expected <= bound ? expected : -1);
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append("ABC 가".charAt(random.nextInt(5)));
+        }
+        return builder.toString();
+    }
+
+    private static int referenceDistance(String a, String b, boolean transpositions) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (transpositions && i > 1 && j > 1
+                        && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
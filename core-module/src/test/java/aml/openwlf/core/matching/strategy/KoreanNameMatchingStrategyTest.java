@@ -0,0 +1,111 @@
+package aml.openwlf.core.matching.strategy;
+
+import aml.openwlf.core.matching.strategy.KoreanNameMatchingStrategy.KoreanProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KoreanNameMatchingStrategy 테스트")
+class KoreanNameMatchingStrategyTest {
+
+    private static final String SYLLABLES = "김이박최정강조윤장임철수영희민준서연지호현우성진가나다라";
+
+    private final KoreanNameMatchingStrategy strategy = new KoreanNameMatchingStrategy();
+
+    @Nested
+    @DisplayName("프로파일 테스트")
+    class ProfileTest {
+
+        @Test
+        @DisplayName("한글 음절·초성·자모를 한 번에 추출하고 자모 비트마스크를 만든다")
+        void shouldPrecomputeSyllablesChosungAndJamo() {
+            // when
+            KoreanProfile profile = strategy.profile("Mr. 김철수 (KIM)");
+
+            // then
+            assertThat(profile.syllables()).isEqualTo("김철수");
+            assertThat(profile.chosung()).isEqualTo("ㄱㅊㅅ");
+            assertThat(profile.jamo()).isEqualTo("ㄱㅣㅁㅊㅓㄹㅅㅜ");
+            assertThat(Long.bitCount(profile.jamoMask())).isEqualTo(8);
+            assertThat(profile).isEqualTo(new KoreanProfile("김철수", "ㄱㅊㅅ", "ㄱㅣㅁㅊㅓㄹㅅㅜ"));
+        }
+
+        @Test
+        @DisplayName("한글이 없으면 프로파일이 없다")
+        void shouldReturnNullWithoutKorean() {
+            assertThat(strategy.profile("John Smith")).isNull();
+            assertThat(strategy.profile(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("유사도 상한 속성 테스트")
+    class UpperBoundPropertyTest {
+
+        @Test
+        @DisplayName("유사도 상한은 항상 실제 유사도 이상이다")
+        void shouldNeverUnderestimate() {
+            Random random = new Random(20);
+            for (int i = 0; i < 20_000; i++) {
+                KoreanProfile profile1 = strategy.profile(randomName(random));
+                KoreanProfile profile2 = strategy.profile(random.nextInt(3) == 0
+                        ? mutate(random, profile1.syllables()) : randomName(random));
+
+                assertThat(strategy.similarityUpperBound(profile1, profile2))
+                        .as("%s | %s", profile1.syllables(), profile2.syllables())
+                        .isGreaterThanOrEqualTo(strategy.calculateSimilarity(profile1, profile2));
+            }
+        }
+
+        @Test
+        @DisplayName("최소 유사도 이상이면 정확한 값, 미만이면 최소 유사도보다 작은 값을 낸다")
+        void shouldRespectMinSimilarity() {
+            Random random = new Random(200);
+            for (int i = 0; i < 20_000; i++) {
+                KoreanProfile profile1 = strategy.profile(randomName(random));
+                KoreanProfile profile2 = strategy.profile(random.nextInt(2) == 0
+                        ? mutate(random, profile1.syllables()) : randomName(random));
+                double exact = strategy.calculateSimilarity(profile1, profile2);
+                double minSimilarity = random.nextInt(4) == 0 ? exact : random.nextDouble();
+
+                double bounded = strategy.calculateSimilarity(profile1, profile2, minSimilarity);
+
+                if (exact >= minSimilarity) {
+                    assertThat(bounded).as("%s | %s", profile1.syllables(), profile2.syllables()).isEqualTo(exact);
+                } else {
+                    assertThat(bounded).as("%s | %s", profile1.syllables(), profile2.syllables()).isLessThan(minSimilarity);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("공유 자모가 적은 이름은 자모 유사도 계산 없이 탈락한다")
+        void shouldRejectDissimilarNamesByBound() {
+            // given
+            KoreanProfile profile1 = strategy.profile("김철수");
+            KoreanProfile profile2 = strategy.profile("박영희");
+
+            // then
+            assertThat(strategy.canReach(profile1, profile2, 0.7)).isFalse();
+            assertThat(strategy.calculateSimilarity(profile1, profile2, 0.7)).isZero();
+        }
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int length = 1 + random.nextInt(4); length > 0; length--) {
+            name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return name.toString();
+    }
+
+    private static String mutate(Random random, String value) {
+        StringBuilder mutated = new StringBuilder(value);
+        mutated.setCharAt(random.nextInt(mutated.length()), SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        return mutated.toString();
+    }
+}
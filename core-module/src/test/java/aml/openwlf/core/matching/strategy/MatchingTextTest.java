@@ -0,0 +1,58 @@
+package aml.openwlf.core.matching.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MatchingText 테스트")
+class MatchingTextTest {
+
+    private static final String ALPHABET =
+            "ABCDEabcde XYZxyz0129 \t\n-.,'éÉüÜñßıİ김철수가힣́ͅŉǰ_  ";
+
+    @Test
+    @DisplayName("매칭용·발음용 정규화는 기존 정규식 파이프라인과 같은 결과를 낸다")
+    void shouldMatchRegexPipeline() {
+        Random random = new Random(19);
+        for (int i = 0; i < 20_000; i++) {
+            String value = randomString(random);
+
+            assertThat(MatchingText.normalize(value))
+                    .as(value)
+                    .isEqualTo(regexNormalize(value, "[^A-Z0-9가-힣\\s]"));
+            assertThat(MatchingText.normalizePhonetic(value))
+                    .as(value)
+                    .isEqualTo(regexNormalize(value, "[^A-Z\\s]"));
+        }
+    }
+
+    @Test
+    @DisplayName("발음용 문자열은 숫자를 빼고 공백을 다시 정리한다")
+    void shouldDerivePhoneticFromNormalized() {
+        assertThat(MatchingText.phonetic("AGENT 007 SMITH")).isEqualTo("AGENT SMITH");
+        assertThat(MatchingText.phonetic("JOHN SMITH")).isEqualTo("JOHN SMITH");
+        assertThat(MatchingText.phonetic("123")).isEmpty();
+    }
+
+    private static String regexNormalize(String value, String removed) {
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFD);
+        normalized = normalized.replaceAll("\\p{M}", "");
+        return normalized.toUpperCase()
+                .replaceAll(removed, "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(16);
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,148 @@
+package aml.openwlf.core.matching.strategy;
+
+import aml.openwlf.core.matching.strategy.NGramMatchingStrategy.NGramProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NGramMatchingStrategy 테스트")
+class NGramMatchingStrategyTest {
+
+    private static final String ALPHABET =
+            "ABCDEabcde XYZxyz0129 \t\n-.,'éÉüÜñßıİ김철수홍길동가힣́ͅŉǰ_  ";
+
+    private final NGramMatchingStrategy strategy = new NGramMatchingStrategy();
+
+    @Nested
+    @DisplayName("프로파일 테스트")
+    class ProfileTest {
+
+        @Test
+        @DisplayName("Bigram은 int, Trigram은 long으로 압축한 정렬·중복 제거 배열로 보관한다")
+        void shouldPackSortedDistinctGrams() {
+            // when
+            NGramProfile bigrams = strategy.profile("Anna", 2);
+            NGramProfile trigrams = strategy.profile("Anna", 3);
+
+            // then
+            assertThat(bigrams.normalized()).isEqualTo("ANNA");
+            assertThat(bigrams.grams()).isSorted().doesNotHaveDuplicates().hasSize(5);
+            assertThat(bigrams.wideGrams()).isNull();
+            assertThat(trigrams.wideGrams()).isSorted().doesNotHaveDuplicates().hasSize(4);
+            assertThat(trigrams.grams()).isNull();
+        }
+
+        @Test
+        @DisplayName("정규화 문자열이 N보다 짧거나 N이 4를 넘으면 배열 없이 보관한다")
+        void shouldKeepNoArraysForShortStringsOrLargeN() {
+            assertThat(strategy.profile("A", 2).size()).isZero();
+            assertThat(strategy.profile("Alexander", 5).grams()).isNull();
+            assertThat(strategy.profile("Alexander", 5).wideGrams()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("유사도 속성 테스트")
+    class PropertyTest {
+
+        @Test
+        @DisplayName("임의의 문자열 쌍에서 문자열 집합 기반 Jaccard와 정확히 같은 값을 낸다")
+        void shouldMatchStringSetJaccard() {
+            Random random = new Random(18);
+            for (int i = 0; i < 20_000; i++) {
+                String str1 = randomString(random);
+                String str2 = random.nextInt(3) == 0 ? mutate(random, str1) : randomString(random);
+                int n = 1 + random.nextInt(5);
+
+                assertThat(strategy.calculateNGramSimilarity(str1, str2, n))
+                        .as("%s | %s (n=%d)", str1, str2, n)
+                        .isEqualTo(referenceSimilarity(str1, str2, n));
+            }
+        }
+
+        @Test
+        @DisplayName("최소 유사도 이상이면 정확한 값, 미만이면 최소 유사도보다 작은 값을 낸다")
+        void shouldRespectMinSimilarity() {
+            Random random = new Random(180);
+            for (int i = 0; i < 20_000; i++) {
+                String str1 = randomString(random);
+                String str2 = random.nextInt(2) == 0 ? mutate(random, str1) : randomString(random);
+                int n = 2 + random.nextInt(2);
+                double exact = referenceSimilarity(str1, str2, n);
+                double minSimilarity = random.nextInt(4) == 0 ? exact : random.nextDouble();
+
+                double bounded = strategy.calculateSimilarity(
+                        strategy.profile(str1, n), strategy.profile(str2, n), minSimilarity);
+
+                if (exact >= minSimilarity) {
+                    assertThat(bounded).as("%s | %s", str1, str2).isEqualTo(exact);
+                } else {
+                    assertThat(bounded).as("%s | %s", str1, str2).isLessThan(minSimilarity);
+                }
+            }
+        }
+    }
+
+    /**
+     * 기존 구현 (정규식 정규화 + 문자열 N-Gram 집합)
+     */
+    private static double referenceSimilarity(String str1, String str2, int n) {
+        String s1 = referenceNormalize(str1);
+        String s2 = referenceNormalize(str2);
+        if (s1.length() < n || s2.length() < n) {
+            return s1.equals(s2) ? 1.0 : 0.0;
+        }
+
+        Set<String> ngrams1 = referenceNGrams(s1, n);
+        Set<String> ngrams2 = referenceNGrams(s2, n);
+        Set<String> intersection = new HashSet<>(ngrams1);
+        intersection.retainAll(ngrams2);
+        Set<String> union = new HashSet<>(ngrams1);
+        union.addAll(ngrams2);
+
+        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+    }
+
+    private static String referenceNormalize(String str) {
+        String normalized = Normalizer.normalize(str, Normalizer.Form.NFD);
+        normalized = normalized.replaceAll("\\p{M}", "");
+        return normalized.toUpperCase()
+                .replaceAll("[^A-Z0-9가-힣\\s]", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static Set<String> referenceNGrams(String str, int n) {
+        Set<String> ngrams = new HashSet<>();
+        String padded = "_" + str.replace(" ", "_") + "_";
+        for (int i = 0; i <= padded.length() - n; i++) {
+            ngrams.add(padded.substring(i, i + n));
+        }
+        return ngrams;
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(14);
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return value.toString();
+    }
+
+    private static String mutate(Random random, String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        StringBuilder mutated = new StringBuilder(value);
+        mutated.setCharAt(random.nextInt(mutated.length()), ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        return mutated.toString();
+    }
+}
@@ -0,0 +1,155 @@
+package aml.openwlf.core.metrics;
+
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.filtering.FilteringProperties;
+import aml.openwlf.core.model.FilteringResult;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScreeningMetrics 테스트")
+class ScreeningMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private FilteringProperties properties;
+    private ScreeningMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new FilteringProperties();
+        metrics = new ScreeningMetrics(registry, properties);
+    }
+
+    @Nested
+    @DisplayName("요청 단위 메트릭 테스트")
+    class RequestMetricsTest {
+
+        @Test
+        @DisplayName("결과를 알림·검토·정상 점수 구간으로 나누어 센다")
+        void shouldCountResultsByScoreBand() {
+            // when
+            metrics.recordScreening(result(true, 85.0), 50.0, 1_000_000L);
+            metrics.recordScreening(result(false, 60.0), 50.0, 1_000_000L);
+            metrics.recordScreening(result(false, 10.0), 50.0, 1_000_000L);
+            metrics.recordScreening(result(false, 0.0), 50.0, 1_000_000L);
+
+            // then
+            assertThat(bandCount("alert")).isEqualTo(1.0);
+            assertThat(bandCount("review")).isEqualTo(1.0);
+            assertThat(bandCount("clear")).isEqualTo(2.0);
+            assertThat(registry.get("openwlf.screening.duration").timer().count()).isEqualTo(4);
+            assertThat(registry.get("openwlf.screening.duration").timer().totalTime(TimeUnit.MILLISECONDS))
+                    .isEqualTo(4.0);
+        }
+
+        @Test
+        @DisplayName("스캔 집계를 요청당 한 번씩 분포로 기록한다")
+        void shouldRecordScanTotals() {
+            // given
+            ScanTally tally = new ScanTally();
+            tally.addEntriesScanned(120);
+            tally.addRulesEvaluated(7);
+            tally.addRulesEvaluated(5);
+
+            // when
+            metrics.recordScan(tally, 3);
+
+            // then
+            assertThat(registry.get("openwlf.screening.entries.scanned").summary().totalAmount()).isEqualTo(120.0);
+            assertThat(registry.get("openwlf.screening.rules.evaluated").summary().totalAmount()).isEqualTo(12.0);
+            assertThat(registry.get("openwlf.screening.matches").summary().totalAmount()).isEqualTo(3.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("룰 통계 테스트")
+    class RuleStatsTest {
+
+        @Test
+        @DisplayName("같은 룰 ID·매칭 타입은 같은 통계를 공유하고 태그를 붙여 한 번만 등록한다")
+        void shouldRegisterRuleStatsOnce() {
+            // given
+            RuleDefinition rule = rule("EXACT_NAME_MATCH", "EXACT");
+
+            // when
+            RuleStats first = metrics.ruleStats(rule);
+            RuleStats second = metrics.ruleStats(rule("EXACT_NAME_MATCH", "EXACT"));
+            first.record(1);
+            second.record(0);
+            second.recordError();
+
+            // then
+            assertThat(second).isSameAs(first);
+            FunctionTimer timer = registry.get("openwlf.rule.evaluation")
+                    .tags("rule", "EXACT_NAME_MATCH", "match.type", "EXACT", "rule.type", "NAME")
+                    .functionTimer();
+            assertThat(timer.count()).isEqualTo(3.0);
+            assertThat(registry.get("openwlf.rule.matches").tag("rule", "EXACT_NAME_MATCH")
+                    .functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("openwlf.rule.errors").tag("rule", "EXACT_NAME_MATCH")
+                    .functionCounter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("총 평가 시간은 표본 평균에 전체 평가 횟수를 곱해 추정한다")
+        void shouldEstimateTotalTimeFromSamples() {
+            // given
+            RuleStats stats = metrics.ruleStats(rule("DOB_MATCH", "DATE_RANGE"));
+
+            // when
+            stats.recordTimed(0, 100L);
+            stats.recordTimed(1, 300L);
+            stats.record(0);
+            stats.record(0);
+
+            // then
+            assertThat(stats.getEvaluations()).isEqualTo(4);
+            assertThat(stats.getTimedEvaluations()).isEqualTo(2);
+            assertThat(stats.getEstimatedTotalNanos()).isEqualTo(800.0);
+        }
+
+        @Test
+        @DisplayName("표본 간격은 2의 거듭제곱으로 올리고 0 이하면 시간을 측정하지 않는다")
+        void shouldRoundSampleIntervalToPowerOfTwo() {
+            assertThat(ScreeningMetrics.sampleMask(1)).isZero();
+            assertThat(ScreeningMetrics.sampleMask(64)).isEqualTo(63);
+            assertThat(ScreeningMetrics.sampleMask(100)).isEqualTo(127);
+            assertThat(ScreeningMetrics.sampleMask(0)).isEqualTo(RuleStats.NEVER_TIMED);
+
+            properties.getMetrics().setRuleTimingSampleInterval(0);
+            RuleStats untimed = new ScreeningMetrics(new SimpleMeterRegistry(), properties)
+                    .ruleStats(rule("EXACT_NAME_MATCH", "EXACT"));
+            assertThat(untimed.sample()).isFalse();
+        }
+    }
+
+    private double bandCount(String band) {
+        return registry.get("openwlf.screening.results").tag("band", band).counter().count();
+    }
+
+    private static FilteringResult result(boolean alert, double score) {
+        return FilteringResult.builder()
+                .alert(alert)
+                .score(score)
+                .build();
+    }
+
+    private static RuleDefinition rule(String id, String matchType) {
+        return RuleDefinition.builder()
+                .id(id)
+                .type(id.startsWith("DOB") ? "DOB" : "NAME")
+                .enabled(true)
+                .condition(RuleDefinition.MatchCondition.builder()
+                        .matchType(matchType)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package aml.openwlf.core.metrics;
+
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.model.ScreeningProfile;
+import aml.openwlf.core.rule.WatchlistEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("ScreeningProfiler 테스트")
+class ScreeningProfilerTest {
+
+    @Test
+    @DisplayName("느린 항목은 제한 수만큼 느린 순으로 남는다")
+    void shouldKeepSlowestEntries() {
+        // given
+        ScreeningProfiler profiler = new ScreeningProfiler(List.of(), 2);
+
+        // when
+        profiler.recordEntry(watchlistEntry(1L), 0, 300L);
+        profiler.recordEntry(watchlistEntry(2L), 0, 100L);
+        profiler.recordEntry(watchlistEntry(3L), 0, 500L);
+        profiler.recordEntry(watchlistEntry(4L), 0, 200L);
+        ScreeningProfile profile = profiler.finish("FULL");
+
+        // then
+        assertThat(profile.getSlowestEntries())
+                .extracting(ScreeningProfile.EntryCost::getEntryId)
+                .containsExactly(3L, 1L);
+        assertThat(profile.getFunnel().getScanned()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("룰 비용은 총 시간 순으로 정렬하고 매칭 타입별로 합산한다")
+    void shouldAggregateRuleCostsByMatchType() {
+        // given
+        ScreeningProfiler profiler = new ScreeningProfiler(List.of(
+                rule("EXACT_NAME_MATCH", "EXACT"),
+                rule("NATIONALITY_MATCH", "EXACT"),
+                rule("FUZZY_NAME_MATCH", "JARO_WINKLER")), 10);
+
+        // when
+        profiler.recordRule(0, 1, 100L);
+        profiler.recordRule(1, 0, 50L);
+        profiler.recordRule(2, 1, 400L);
+        profiler.recordEntry(watchlistEntry(1L), 2, 600L);
+        profiler.recordRule(2, 0, 300L);
+        profiler.recordRuleError(0);
+        profiler.recordEntry(watchlistEntry(2L), 0, 350L);
+        profiler.recordEntry(watchlistEntry(3L), 0, 10L);
+        ScreeningProfile profile = profiler.finish("FULL");
+
+        // then
+        assertThat(profile.getRules())
+                .extracting(ScreeningProfile.RuleCost::getRuleId)
+                .containsExactly("FUZZY_NAME_MATCH", "EXACT_NAME_MATCH", "NATIONALITY_MATCH");
+        ScreeningProfile.RuleCost fuzzy = profile.getRules().get(0);
+        assertThat(fuzzy.getEvaluations()).isEqualTo(2);
+        assertThat(fuzzy.getSkipped()).isEqualTo(1);
+        assertThat(fuzzy.getTotalNanos()).isEqualTo(700L);
+        assertThat(fuzzy.getMaxNanos()).isEqualTo(400L);
+        assertThat(profile.getRules().get(1).getErrors()).isEqualTo(1);
+
+        ScreeningProfile.MatcherCost exact = profile.getMatchers().get(1);
+        assertThat(profile.getMatchers().get(0).getMatchType()).isEqualTo("JARO_WINKLER");
+        assertThat(exact.getMatchType()).isEqualTo("EXACT");
+        assertThat(exact.getRules()).isEqualTo(2);
+        assertThat(exact.getEvaluations()).isEqualTo(3);
+        assertThat(exact.getTotalNanos()).isEqualTo(150L);
+
+        ScreeningProfile.Funnel funnel = profile.getFunnel();
+        assertThat(funnel.getScanned()).isEqualTo(3);
+        assertThat(funnel.getEvaluated()).isEqualTo(2);
+        assertThat(funnel.getMatched()).isEqualTo(1);
+        assertThat(funnel.getMatchedRules()).isEqualTo(2);
+        assertThat(profile.getSlowestEntries())
+                .extracting(ScreeningProfile.EntryCost::getRulesEvaluated)
+                .containsExactly(3, 2, 0);
+    }
+
+    @Test
+    @DisplayName("단계 시간은 기록 순서대로 남고 같은 단계는 합산한다")
+    void shouldMergeStages() {
+        // given
+        ScreeningProfiler profiler = new ScreeningProfiler(List.of(), 0);
+
+        // when
+        profiler.recordStage(ScreeningProfiler.NORMALIZATION, 10L);
+        profiler.recordStage(ScreeningProfiler.SCAN, 20L);
+        profiler.recordStage(ScreeningProfiler.SCAN, 5L);
+        profiler.recordCandidates(100, 7);
+        ScreeningProfile profile = profiler.finish("DECISION");
+
+        // then
+        assertThat(profile.getStageNanos()).containsExactly(
+                entry(ScreeningProfiler.NORMALIZATION, 10L),
+                entry(ScreeningProfiler.SCAN, 25L));
+        assertThat(profile.getFunnel().getWatchlistEntries()).isEqualTo(100);
+        assertThat(profile.getFunnel().getCandidates()).isEqualTo(7);
+        assertThat(profile.getTerminationMode()).isEqualTo("DECISION");
+        assertThat(profile.getSlowestEntries()).isEmpty();
+        assertThat(profile.getAllocatedBytes()).isGreaterThanOrEqualTo(-1L);
+    }
+
+    private static WatchlistEntry watchlistEntry(Long id) {
+        return WatchlistEntry.builder()
+                .id(id)
+                .name("Entry " + id)
+                .listSource("OFAC")
+                .build();
+    }
+
+    private static RuleDefinition rule(String id, String matchType) {
+        return RuleDefinition.builder()
+                .id(id)
+                .type(id)
+                .enabled(true)
+                .condition(RuleDefinition.MatchCondition.builder()
+                        .matchType(matchType)
+                        .build())
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package aml.openwlf.core.normalization;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class NormalizationServiceTest {
@@ -76,4 +78,48 @@ class NormalizationServiceTest {
         boolean result = service.containsAllWords("John Smith", "John Garcia");
         assertFalse(result);
     }
+    
+    @Test
+    void testBoundedSimilarity_AboveThresholdMatchesUnbounded() {
+        double bounded = service.calculateSimilarity("John Smith", "Jon Smith", 0.8);
+        assertEquals(service.calculateSimilarity("John Smith", "Jon Smith"), bounded);
+    }
+    
+    @Test
+    void testBoundedSimilarity_BelowThresholdReturnsZero() {
+        assertEquals(0.0, service.calculateSimilarity("John Smith", "Maria Garcia", 0.8));
+    }
+    
+    @Test
+    void testBoundedSimilarity_LengthDifferenceRejected() {
+        // 길이 차이만으로 임계값 초과가 확정되는 경우
+        assertEquals(0.0, service.calculateNormalizedSimilarity("AB", "ABCDEFGHIJ", 0.8));
+    }
+    
+    @Test
+    void testBoundedSimilarity_AgreesWithUnboundedOnRandomPairs() {
+        Random random = new Random(42);
+        double[] thresholds = {0.0, 0.5, 0.8, 0.85, 1.0};
+        
+        for (int k = 0; k < 5000; k++) {
+            String s1 = randomName(random);
+            String s2 = randomName(random);
+            double threshold = thresholds[random.nextInt(thresholds.length)];
+            
+            double unbounded = service.calculateNormalizedSimilarity(s1, s2);
+            double bounded = service.calculateNormalizedSimilarity(s1, s2, threshold);
+            
+            assertEquals(unbounded >= threshold ? unbounded : 0.0, bounded,
+                    s1 + " / " + s2 + " @ " + threshold);
+        }
+    }
+    
+    private String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 1 + random.nextInt(12);
+        for (int i = 0; i < length; i++) {
+            name.append("ABCD ".charAt(random.nextInt(5)));
+        }
+        return name.toString();
+    }
 }
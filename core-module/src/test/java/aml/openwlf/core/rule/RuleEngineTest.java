@@ -1,5 +1,6 @@
 package aml.openwlf.core.rule;
 
+import aml.openwlf.config.rule.RuleDefinition;
 import aml.openwlf.core.model.CustomerInfo;
 import aml.openwlf.core.model.MatchedRule;
 import aml.openwlf.core.rule.config.TestConfig;
@@ -131,6 +132,40 @@ class RuleEngineTest {
         assertThat(config.getRules()).isNotEmpty();
     }
     
+    @Test
+    void shouldReuseCompiledExecutionPlan() {
+        RuleExecutionPlan plan = ruleEngine.getExecutionPlan();
+        
+        assertThat(ruleEngine.getExecutionPlan()).isSameAs(plan);
+        assertThat(plan.size()).isPositive();
+        assertThat(plan.getRules()).allMatch(RuleDefinition::isEnabled);
+    }
+    
+    @Test
+    void shouldOrderExecutionPlanByCostThenPriority() {
+        RuleExecutionPlan plan = ruleEngine.getExecutionPlan();
+        
+        // DATE_RANGE(비용 1) → EXACT(비용 2, 우선순위 순) → FUZZY(비용 5, 우선순위 순)
+        assertThat(plan.getRules())
+                .extracting(RuleDefinition::getId)
+                .containsExactly("DOB_MATCH", "EXACT_NAME_MATCH", "EXACT_ALIAS_MATCH",
+                        "NATIONALITY_MATCH", "FUZZY_NAME_MATCH", "FUZZY_ALIAS_MATCH");
+    }
+    
+    @Test
+    void shouldSwapExecutionPlanOnReload() {
+        RuleExecutionPlan before = ruleEngine.getExecutionPlan();
+        
+        ruleEngine.reloadConfiguration();
+        RuleExecutionPlan after = ruleEngine.getExecutionPlan();
+        
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getSource()).isSameAs(ruleEngine.getCurrentConfiguration());
+        assertThat(after.getRules())
+                .extracting(RuleDefinition::getId)
+                .containsExactlyElementsOf(before.getRules().stream().map(RuleDefinition::getId).toList());
+    }
+    
     @Test
     void shouldGetSupportedMatchTypes() {
         List<String> matchTypes = ruleEngine.getSupportedMatchTypes();
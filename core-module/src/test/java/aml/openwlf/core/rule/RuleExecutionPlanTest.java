@@ -0,0 +1,346 @@
+package aml.openwlf.core.rule;
+
+import aml.openwlf.config.rule.RuleConfiguration;
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.filtering.FilteringProperties;
+import aml.openwlf.core.metrics.RuleStats;
+import aml.openwlf.core.metrics.ScanTally;
+import aml.openwlf.core.metrics.ScreeningMetrics;
+import aml.openwlf.core.metrics.ScreeningProfiler;
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.model.ScreeningProfile;
+import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.rule.evaluator.DateRangeMatchEvaluator;
+import aml.openwlf.core.rule.evaluator.ExactMatchEvaluator;
+import aml.openwlf.core.rule.evaluator.FieldValueExtractor;
+import aml.openwlf.core.rule.evaluator.RuleEvaluatorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RuleExecutionPlan 테스트")
+class RuleExecutionPlanTest {
+
+    private RuleEvaluatorRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        FieldValueExtractor fieldExtractor = new FieldValueExtractor();
+        registry = new RuleEvaluatorRegistry(List.of(
+                new ExactMatchEvaluator(fieldExtractor, new NormalizationService()),
+                new DateRangeMatchEvaluator(fieldExtractor)
+        ));
+        registry.init();
+    }
+
+    @Nested
+    @DisplayName("실행 순서 테스트")
+    class ExecutionOrderTest {
+
+        @Test
+        @DisplayName("평가 비용이 낮은 룰부터, 같은 비용이면 우선순위 순으로 실행한다")
+        void shouldOrderByCostThenPriority() {
+            // given
+            RuleConfiguration config = configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", null),
+                    exactRule("NATIONALITY_MATCH", 3, "nationality", null),
+                    dobRule("DOB_MATCH", 2, null)
+            );
+
+            // when
+            RuleExecutionPlan plan = RuleExecutionPlan.compile(config, registry);
+
+            // then
+            assertThat(plan.getRules())
+                    .extracting(RuleDefinition::getId)
+                    .containsExactly("DOB_MATCH", "EXACT_NAME_MATCH", "NATIONALITY_MATCH");
+        }
+    }
+
+    @Nested
+    @DisplayName("구조적 게이트 테스트")
+    class GateTest {
+
+        private final RuleDefinition.GateConfig dobGate = RuleDefinition.GateConfig.builder()
+                .maxDobYearsApart(10)
+                .build();
+
+        @Test
+        @DisplayName("게이트를 통과하지 못한 룰은 평가하지 않고 생략 횟수를 누적한다")
+        void shouldSkipRulesFailingGate() {
+            // given
+            RuleExecutionPlan plan = RuleExecutionPlan.compile(configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", dobGate),
+                    exactRule("NATIONALITY_MATCH", 2, "nationality", dobGate)
+            ), registry);
+            CustomerInfo customer = customer(LocalDate.of(1960, 1, 1));
+            WatchlistEntry entry = entry(LocalDate.of(1990, 1, 1));
+
+            // when
+            List<MatchedRule> results = plan.apply(customer, entry);
+
+            // then
+            assertThat(results).isEmpty();
+            assertThat(plan.getGateStatistics()).containsExactly(Map.entry("DOB_WITHIN_10Y", 2L));
+        }
+
+        @Test
+        @DisplayName("게이트를 통과하면 게이트가 없는 것과 같은 결과를 반환한다")
+        void shouldEvaluateRulesPassingGate() {
+            // given
+            RuleExecutionPlan gated = RuleExecutionPlan.compile(configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", dobGate)), registry);
+            RuleExecutionPlan ungated = RuleExecutionPlan.compile(configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", null)), registry);
+            CustomerInfo customer = customer(LocalDate.of(1985, 1, 1));
+            WatchlistEntry entry = entry(LocalDate.of(1990, 1, 1));
+
+            // when
+            List<MatchedRule> results = gated.apply(customer, entry);
+
+            // then
+            assertThat(results).hasSize(1);
+            assertThat(results).isEqualTo(ungated.apply(customer, entry));
+            assertThat(gated.getGateStatistics()).containsEntry("DOB_WITHIN_10Y", 0L);
+        }
+
+        @Test
+        @DisplayName("게이트가 없는 룰은 게이트 실패와 무관하게 평가한다")
+        void shouldEvaluateUngatedRules() {
+            // given
+            RuleExecutionPlan plan = RuleExecutionPlan.compile(configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", dobGate),
+                    exactRule("NATIONALITY_MATCH", 2, "nationality", null)
+            ), registry);
+
+            // when
+            List<MatchedRule> results = plan.apply(customer(LocalDate.of(1960, 1, 1)), entry(LocalDate.of(1990, 1, 1)));
+
+            // then
+            assertThat(results).extracting(MatchedRule::getRuleName).containsExactly("NATIONALITY_MATCH");
+        }
+    }
+
+    @Nested
+    @DisplayName("열 배치 스캔 테스트")
+    class ColumnScanTest {
+
+        private final RuleDefinition.GateConfig dobGate = RuleDefinition.GateConfig.builder()
+                .maxDobYearsApart(10)
+                .build();
+
+        @Test
+        @DisplayName("열 배치로 바인딩한 스캔은 항목별 평가와 같은 결과와 게이트 통계를 낸다")
+        void shouldMatchObjectPath() {
+            // given
+            RuleConfiguration config = configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", dobGate),
+                    exactRule("NATIONALITY_MATCH", 2, "nationality", null),
+                    dobRule("DOB_MATCH", 3, null));
+            RuleExecutionPlan objectPlan = RuleExecutionPlan.compile(config, registry);
+            RuleExecutionPlan columnPlan = RuleExecutionPlan.compile(config, registry);
+            List<WatchlistEntry> entries = List.of(
+                    entry(LocalDate.of(1985, 1, 1)),
+                    entry(LocalDate.of(1960, 6, 1)),
+                    entry(null),
+                    WatchlistEntry.builder().name("Jane Doe").nationality("GB")
+                            .dateOfBirth(LocalDate.of(1985, 3, 1)).build());
+            for (int i = 0; i < entries.size(); i++) {
+                entries.get(i).setId(i + 1L);
+            }
+            CustomerInfo customer = customer(LocalDate.of(1985, 2, 1));
+
+            // when
+            RuleExecutionPlan.ColumnScan scan = columnPlan.bind(customer, WatchlistColumns.build(entries));
+
+            // then
+            for (WatchlistEntry entry : entries) {
+                assertThat(scan.apply(entry)).isEqualTo(objectPlan.apply(customer, entry));
+            }
+            assertThat(columnPlan.getGateStatistics()).isEqualTo(objectPlan.getGateStatistics());
+        }
+
+        @Test
+        @DisplayName("열 배치에 없는 항목은 항목별 평가로 처리한다")
+        void shouldFallBackForUnknownEntry() {
+            // given
+            RuleExecutionPlan plan = RuleExecutionPlan.compile(configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", null)), registry);
+            CustomerInfo customer = customer(LocalDate.of(1985, 1, 1));
+            RuleExecutionPlan.ColumnScan scan = plan.bind(customer, WatchlistColumns.build(List.of()));
+            WatchlistEntry entry = entry(LocalDate.of(1985, 1, 1));
+
+            // when
+            List<MatchedRule> results = scan.apply(entry);
+
+            // then
+            assertThat(results).hasSize(1);
+            assertThat(results).isEqualTo(plan.apply(customer, entry));
+        }
+    }
+
+    @Nested
+    @DisplayName("평가 집계 테스트")
+    class EvaluationTallyTest {
+
+        private final RuleDefinition.GateConfig dobGate = RuleDefinition.GateConfig.builder()
+                .maxDobYearsApart(10)
+                .build();
+
+        @Test
+        @DisplayName("스캔 집계에는 게이트·사전 필터를 통과해 실제로 평가한 룰 수만 더한다")
+        void shouldTallyEvaluatedRulesOnly() {
+            // given
+            RuleConfiguration config = configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", dobGate),
+                    exactRule("NATIONALITY_MATCH", 2, "nationality", null),
+                    dobRule("DOB_MATCH", 3, null));
+            RuleExecutionPlan plan = RuleExecutionPlan.compile(config, registry);
+            CustomerInfo customer = customer(LocalDate.of(1960, 1, 1));
+            WatchlistEntry entry = entry(LocalDate.of(1990, 1, 1));
+            ScanTally objectTally = new ScanTally();
+            ScanTally columnTally = new ScanTally();
+
+            // when
+            plan.apply(customer, entry, objectTally);
+            plan.bind(customer, WatchlistColumns.build(List.of(entry)), columnTally).apply(entry);
+
+            // then: 이름 룰은 게이트에서, 열 배치 스캔의 생년월일 룰은 사전 필터에서 생략된다
+            assertThat(objectTally.getRulesEvaluated()).isEqualTo(2);
+            assertThat(columnTally.getRulesEvaluated()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("메트릭에 연결된 계획은 룰별 평가·매칭 횟수를 리로드 후에도 이어서 누적한다")
+        void shouldAccumulateRuleStatsAcrossRecompiles() {
+            // given
+            FilteringProperties properties = new FilteringProperties();
+            properties.getMetrics().setRuleTimingSampleInterval(1);
+            ScreeningMetrics metrics = new ScreeningMetrics(new SimpleMeterRegistry(), properties);
+            RuleDefinition nameRule = exactRule("EXACT_NAME_MATCH", 1, "name", null);
+            CustomerInfo customer = customer(LocalDate.of(1985, 1, 1));
+            WatchlistEntry entry = entry(LocalDate.of(1985, 1, 1));
+
+            // when
+            RuleExecutionPlan.compile(configOf(nameRule), registry, metrics).apply(customer, entry);
+            RuleExecutionPlan.compile(configOf(nameRule), registry, metrics).apply(customer, entry);
+
+            // then
+            RuleStats stats = metrics.ruleStats(nameRule);
+            assertThat(stats.getEvaluations()).isEqualTo(2);
+            assertThat(stats.getMatches()).isEqualTo(2);
+            assertThat(stats.getTimedEvaluations()).isEqualTo(2);
+            assertThat(stats.getErrors()).isZero();
+        }
+
+        @Test
+        @DisplayName("프로파일러가 실린 집계는 평가한 룰마다 매칭 수와 시간을 기록한다")
+        void shouldRecordEveryEvaluationInProfiler() {
+            // given
+            RuleConfiguration config = configOf(
+                    exactRule("EXACT_NAME_MATCH", 1, "name", dobGate),
+                    exactRule("NATIONALITY_MATCH", 2, "nationality", null),
+                    dobRule("DOB_MATCH", 3, null));
+            RuleExecutionPlan plan = RuleExecutionPlan.compile(config, registry);
+            CustomerInfo customer = customer(LocalDate.of(1960, 1, 1));
+            WatchlistEntry entry = entry(LocalDate.of(1990, 1, 1));
+            ScreeningProfiler profiler = new ScreeningProfiler(plan.getRules(), 5);
+
+            // when
+            List<MatchedRule> results = plan.apply(customer, entry, new ScanTally(profiler));
+            profiler.recordEntry(entry, results.size(), 1_000L);
+            ScreeningProfile profile = profiler.finish("FULL");
+
+            // then: 이름 룰은 게이트에서 생략되어 기록되지 않는다
+            Map<String, ScreeningProfile.RuleCost> rules = profile.getRules().stream()
+                    .collect(Collectors.toMap(ScreeningProfile.RuleCost::getRuleId, Function.identity()));
+            assertThat(rules.get("EXACT_NAME_MATCH").getEvaluations()).isZero();
+            assertThat(rules.get("EXACT_NAME_MATCH").getSkipped()).isEqualTo(1);
+            assertThat(rules.get("NATIONALITY_MATCH").getEvaluations()).isEqualTo(1);
+            assertThat(rules.get("NATIONALITY_MATCH").getMatches()).isEqualTo(1);
+            assertThat(rules.get("DOB_MATCH").getEvaluations()).isEqualTo(1);
+            assertThat(rules.get("DOB_MATCH").getMatches()).isZero();
+            assertThat(profile.getMatchers())
+                    .extracting(ScreeningProfile.MatcherCost::getMatchType)
+                    .containsExactlyInAnyOrder("EXACT", "DATE_RANGE");
+            assertThat(profile.getSlowestEntries())
+                    .extracting(ScreeningProfile.EntryCost::getRulesEvaluated)
+                    .containsExactly(2);
+        }
+    }
+
+    private static CustomerInfo customer(LocalDate dateOfBirth) {
+        return CustomerInfo.builder()
+                .name("John Smith")
+                .nationality("US")
+                .dateOfBirth(dateOfBirth)
+                .build();
+    }
+
+    private static WatchlistEntry entry(LocalDate dateOfBirth) {
+        return WatchlistEntry.builder()
+                .id(1L)
+                .name("John Smith")
+                .nationality("US")
+                .dateOfBirth(dateOfBirth)
+                .build();
+    }
+
+    private static RuleConfiguration configOf(RuleDefinition... rules) {
+        return RuleConfiguration.builder()
+                .version("test")
+                .rules(List.of(rules))
+                .build();
+    }
+
+    private static RuleDefinition exactRule(String id, int priority, String field, RuleDefinition.GateConfig gates) {
+        return RuleDefinition.builder()
+                .id(id)
+                .type(id)
+                .enabled(true)
+                .priority(priority)
+                .condition(RuleDefinition.MatchCondition.builder()
+                        .matchType("EXACT")
+                        .sourceField(field)
+                        .targetField(field)
+                        .build())
+                .score(RuleDefinition.ScoreConfig.builder()
+                        .exactMatch(50.0)
+                        .maxScore(50.0)
+                        .build())
+                .gates(gates)
+                .build();
+    }
+
+    private static RuleDefinition dobRule(String id, int priority, RuleDefinition.GateConfig gates) {
+        return RuleDefinition.builder()
+                .id(id)
+                .type("DOB")
+                .enabled(true)
+                .priority(priority)
+                .condition(RuleDefinition.MatchCondition.builder()
+                        .matchType("DATE_RANGE")
+                        .sourceField("dateOfBirth")
+                        .targetField("dateOfBirth")
+                        .parameters(Map.of("rangeDays", 365))
+                        .build())
+                .score(RuleDefinition.ScoreConfig.builder()
+                        .exactMatch(50.0)
+                        .partialMatch(30.0)
+                        .maxScore(50.0)
+                        .build())
+                .gates(gates)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package aml.openwlf.core.rule;
+
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.model.CustomerInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RuleGate 테스트")
+class RuleGateTest {
+
+    @Nested
+    @DisplayName("생년월일 거리 게이트 테스트")
+    class DobDistanceGateTest {
+
+        private final RuleGate gate = new RuleGate.DobDistanceGate(10);
+
+        @Test
+        @DisplayName("생년월일 차이가 허용 연수 이내면 통과한다")
+        void shouldPassWithinYears() {
+            assertThat(gate.test(customerBornOn(LocalDate.of(1980, 5, 1)),
+                    entryBornOn(LocalDate.of(1990, 4, 30)))).isTrue();
+        }
+
+        @Test
+        @DisplayName("생년월일 차이가 허용 연수를 넘으면 차단한다 (순서 무관)")
+        void shouldBlockBeyondYears() {
+            assertThat(gate.test(customerBornOn(LocalDate.of(1980, 1, 1)),
+                    entryBornOn(LocalDate.of(1995, 1, 1)))).isFalse();
+            assertThat(gate.test(customerBornOn(LocalDate.of(1995, 1, 1)),
+                    entryBornOn(LocalDate.of(1980, 1, 1)))).isFalse();
+        }
+
+        @Test
+        @DisplayName("생년월일이 없으면 통과한다")
+        void shouldPassWhenDobMissing() {
+            assertThat(gate.test(customerBornOn(null), entryBornOn(LocalDate.of(1950, 1, 1)))).isTrue();
+            assertThat(gate.test(customerBornOn(LocalDate.of(2000, 1, 1)), entryBornOn(null))).isTrue();
+        }
+
+        @Test
+        @DisplayName("열 배치에 바인딩해도 객체 판정과 같다 (윤년 경계 포함)")
+        void shouldBindToColumnsLikeTest() {
+            // given
+            List<WatchlistEntry> entries = List.of(
+                    entryBornOn(LocalDate.of(1990, 2, 28)),
+                    entryBornOn(LocalDate.of(1990, 3, 1)),
+                    entryBornOn(LocalDate.of(2010, 2, 28)),
+                    entryBornOn(LocalDate.of(2010, 3, 1)),
+                    entryBornOn(LocalDate.of(1979, 1, 1)),
+                    entryBornOn(null));
+            WatchlistColumns columns = WatchlistColumns.build(entries);
+            CustomerInfo customer = customerBornOn(LocalDate.of(2000, 2, 29));
+
+            // when
+            IntPredicate bound = gate.bind(customer, columns);
+
+            // then
+            for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+                assertThat(bound.test(ordinal)).isEqualTo(gate.test(customer, entries.get(ordinal)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("항목 유형 게이트 테스트")
+    class EntryTypeGateTest {
+
+        private final RuleGate gate = new RuleGate.EntryTypeGate();
+
+        @Test
+        @DisplayName("유형이 같으면 대소문자와 무관하게 통과한다")
+        void shouldPassSameType() {
+            assertThat(gate.test(customerOfType("individual"), entryOfType("INDIVIDUAL"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("유형이 다르면 차단한다")
+        void shouldBlockDifferentType() {
+            assertThat(gate.test(customerOfType("INDIVIDUAL"), entryOfType("ENTITY"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("유형이 없으면 통과한다")
+        void shouldPassWhenTypeMissing() {
+            assertThat(gate.test(customerOfType(null), entryOfType("ENTITY"))).isTrue();
+            assertThat(gate.test(customerOfType("INDIVIDUAL"), entryOfType(" "))).isTrue();
+        }
+
+        @Test
+        @DisplayName("열 배치에 바인딩하면 유형 사전 부호로 판정한다")
+        void shouldBindToColumnsByCode() {
+            // given
+            WatchlistColumns columns = WatchlistColumns.build(List.of(
+                    entryOfType("INDIVIDUAL"), entryOfType("ENTITY"), entryOfType(null)));
+
+            // when
+            IntPredicate bound = gate.bind(customerOfType("individual"), columns);
+
+            // then
+            assertThat(bound.test(0)).isTrue();
+            assertThat(bound.test(1)).isFalse();
+            assertThat(bound.test(2)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("게이트 설정을 게이트 목록으로 변환한다")
+    void shouldCreateGatesFromConfig() {
+        // given
+        RuleDefinition.GateConfig config = RuleDefinition.GateConfig.builder()
+                .maxDobYearsApart(5)
+                .matchEntryType(true)
+                .build();
+
+        // when
+        List<RuleGate> gates = RuleGate.from(config);
+
+        // then
+        assertThat(gates).extracting(RuleGate::getName).containsExactly("DOB_WITHIN_5Y", "ENTRY_TYPE");
+        assertThat(RuleGate.from(null)).isEmpty();
+    }
+
+    private static CustomerInfo customerBornOn(LocalDate dateOfBirth) {
+        return CustomerInfo.builder().name("John Smith").dateOfBirth(dateOfBirth).build();
+    }
+
+    private static WatchlistEntry entryBornOn(LocalDate dateOfBirth) {
+        return WatchlistEntry.builder().id(1L).name("John Smith").dateOfBirth(dateOfBirth).build();
+    }
+
+    private static CustomerInfo customerOfType(String customerType) {
+        return CustomerInfo.builder().name("John Smith").customerType(customerType).build();
+    }
+
+    private static WatchlistEntry entryOfType(String entryType) {
+        return WatchlistEntry.builder().id(1L).name("John Smith").entryType(entryType).build();
+    }
+}
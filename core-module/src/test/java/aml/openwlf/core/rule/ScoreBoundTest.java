@@ -0,0 +1,149 @@
+package aml.openwlf.core.rule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScoreBound 테스트")
+class ScoreBoundTest {
+
+    private static final int NAME = 0;
+    private static final int DOB = 1;
+
+    // 룰 0, 1: NAME 타입 / 룰 2: DOB 타입
+    private static final int[] RULE_TYPES = {NAME, NAME, DOB};
+
+    @Nested
+    @DisplayName("포화 생략 테스트")
+    class SaturationTest {
+
+        @Test
+        @DisplayName("최대 점수에 도달한 룰 타입은 평가를 생략한다")
+        void shouldSkipSaturatedType() {
+            // given
+            ScoreBound bound = saturationBound(new double[]{100.0, 30.0});
+
+            // when
+            bound.record(0, 100.0);
+
+            // then
+            assertThat(bound.shouldEvaluate(1)).isFalse();
+            assertThat(bound.getSkippedEvaluations()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("최대 점수 미만이면 같은 타입도 계속 평가한다")
+        void shouldEvaluateUnsaturatedType() {
+            // given
+            ScoreBound bound = saturationBound(new double[]{100.0, 30.0});
+
+            // when
+            bound.record(0, 80.0);
+
+            // then
+            assertThat(bound.shouldEvaluate(1)).isTrue();
+            assertThat(bound.shouldEvaluate(2)).isTrue();
+            assertThat(bound.isResolved()).isFalse();
+        }
+
+        @Test
+        @DisplayName("총점이 100에 도달하면 모든 평가를 생략한다")
+        void shouldResolveWhenTotalCapped() {
+            // given
+            ScoreBound bound = saturationBound(new double[]{100.0, 30.0});
+
+            // when
+            bound.record(0, 90.0);
+            bound.record(2, 20.0);
+
+            // then
+            assertThat(bound.getCurrentScore()).isEqualTo(100.0);
+            assertThat(bound.isResolved()).isTrue();
+            assertThat(bound.shouldEvaluate(1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("고객에게 적용할 수 없는 룰은 평가하지 않는다")
+        void shouldSkipInapplicableRule() {
+            // given
+            ScoreBound bound = new ScoreBound(new boolean[]{true, true, false}, RULE_TYPES,
+                    new double[]{100.0, 0.0}, Double.NaN);
+
+            // then
+            assertThat(bound.shouldEvaluate(2)).isFalse();
+            assertThat(bound.shouldEvaluate(0)).isTrue();
+        }
+
+        @Test
+        @DisplayName("타입별 최고 점수의 합으로 현재 점수를 계산한다")
+        void shouldTrackMaxPerType() {
+            // given
+            ScoreBound bound = saturationBound(new double[]{100.0, 30.0});
+
+            // when
+            bound.record(0, 40.0);
+            bound.record(1, 60.0);
+            bound.record(0, 50.0);
+            bound.record(2, 25.0);
+
+            // then
+            assertThat(bound.getCurrentScore()).isEqualTo(85.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("결정 전용 테스트")
+    class DecisionTest {
+
+        @Test
+        @DisplayName("알림 임계값에 도달하면 판정이 확정된다")
+        void shouldResolveWhenThresholdReached() {
+            // given
+            ScoreBound bound = decisionBound(new double[]{100.0, 30.0}, 70.0);
+
+            // when
+            bound.record(0, 60.0);
+            boolean resolvedBefore = bound.isResolved();
+            bound.record(2, 15.0);
+
+            // then
+            assertThat(resolvedBefore).isFalse();
+            assertThat(bound.isResolved()).isTrue();
+        }
+
+        @Test
+        @DisplayName("도달 가능한 최대 점수가 임계값 미만이면 즉시 확정된다")
+        void shouldResolveWhenThresholdUnreachable() {
+            // given
+            ScoreBound bound = new ScoreBound(new boolean[]{false, false, true}, RULE_TYPES,
+                    new double[]{0.0, 30.0}, 70.0);
+
+            // then
+            assertThat(bound.isResolved()).isTrue();
+            assertThat(bound.getCurrentScore()).isZero();
+        }
+
+        @Test
+        @DisplayName("포화 생략 모드는 임계값과 무관하게 확정되지 않는다")
+        void shouldNotResolveOnThresholdInSaturationMode() {
+            // given
+            ScoreBound bound = saturationBound(new double[]{100.0, 30.0});
+
+            // when
+            bound.record(0, 90.0);
+
+            // then
+            assertThat(bound.isResolved()).isFalse();
+        }
+    }
+
+    private ScoreBound saturationBound(double[] attainable) {
+        return decisionBound(attainable, Double.NaN);
+    }
+
+    private ScoreBound decisionBound(double[] attainable, double threshold) {
+        return new ScoreBound(new boolean[]{true, true, true}, RULE_TYPES, attainable, threshold);
+    }
+}
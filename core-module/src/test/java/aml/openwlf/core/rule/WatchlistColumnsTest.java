@@ -0,0 +1,117 @@
+package aml.openwlf.core.rule;
+
+import aml.openwlf.core.collection.LongIntHashMap;
+import aml.openwlf.core.matching.EntryFeatures;
+import aml.openwlf.core.matching.NameFeatures;
+import aml.openwlf.core.matching.strategy.KoreanNameMatchingStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WatchlistColumns 테스트")
+class WatchlistColumnsTest {
+
+    private static final KoreanNameMatchingStrategy KOREAN = new KoreanNameMatchingStrategy();
+
+    private final WatchlistEntry john = WatchlistEntry.builder()
+            .id(10L).name("John Smith").aliases(List.of("Johnny Smith"))
+            .dateOfBirth(LocalDate.of(1970, 1, 15)).nationality("US")
+            .listSource("OFAC").entryType("INDIVIDUAL")
+            .features(features("JOHN SMITH", "JOHNNY SMITH"))
+            .build();
+    private final WatchlistEntry acme = WatchlistEntry.builder()
+            .id(20L).name("Acme Trading")
+            .listSource("EU").entryType("ENTITY")
+            .build();
+    private final WatchlistEntry maria = WatchlistEntry.builder()
+            .id(30L).name("Maria Garcia")
+            .dateOfBirth(LocalDate.of(1985, 6, 1)).nationality("MX")
+            .listSource("OFAC").entryType("INDIVIDUAL")
+            .features(features("GARCIA MARIA"))
+            .build();
+
+    private final WatchlistColumns columns = WatchlistColumns.build(List.of(john, acme, maria));
+
+    @Test
+    @DisplayName("항목 순서를 ordinal로 id와 생년월일을 원시 배열에 담는다")
+    void shouldStoreIdsAndDates() {
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.id(2)).isEqualTo(30L);
+        assertThat(columns.dobEpochDay(0)).isEqualTo((int) LocalDate.of(1970, 1, 15).toEpochDay());
+        assertThat(columns.dobEpochDay(1)).isEqualTo(WatchlistColumns.NO_DATE);
+        assertThat(columns.entry(1)).isSameAs(acme);
+    }
+
+    @Test
+    @DisplayName("반복되는 값은 사전 부호 하나로 공유한다")
+    void shouldDictionaryEncodeRepeatedValues() {
+        assertThat(columns.getSources()).containsExactly("OFAC", "EU");
+        assertThat(columns.sourceCode(0)).isEqualTo(columns.sourceCode(2));
+        assertThat(columns.getEntryTypes().get(columns.entryTypeCode(1))).isEqualTo("ENTITY");
+        assertThat(columns.nationalityCode(1)).isEqualTo(WatchlistColumns.NO_CODE);
+    }
+
+    @Test
+    @DisplayName("id와 항목 객체로 ordinal을 찾는다")
+    void shouldFindOrdinals() {
+        assertThat(columns.ordinalOf(20L)).isEqualTo(1);
+        assertThat(columns.ordinalOf(99L)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(columns.ordinalOf(maria)).isEqualTo(2);
+        assertThat(columns.ordinalOf(WatchlistEntry.builder().id(30L).name("Maria Garcia").build())).isEqualTo(LongIntHashMap.MISSING);
+    }
+
+    @Test
+    @DisplayName("정규화된 이름과 별칭을 공유 문자 배열에서 비교한다")
+    void shouldCompareNormalizedNames() {
+        assertThat(columns.hasNormalizedNames(0)).isTrue();
+        assertThat(columns.normalizedNameEquals(0, "JOHN SMITH")).isTrue();
+        assertThat(columns.normalizedNameEquals(0, "JOHNNY SMITH")).isFalse();
+        assertThat(columns.normalizedAliasEquals(0, "JOHNNY SMITH")).isTrue();
+        assertThat(columns.normalizedAliasEquals(2, "GARCIA MARIA")).isFalse();
+        assertThat(columns.hasNormalizedNames(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("한글 이름과 별칭은 초성별로 따로 색인한다")
+    void shouldIndexKoreanNamesByChosung() {
+        // given
+        WatchlistEntry kim = WatchlistEntry.builder()
+                .id(40L).name("김철수").aliases(List.of("Kim", "김창수"))
+                .features(new EntryFeatures(koreanFeatures("김철수"),
+                        List.of(nameFeatures("KIM"), koreanFeatures("김창수"))))
+                .build();
+        WatchlistEntry lee = WatchlistEntry.builder()
+                .id(50L).name("이철수").aliases(List.of("김철수"))
+                .features(new EntryFeatures(koreanFeatures("이철수"), List.of(koreanFeatures("김철수"))))
+                .build();
+
+        // when
+        WatchlistColumns korean = WatchlistColumns.build(List.of(john, kim, lee));
+
+        // then
+        assertThat(korean.ordinalsWithChosung("ㄱㅊㅅ", false)).containsExactly(1);
+        assertThat(korean.ordinalsWithChosung("ㄱㅊㅅ", true)).containsExactly(1, 2);
+        assertThat(korean.ordinalsWithChosung("ㅂㅇㅎ", false)).isEmpty();
+        assertThat(korean.anyKoreanName(1, true, profile -> profile.syllables().equals("김창수"))).isTrue();
+        assertThat(korean.anyKoreanName(1, false, profile -> profile.syllables().equals("김창수"))).isFalse();
+        assertThat(korean.anyKoreanName(0, false, profile -> true)).isFalse();
+    }
+
+    private static EntryFeatures features(String name, String... aliases) {
+        return new EntryFeatures(nameFeatures(name),
+                Arrays.stream(aliases).map(WatchlistColumnsTest::nameFeatures).toList());
+    }
+
+    private static NameFeatures nameFeatures(String normalized) {
+        return new NameFeatures(normalized, normalized, null, null, null, null, null);
+    }
+
+    private static NameFeatures koreanFeatures(String name) {
+        return new NameFeatures(name, name, null, null, null, null, KOREAN.profile(name));
+    }
+}
@@ -1,12 +1,15 @@
 package aml.openwlf.core.rule.config;
 
 import aml.openwlf.config.rule.RuleConfigurationLoader;
+import aml.openwlf.core.filtering.FilteringProperties;
 import aml.openwlf.core.matching.AdvancedMatchingService;
 import aml.openwlf.core.matching.MatchingWeightProperties;
 import aml.openwlf.core.matching.strategy.*;
+import aml.openwlf.core.metrics.ScreeningMetrics;
 import aml.openwlf.core.normalization.NormalizationService;
 import aml.openwlf.core.rule.RuleEngine;
 import aml.openwlf.core.rule.evaluator.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -114,7 +117,13 @@ public class TestConfig {
     }
 
     @Bean
-    public RuleEngine ruleEngine(RuleConfigurationLoader configLoader, RuleEvaluatorRegistry registry) {
-        return new RuleEngine(configLoader, registry);
+    public ScreeningMetrics screeningMetrics() {
+        return new ScreeningMetrics(new SimpleMeterRegistry(), new FilteringProperties());
+    }
+
+    @Bean
+    public RuleEngine ruleEngine(RuleConfigurationLoader configLoader, RuleEvaluatorRegistry registry,
+                                 ScreeningMetrics screeningMetrics) {
+        return new RuleEngine(configLoader, registry, screeningMetrics);
     }
 }
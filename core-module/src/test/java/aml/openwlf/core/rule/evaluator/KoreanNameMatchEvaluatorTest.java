@@ -0,0 +1,211 @@
+package aml.openwlf.core.rule.evaluator;
+
+import aml.openwlf.config.rule.RuleDefinition;
+import aml.openwlf.core.matching.AdvancedMatchingService;
+import aml.openwlf.core.matching.MatchingWeightProperties;
+import aml.openwlf.core.matching.NameFeatureCompiler;
+import aml.openwlf.core.matching.strategy.JaroWinklerMatchingStrategy;
+import aml.openwlf.core.matching.strategy.KoreanNameMatchingStrategy;
+import aml.openwlf.core.matching.strategy.MetaphoneMatchingStrategy;
+import aml.openwlf.core.matching.strategy.NGramMatchingStrategy;
+import aml.openwlf.core.matching.strategy.SoundexMatchingStrategy;
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.MatchedRule;
+import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.rule.WatchlistColumns;
+import aml.openwlf.core.rule.WatchlistEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KoreanNameMatchEvaluator 테스트")
+class KoreanNameMatchEvaluatorTest {
+
+    private static final String SYLLABLES = "김이박최정강조윤장임철수영희민준서연지호현우성진";
+
+    private KoreanNameMatchEvaluator evaluator;
+    private NameFeatureCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        AdvancedMatchingService matchingService = new AdvancedMatchingService(
+                new SoundexMatchingStrategy(),
+                new MetaphoneMatchingStrategy(),
+                new JaroWinklerMatchingStrategy(),
+                new NGramMatchingStrategy(),
+                new KoreanNameMatchingStrategy(),
+                new MatchingWeightProperties()
+        );
+        evaluator = new KoreanNameMatchEvaluator(new FieldValueExtractor(), matchingService);
+        compiler = new NameFeatureCompiler(new NormalizationService(), matchingService);
+    }
+
+    @Test
+    @DisplayName("매칭 타입은 KOREAN")
+    void shouldReturnKoreanMatchType() {
+        assertThat(evaluator.getMatchType()).isEqualTo("KOREAN");
+    }
+
+    @Nested
+    @DisplayName("한글 이름 매칭 테스트")
+    class MatchingTest {
+
+        @Test
+        @DisplayName("초성이 같으면 초성 일치로 매칭")
+        void shouldMatchSameChosung() {
+            // given
+            CustomerInfo customer = CustomerInfo.builder().name("김철수").build();
+            WatchlistEntry entry = WatchlistEntry.builder().name("김창수").build();
+
+            // when
+            List<MatchedRule> results = evaluator.evaluate(customer, entry, koreanRule("name", 0.7, false));
+
+            // then
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getDescription()).contains("초성 일치");
+        }
+
+        @Test
+        @DisplayName("자모가 거의 겹치지 않는 이름은 매칭 안됨")
+        void shouldNotMatchDissimilarNames() {
+            // given
+            CustomerInfo customer = CustomerInfo.builder().name("김철수").build();
+            WatchlistEntry entry = WatchlistEntry.builder().name("박영희").build();
+
+            // when
+            List<MatchedRule> results = evaluator.evaluate(customer, entry, koreanRule("name", 0.7, false));
+
+            // then
+            assertThat(results).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("열 배치 사전 필터 테스트")
+    class ColumnFilterTest {
+
+        @Test
+        @DisplayName("필터가 제외한 항목은 평가해도 매칭이 없다")
+        void shouldOnlyExcludeEntriesThatCannotMatch() {
+            // given
+            Random random = new Random(20);
+            List<WatchlistEntry> entries = randomEntries(random, 300);
+            WatchlistColumns columns = WatchlistColumns.build(entries);
+
+            for (String targetField : List.of("name", "aliases")) {
+                for (double threshold : new double[]{0.5, 0.7, 0.85}) {
+                    for (boolean chosungOnly : new boolean[]{false, true}) {
+                        RuleDefinition rule = koreanRule(targetField, threshold, chosungOnly);
+                        CompiledRule compiled = evaluator.compile(rule);
+                        CustomerInfo customer = CustomerInfo.builder().name(randomName(random)).build();
+
+                        // when
+                        IntPredicate filter = evaluator.columnFilter(rule).bind(customer, columns);
+
+                        // then
+                        for (int ordinal = 0; ordinal < columns.size(); ordinal++) {
+                            if (!filter.test(ordinal)) {
+                                assertThat(compiled.evaluate(customer, columns.entry(ordinal)))
+                                        .as("%s %s / %s", targetField, customer.getName(), columns.entry(ordinal).getName())
+                                        .isEmpty();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("초성 전용 룰은 초성 색인에 있는 항목만 통과시킨다")
+        void shouldUseChosungIndexForChosungOnlyRules() {
+            // given
+            WatchlistEntry kim = entry(1L, "김창수");
+            WatchlistEntry lee = entry(2L, "이철수");
+            WatchlistColumns columns = WatchlistColumns.build(List.of(kim, lee));
+            CustomerInfo customer = CustomerInfo.builder().name("김철수").build();
+
+            // when
+            IntPredicate filter = evaluator.columnFilter(koreanRule("name", 0.7, true)).bind(customer, columns);
+
+            // then
+            assertThat(filter.test(0)).isTrue();
+            assertThat(filter.test(1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("한글이 없는 고객은 모든 항목을 제외한다")
+        void shouldExcludeAllForNonKoreanCustomer() {
+            // given
+            WatchlistColumns columns = WatchlistColumns.build(List.of(entry(1L, "김철수")));
+            CustomerInfo customer = CustomerInfo.builder().name("John Smith").build();
+
+            // when
+            IntPredicate filter = evaluator.columnFilter(koreanRule("name", 0.7, false)).bind(customer, columns);
+
+            // then
+            assertThat(filter.test(0)).isFalse();
+        }
+    }
+
+    private List<WatchlistEntry> randomEntries(Random random, int count) {
+        List<WatchlistEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<String> aliases = new ArrayList<>();
+            for (int k = random.nextInt(3); k > 0; k--) {
+                aliases.add(random.nextInt(4) == 0 ? "Alias " + k : randomName(random));
+            }
+            WatchlistEntry entry = WatchlistEntry.builder()
+                    .id(i + 1L)
+                    .name(random.nextInt(5) == 0 ? "Person " + i : randomName(random))
+                    .aliases(aliases)
+                    .build();
+            entry.setFeatures(compiler.compileEntry(entry));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private WatchlistEntry entry(long id, String name) {
+        WatchlistEntry entry = WatchlistEntry.builder().id(id).name(name).build();
+        entry.setFeatures(compiler.compileEntry(entry));
+        return entry;
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int length = 2 + random.nextInt(3); length > 0; length--) {
+            name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return name.toString();
+    }
+
+    private static RuleDefinition koreanRule(String targetField, double threshold, boolean chosungOnly) {
+        return RuleDefinition.builder()
+                .id("KOREAN_NAME_MATCH")
+                .type("KOREAN")
+                .enabled(true)
+                .priority(1)
+                .description("한글 이름 매칭")
+                .condition(RuleDefinition.MatchCondition.builder()
+                        .matchType("KOREAN")
+                        .sourceField("name")
+                        .targetField(targetField)
+                        .parameters(Map.of("similarityThreshold", threshold, "chosungOnly", chosungOnly))
+                        .build())
+                .score(RuleDefinition.ScoreConfig.builder()
+                        .exactMatch(40.0)
+                        .partialMatch(30.0)
+                        .maxScore(40.0)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,503 @@
+package aml.openwlf.core.testdata;
+
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.rule.WatchlistEntry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 합성 감시목록·고객 생성기 (벤치마크·부하 테스트용)
+ *
+ * 같은 설정과 같은 호출 순서이면 항상 같은 데이터를 만든다. 이름은 세 가지 표기를 섞는다.
+ * - LATIN: 영문 이름 (중간 이니셜, "성, 이름" 순서, 슬라브·독일계 철자 변형 별칭)
+ * - HANGUL: 한글 이름 (여러 로마자 표기·띄어쓰기 별칭)
+ * - ARABIC: 아랍어 로마자 이름 (bin/Al- 결합, Mohammed/Muhammad 같은 표기 변형 별칭)
+ *
+ * 고객은 감시목록 이름을 그대로 쓰거나, 오타·표기 변형을 넣거나, 새로 만든 이름을 쓴다.
+ */
+public final class SyntheticWatchlist {
+
+    /**
+     * 이름 표기 체계
+     */
+    public enum Script { LATIN, HANGUL, ARABIC }
+
+    /**
+     * 생성 설정
+     *
+     * @param seed 난수 seed
+     * @param aliasesPerEntry 개인 항목당 평균 별칭 수 (0~2배 사이에서 고르게 뽑는다)
+     * @param collisionRate 앞서 만든 항목과 이름이 같은 (생년월일·국적은 다른) 항목 비율
+     * @param latinShare LATIN 이름 비중
+     * @param arabicShare ARABIC 이름 비중
+     * @param hangulShare HANGUL 이름 비중
+     * @param exactHitRate 감시목록 이름을 그대로 쓰는 고객 비율
+     * @param variantHitRate 감시목록 이름에 오타·표기 변형을 넣은 고객 비율
+     */
+    public record Settings(long seed, int aliasesPerEntry, double collisionRate,
+                           double latinShare, double arabicShare, double hangulShare,
+                           double exactHitRate, double variantHitRate) {
+
+        public static Settings defaults() {
+            return new Settings(42L, 2, 0.0, 0.5, 0.3, 0.2, 0.10, 0.25);
+        }
+
+        public Settings withSeed(long seed) {
+            return new Settings(seed, aliasesPerEntry, collisionRate,
+                    latinShare, arabicShare, hangulShare, exactHitRate, variantHitRate);
+        }
+
+        public Settings withAliasesPerEntry(int aliasesPerEntry) {
+            return new Settings(seed, aliasesPerEntry, collisionRate,
+                    latinShare, arabicShare, hangulShare, exactHitRate, variantHitRate);
+        }
+
+        public Settings withCollisionRate(double collisionRate) {
+            return new Settings(seed, aliasesPerEntry, collisionRate,
+                    latinShare, arabicShare, hangulShare, exactHitRate, variantHitRate);
+        }
+
+        public Settings withScriptMix(double latinShare, double arabicShare, double hangulShare) {
+            return new Settings(seed, aliasesPerEntry, collisionRate,
+                    latinShare, arabicShare, hangulShare, exactHitRate, variantHitRate);
+        }
+
+        public Settings withHitRates(double exactHitRate, double variantHitRate) {
+            return new Settings(seed, aliasesPerEntry, collisionRate,
+                    latinShare, arabicShare, hangulShare, exactHitRate, variantHitRate);
+        }
+    }
+
+    /**
+     * 룰 평가 대상 고객·감시목록 항목 쌍
+     */
+    public record ScreeningPair(CustomerInfo customer, WatchlistEntry entry) {
+    }
+
+    private static final String[] LATIN_GIVEN = {
+            "John", "Michael", "David", "James", "Robert", "Maria", "Anna", "Elena", "Sophie", "Thomas",
+            "Viktor", "Sergei", "Dmitri", "Ivan", "Olga", "Pierre", "Jean", "Carlos", "Jose", "Luis",
+            "William", "Richard", "Peter", "Andrew", "Paul", "Mark", "George", "Laura", "Sarah", "Emma",
+            "Natalia", "Alexei", "Mikhail", "Nikolai", "Boris", "Anton", "Francois", "Antonio", "Miguel", "Juan"
+    };
+    private static final String[] LATIN_FAMILY = {
+            "Smith", "Johnson", "Williams", "Brown", "Miller", "Garcia", "Rodriguez", "Martinez", "Muller", "Schmidt",
+            "Petrov", "Ivanov", "Volkov", "Sokolov", "Dubois", "Moreau", "Rossi", "Bianchi", "O'Brien", "Fernandez",
+            "Taylor", "Anderson", "Thompson", "Wilson", "Clarke", "Becker", "Fischer", "Weber", "Kuznetsov", "Popov",
+            "Lebedev", "Novikov", "Morozov", "Lefebvre", "Laurent", "Romano", "Ricci", "Lopez", "Gonzalez", "Sanchez"
+    };
+    private static final Map<String, String[]> LATIN_VARIANTS = Map.of(
+            "Sergei", new String[]{"Sergey", "Serguei"},
+            "Dmitri", new String[]{"Dmitry", "Dmitriy"},
+            "Viktor", new String[]{"Victor"},
+            "Jose", new String[]{"José"},
+            "Elena", new String[]{"Yelena", "Helena"},
+            "Petrov", new String[]{"Petroff"},
+            "Ivanov", new String[]{"Ivanoff"},
+            "Muller", new String[]{"Müller", "Mueller"},
+            "Garcia", new String[]{"García"},
+            "Fernandez", new String[]{"Fernández"}
+    );
+    private static final String[] LATIN_NATIONALITIES = {"US", "GB", "RU", "DE", "FR", "ES", "IT", "MX", "BY", "UA"};
+
+    private static final String[] HANGUL_FAMILY = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍",
+            "전", "고", "문", "양", "손", "배", "백", "허", "유", "남"
+    };
+    private static final String[] HANGUL_GIVEN = {
+            "민", "준", "서", "연", "지", "호", "현", "우", "성", "진", "영", "희", "수", "철", "은", "혜", "동", "훈", "재", "경",
+            "태", "상", "빈", "석", "미", "규", "하", "아", "주", "원"
+    };
+    private static final Map<String, String> HANGUL_ROMANIZATION = Map.ofEntries(
+            Map.entry("김", "Kim"), Map.entry("이", "Lee"), Map.entry("박", "Park"), Map.entry("최", "Choi"),
+            Map.entry("정", "Jung"), Map.entry("강", "Kang"), Map.entry("조", "Cho"), Map.entry("윤", "Yoon"),
+            Map.entry("장", "Jang"), Map.entry("임", "Lim"), Map.entry("한", "Han"), Map.entry("오", "Oh"),
+            Map.entry("서", "Seo"), Map.entry("신", "Shin"), Map.entry("권", "Kwon"), Map.entry("황", "Hwang"),
+            Map.entry("안", "Ahn"), Map.entry("송", "Song"), Map.entry("류", "Ryu"), Map.entry("홍", "Hong"),
+            Map.entry("민", "min"), Map.entry("준", "jun"), Map.entry("연", "yeon"), Map.entry("지", "ji"),
+            Map.entry("호", "ho"), Map.entry("현", "hyun"), Map.entry("우", "woo"), Map.entry("성", "sung"),
+            Map.entry("진", "jin"), Map.entry("영", "young"), Map.entry("희", "hee"), Map.entry("수", "soo"),
+            Map.entry("철", "chul"), Map.entry("은", "eun"), Map.entry("혜", "hye"), Map.entry("동", "dong"),
+            Map.entry("훈", "hoon"), Map.entry("재", "jae"), Map.entry("경", "kyung"), Map.entry("전", "Jeon"),
+            Map.entry("고", "Ko"), Map.entry("문", "Moon"), Map.entry("양", "Yang"), Map.entry("손", "Son"),
+            Map.entry("배", "Bae"), Map.entry("백", "Baek"), Map.entry("허", "Heo"), Map.entry("유", "Yu"),
+            Map.entry("남", "Nam"), Map.entry("태", "tae"), Map.entry("상", "sang"), Map.entry("석", "seok"),
+            Map.entry("미", "mi"), Map.entry("하", "ha"), Map.entry("아", "a"), Map.entry("주", "joo"),
+            Map.entry("원", "won"), Map.entry("빈", "bin"), Map.entry("규", "gyu")
+    );
+    private static final Map<String, String> HANGUL_FAMILY_ALTERNATIVES = Map.of(
+            "김", "Gim", "이", "Yi", "박", "Bak", "최", "Choe", "정", "Jeong",
+            "조", "Jo", "윤", "Yun", "임", "Im", "권", "Gwon", "류", "Yoo"
+    );
+    private static final String[] HANGUL_NATIONALITIES = {"KR", "KP"};
+
+    private static final String[] ARABIC_GIVEN = {
+            "Mohammed", "Ahmed", "Ali", "Omar", "Hassan", "Hussein", "Khalid", "Abdullah", "Ibrahim", "Youssef",
+            "Mustafa", "Tariq", "Saeed", "Hamza", "Fatima", "Aisha", "Mariam", "Layla", "Nasser", "Faisal",
+            "Yasser", "Karim", "Walid", "Samir", "Jamal", "Rami", "Bilal", "Zainab", "Noor", "Salman"
+    };
+    private static final String[] ARABIC_FAMILY = {
+            "Al-Rashid", "Al-Masri", "Haddad", "Al-Tikriti", "Nasrallah", "Al-Baghdadi", "Qasim", "Al-Hashimi",
+            "Mansour", "Khalil", "Al-Zahrani", "Al-Qahtani", "Abdel-Rahman", "Al-Amiri", "Darwish", "Al-Shami",
+            "Al-Ansari", "Al-Khatib", "Saleh", "Al-Harbi", "Al-Otaibi", "Suleiman", "Al-Najjar", "Al-Hakim"
+    };
+    private static final Map<String, String[]> ARABIC_VARIANTS = Map.of(
+            "Mohammed", new String[]{"Muhammad", "Mohamed", "Mohammad"},
+            "Ahmed", new String[]{"Ahmad"},
+            "Hussein", new String[]{"Husayn", "Hussain"},
+            "Youssef", new String[]{"Yusuf", "Yousef"},
+            "Omar", new String[]{"Umar"},
+            "Mustafa", new String[]{"Mostafa"},
+            "Khalid", new String[]{"Khaled"},
+            "Abdullah", new String[]{"Abdallah"},
+            "Saeed", new String[]{"Said"},
+            "Faisal", new String[]{"Faysal"}
+    );
+    private static final String[] ARABIC_NATIONALITIES = {"IR", "IQ", "SY", "SA", "AE", "LB", "YE", "EG"};
+
+    private static final String[] ENTITY_QUALIFIERS = {
+            "International", "Global", "General", "United", "Eastern", "Gulf", "Pacific", "Atlantic"
+    };
+    private static final String[] ENTITY_SUFFIXES = {"Trading", "Holdings", "Shipping", "Petroleum", "Exchange"};
+    private static final String[] ENTITY_FORMS = {"LLC", "Co", "Ltd", "Group"};
+    private static final String[] HANGUL_ENTITY_SUFFIXES = {"무역", "상사", "해운", "개발", "물산"};
+    private static final String[] SOURCES = {"OFAC", "UN", "EU", "KFIU"};
+
+    private static final LocalDate EARLIEST_DOB = LocalDate.of(1940, 1, 1);
+    private static final int DOB_SPAN_DAYS = 25_000;
+    private static final int ALIAS_ATTEMPTS_PER_ALIAS = 4;
+
+    private final Settings settings;
+    private final Random random;
+
+    public SyntheticWatchlist(long seed) {
+        this(Settings.defaults().withSeed(seed));
+    }
+
+    public SyntheticWatchlist(Settings settings) {
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    /**
+     * 감시목록 항목 생성
+     *
+     * @param size 항목 수
+     * @return id가 1부터 순서대로 부여된 항목 목록 (매칭 특징은 비어 있음)
+     */
+    public List<WatchlistEntry> entries(int size) {
+        List<WatchlistEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            WatchlistEntry collidingWith = !entries.isEmpty() && random.nextDouble() < settings.collisionRate()
+                    ? entries.get(random.nextInt(entries.size())) : null;
+            entries.add(collidingWith != null
+                    ? namesake(i + 1L, collidingWith)
+                    : entry(i + 1L, pickScript()));
+        }
+        return entries;
+    }
+
+    /**
+     * 고객 생성
+     *
+     * 설정의 비율대로 감시목록 이름을 그대로 쓰거나 오타·표기 변형을 넣은 고객을 만들고,
+     * 나머지는 새 이름으로 만든다. 감시목록에서 가져온 고객은 생년월일·국적도 함께 가져온다.
+     *
+     * @param entries 감시목록 항목
+     * @param count 고객 수
+     * @return 고객 목록
+     */
+    public List<CustomerInfo> customers(List<WatchlistEntry> entries, int count) {
+        List<CustomerInfo> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double roll = random.nextDouble();
+            String customerId = "C" + (i + 1);
+            if (roll < settings.exactHitRate() + settings.variantHitRate() && !entries.isEmpty()) {
+                WatchlistEntry source = entries.get(random.nextInt(entries.size()));
+                customers.add(lookalike(source, roll < settings.exactHitRate(), customerId));
+            } else {
+                customers.add(stranger(customerId));
+            }
+        }
+        return customers;
+    }
+
+    /**
+     * 감시목록 항목을 본뜬 고객 (생년월일·국적·유형은 그대로)
+     *
+     * @param source 원본 항목
+     * @param exactName true면 이름을 그대로, false면 오타·표기 변형을 넣는다
+     * @param customerId 고객 ID
+     * @return 고객
+     */
+    public CustomerInfo lookalike(WatchlistEntry source, boolean exactName, String customerId) {
+        return CustomerInfo.builder()
+                .customerId(customerId)
+                .name(exactName ? source.getName() : variant(source.getName(), scriptOf(source.getName())))
+                .dateOfBirth(source.getDateOfBirth())
+                .nationality(source.getNationality())
+                .customerType(source.getEntryType())
+                .build();
+    }
+
+    /**
+     * 감시목록과 무관하게 새로 만든 개인 고객
+     *
+     * @param customerId 고객 ID
+     * @return 고객
+     */
+    public CustomerInfo stranger(String customerId) {
+        Script script = pickScript();
+        return CustomerInfo.builder()
+                .customerId(customerId)
+                .name(personName(script))
+                .dateOfBirth(dateOfBirth())
+                .nationality(nationality(script))
+                .customerType("INDIVIDUAL")
+                .build();
+    }
+
+    /**
+     * 고객·감시목록 항목 쌍 생성 (절반은 항목을 본뜬 고객과 그 항목, 절반은 무관한 고객과 임의 항목)
+     *
+     * @param entries 감시목록 항목
+     * @param count 쌍 수
+     * @return 쌍 목록
+     */
+    public List<ScreeningPair> screeningPairs(List<WatchlistEntry> entries, int count) {
+        List<ScreeningPair> pairs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            WatchlistEntry entry = entries.get(random.nextInt(entries.size()));
+            CustomerInfo customer = i % 2 == 0
+                    ? lookalike(entry, random.nextInt(5) == 0, "P" + (i + 1))
+                    : stranger("P" + (i + 1));
+            pairs.add(new ScreeningPair(customer, entry));
+        }
+        return pairs;
+    }
+
+    /**
+     * 같은 표기 체계의 이름 쌍 생성 (절반은 오타·표기 변형 쌍, 절반은 무관한 쌍)
+     *
+     * @param script 표기 체계
+     * @param count 쌍 수
+     * @return [이름1, 이름2] 배열 목록
+     */
+    public List<String[]> namePairs(Script script, int count) {
+        List<String[]> pairs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = personName(script);
+            pairs.add(new String[]{name, i % 2 == 0 ? variant(name, script) : personName(script)});
+        }
+        return pairs;
+    }
+
+    private WatchlistEntry entry(long id, Script script) {
+        boolean entity = random.nextInt(100) < 15;
+        String name = entity ? entityName(script) : personName(script);
+        return WatchlistEntry.builder()
+                .id(id)
+                .name(name)
+                .aliases(entity ? List.of() : aliases(name, script))
+                .dateOfBirth(entity || random.nextInt(10) == 0 ? null : dateOfBirth())
+                .nationality(nationality(script))
+                .listSource(SOURCES[random.nextInt(SOURCES.length)])
+                .entryType(entity ? "ENTITY" : "INDIVIDUAL")
+                .build();
+    }
+
+    /**
+     * 이름이 같은 다른 인물·단체 (생년월일·국적·출처는 새로 뽑는다)
+     */
+    private WatchlistEntry namesake(long id, WatchlistEntry original) {
+        Script script = scriptOf(original.getName());
+        boolean entity = "ENTITY".equals(original.getEntryType());
+        return WatchlistEntry.builder()
+                .id(id)
+                .name(original.getName())
+                .aliases(entity ? List.of() : aliases(original.getName(), script))
+                .dateOfBirth(entity ? null : dateOfBirth())
+                .nationality(nationality(script))
+                .listSource(SOURCES[random.nextInt(SOURCES.length)])
+                .entryType(original.getEntryType())
+                .build();
+    }
+
+    private Script pickScript() {
+        double roll = random.nextDouble()
+                * (settings.latinShare() + settings.arabicShare() + settings.hangulShare());
+        if (roll < settings.latinShare()) {
+            return Script.LATIN;
+        }
+        return roll < settings.latinShare() + settings.arabicShare() ? Script.ARABIC : Script.HANGUL;
+    }
+
+    private String personName(Script script) {
+        return switch (script) {
+            case LATIN -> switch (random.nextInt(4)) {
+                case 0 -> pick(LATIN_GIVEN) + " " + (char) ('A' + random.nextInt(26)) + ". " + pick(LATIN_FAMILY);
+                case 1, 2 -> pick(LATIN_GIVEN) + " " + pick(LATIN_GIVEN) + " " + pick(LATIN_FAMILY);
+                default -> pick(LATIN_GIVEN) + " " + pick(LATIN_FAMILY);
+            };
+            case HANGUL -> pick(HANGUL_FAMILY) + pick(HANGUL_GIVEN) + pick(HANGUL_GIVEN);
+            case ARABIC -> random.nextInt(4) > 0
+                    ? pick(ARABIC_GIVEN) + " bin " + pick(ARABIC_GIVEN) + " " + pick(ARABIC_FAMILY)
+                    : pick(ARABIC_GIVEN) + " " + pick(ARABIC_FAMILY);
+        };
+    }
+
+    private String entityName(Script script) {
+        return switch (script) {
+            case LATIN -> pick(LATIN_FAMILY) + " " + pick(ENTITY_QUALIFIERS) + " " + pick(ENTITY_SUFFIXES)
+                    + " " + pick(ENTITY_FORMS);
+            case HANGUL -> pick(HANGUL_GIVEN) + pick(HANGUL_GIVEN) + pick(HANGUL_ENTITY_SUFFIXES);
+            case ARABIC -> pick(ARABIC_FAMILY) + " " + pick(ENTITY_QUALIFIERS) + " " + pick(ENTITY_SUFFIXES)
+                    + " " + pick(ENTITY_FORMS);
+        };
+    }
+
+    /**
+     * 서로 다른 별칭을 평균 aliasesPerEntry개 생성 (원래 이름과 같은 별칭은 버린다)
+     */
+    private List<String> aliases(String name, Script script) {
+        int count = random.nextInt(2 * settings.aliasesPerEntry() + 1);
+        List<String> aliases = new ArrayList<>(count);
+        for (int attempt = 0; aliases.size() < count && attempt < count * ALIAS_ATTEMPTS_PER_ALIAS; attempt++) {
+            String alias = alias(name, script);
+            if (!alias.equals(name) && !aliases.contains(alias)) {
+                aliases.add(alias);
+            }
+        }
+        return aliases;
+    }
+
+    private String alias(String name, Script script) {
+        return switch (script) {
+            case LATIN -> {
+                int space = name.lastIndexOf(' ');
+                String given = name.substring(0, name.indexOf(' '));
+                String family = name.substring(space + 1);
+                yield switch (random.nextInt(5)) {
+                    case 0 -> family + ", " + name.substring(0, space);
+                    case 1 -> given.charAt(0) + ". " + family;
+                    case 2 -> given + " " + (char) ('A' + random.nextInt(26)) + ". " + family;
+                    case 3 -> spellingVariant(name, LATIN_VARIANTS);
+                    default -> typo(name);
+                };
+            }
+            case HANGUL -> switch (random.nextInt(4)) {
+                case 0 -> romanize(name, false);
+                case 1 -> romanize(name, true);
+                case 2 -> {
+                    String romanized = romanize(name, false);
+                    int space = romanized.indexOf(' ');
+                    yield romanized.substring(space + 1) + " " + romanized.substring(0, space);
+                }
+                default -> name.charAt(0) + " " + name.substring(1);
+            };
+            case ARABIC -> switch (random.nextInt(4)) {
+                case 0 -> spellingVariant(name, ARABIC_VARIANTS);
+                case 1 -> "Abu " + pick(ARABIC_GIVEN);
+                case 2 -> name.replace("Al-", "Al ");
+                default -> typo(name);
+            };
+        };
+    }
+
+    /**
+     * 오타 또는 표기 변형
+     */
+    private String variant(String name, Script script) {
+        if (script != Script.HANGUL && random.nextBoolean()) {
+            String variant = spellingVariant(name, script == Script.ARABIC ? ARABIC_VARIANTS : LATIN_VARIANTS);
+            if (!variant.equals(name)) {
+                return variant;
+            }
+        }
+        if (script == Script.HANGUL) {
+            StringBuilder mutated = new StringBuilder(name);
+            mutated.setCharAt(1 + random.nextInt(mutated.length() - 1), pick(HANGUL_GIVEN).charAt(0));
+            return mutated.toString();
+        }
+        return typo(name);
+    }
+
+    private String typo(String name) {
+        StringBuilder mutated = new StringBuilder(name);
+        int position = random.nextInt(mutated.length() - 1);
+        switch (random.nextInt(3)) {
+            case 0 -> mutated.setCharAt(position, (char) ('a' + random.nextInt(26)));
+            case 1 -> mutated.deleteCharAt(position);
+            default -> {
+                char c = mutated.charAt(position);
+                mutated.setCharAt(position, mutated.charAt(position + 1));
+                mutated.setCharAt(position + 1, c);
+            }
+        }
+        return mutated.toString();
+    }
+
+    private String spellingVariant(String name, Map<String, String[]> variants) {
+        StringBuilder result = new StringBuilder(name.length());
+        for (String token : name.split(" ")) {
+            String[] alternatives = variants.get(token);
+            if (!result.isEmpty()) {
+                result.append(' ');
+            }
+            result.append(alternatives != null ? alternatives[random.nextInt(alternatives.length)] : token);
+        }
+        return result.toString();
+    }
+
+    /**
+     * 한글 이름 로마자 표기 (예: "Kim Min-jun", alternative=true면 "Gim Minjun")
+     */
+    private String romanize(String hangul, boolean alternative) {
+        String familySyllable = hangul.substring(0, 1);
+        String family = alternative && HANGUL_FAMILY_ALTERNATIVES.containsKey(familySyllable)
+                ? HANGUL_FAMILY_ALTERNATIVES.get(familySyllable)
+                : HANGUL_ROMANIZATION.getOrDefault(familySyllable, familySyllable);
+        StringBuilder given = new StringBuilder();
+        for (int i = 1; i < hangul.length(); i++) {
+            String syllable = hangul.substring(i, i + 1);
+            given.append(i > 1 && !alternative ? "-" : "").append(HANGUL_ROMANIZATION.getOrDefault(syllable, syllable));
+        }
+        String romanizedGiven = given.isEmpty() ? "" : Character.toUpperCase(given.charAt(0)) + given.substring(1);
+        return family + " " + romanizedGiven;
+    }
+
+    private Script scriptOf(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                return Script.HANGUL;
+            }
+        }
+        for (String family : ARABIC_FAMILY) {
+            if (name.contains(family)) {
+                return Script.ARABIC;
+            }
+        }
+        return Script.LATIN;
+    }
+
+    private LocalDate dateOfBirth() {
+        return EARLIEST_DOB.plusDays(random.nextInt(DOB_SPAN_DAYS));
+    }
+
+    private String nationality(Script script) {
+        return switch (script) {
+            case LATIN -> pick(LATIN_NATIONALITIES);
+            case HANGUL -> pick(HANGUL_NATIONALITIES);
+            case ARABIC -> pick(ARABIC_NATIONALITIES);
+        };
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,64 @@
+package aml.openwlf.data.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 필터링 이력/Alert 저장 파이프라인 설정
+ *
+ * 사용 예:
+ * <pre>
+ * persistence:
+ *   mode: WRITE_BEHIND
+ *   queue-capacity: 10000
+ *   batch-size: 500
+ *   poll-timeout-ms: 200
+ *   offer-timeout-ms: 50
+ *   shutdown-timeout-ms: 10000
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "persistence")
+public class PersistenceProperties {
+
+    /**
+     * 저장 모드
+     * SYNC: 요청 스레드에서 즉시 저장 (기본값)
+     * WRITE_BEHIND: 큐에 적재 후 전용 스레드가 JDBC 배치로 저장 (Alert Reference는 선할당하여 즉시 반환)
+     */
+    private Mode mode = Mode.SYNC;
+
+    /**
+     * 저장 대기 큐 최대 크기
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 한 번의 JDBC 배치로 저장할 최대 건수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 큐가 비어 있을 때 저장 스레드의 최대 대기 시간 (종료 신호 확인 주기)
+     */
+    private long pollTimeoutMs = 200;
+
+    /**
+     * 큐가 가득 찼을 때 빈 자리를 기다리는 시간 (초과 시 요청 스레드에서 직접 저장)
+     */
+    private long offerTimeoutMs = 50;
+
+    /**
+     * 종료 시 남은 큐를 비우기 위해 기다리는 최대 시간
+     */
+    private long shutdownTimeoutMs = 10_000;
+
+    public enum Mode {
+        SYNC,
+        WRITE_BEHIND
+    }
+}
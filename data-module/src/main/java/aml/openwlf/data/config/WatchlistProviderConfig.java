@@ -0,0 +1,36 @@
+package aml.openwlf.data.config;
+
+import aml.openwlf.core.filtering.WatchlistProvider;
+import aml.openwlf.data.service.CompositeWatchlistProvider;
+import aml.openwlf.data.service.SanctionsWatchlistService;
+import aml.openwlf.data.service.WatchlistDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+
+/**
+ * 스크리닝 감시목록 선택 설정
+ *
+ * watchlist.provider.mode에 따라 FilteringService가 사용할 WatchlistProvider를 구성합니다.
+ */
+@Slf4j
+@Configuration
+public class WatchlistProviderConfig {
+
+    @Bean
+    @Primary
+    public WatchlistProvider screeningWatchlistProvider(WatchlistProviderProperties properties,
+                                                        WatchlistDataService watchlistDataService,
+                                                        SanctionsWatchlistService sanctionsWatchlistService) {
+        List<WatchlistProvider> providers = switch (properties.getMode()) {
+            case WATCHLIST -> List.of(watchlistDataService);
+            case SANCTIONS -> List.of(sanctionsWatchlistService);
+            case COMPOSITE -> List.of(watchlistDataService, sanctionsWatchlistService);
+        };
+        log.info("Screening watchlist provider mode: {}", properties.getMode());
+        return new CompositeWatchlistProvider(providers);
+    }
+}
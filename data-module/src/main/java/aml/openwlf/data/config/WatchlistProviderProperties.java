@@ -0,0 +1,50 @@
+package aml.openwlf.data.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스크리닝 대상 감시목록 설정
+ *
+ * 사용 예:
+ * <pre>
+ * watchlist:
+ *   provider:
+ *     mode: COMPOSITE
+ *     sanctions-page-size: 1000
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "watchlist.provider")
+public class WatchlistProviderProperties {
+
+    /**
+     * 스크리닝에 사용할 감시목록
+     * WATCHLIST: watchlist_entries 테이블 (기본값)
+     * SANCTIONS: 배치로 동기화한 OFAC/UN/EU 제재 리스트 (sanctions_entities + entity_names)
+     * COMPOSITE: 두 목록을 합쳐서 스크리닝
+     */
+    private Mode mode = Mode.WATCHLIST;
+
+    /**
+     * 제재 리스트 캐시 적재 시 한 번에 읽는 제재 대상 수
+     */
+    private int sanctionsPageSize = 1000;
+
+    /**
+     * 제재 리스트를 스크리닝에 사용하는지 여부
+     */
+    public boolean usesSanctions() {
+        return mode != Mode.WATCHLIST;
+    }
+
+    public enum Mode {
+        WATCHLIST,
+        SANCTIONS,
+        COMPOSITE
+    }
+}
@@ -0,0 +1,34 @@
+package aml.openwlf.data.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감시목록 바이너리 스냅샷 파일 설정
+ *
+ * 사용 예:
+ * <pre>
+ * watchlist:
+ *   snapshot-file:
+ *     enabled: true
+ *     path: /var/lib/openwlf/watchlist.snapshot
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "watchlist.snapshot-file")
+public class WatchlistSnapshotFileProperties {
+
+    /**
+     * true면 캐시 갱신 후 스냅샷 파일을 기록하고, 시작 시 파일이 최신이면 DB 대신 파일에서 적재
+     */
+    private boolean enabled = false;
+
+    /**
+     * 스냅샷 파일 경로
+     */
+    private String path = "data/watchlist.snapshot";
+}
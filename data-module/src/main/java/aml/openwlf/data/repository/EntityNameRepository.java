@@ -1,13 +1,17 @@
 package aml.openwlf.data.repository;
 
 import aml.openwlf.data.entity.EntityNameEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -129,4 +133,30 @@ public interface EntityNameRepository extends JpaRepository<EntityNameEntity, Lo
     
     @Query("SELECT n.script, COUNT(n) FROM EntityNameEntity n WHERE n.script IS NOT NULL GROUP BY n.script")
     List<Object[]> countByScriptGrouped();
+    
+    // ========================================
+    // 스크리닝 캐시 적재용
+    // ========================================
+    
+    /**
+     * 스크리닝 캐시 적재용 이름 컬럼
+     */
+    interface ScreeningNameView {
+        Long getEntityId();
+        String getNameType();
+        String getFullName();
+    }
+    
+    /**
+     * 제재 대상 한 페이지의 이름/별칭 조회 (엔티티별 연관 컬렉션 로딩 없이 한 번에)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SanctionsEntityRepository.SCREENING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT n.sanctionsEntity.entityId AS entityId, n.nameType AS nameType, n.fullName AS fullName " +
+           "FROM EntityNameEntity n " +
+           "WHERE n.sanctionsEntity.entityId IN :entityIds " +
+           "ORDER BY n.nameId")
+    List<ScreeningNameView> findForScreening(@Param("entityIds") Collection<Long> entityIds);
 }
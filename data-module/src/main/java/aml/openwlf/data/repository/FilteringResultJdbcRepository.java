@@ -0,0 +1,95 @@
+package aml.openwlf.data.repository;
+
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.FilteringResult;
+import aml.openwlf.data.entity.AlertEntity.AlertStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for filtering history and alerts.
+ * Bypasses JPA so rows with IDENTITY keys can still be sent as one JDBC batch per table.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class FilteringResultJdbcRepository {
+    
+    private static final String INSERT_HISTORY =
+            "INSERT INTO filtering_history (customer_id, customer_name, date_of_birth, nationality, "
+                    + "is_alert, score, matched_rules, explanation, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String INSERT_ALERT =
+            "INSERT INTO alerts (alert_reference, status, customer_id, customer_name, date_of_birth, "
+                    + "nationality, score, matched_rules, explanation, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Insert a history row for every result and an alert row for results with a reference
+     */
+    @Transactional
+    public void insertAll(List<Row> rows) {
+        List<Object[]> historyArgs = new ArrayList<>(rows.size());
+        List<Object[]> alertArgs = new ArrayList<>();
+        
+        for (Row row : rows) {
+            FilteringResult result = row.result();
+            CustomerInfo customer = result.getCustomerInfo();
+            String matchedRules = serializeMatchedRules(result);
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+            Date dateOfBirth = customer.getDateOfBirth() != null ? Date.valueOf(customer.getDateOfBirth()) : null;
+            
+            historyArgs.add(new Object[]{
+                    customer.getCustomerId(), customer.getName(), dateOfBirth, customer.getNationality(),
+                    result.isAlert(), result.getScore(), matchedRules, result.getExplanation(), createdAt
+            });
+            
+            if (row.alertReference() != null) {
+                alertArgs.add(new Object[]{
+                        row.alertReference(), AlertStatus.NEW.name(), customer.getCustomerId(), customer.getName(),
+                        dateOfBirth, customer.getNationality(), result.getScore(), matchedRules,
+                        result.getExplanation(), createdAt, createdAt
+                });
+            }
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_HISTORY, historyArgs);
+        if (!alertArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ALERT, alertArgs);
+        }
+        
+        log.debug("Inserted {} filtering history rows and {} alerts", historyArgs.size(), alertArgs.size());
+    }
+    
+    private String serializeMatchedRules(FilteringResult result) {
+        try {
+            return objectMapper.writeValueAsString(result.getMatchedRules());
+        } catch (Exception e) {
+            log.error("Failed to serialize matched rules", e);
+            return "[]";
+        }
+    }
+    
+    /**
+     * One filtering result to persist
+     *
+     * @param result filtering result
+     * @param alertReference pre-allocated alert reference (null when no alert is required)
+     * @param createdAt time the result was produced
+     */
+    public record Row(FilteringResult result, String alertReference, LocalDateTime createdAt) {}
+}
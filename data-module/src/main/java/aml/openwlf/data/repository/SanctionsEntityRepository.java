@@ -1,13 +1,17 @@
 package aml.openwlf.data.repository;
 
 import aml.openwlf.data.entity.SanctionsEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -123,4 +127,44 @@ public interface SanctionsEntityRepository extends JpaRepository<SanctionsEntity
            "LEFT JOIN FETCH s.documents " +
            "WHERE s.entityId = :entityId")
     Optional<SanctionsEntity> findByIdWithAllRelations(@Param("entityId") Long entityId);
+    
+    // ========================================
+    // 스크리닝 캐시 적재용 (필요한 컬럼만 keyset 페이징으로 조회)
+    // ========================================
+    
+    /**
+     * 스크리닝 캐시 적재 쿼리의 JDBC fetch size (한 번의 왕복으로 가져오는 행 수)
+     */
+    String SCREENING_FETCH_SIZE = "1000";
+    
+    /**
+     * 스크리닝 캐시 적재용 제재 대상 컬럼
+     */
+    interface ScreeningView {
+        Long getEntityId();
+        String getSourceFile();
+        String getEntityType();
+        String getPrimaryName();
+        LocalDate getBirthDate();
+        String getNationality();
+    }
+    
+    /**
+     * 스크리닝 캐시 적재용 페이지 조회 (entityId 기준 keyset 페이징)
+     * sourceFile이 null이면 전체 출처
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SCREENING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s.entityId AS entityId, s.sourceFile AS sourceFile, s.entityType AS entityType, " +
+           "s.primaryName AS primaryName, s.birthDate AS birthDate, s.nationality AS nationality " +
+           "FROM SanctionsEntity s " +
+           "WHERE s.isActive = true AND s.entityId > :afterId " +
+           "AND (:sourceFile IS NULL OR s.sourceFile = :sourceFile) " +
+           "ORDER BY s.entityId")
+    List<ScreeningView> findActiveForScreening(
+            @Param("afterId") Long afterId,
+            @Param("sourceFile") String sourceFile,
+            Pageable pageable);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -59,4 +60,8 @@ public interface WatchlistEntryRepository extends JpaRepository<WatchlistEntryEn
     long countByIsActiveTrue();
 
     long countByListSource(String listSource);
+
+    // Latest change to any row (snapshot file freshness check)
+    @Query("SELECT MAX(w.updatedAt) FROM WatchlistEntryEntity w")
+    LocalDateTime findLastUpdatedAt();
 }
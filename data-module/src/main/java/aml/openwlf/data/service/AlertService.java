@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -44,7 +45,7 @@ public class AlertService {
      */
     @Transactional
     public Optional<AlertEntity> createAlertIfNeeded(FilteringResult result) {
-        if (result.getScore() < alertGenerationThreshold) {
+        if (!requiresAlert(result)) {
             log.debug("Score {} is below alert threshold {}, skipping alert creation", 
                     result.getScore(), alertGenerationThreshold);
             return Optional.empty();
@@ -53,17 +54,7 @@ public class AlertService {
         log.info("Creating alert for customer: {} with score: {}", 
                 result.getCustomerInfo().getName(), result.getScore());
         
-        AlertEntity alert = AlertEntity.builder()
-                .alertReference(generateAlertReference())
-                .status(AlertStatus.NEW)
-                .customerId(result.getCustomerInfo().getCustomerId())
-                .customerName(result.getCustomerInfo().getName())
-                .dateOfBirth(result.getCustomerInfo().getDateOfBirth())
-                .nationality(result.getCustomerInfo().getNationality())
-                .score(result.getScore())
-                .matchedRules(serializeMatchedRules(result.getMatchedRules()))
-                .explanation(result.getExplanation())
-                .build();
+        AlertEntity alert = buildAlert(result);
         
         AlertEntity savedAlert = alertRepository.save(alert);
         log.info("Alert created with reference: {}", savedAlert.getAlertReference());
@@ -71,6 +62,47 @@ public class AlertService {
         return Optional.of(savedAlert);
     }
     
+    /**
+     * Whether the result scores at or above the alert generation threshold
+     */
+    public boolean requiresAlert(FilteringResult result) {
+        return result.getScore() >= alertGenerationThreshold;
+    }
+    
+    /**
+     * Allocate a unique alert reference ahead of persisting the alert
+     */
+    public String allocateAlertReference() {
+        return generateAlertReference();
+    }
+    
+    /**
+     * Create alerts for every result at or above the threshold in a single transaction
+     * @return alerts aligned with the input (empty where the score is below threshold)
+     */
+    @Transactional
+    public List<Optional<AlertEntity>> createAlertsIfNeeded(List<FilteringResult> results) {
+        List<AlertEntity> pending = new ArrayList<>();
+        List<Optional<AlertEntity>> alerts = new ArrayList<>(results.size());
+        
+        for (FilteringResult result : results) {
+            if (!requiresAlert(result)) {
+                alerts.add(Optional.empty());
+                continue;
+            }
+            AlertEntity alert = buildAlert(result);
+            pending.add(alert);
+            alerts.add(Optional.of(alert));
+        }
+        
+        if (!pending.isEmpty()) {
+            alertRepository.saveAll(pending);
+            log.info("Created {} alerts for {} filtering results", pending.size(), results.size());
+        }
+        
+        return alerts;
+    }
+    
     /**
      * Get alert by ID
      */
@@ -203,6 +235,23 @@ public class AlertService {
         return alertStatisticsService.getStatistics();
     }
     
+    /**
+     * Build a NEW alert from a filtering result
+     */
+    private AlertEntity buildAlert(FilteringResult result) {
+        return AlertEntity.builder()
+                .alertReference(generateAlertReference())
+                .status(AlertStatus.NEW)
+                .customerId(result.getCustomerInfo().getCustomerId())
+                .customerName(result.getCustomerInfo().getName())
+                .dateOfBirth(result.getCustomerInfo().getDateOfBirth())
+                .nationality(result.getCustomerInfo().getNationality())
+                .score(result.getScore())
+                .matchedRules(serializeMatchedRules(result.getMatchedRules()))
+                .explanation(result.getExplanation())
+                .build();
+    }
+    
     /**
      * Generate unique alert reference
      */
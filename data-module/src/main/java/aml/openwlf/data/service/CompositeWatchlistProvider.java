@@ -0,0 +1,149 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.filtering.CandidateIndex;
+import aml.openwlf.core.filtering.WatchlistProvider;
+import aml.openwlf.core.rule.WatchlistColumns;
+import aml.openwlf.core.rule.WatchlistEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Screens against several watchlist providers as one.
+ * The combined entry list and candidate index are rebuilt when any provider's version
+ * changes and reused until then. The combined version is the sum of the provider versions,
+ * so it advances whenever one of them does; it is negative if any provider does not track
+ * changes, in which case nothing is reused.
+ * With a single provider every call is passed straight through.
+ */
+public class CompositeWatchlistProvider implements WatchlistProvider {
+
+    private static final int MAX_CONSISTENT_READ_ATTEMPTS = 3;
+
+    private final List<WatchlistProvider> providers;
+
+    private volatile Combined combined;
+
+    public CompositeWatchlistProvider(List<WatchlistProvider> providers) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("At least one watchlist provider is required");
+        }
+        this.providers = List.copyOf(providers);
+    }
+
+    @Override
+    public List<WatchlistEntry> getAllEntries() {
+        if (providers.size() == 1) {
+            return providers.get(0).getAllEntries();
+        }
+        return current().entries();
+    }
+
+    @Override
+    public List<WatchlistEntry> getEntriesBySource(String source) {
+        if (providers.size() == 1) {
+            return providers.get(0).getEntriesBySource(source);
+        }
+        List<WatchlistEntry> entries = new ArrayList<>();
+        for (WatchlistProvider provider : providers) {
+            entries.addAll(provider.getEntriesBySource(source));
+        }
+        return entries;
+    }
+
+    @Override
+    public CandidateIndex getCandidateIndex() {
+        if (providers.size() == 1) {
+            return providers.get(0).getCandidateIndex();
+        }
+        return current().index();
+    }
+
+    /**
+     * Column layout of the single provider. Combined entries have none, because entry ids
+     * are only unique within a provider; they are evaluated as objects.
+     */
+    @Override
+    public WatchlistColumns getColumns() {
+        if (providers.size() == 1) {
+            return providers.get(0).getColumns();
+        }
+        return null;
+    }
+
+    @Override
+    public long getVersion() {
+        if (providers.size() == 1) {
+            return providers.get(0).getVersion();
+        }
+        return combinedVersion(versions());
+    }
+
+    /**
+     * Combined view matching the current provider versions, rebuilt if any of them moved
+     */
+    private Combined current() {
+        long[] versions = versions();
+        Combined cached = combined;
+        if (cached != null && cached.version() >= 0 && Arrays.equals(cached.versions(), versions)) {
+            return cached;
+        }
+
+        synchronized (this) {
+            cached = combined;
+            if (cached != null && cached.version() >= 0 && Arrays.equals(cached.versions(), versions())) {
+                return cached;
+            }
+            Combined rebuilt = build();
+            combined = rebuilt;
+            return rebuilt;
+        }
+    }
+
+    /**
+     * Read all providers, retrying if one of them changed mid-read so the recorded
+     * versions describe the entries
+     */
+    private Combined build() {
+        long[] before = versions();
+        for (int attempt = 1; ; attempt++) {
+            List<WatchlistEntry> entries = new ArrayList<>();
+            boolean indexed = true;
+            for (WatchlistProvider provider : providers) {
+                entries.addAll(provider.getAllEntries());
+                indexed &= provider.getCandidateIndex() != null;
+            }
+
+            long[] after = versions();
+            if (Arrays.equals(before, after) || attempt == MAX_CONSISTENT_READ_ATTEMPTS) {
+                long version = Arrays.equals(before, after) ? combinedVersion(after) : -1L;
+                return new Combined(after, Collections.unmodifiableList(entries),
+                        indexed ? CandidateIndex.build(entries) : null, version);
+            }
+            before = after;
+        }
+    }
+
+    private long[] versions() {
+        long[] versions = new long[providers.size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = providers.get(i).getVersion();
+        }
+        return versions;
+    }
+
+    private static long combinedVersion(long[] versions) {
+        long sum = 0L;
+        for (long version : versions) {
+            if (version < 0) {
+                return -1L;
+            }
+            sum += version;
+        }
+        return sum;
+    }
+
+    private record Combined(long[] versions, List<WatchlistEntry> entries, CandidateIndex index, long version) {}
+}
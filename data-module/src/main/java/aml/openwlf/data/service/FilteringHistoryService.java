@@ -3,12 +3,14 @@ package aml.openwlf.data.service;
 import aml.openwlf.core.model.FilteringResult;
 import aml.openwlf.data.entity.FilteringHistoryEntity;
 import aml.openwlf.data.repository.FilteringHistoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,18 +27,7 @@ public class FilteringHistoryService {
     @Transactional
     public FilteringHistoryEntity saveFilteringResult(FilteringResult result) {
         try {
-            FilteringHistoryEntity entity = FilteringHistoryEntity.builder()
-                    .customerId(result.getCustomerInfo().getCustomerId())
-                    .customerName(result.getCustomerInfo().getName())
-                    .dateOfBirth(result.getCustomerInfo().getDateOfBirth())
-                    .nationality(result.getCustomerInfo().getNationality())
-                    .isAlert(result.isAlert())
-                    .score(result.getScore())
-                    .matchedRules(objectMapper.writeValueAsString(result.getMatchedRules()))
-                    .explanation(result.getExplanation())
-                    .build();
-            
-            FilteringHistoryEntity saved = repository.save(entity);
+            FilteringHistoryEntity saved = repository.save(toEntity(result));
             log.info("Saved filtering history: id={}, alert={}", saved.getId(), saved.getIsAlert());
             return saved;
             
@@ -46,6 +37,40 @@ public class FilteringHistoryService {
         }
     }
     
+    /**
+     * Save a batch of filtering results in a single transaction
+     */
+    @Transactional
+    public List<FilteringHistoryEntity> saveFilteringResults(List<FilteringResult> results) {
+        try {
+            List<FilteringHistoryEntity> entities = new ArrayList<>(results.size());
+            for (FilteringResult result : results) {
+                entities.add(toEntity(result));
+            }
+            
+            List<FilteringHistoryEntity> saved = repository.saveAll(entities);
+            log.info("Saved {} filtering history records", saved.size());
+            return saved;
+            
+        } catch (Exception e) {
+            log.error("Failed to save filtering history batch", e);
+            throw new RuntimeException("Failed to save filtering history batch", e);
+        }
+    }
+    
+    private FilteringHistoryEntity toEntity(FilteringResult result) throws JsonProcessingException {
+        return FilteringHistoryEntity.builder()
+                .customerId(result.getCustomerInfo().getCustomerId())
+                .customerName(result.getCustomerInfo().getName())
+                .dateOfBirth(result.getCustomerInfo().getDateOfBirth())
+                .nationality(result.getCustomerInfo().getNationality())
+                .isAlert(result.isAlert())
+                .score(result.getScore())
+                .matchedRules(objectMapper.writeValueAsString(result.getMatchedRules()))
+                .explanation(result.getExplanation())
+                .build();
+    }
+    
     public List<FilteringHistoryEntity> getAlertHistory() {
         return repository.findByIsAlertTrue();
     }
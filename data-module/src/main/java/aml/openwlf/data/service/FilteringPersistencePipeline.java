@@ -0,0 +1,393 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.model.FilteringResult;
+import aml.openwlf.data.config.PersistenceProperties;
+import aml.openwlf.data.entity.AlertEntity;
+import aml.openwlf.data.repository.FilteringResultJdbcRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Persists filtering history and alerts for screening requests.
+ *
+ * In SYNC mode results are saved on the request thread through the JPA services.
+ * In WRITE_BEHIND mode alert references are allocated up front and returned immediately,
+ * while a single writer thread drains a bounded queue and inserts rows with JDBC batching.
+ * When the queue stays full longer than offer-timeout-ms the request thread writes its own
+ * row (backpressure without dropping data), and the queue is flushed on shutdown.
+ * With spring.threads.virtual.enabled on JDK 21+ the writer runs on a virtual thread.
+ *
+ * Write latency (history and alert saves in SYNC mode, JDBC batches in WRITE_BEHIND mode),
+ * queue depth, lag and row counters are published as meters when a MeterRegistry is present.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FilteringPersistencePipeline implements MeterBinder {
+    
+    private static final String WRITER_THREAD_NAME = "persistence-writer";
+    
+    private final FilteringHistoryService historyService;
+    private final AlertService alertService;
+    private final FilteringResultJdbcRepository jdbcRepository;
+    private final PersistenceProperties properties;
+    
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder callerWrites = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    
+    private final WriteTimer historyWrites = new WriteTimer();
+    private final WriteTimer alertWrites = new WriteTimer();
+    private final WriteTimer batchWrites = new WriteTimer();
+    
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    
+    private BlockingQueue<PendingWrite> queue;
+    private Thread writer;
+    private volatile boolean running;
+    private volatile long lastBatchLagMillis;
+    
+    @PostConstruct
+    public void start() {
+        if (properties.getMode() != PersistenceProperties.Mode.WRITE_BEHIND) {
+            return;
+        }
+        
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        writer = newWriterThread();
+        writer.start();
+        
+        log.info("Started write-behind persistence: queueCapacity={}, batchSize={}, virtualThread={}",
+                properties.getQueueCapacity(), properties.getBatchSize(), useVirtualThread());
+    }
+    
+    /**
+     * Persist one filtering result
+     * @return alert reference, or null when no alert was created
+     */
+    public String persist(FilteringResult result) {
+        if (queue == null) {
+            return persistSynchronously(result);
+        }
+        
+        PendingWrite write = allocate(result);
+        enqueue(write);
+        return write.alertReference();
+    }
+    
+    /**
+     * Persist a batch of filtering results
+     * @return alert references aligned with the results (null where no alert was created)
+     */
+    public List<String> persistAll(List<FilteringResult> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+        if (queue == null) {
+            return persistAllSynchronously(results);
+        }
+        
+        List<String> alertReferences = new ArrayList<>(results.size());
+        for (FilteringResult result : results) {
+            PendingWrite write = allocate(result);
+            enqueue(write);
+            alertReferences.add(write.alertReference());
+        }
+        return alertReferences;
+    }
+    
+    /**
+     * Queue depth, throughput counters and write lag
+     */
+    public PipelineStats getStats() {
+        PendingWrite oldest = queue != null ? queue.peek() : null;
+        return PipelineStats.builder()
+                .mode(properties.getMode().name())
+                .queueDepth(queue != null ? queue.size() : 0)
+                .queueCapacity(queue != null ? properties.getQueueCapacity() : 0)
+                .enqueued(enqueued.sum())
+                .written(written.sum())
+                .failed(failed.sum())
+                .callerWrites(callerWrites.sum())
+                .batches(batches.sum())
+                .oldestPendingAgeMillis(oldest != null ? millisSince(oldest.enqueuedNanos()) : 0)
+                .lastBatchLagMillis(lastBatchLagMillis)
+                .build();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String mode = properties.getMode().name();
+        bindWriteTimer(registry, "history", mode, historyWrites);
+        bindWriteTimer(registry, "alert", mode, alertWrites);
+        bindWriteTimer(registry, "batch", mode, batchWrites);
+        
+        FunctionCounter.builder("openwlf.persistence.rows", written, LongAdder::sum)
+                .description("Filtering results written by the write-behind pipeline")
+                .tag("outcome", "written")
+                .register(registry);
+        FunctionCounter.builder("openwlf.persistence.rows", failed, LongAdder::sum)
+                .description("Filtering results written by the write-behind pipeline")
+                .tag("outcome", "failed")
+                .register(registry);
+        FunctionCounter.builder("openwlf.persistence.caller.writes", callerWrites, LongAdder::sum)
+                .description("Writes done on the request thread because the queue stayed full")
+                .register(registry);
+        Gauge.builder("openwlf.persistence.queue.depth", this,
+                        pipeline -> pipeline.queue != null ? pipeline.queue.size() : 0)
+                .description("Filtering results waiting for the writer")
+                .register(registry);
+        TimeGauge.builder("openwlf.persistence.lag", this, TimeUnit.MILLISECONDS,
+                        pipeline -> pipeline.lastBatchLagMillis)
+                .description("Time the oldest row of the last batch spent between request and insert")
+                .register(registry);
+    }
+    
+    private static void bindWriteTimer(MeterRegistry registry, String operation, String mode, WriteTimer timer) {
+        FunctionTimer.builder("openwlf.persistence.write", timer,
+                        WriteTimer::count, WriteTimer::totalNanos, TimeUnit.NANOSECONDS)
+                .description("Latency of filtering history and alert writes")
+                .tag("operation", operation)
+                .tag("mode", mode)
+                .register(registry);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (queue == null || !running) {
+            return;
+        }
+        
+        running = false;
+        try {
+            writer.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        // Pick up anything offered after the writer exited (or if it timed out)
+        List<PendingWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            writeBatch(remaining);
+        }
+        
+        log.info("Stopped write-behind persistence: written={}, failed={}", written.sum(), failed.sum());
+    }
+    
+    private Thread newWriterThread() {
+        if (useVirtualThread()) {
+            return new VirtualThreadTaskExecutor(WRITER_THREAD_NAME + "-").newThread(this::drainLoop);
+        }
+        Thread thread = new Thread(this::drainLoop, WRITER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+    
+    private boolean useVirtualThread() {
+        return virtualThreads && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+    
+    private PendingWrite allocate(FilteringResult result) {
+        String alertReference = alertService.requiresAlert(result) ? alertService.allocateAlertReference() : null;
+        return new PendingWrite(result, alertReference, LocalDateTime.now(), System.nanoTime());
+    }
+    
+    private void enqueue(PendingWrite write) {
+        boolean accepted = false;
+        if (running) {
+            try {
+                accepted = queue.offer(write, properties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        if (accepted) {
+            enqueued.increment();
+            return;
+        }
+        
+        // Queue full or shutting down: the caller pays for its own write
+        callerWrites.increment();
+        writeBatch(List.of(write));
+    }
+    
+    private void drainLoop() {
+        List<PendingWrite> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(properties.getPollTimeoutMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected error in persistence writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void writeBatch(List<PendingWrite> batch) {
+        long startNanos = System.nanoTime();
+        try {
+            jdbcRepository.insertAll(toRows(batch));
+            written.add(batch.size());
+            batches.increment();
+            lastBatchLagMillis = millisSince(batch.get(0).enqueuedNanos());
+        } catch (Exception e) {
+            log.error("Failed to write batch of {} filtering results, retrying one by one", batch.size(), e);
+            for (PendingWrite write : batch) {
+                try {
+                    jdbcRepository.insertAll(toRows(List.of(write)));
+                    written.increment();
+                } catch (Exception rowError) {
+                    failed.increment();
+                    log.error("Failed to persist filtering result for customer: {} (alertReference={})",
+                            write.result().getCustomerInfo().getName(), write.alertReference(), rowError);
+                }
+            }
+        } finally {
+            batchWrites.record(startNanos);
+        }
+    }
+    
+    private List<FilteringResultJdbcRepository.Row> toRows(List<PendingWrite> batch) {
+        List<FilteringResultJdbcRepository.Row> rows = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            rows.add(new FilteringResultJdbcRepository.Row(write.result(), write.alertReference(), write.createdAt()));
+        }
+        return rows;
+    }
+    
+    private String persistSynchronously(FilteringResult result) {
+        long startNanos = System.nanoTime();
+        try {
+            historyService.saveFilteringResult(result);
+        } catch (Exception e) {
+            log.error("Failed to save filtering history", e);
+            // Don't fail the request if history save fails
+        } finally {
+            historyWrites.record(startNanos);
+        }
+        
+        startNanos = System.nanoTime();
+        try {
+            return alertService.createAlertIfNeeded(result)
+                    .map(AlertEntity::getAlertReference)
+                    .orElse(null);
+        } catch (Exception e) {
+            log.error("Failed to create alert", e);
+            // Don't fail the request if alert creation fails
+            return null;
+        } finally {
+            alertWrites.record(startNanos);
+        }
+    }
+    
+    private List<String> persistAllSynchronously(List<FilteringResult> results) {
+        List<String> alertReferences = new ArrayList<>(Collections.nCopies(results.size(), null));
+        
+        long startNanos = System.nanoTime();
+        try {
+            historyService.saveFilteringResults(results);
+        } catch (Exception e) {
+            log.error("Failed to save batch filtering history", e);
+        } finally {
+            historyWrites.record(startNanos);
+        }
+        
+        startNanos = System.nanoTime();
+        try {
+            List<Optional<AlertEntity>> alerts = alertService.createAlertsIfNeeded(results);
+            for (int i = 0; i < alerts.size(); i++) {
+                alertReferences.set(i, alerts.get(i).map(AlertEntity::getAlertReference).orElse(null));
+            }
+        } catch (Exception e) {
+            log.error("Failed to create batch alerts", e);
+        } finally {
+            alertWrites.record(startNanos);
+        }
+        
+        return alertReferences;
+    }
+    
+    private static long millisSince(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanos);
+    }
+    
+    private record PendingWrite(FilteringResult result, String alertReference,
+                                LocalDateTime createdAt, long enqueuedNanos) {}
+    
+    /**
+     * Write count and accumulated write time, read by the persistence meters
+     */
+    private static final class WriteTimer {
+        
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        
+        void record(long startNanos) {
+            nanos.add(System.nanoTime() - startNanos);
+            count.increment();
+        }
+        
+        long count() {
+            return count.sum();
+        }
+        
+        double totalNanos() {
+            return nanos.sum();
+        }
+    }
+    
+    @Data
+    @Builder
+    public static class PipelineStats {
+        private String mode;
+        private int queueDepth;
+        private int queueCapacity;
+        private long enqueued;
+        private long written;
+        private long failed;
+        private long callerWrites;
+        private long batches;
+        private long oldestPendingAgeMillis;
+        private long lastBatchLagMillis;
+    }
+}
@@ -0,0 +1,9 @@
+package aml.openwlf.data.service;
+
+/**
+ * Published after a sanctions list sync has written changes to sanctions_entities
+ *
+ * @param sourceFile synced list ('OFAC', 'UN', 'EU')
+ * @param changedCount number of inserted, updated and deactivated entities
+ */
+public record SanctionsSyncCompletedEvent(String sourceFile, int changedCount) {}
@@ -0,0 +1,251 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.filtering.CandidateIndex;
+import aml.openwlf.core.filtering.WatchlistProvider;
+import aml.openwlf.core.matching.NameFeatureCompiler;
+import aml.openwlf.core.rule.WatchlistColumns;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.data.config.WatchlistProviderProperties;
+import aml.openwlf.data.repository.EntityNameRepository;
+import aml.openwlf.data.repository.SanctionsEntityRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Watchlist provider over the sanctions lists synced by the batch module
+ * (sanctions_entities with their entity_names).
+ * Entities are read in keyset pages of plain columns, and each page's names with one
+ * IN query, so loading never materializes the whole list as managed entities.
+ * The cache is an immutable snapshot like WatchlistDataService's: a full refresh swaps
+ * in a new one, and a completed sync re-reads only the synced list and applies it as changes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SanctionsWatchlistService implements WatchlistProvider {
+
+    private final SanctionsEntityRepository sanctionsRepository;
+    private final EntityNameRepository nameRepository;
+    private final NameFeatureCompiler featureCompiler;
+    private final WatchlistProviderProperties properties;
+
+    private final AtomicReference<WatchlistSnapshot> snapshot = new AtomicReference<>(WatchlistSnapshot.EMPTY);
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Load the sanctions lists on startup when they are screened
+     */
+    @PostConstruct
+    public void initializeCache() {
+        if (!properties.usesSanctions()) {
+            return;
+        }
+        log.info("Initializing sanctions watchlist cache...");
+        refreshCache();
+    }
+
+    /**
+     * Reload all active sanctions entities and publish them as a new snapshot
+     */
+    public void refreshCache() {
+        writeLock.lock();
+        try {
+            long startTime = System.currentTimeMillis();
+
+            List<WatchlistEntry> entries = new ArrayList<>();
+            load(null, entries::add);
+
+            WatchlistSnapshot refreshed = WatchlistSnapshot.build(
+                    entries, snapshot.get().getVersion() + 1, LocalDateTime.now());
+            snapshot.set(refreshed);
+
+            log.info("Sanctions watchlist cache refreshed: {} entries loaded in {}ms",
+                    refreshed.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Reload one list and apply it to the current snapshot:
+     * its active entities are upserted and its cached entities no longer active are removed
+     */
+    public void refreshSource(String sourceFile) {
+        writeLock.lock();
+        try {
+            long startTime = System.currentTimeMillis();
+
+            List<WatchlistEntry> upserts = new ArrayList<>();
+            Set<Long> loadedIds = new HashSet<>();
+            load(sourceFile, entry -> {
+                upserts.add(entry);
+                loadedIds.add(entry.getId());
+            });
+
+            WatchlistSnapshot current = snapshot.get();
+            List<Long> removals = new ArrayList<>();
+            for (WatchlistEntry cached : current.getEntriesBySource(sourceFile)) {
+                if (!loadedIds.contains(cached.getId())) {
+                    removals.add(cached.getId());
+                }
+            }
+
+            WatchlistSnapshot updated = current.apply(upserts, removals);
+            if (updated != current) {
+                snapshot.set(updated);
+            }
+
+            log.info("Sanctions watchlist cache updated for {}: {} active, {} removed in {}ms",
+                    sourceFile, upserts.size(), removals.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Apply a completed sync to the cache when the sanctions lists are screened
+     */
+    @EventListener
+    public void onSyncCompleted(SanctionsSyncCompletedEvent event) {
+        if (!properties.usesSanctions()) {
+            return;
+        }
+        try {
+            refreshSource(event.sourceFile());
+        } catch (Exception e) {
+            // The sync itself succeeded; the cache catches up on the next refresh
+            log.error("Failed to update sanctions watchlist cache after {} sync", event.sourceFile(), e);
+        }
+    }
+
+    @Override
+    public List<WatchlistEntry> getAllEntries() {
+        return snapshot.get().getEntries();
+    }
+
+    @Override
+    public List<WatchlistEntry> getEntriesBySource(String source) {
+        return snapshot.get().getEntriesBySource(source);
+    }
+
+    @Override
+    public CandidateIndex getCandidateIndex() {
+        return snapshot.get().getCandidateIndex();
+    }
+
+    @Override
+    public WatchlistColumns getColumns() {
+        return snapshot.get().getColumns();
+    }
+
+    @Override
+    public long getVersion() {
+        return snapshot.get().getVersion();
+    }
+
+    /**
+     * Get cache statistics
+     */
+    public WatchlistDataService.CacheStats getCacheStats() {
+        WatchlistSnapshot current = snapshot.get();
+        List<String> sources = current.getSources();
+        return WatchlistDataService.CacheStats.builder()
+                .totalEntries(current.size())
+                .sourceCount(sources.size())
+                .lastRefresh(current.getRefreshedAt())
+                .version(current.getVersion())
+                .sources(sources)
+                .build();
+    }
+
+    /**
+     * Stream the active entities of one list (all lists if null) as cache entries, page by page
+     */
+    private void load(String sourceFile, Consumer<WatchlistEntry> sink) {
+        PageRequest page = PageRequest.ofSize(Math.max(1, properties.getSanctionsPageSize()));
+        long afterId = 0L;
+
+        while (true) {
+            List<SanctionsEntityRepository.ScreeningView> entities =
+                    sanctionsRepository.findActiveForScreening(afterId, sourceFile, page);
+            if (entities.isEmpty()) {
+                return;
+            }
+
+            Map<Long, List<EntityNameRepository.ScreeningNameView>> namesByEntity = new HashMap<>();
+            List<Long> entityIds = entities.stream().map(SanctionsEntityRepository.ScreeningView::getEntityId).toList();
+            for (EntityNameRepository.ScreeningNameView name : nameRepository.findForScreening(entityIds)) {
+                namesByEntity.computeIfAbsent(name.getEntityId(), id -> new ArrayList<>()).add(name);
+            }
+
+            for (SanctionsEntityRepository.ScreeningView entity : entities) {
+                WatchlistEntry entry = toWatchlistEntry(entity,
+                        namesByEntity.getOrDefault(entity.getEntityId(), List.of()));
+                if (entry != null) {
+                    sink.accept(entry);
+                }
+            }
+
+            if (entities.size() < page.getPageSize()) {
+                return;
+            }
+            afterId = entities.get(entities.size() - 1).getEntityId();
+        }
+    }
+
+    /**
+     * Convert a sanctions entity to a cache entry: the primary name (or first listed name)
+     * becomes the name and every other distinct name an alias. Entities without any name are skipped.
+     */
+    private WatchlistEntry toWatchlistEntry(SanctionsEntityRepository.ScreeningView entity,
+                                            List<EntityNameRepository.ScreeningNameView> names) {
+        String primaryName = entity.getPrimaryName();
+        if (primaryName == null || primaryName.isBlank()) {
+            primaryName = names.stream()
+                    .filter(name -> "Primary".equalsIgnoreCase(name.getNameType()))
+                    .map(EntityNameRepository.ScreeningNameView::getFullName)
+                    .findFirst()
+                    .orElse(names.isEmpty() ? null : names.get(0).getFullName());
+        }
+        if (primaryName == null || primaryName.isBlank()) {
+            return null;
+        }
+
+        Set<String> aliases = new LinkedHashSet<>();
+        for (EntityNameRepository.ScreeningNameView name : names) {
+            String fullName = name.getFullName();
+            if (fullName != null && !fullName.isBlank() && !fullName.equalsIgnoreCase(primaryName)) {
+                aliases.add(fullName);
+            }
+        }
+
+        WatchlistEntry entry = WatchlistEntry.builder()
+                .id(entity.getEntityId())
+                .name(primaryName)
+                .aliases(new ArrayList<>(aliases))
+                .dateOfBirth(entity.getBirthDate())
+                .nationality(entity.getNationality())
+                .listSource(entity.getSourceFile())
+                .entryType(entity.getEntityType() != null ? entity.getEntityType().toUpperCase(Locale.ROOT) : null)
+                .build();
+        entry.setFeatures(featureCompiler.compileEntry(entry));
+        return entry;
+    }
+}
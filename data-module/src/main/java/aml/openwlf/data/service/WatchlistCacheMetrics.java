@@ -0,0 +1,57 @@
+package aml.openwlf.data.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Publishes size, version and age of the in-memory watchlist caches as gauges.
+ * The cache tag is "watchlist" for the watchlist_entries cache and "sanctions" for the synced
+ * sanctions lists; age is the time since the last full refresh (incremental saves keep it).
+ * Gauges read the current snapshot when the registry is scraped, so screening pays nothing.
+ */
+@Component
+@RequiredArgsConstructor
+public class WatchlistCacheMetrics implements MeterBinder {
+    
+    private final WatchlistDataService watchlistDataService;
+    private final SanctionsWatchlistService sanctionsWatchlistService;
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, "watchlist", watchlistDataService::getCacheStats);
+        bindCache(registry, "sanctions", sanctionsWatchlistService::getCacheStats);
+    }
+    
+    private static void bindCache(MeterRegistry registry, String cache,
+                                  Supplier<WatchlistDataService.CacheStats> stats) {
+        Gauge.builder("openwlf.watchlist.cache.entries", stats, current -> current.get().getTotalEntries())
+                .description("Entries in the published cache snapshot")
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("openwlf.watchlist.cache.version", stats, current -> current.get().getVersion())
+                .description("Version of the published cache snapshot")
+                .tag("cache", cache)
+                .register(registry);
+        TimeGauge.builder("openwlf.watchlist.cache.age", stats, TimeUnit.MILLISECONDS,
+                        current -> ageMillis(current.get().getLastRefresh()))
+                .description("Time since the cache was last fully refreshed")
+                .tag("cache", cache)
+                .register(registry);
+    }
+    
+    private static double ageMillis(LocalDateTime lastRefresh) {
+        if (lastRefresh == null) {
+            return Double.NaN;
+        }
+        return Duration.between(lastRefresh, LocalDateTime.now()).toMillis();
+    }
+}
@@ -1,7 +1,10 @@
 package aml.openwlf.data.service;
 
+import aml.openwlf.core.filtering.CandidateIndex;
 import aml.openwlf.core.filtering.WatchlistProvider;
+import aml.openwlf.core.matching.NameFeatureCompiler;
 import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.rule.WatchlistColumns;
 import aml.openwlf.core.rule.WatchlistEntry;
 import aml.openwlf.data.entity.WatchlistEntryEntity;
 import aml.openwlf.data.repository.WatchlistEntryRepository;
@@ -17,14 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing watchlist data with in-memory caching.
  * All active watchlist entries are loaded into memory at startup for fast filtering.
+ * The cache is an immutable snapshot swapped atomically on every change, so screening
+ * threads never block on a refresh and never observe a partially rebuilt cache.
  */
 @Slf4j
 @Service
@@ -34,18 +38,14 @@ public class WatchlistDataService implements WatchlistProvider {
     private final WatchlistEntryRepository repository;
     private final NormalizationService normalizationService;
     private final ObjectMapper objectMapper;
+    private final NameFeatureCompiler featureCompiler;
+    private final WatchlistSnapshotFile snapshotFile;
     
-    // In-memory cache for watchlist entries
-    private final Map<Long, WatchlistEntry> watchlistCache = new ConcurrentHashMap<>();
-    private final Map<String, List<WatchlistEntry>> sourceIndexCache = new ConcurrentHashMap<>();
-    private volatile List<WatchlistEntry> allEntriesCache = new ArrayList<>();
+    // Current immutable cache snapshot; readers never lock, writers publish a new snapshot
+    private final AtomicReference<WatchlistSnapshot> snapshot = new AtomicReference<>(WatchlistSnapshot.EMPTY);
     
-    // Read-write lock for cache operations
-    private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
-    
-    // Cache metadata
-    private volatile LocalDateTime lastCacheRefresh;
-    private volatile long cacheSize;
+    // Serializes cache writers so concurrent refreshes and saves never lose an update
+    private final ReentrantLock writeLock = new ReentrantLock();
     
     /**
      * Initialize cache on application startup
@@ -53,70 +53,98 @@ public class WatchlistDataService implements WatchlistProvider {
     @PostConstruct
     public void initializeCache() {
         log.info("Initializing watchlist cache...");
-        refreshCache();
-        log.info("Watchlist cache initialized with {} entries", cacheSize);
+        if (!loadFromSnapshotFile()) {
+            refreshCache();
+        }
+        log.info("Watchlist cache initialized with {} entries", snapshot.get().size());
     }
     
     /**
-     * Refresh the entire cache from database
+     * Load the cache from the snapshot file if it was written for the current database state.
+     * Skips the JPA load, alias parsing and feature compilation on restarts.
+     */
+    private boolean loadFromSnapshotFile() {
+        if (!snapshotFile.isEnabled()) {
+            return false;
+        }
+        
+        Optional<List<WatchlistEntry>> entries = snapshotFile.read(currentFingerprint());
+        if (entries.isEmpty()) {
+            return false;
+        }
+        
+        writeLock.lock();
+        try {
+            snapshot.set(WatchlistSnapshot.build(
+                    entries.get(), snapshot.get().getVersion() + 1, LocalDateTime.now()));
+        } finally {
+            writeLock.unlock();
+        }
+        return true;
+    }
+    
+    /**
+     * Refresh the entire cache from database.
+     * The new snapshot is built while readers keep using the current one, then swapped in atomically.
      */
     @Transactional(readOnly = true)
     public void refreshCache() {
-        cacheLock.writeLock().lock();
+        WatchlistSnapshot refreshed;
+        WatchlistSnapshotFile.Fingerprint fingerprint = null;
+        writeLock.lock();
         try {
             log.info("Refreshing watchlist cache from database...");
             long startTime = System.currentTimeMillis();
             
-            // Clear existing cache
-            watchlistCache.clear();
-            sourceIndexCache.clear();
+            // Read the fingerprint first so a change during the load makes the file stale, not wrong
+            if (snapshotFile.isEnabled()) {
+                fingerprint = currentFingerprint();
+            }
             
             // Load all active entries from database
             List<WatchlistEntryEntity> entities = repository.findByIsActiveTrue();
             
-            // Build cache
             List<WatchlistEntry> allEntries = new ArrayList<>(entities.size());
-            Map<String, List<WatchlistEntry>> sourceIndex = new HashMap<>();
-            
             for (WatchlistEntryEntity entity : entities) {
-                WatchlistEntry entry = toWatchlistEntry(entity);
-                watchlistCache.put(entity.getId(), entry);
-                allEntries.add(entry);
-                
-                // Build source index
-                sourceIndex.computeIfAbsent(entity.getListSource(), k -> new ArrayList<>())
-                        .add(entry);
+                allEntries.add(toWatchlistEntry(entity));
             }
             
-            // Update source index cache
-            sourceIndexCache.putAll(sourceIndex);
-            
-            // Update all entries cache (immutable copy for thread safety)
-            allEntriesCache = Collections.unmodifiableList(allEntries);
-            
-            // Update metadata
-            cacheSize = allEntries.size();
-            lastCacheRefresh = LocalDateTime.now();
+            refreshed = WatchlistSnapshot.build(
+                    allEntries, snapshot.get().getVersion() + 1, LocalDateTime.now());
+            snapshot.set(refreshed);
             
             long duration = System.currentTimeMillis() - startTime;
-            log.info("Watchlist cache refreshed: {} entries loaded in {}ms", cacheSize, duration);
+            log.info("Watchlist cache refreshed: {} entries loaded in {}ms", refreshed.size(), duration);
             
         } finally {
-            cacheLock.writeLock().unlock();
+            writeLock.unlock();
+        }
+        
+        if (fingerprint != null) {
+            writeSnapshotFile(refreshed.getEntries(), fingerprint);
         }
     }
     
+    private void writeSnapshotFile(List<WatchlistEntry> entries, WatchlistSnapshotFile.Fingerprint fingerprint) {
+        try {
+            snapshotFile.write(entries, fingerprint);
+        } catch (Exception e) {
+            // The cache is already published; the next start falls back to the database
+            log.warn("Failed to write watchlist snapshot file", e);
+        }
+    }
+    
+    private WatchlistSnapshotFile.Fingerprint currentFingerprint() {
+        return new WatchlistSnapshotFile.Fingerprint(
+                repository.countByIsActiveTrue(), repository.findLastUpdatedAt());
+    }
+    
     /**
      * Get all watchlist entries from cache (used for filtering)
      */
     @Override
     public List<WatchlistEntry> getAllEntries() {
-        cacheLock.readLock().lock();
-        try {
-            return allEntriesCache;
-        } finally {
-            cacheLock.readLock().unlock();
-        }
+        return snapshot.get().getEntries();
     }
     
     /**
@@ -124,41 +152,53 @@ public class WatchlistDataService implements WatchlistProvider {
      */
     @Override
     public List<WatchlistEntry> getEntriesBySource(String source) {
-        cacheLock.readLock().lock();
-        try {
-            return sourceIndexCache.getOrDefault(source, Collections.emptyList());
-        } finally {
-            cacheLock.readLock().unlock();
-        }
+        return snapshot.get().getEntriesBySource(source);
+    }
+    
+    /**
+     * Get the candidate index built over the cached entries
+     */
+    @Override
+    public CandidateIndex getCandidateIndex() {
+        return snapshot.get().getCandidateIndex();
+    }
+    
+    /**
+     * Get the column layout of the cached entries
+     */
+    @Override
+    public WatchlistColumns getColumns() {
+        return snapshot.get().getColumns();
+    }
+    
+    /**
+     * Version of the cached entries (advanced on refresh, save and delete)
+     */
+    @Override
+    public long getVersion() {
+        return snapshot.get().getVersion();
     }
     
     /**
      * Get a specific entry from cache by ID
      */
     public Optional<WatchlistEntry> getEntryFromCache(Long id) {
-        cacheLock.readLock().lock();
-        try {
-            return Optional.ofNullable(watchlistCache.get(id));
-        } finally {
-            cacheLock.readLock().unlock();
-        }
+        return Optional.ofNullable(snapshot.get().getEntry(id));
     }
     
     /**
      * Get cache statistics
      */
     public CacheStats getCacheStats() {
-        cacheLock.readLock().lock();
-        try {
-            return CacheStats.builder()
-                    .totalEntries(cacheSize)
-                    .sourceCount(sourceIndexCache.size())
-                    .lastRefresh(lastCacheRefresh)
-                    .sources(new ArrayList<>(sourceIndexCache.keySet()))
-                    .build();
-        } finally {
-            cacheLock.readLock().unlock();
-        }
+        WatchlistSnapshot current = snapshot.get();
+        List<String> sources = current.getSources();
+        return CacheStats.builder()
+                .totalEntries(current.size())
+                .sourceCount(sources.size())
+                .lastRefresh(current.getRefreshedAt())
+                .version(current.getVersion())
+                .sources(sources)
+                .build();
     }
     
     /**
@@ -220,13 +260,14 @@ public class WatchlistDataService implements WatchlistProvider {
     public WatchlistStats getStatistics() {
         long totalCount = repository.count();
         long activeCount = repository.countByIsActiveTrue();
+        WatchlistSnapshot current = snapshot.get();
         
         return WatchlistStats.builder()
                 .totalEntries(totalCount)
                 .activeEntries(activeCount)
                 .inactiveEntries(totalCount - activeCount)
-                .cachedEntries(cacheSize)
-                .lastCacheRefresh(lastCacheRefresh)
+                .cachedEntries(current.size())
+                .lastCacheRefresh(current.getRefreshedAt())
                 .build();
     }
     
@@ -249,16 +290,25 @@ public class WatchlistDataService implements WatchlistProvider {
     }
     
     /**
-     * Save multiple entries and refresh cache
+     * Save multiple entries and apply them to the cache as one new snapshot version
      */
     @Transactional
     public void saveAll(List<WatchlistEntryEntity> entities) {
         entities.forEach(entity -> 
                 entity.setNormalizedName(normalizationService.normalizeName(entity.getName())));
-        repository.saveAll(entities);
+        List<WatchlistEntryEntity> saved = repository.saveAll(entities);
         
-        // Refresh entire cache for bulk operations
-        refreshCache();
+        // Apply only the saved entries instead of reloading the whole watchlist
+        List<WatchlistEntry> upserts = new ArrayList<>();
+        List<Long> removals = new ArrayList<>();
+        for (WatchlistEntryEntity entity : saved) {
+            if (Boolean.TRUE.equals(entity.getIsActive())) {
+                upserts.add(toWatchlistEntry(entity));
+            } else {
+                removals.add(entity.getId());
+            }
+        }
+        applyCacheChanges(upserts, removals);
     }
     
     /**
@@ -274,63 +324,31 @@ public class WatchlistDataService implements WatchlistProvider {
      * Update a single entry in cache
      */
     private void updateCacheEntry(WatchlistEntryEntity entity) {
-        cacheLock.writeLock().lock();
-        try {
-            WatchlistEntry entry = toWatchlistEntry(entity);
-            WatchlistEntry oldEntry = watchlistCache.put(entity.getId(), entry);
-            
-            // Rebuild all entries list
-            List<WatchlistEntry> newAllEntries = new ArrayList<>(watchlistCache.values());
-            allEntriesCache = Collections.unmodifiableList(newAllEntries);
-            
-            // Update source index
-            if (oldEntry != null && !oldEntry.getListSource().equals(entry.getListSource())) {
-                // Source changed - remove from old source index
-                List<WatchlistEntry> oldSourceList = sourceIndexCache.get(oldEntry.getListSource());
-                if (oldSourceList != null) {
-                    oldSourceList.removeIf(e -> e.getId().equals(entity.getId()));
-                }
-            }
-            
-            // Add to current source index
-            sourceIndexCache.computeIfAbsent(entity.getListSource(), k -> new ArrayList<>())
-                    .removeIf(e -> e.getId().equals(entity.getId()));
-            sourceIndexCache.get(entity.getListSource()).add(entry);
-            
-            cacheSize = watchlistCache.size();
-            
-            log.debug("Cache updated for entry ID: {}", entity.getId());
-            
-        } finally {
-            cacheLock.writeLock().unlock();
-        }
+        applyCacheChanges(List.of(toWatchlistEntry(entity)), List.of());
+        log.debug("Cache updated for entry ID: {}", entity.getId());
     }
     
     /**
      * Remove an entry from cache
      */
     private void removeCacheEntry(Long id) {
-        cacheLock.writeLock().lock();
+        applyCacheChanges(List.of(), List.of(id));
+        log.debug("Cache entry removed for ID: {}", id);
+    }
+    
+    /**
+     * Publish the current snapshot with the changes applied; no new version when nothing changed
+     */
+    private void applyCacheChanges(List<WatchlistEntry> upserts, List<Long> removals) {
+        writeLock.lock();
         try {
-            WatchlistEntry removed = watchlistCache.remove(id);
-            
-            if (removed != null) {
-                // Rebuild all entries list
-                List<WatchlistEntry> newAllEntries = new ArrayList<>(watchlistCache.values());
-                allEntriesCache = Collections.unmodifiableList(newAllEntries);
-                
-                // Update source index
-                List<WatchlistEntry> sourceList = sourceIndexCache.get(removed.getListSource());
-                if (sourceList != null) {
-                    sourceList.removeIf(e -> e.getId().equals(id));
-                }
-                
-                cacheSize = watchlistCache.size();
-                
-                log.debug("Cache entry removed for ID: {}", id);
+            WatchlistSnapshot current = snapshot.get();
+            WatchlistSnapshot updated = current.apply(upserts, removals);
+            if (updated != current) {
+                snapshot.set(updated);
             }
         } finally {
-            cacheLock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
     
@@ -346,8 +364,12 @@ public class WatchlistDataService implements WatchlistProvider {
         return aliases;
     }
     
+    /**
+     * Convert entity to a cache entry with its match features precompiled,
+     * so evaluators only pay the customer-side cost per request.
+     */
     private WatchlistEntry toWatchlistEntry(WatchlistEntryEntity entity) {
-        return WatchlistEntry.builder()
+        WatchlistEntry entry = WatchlistEntry.builder()
                 .id(entity.getId())
                 .name(entity.getName())
                 .aliases(parseAliases(entity))
@@ -356,6 +378,8 @@ public class WatchlistDataService implements WatchlistProvider {
                 .listSource(entity.getListSource())
                 .entryType(entity.getEntryType())
                 .build();
+        entry.setFeatures(featureCompiler.compileEntry(entry));
+        return entry;
     }
     
     @lombok.Data
@@ -378,6 +402,7 @@ public class WatchlistDataService implements WatchlistProvider {
         private long totalEntries;
         private int sourceCount;
         private LocalDateTime lastRefresh;
+        private long version;
         private List<String> sources;
     }
 }
@@ -0,0 +1,344 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.collection.LongIntHashMap;
+import aml.openwlf.core.filtering.CandidateIndex;
+import aml.openwlf.core.rule.WatchlistColumns;
+import aml.openwlf.core.rule.WatchlistEntry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable view of the cached watchlist published by WatchlistDataService.
+ * A snapshot is fully built before it is published and never modified afterwards, so readers
+ * use it without locking. Changes produce a new snapshot with the next version; the previous
+ * one stays valid for requests still holding it and is garbage collected once they finish.
+ *
+ * Entries live in numbered slots. Freed slots go on a free list and are reused by later inserts,
+ * and every list source keeps a bitset of its slots. Slots, bitsets and the id index are split
+ * into fixed-size chunks that successive snapshots share, so applying a change copies only the
+ * chunks it touches plus the small chunk tables; the candidate index is updated the same way.
+ * Dense entry lists and the column layout are materialized on first read of each snapshot.
+ */
+final class WatchlistSnapshot {
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int WORDS_PER_CHUNK = CHUNK_SIZE / Long.SIZE;
+    private static final int ID_SEGMENTS = 256;
+    private static final LongIntHashMap NO_IDS = new LongIntHashMap();
+
+    static final WatchlistSnapshot EMPTY = build(List.of(), 0L, null);
+
+    private final WatchlistEntry[][] slotChunks;
+    private final int slotCount;
+    private final int size;
+    private final FreeSlot freeSlots;
+    private final LongIntHashMap[] idSegments;
+    private final Map<String, long[][]> sourceSlots;
+    private final Map<String, Integer> sourceSizes;
+    private final CandidateIndex candidateIndex;
+    private final long version;
+    private final LocalDateTime refreshedAt;
+
+    private volatile List<WatchlistEntry> entries;
+    private volatile WatchlistColumns columns;
+    private final Map<String, List<WatchlistEntry>> entriesBySource = new ConcurrentHashMap<>();
+
+    private WatchlistSnapshot(WatchlistEntry[][] slotChunks, int slotCount, int size, FreeSlot freeSlots,
+                              LongIntHashMap[] idSegments, Map<String, long[][]> sourceSlots,
+                              Map<String, Integer> sourceSizes, CandidateIndex candidateIndex,
+                              long version, LocalDateTime refreshedAt) {
+        this.slotChunks = slotChunks;
+        this.slotCount = slotCount;
+        this.size = size;
+        this.freeSlots = freeSlots;
+        this.idSegments = idSegments;
+        this.sourceSlots = sourceSlots;
+        this.sourceSizes = sourceSizes;
+        this.candidateIndex = candidateIndex;
+        this.version = version;
+        this.refreshedAt = refreshedAt;
+    }
+
+    /**
+     * Build a snapshot over the given entries, placing them in consecutive slots
+     */
+    static WatchlistSnapshot build(List<WatchlistEntry> entries, long version, LocalDateTime refreshedAt) {
+        Changes changes = new Changes(new WatchlistEntry[0][], 0, 0, null, newIdSegments(), Map.of(), Map.of());
+        for (WatchlistEntry entry : entries) {
+            changes.upsert(entry);
+        }
+
+        WatchlistSnapshot snapshot = changes.toSnapshot(CandidateIndex.build(entries), version, refreshedAt);
+        snapshot.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+        return snapshot;
+    }
+
+    /**
+     * Next snapshot with the upserts and removals applied, in time proportional to the number of changes.
+     * Upserts replace the cached entry with the same id in its slot; removals of ids that are not cached
+     * are ignored. Returns this snapshot if nothing changed.
+     */
+    WatchlistSnapshot apply(Collection<WatchlistEntry> upserts, Collection<Long> removals) {
+        Changes changes = new Changes(slotChunks.clone(), slotCount, size, freeSlots,
+                idSegments.clone(), sourceSlots, sourceSizes);
+        for (Long id : removals) {
+            changes.remove(id);
+        }
+        for (WatchlistEntry entry : upserts) {
+            changes.upsert(entry);
+        }
+        if (changes.changedSlots.isEmpty()) {
+            return this;
+        }
+
+        CandidateIndex index = candidateIndex.withChanges(changes.changedSlots, changes::slot, changes.slotCount);
+        return changes.toSnapshot(index, version + 1, refreshedAt);
+    }
+
+    List<WatchlistEntry> getEntries() {
+        List<WatchlistEntry> current = entries;
+        if (current == null) {
+            List<WatchlistEntry> building = new ArrayList<>(size);
+            for (int slot = 0; slot < slotCount; slot++) {
+                WatchlistEntry entry = slotChunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK];
+                if (entry != null) {
+                    building.add(entry);
+                }
+            }
+            current = Collections.unmodifiableList(building);
+            entries = current;
+        }
+        return current;
+    }
+
+    /**
+     * Column layout over the dense entries, in the same order
+     */
+    WatchlistColumns getColumns() {
+        WatchlistColumns current = columns;
+        if (current == null) {
+            current = WatchlistColumns.build(getEntries());
+            columns = current;
+        }
+        return current;
+    }
+
+    WatchlistEntry getEntry(long id) {
+        int slot = idSegments[segment(id)].get(id);
+        return slot != LongIntHashMap.MISSING ? slotChunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK] : null;
+    }
+
+    List<WatchlistEntry> getEntriesBySource(String source) {
+        long[][] bits = sourceSlots.get(source);
+        if (bits == null) {
+            return Collections.emptyList();
+        }
+        return entriesBySource.computeIfAbsent(source, key -> {
+            List<WatchlistEntry> building = new ArrayList<>(sourceSizes.get(key));
+            for (int chunk = 0; chunk < bits.length; chunk++) {
+                if (bits[chunk] == null) {
+                    continue;
+                }
+                for (int word = 0; word < WORDS_PER_CHUNK; word++) {
+                    long remaining = bits[chunk][word];
+                    while (remaining != 0L) {
+                        int slot = (chunk << CHUNK_SHIFT) + word * Long.SIZE + Long.numberOfTrailingZeros(remaining);
+                        building.add(slotChunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK]);
+                        remaining &= remaining - 1;
+                    }
+                }
+            }
+            return Collections.unmodifiableList(building);
+        });
+    }
+
+    List<String> getSources() {
+        return new ArrayList<>(sourceSlots.keySet());
+    }
+
+    CandidateIndex getCandidateIndex() {
+        return candidateIndex;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Time of the full refresh this snapshot descends from (null before the first refresh)
+     */
+    LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    private static int segment(long id) {
+        int hash = Long.hashCode(id);
+        return (hash ^ (hash >>> 16)) & (ID_SEGMENTS - 1);
+    }
+
+    private static LongIntHashMap[] newIdSegments() {
+        LongIntHashMap[] segments = new LongIntHashMap[ID_SEGMENTS];
+        Arrays.fill(segments, NO_IDS);
+        return segments;
+    }
+
+    /**
+     * Persistent stack of free slots, shared between snapshots
+     */
+    private record FreeSlot(int slot, FreeSlot next) {}
+
+    /**
+     * Mutable working copy used to derive the next snapshot. Chunk tables are copied up front;
+     * a chunk, id segment or source bitset is copied the first time this change set touches it,
+     * so structures shared with the previous snapshot are never written.
+     */
+    private static final class Changes {
+
+        private WatchlistEntry[][] slotChunks;
+        private int slotCount;
+        private int size;
+        private FreeSlot freeSlots;
+        private final LongIntHashMap[] idSegments;
+        private final Map<String, long[][]> sourceSlots;
+        private final Map<String, Integer> sourceSizes;
+
+        private final boolean[] copiedIdSegments = new boolean[ID_SEGMENTS];
+        private boolean[] copiedSlotChunks;
+        private final Map<String, boolean[]> copiedSourceChunks = new HashMap<>();
+
+        private final Map<Integer, WatchlistEntry> changedSlots = new LinkedHashMap<>();
+
+        Changes(WatchlistEntry[][] slotChunks, int slotCount, int size, FreeSlot freeSlots,
+                LongIntHashMap[] idSegments, Map<String, long[][]> sourceSlots,
+                Map<String, Integer> sourceSizes) {
+            this.slotChunks = slotChunks;
+            this.slotCount = slotCount;
+            this.size = size;
+            this.freeSlots = freeSlots;
+            this.idSegments = idSegments;
+            this.sourceSlots = new HashMap<>(sourceSlots);
+            this.sourceSizes = new HashMap<>(sourceSizes);
+            this.copiedSlotChunks = new boolean[slotChunks.length];
+        }
+
+        void upsert(WatchlistEntry entry) {
+            long id = entry.getId();
+            int existing = idSegments[segment(id)].get(id);
+            if (existing != LongIntHashMap.MISSING) {
+                WatchlistEntry previous = slot(existing);
+                clearSourceBit(previous.getListSource(), existing);
+                setSlot(existing, entry);
+                setSourceBit(entry.getListSource(), existing);
+                return;
+            }
+
+            int slot;
+            if (freeSlots != null) {
+                slot = freeSlots.slot();
+                freeSlots = freeSlots.next();
+            } else {
+                slot = slotCount++;
+            }
+            setSlot(slot, entry);
+            setSourceBit(entry.getListSource(), slot);
+            writableIdSegment(id).put(id, slot);
+            size++;
+        }
+
+        void remove(long id) {
+            if (!idSegments[segment(id)].containsKey(id)) {
+                return;
+            }
+            int slot = writableIdSegment(id).remove(id);
+            clearSourceBit(slot(slot).getListSource(), slot);
+            setSlot(slot, null);
+            freeSlots = new FreeSlot(slot, freeSlots);
+            size--;
+        }
+
+        WatchlistEntry slot(int slot) {
+            return slotChunks[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK];
+        }
+
+        WatchlistSnapshot toSnapshot(CandidateIndex index, long version, LocalDateTime refreshedAt) {
+            return new WatchlistSnapshot(slotChunks, slotCount, size, freeSlots, idSegments,
+                    Collections.unmodifiableMap(sourceSlots), Collections.unmodifiableMap(sourceSizes),
+                    index, version, refreshedAt);
+        }
+
+        private void setSlot(int slot, WatchlistEntry entry) {
+            int chunk = slot >>> CHUNK_SHIFT;
+            if (chunk >= slotChunks.length) {
+                slotChunks = Arrays.copyOf(slotChunks, Math.max(chunk + 1, slotChunks.length * 2));
+                copiedSlotChunks = Arrays.copyOf(copiedSlotChunks, slotChunks.length);
+            }
+            if (!copiedSlotChunks[chunk]) {
+                slotChunks[chunk] = slotChunks[chunk] != null ? slotChunks[chunk].clone() : new WatchlistEntry[CHUNK_SIZE];
+                copiedSlotChunks[chunk] = true;
+            }
+            slotChunks[chunk][slot & CHUNK_MASK] = entry;
+            changedSlots.put(slot, entry);
+        }
+
+        private LongIntHashMap writableIdSegment(long id) {
+            int segment = segment(id);
+            if (!copiedIdSegments[segment]) {
+                idSegments[segment] = idSegments[segment].copy();
+                copiedIdSegments[segment] = true;
+            }
+            return idSegments[segment];
+        }
+
+        private void setSourceBit(String source, int slot) {
+            long[] words = writableSourceChunk(source, slot >>> CHUNK_SHIFT);
+            words[(slot & CHUNK_MASK) >>> 6] |= 1L << slot;
+            sourceSizes.merge(source, 1, Integer::sum);
+        }
+
+        private void clearSourceBit(String source, int slot) {
+            long[] words = writableSourceChunk(source, slot >>> CHUNK_SHIFT);
+            words[(slot & CHUNK_MASK) >>> 6] &= ~(1L << slot);
+            if (sourceSizes.merge(source, -1, Integer::sum) == 0) {
+                sourceSizes.remove(source);
+                sourceSlots.remove(source);
+                copiedSourceChunks.remove(source);
+            }
+        }
+
+        private long[] writableSourceChunk(String source, int chunk) {
+            long[][] bits = sourceSlots.get(source);
+            boolean[] copied = copiedSourceChunks.get(source);
+            if (copied == null) {
+                bits = bits != null ? bits.clone() : new long[0][];
+                copied = new boolean[bits.length];
+                copiedSourceChunks.put(source, copied);
+            }
+            if (chunk >= bits.length) {
+                bits = Arrays.copyOf(bits, Math.max(chunk + 1, bits.length * 2));
+                copied = Arrays.copyOf(copied, bits.length);
+                copiedSourceChunks.put(source, copied);
+            }
+            if (!copied[chunk]) {
+                bits[chunk] = bits[chunk] != null ? bits[chunk].clone() : new long[WORDS_PER_CHUNK];
+                copied[chunk] = true;
+            }
+            sourceSlots.put(source, bits);
+            return bits[chunk];
+        }
+    }
+}
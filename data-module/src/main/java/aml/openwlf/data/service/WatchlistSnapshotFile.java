@@ -0,0 +1,458 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.matching.EntryFeatures;
+import aml.openwlf.core.matching.NameFeatures;
+import aml.openwlf.core.matching.strategy.JaroWinklerMatchingStrategy.TokenProfile;
+import aml.openwlf.core.matching.strategy.KoreanNameMatchingStrategy.KoreanProfile;
+import aml.openwlf.core.matching.strategy.MetaphoneMatchingStrategy.MetaphoneResult;
+import aml.openwlf.core.matching.strategy.NGramMatchingStrategy.NGramProfile;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.data.config.WatchlistSnapshotFileProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary file holding the compiled watchlist cache, so a restart can skip the JPA load,
+ * alias JSON parsing and feature compilation when the database has not changed.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * header   magic, format version, source fingerprint, entry/string counts,
+ *          section offsets, body length, CRC32C of the body
+ * strings  every distinct string once: byte length + UTF-8 bytes
+ * entries  per entry: id, string refs for the fields and aliases, DOB as epoch day,
+ *          then the precomputed match features of the name and each alias as string refs
+ *          (n-gram sets as their packed, sorted integer arrays)
+ * offsets  start of each entry within the body, for random access
+ * </pre>
+ * The file is written to a temporary file and moved into place, and read through a
+ * read-only memory mapping. A file whose magic, version, fingerprint, length or checksum
+ * does not match is ignored.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatchlistSnapshotFile {
+
+    private static final int MAGIC = 0x4F574C53; // "OWLS"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 64;
+    private static final int NULL_REF = -1;
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+
+    private final WatchlistSnapshotFileProperties properties;
+
+    /**
+     * Database state a snapshot was built from: active entry count and latest row update
+     */
+    public record Fingerprint(long activeCount, LocalDateTime lastUpdatedAt) {
+
+        long encodedLastUpdatedAt() {
+            if (lastUpdatedAt == null) {
+                return Long.MIN_VALUE;
+            }
+            return lastUpdatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + lastUpdatedAt.getNano();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Write the entries with their features, replacing any previous file
+     */
+    public void write(List<WatchlistEntry> entries, Fingerprint fingerprint) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Path target = Path.of(properties.getPath()).toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+
+        try {
+            Map<String, Integer> strings = new LinkedHashMap<>();
+            for (WatchlistEntry entry : entries) {
+                collectStrings(entry, strings);
+            }
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.position(HEADER_SIZE);
+                CRC32C crc = new CRC32C();
+                DataOutputStream body = new DataOutputStream(new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), crc));
+
+                for (String value : strings.keySet()) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    body.writeInt(bytes.length);
+                    body.write(bytes);
+                }
+
+                int entriesOffset = body.size();
+                int[] entryOffsets = new int[entries.size()];
+                for (int i = 0; i < entries.size(); i++) {
+                    entryOffsets[i] = body.size();
+                    writeEntry(body, entries.get(i), strings);
+                }
+
+                int offsetsOffset = body.size();
+                for (int offset : entryOffsets) {
+                    body.writeInt(offset);
+                }
+                body.flush();
+                long bodyLength = body.size();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC)
+                        .putInt(FORMAT_VERSION)
+                        .putLong(fingerprint.activeCount())
+                        .putLong(fingerprint.encodedLastUpdatedAt())
+                        .putInt(entries.size())
+                        .putInt(strings.size())
+                        .putInt(entriesOffset)
+                        .putInt(offsetsOffset)
+                        .putLong(bodyLength)
+                        .putLong(crc.getValue());
+                header.rewind();
+                channel.write(header, 0);
+                channel.force(true);
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Watchlist snapshot file written: {} entries, {} strings, {} bytes in {}ms",
+                    entries.size(), strings.size(), Files.size(target), System.currentTimeMillis() - startTime);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Read the entries from the file if it exists, is intact and was built from the given database state
+     */
+    public Optional<List<WatchlistEntry>> read(Fingerprint fingerprint) {
+        Path path = Path.of(properties.getPath()).toAbsolutePath();
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        long startTime = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                log.warn("Ignoring watchlist snapshot file {}: unexpected size {}", path, fileSize);
+                return Optional.empty();
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            String rejection = validate(mapped, fileSize, fingerprint);
+            if (rejection != null) {
+                log.info("Ignoring watchlist snapshot file {}: {}", path, rejection);
+                return Optional.empty();
+            }
+
+            List<WatchlistEntry> entries = decode(mapped);
+            log.info("Watchlist snapshot file loaded: {} entries in {}ms",
+                    entries.size(), System.currentTimeMillis() - startTime);
+            return Optional.of(entries);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read watchlist snapshot file {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reason to reject the mapped file, or null if it can be used
+     */
+    private static String validate(ByteBuffer file, long fileSize, Fingerprint fingerprint) {
+        if (file.getInt(0) != MAGIC) {
+            return "not a watchlist snapshot";
+        }
+        if (file.getInt(4) != FORMAT_VERSION) {
+            return "format version " + file.getInt(4) + " (expected " + FORMAT_VERSION + ")";
+        }
+        if (file.getLong(8) != fingerprint.activeCount()
+                || file.getLong(16) != fingerprint.encodedLastUpdatedAt()) {
+            return "built from a different database state";
+        }
+        long bodyLength = file.getLong(40);
+        if (bodyLength != fileSize - HEADER_SIZE) {
+            return "truncated";
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(file.duplicate().position(HEADER_SIZE).limit((int) fileSize));
+        if (crc.getValue() != file.getLong(48)) {
+            return "checksum mismatch";
+        }
+        return null;
+    }
+
+    private static List<WatchlistEntry> decode(ByteBuffer file) {
+        int entryCount = file.getInt(24);
+        int stringCount = file.getInt(28);
+        int offsetsOffset = file.getInt(36);
+        ByteBuffer body = file.duplicate().position(HEADER_SIZE).slice();
+
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[body.getInt()];
+            body.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        List<WatchlistEntry> entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            body.position(body.getInt(offsetsOffset + i * Integer.BYTES));
+            entries.add(readEntry(body, strings));
+        }
+        return entries;
+    }
+
+    private static void collectStrings(WatchlistEntry entry, Map<String, Integer> strings) {
+        List<String> values = new ArrayList<>();
+        values.add(entry.getName());
+        values.add(entry.getNationality());
+        values.add(entry.getListSource());
+        values.add(entry.getEntryType());
+        if (entry.getAliases() != null) {
+            values.addAll(entry.getAliases());
+        }
+        EntryFeatures features = entry.getFeatures();
+        if (features != null) {
+            collectStrings(features.name(), values);
+            features.aliases().forEach(alias -> collectStrings(alias, values));
+        }
+        for (String value : values) {
+            if (value != null) {
+                strings.putIfAbsent(value, strings.size());
+            }
+        }
+    }
+
+    private static void collectStrings(NameFeatures features, List<String> values) {
+        values.add(features.value());
+        values.add(features.normalizedName());
+        if (features.jaroWinkler() != null) {
+            values.add(features.jaroWinkler().normalized());
+            Collections.addAll(values, features.jaroWinkler().tokens());
+        }
+        if (features.metaphone() != null) {
+            values.add(features.metaphone().primary());
+            values.add(features.metaphone().alternate());
+        }
+        values.add(features.soundexCode());
+        if (features.bigrams() != null) {
+            values.add(features.bigrams().normalized());
+        }
+        if (features.korean() != null) {
+            values.add(features.korean().syllables());
+            values.add(features.korean().chosung());
+            values.add(features.korean().jamo());
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, WatchlistEntry entry, Map<String, Integer> strings)
+            throws IOException {
+        out.writeLong(entry.getId() != null ? entry.getId() : Long.MIN_VALUE);
+        writeRef(out, entry.getName(), strings);
+        out.writeInt(entry.getDateOfBirth() != null ? (int) entry.getDateOfBirth().toEpochDay() : NULL_DATE);
+        writeRef(out, entry.getNationality(), strings);
+        writeRef(out, entry.getListSource(), strings);
+        writeRef(out, entry.getEntryType(), strings);
+
+        List<String> aliases = entry.getAliases();
+        out.writeInt(aliases != null ? aliases.size() : -1);
+        if (aliases != null) {
+            for (String alias : aliases) {
+                writeRef(out, alias, strings);
+            }
+        }
+
+        EntryFeatures features = entry.getFeatures();
+        out.writeBoolean(features != null);
+        if (features != null) {
+            writeFeatures(out, features.name(), strings);
+            out.writeInt(features.aliases().size());
+            for (NameFeatures alias : features.aliases()) {
+                writeFeatures(out, alias, strings);
+            }
+        }
+    }
+
+    private static void writeFeatures(DataOutputStream out, NameFeatures features, Map<String, Integer> strings)
+            throws IOException {
+        writeRef(out, features.value(), strings);
+        writeRef(out, features.normalizedName(), strings);
+
+        TokenProfile jaroWinkler = features.jaroWinkler();
+        out.writeBoolean(jaroWinkler != null);
+        if (jaroWinkler != null) {
+            writeRef(out, jaroWinkler.normalized(), strings);
+            out.writeInt(jaroWinkler.tokens().length);
+            for (String token : jaroWinkler.tokens()) {
+                writeRef(out, token, strings);
+            }
+        }
+
+        MetaphoneResult metaphone = features.metaphone();
+        out.writeBoolean(metaphone != null);
+        if (metaphone != null) {
+            writeRef(out, metaphone.primary(), strings);
+            writeRef(out, metaphone.alternate(), strings);
+        }
+
+        writeRef(out, features.soundexCode(), strings);
+
+        NGramProfile bigrams = features.bigrams();
+        out.writeBoolean(bigrams != null);
+        if (bigrams != null) {
+            writeRef(out, bigrams.normalized(), strings);
+            out.writeInt(bigrams.n());
+            int[] grams = bigrams.grams();
+            out.writeInt(grams != null ? grams.length : -1);
+            if (grams != null) {
+                for (int gram : grams) {
+                    out.writeInt(gram);
+                }
+            }
+            long[] wideGrams = bigrams.wideGrams();
+            out.writeInt(wideGrams != null ? wideGrams.length : -1);
+            if (wideGrams != null) {
+                for (long gram : wideGrams) {
+                    out.writeLong(gram);
+                }
+            }
+        }
+
+        KoreanProfile korean = features.korean();
+        out.writeBoolean(korean != null);
+        if (korean != null) {
+            writeRef(out, korean.syllables(), strings);
+            writeRef(out, korean.chosung(), strings);
+            writeRef(out, korean.jamo(), strings);
+        }
+    }
+
+    private static void writeRef(DataOutputStream out, String value, Map<String, Integer> strings) throws IOException {
+        out.writeInt(value != null ? strings.get(value) : NULL_REF);
+    }
+
+    private static WatchlistEntry readEntry(ByteBuffer in, String[] strings) {
+        long id = in.getLong();
+        String name = readRef(in, strings);
+        int epochDay = in.getInt();
+        String nationality = readRef(in, strings);
+        String listSource = readRef(in, strings);
+        String entryType = readRef(in, strings);
+
+        List<String> aliases = null;
+        int aliasCount = in.getInt();
+        if (aliasCount >= 0) {
+            aliases = new ArrayList<>(aliasCount);
+            for (int i = 0; i < aliasCount; i++) {
+                aliases.add(readRef(in, strings));
+            }
+        }
+
+        WatchlistEntry entry = WatchlistEntry.builder()
+                .id(id != Long.MIN_VALUE ? id : null)
+                .name(name)
+                .aliases(aliases)
+                .dateOfBirth(epochDay != NULL_DATE ? LocalDate.ofEpochDay(epochDay) : null)
+                .nationality(nationality)
+                .listSource(listSource)
+                .entryType(entryType)
+                .build();
+
+        if (in.get() != 0) {
+            NameFeatures nameFeatures = readFeatures(in, strings);
+            int featureAliasCount = in.getInt();
+            List<NameFeatures> aliasFeatures = new ArrayList<>(featureAliasCount);
+            for (int i = 0; i < featureAliasCount; i++) {
+                aliasFeatures.add(readFeatures(in, strings));
+            }
+            entry.setFeatures(new EntryFeatures(nameFeatures, Collections.unmodifiableList(aliasFeatures)));
+        }
+        return entry;
+    }
+
+    private static NameFeatures readFeatures(ByteBuffer in, String[] strings) {
+        String value = readRef(in, strings);
+        String normalizedName = readRef(in, strings);
+
+        TokenProfile jaroWinkler = null;
+        if (in.get() != 0) {
+            String normalized = readRef(in, strings);
+            String[] tokens = new String[in.getInt()];
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i] = readRef(in, strings);
+            }
+            jaroWinkler = new TokenProfile(normalized, tokens);
+        }
+
+        MetaphoneResult metaphone = null;
+        if (in.get() != 0) {
+            metaphone = new MetaphoneResult(readRef(in, strings), readRef(in, strings));
+        }
+
+        String soundexCode = readRef(in, strings);
+
+        NGramProfile bigrams = null;
+        if (in.get() != 0) {
+            String normalized = readRef(in, strings);
+            int n = in.getInt();
+            int[] grams = null;
+            int gramCount = in.getInt();
+            if (gramCount >= 0) {
+                grams = new int[gramCount];
+                for (int i = 0; i < gramCount; i++) {
+                    grams[i] = in.getInt();
+                }
+            }
+            long[] wideGrams = null;
+            int wideGramCount = in.getInt();
+            if (wideGramCount >= 0) {
+                wideGrams = new long[wideGramCount];
+                for (int i = 0; i < wideGramCount; i++) {
+                    wideGrams[i] = in.getLong();
+                }
+            }
+            bigrams = new NGramProfile(normalized, n, grams, wideGrams);
+        }
+
+        KoreanProfile korean = null;
+        if (in.get() != 0) {
+            korean = new KoreanProfile(readRef(in, strings), readRef(in, strings), readRef(in, strings));
+        }
+
+        return new NameFeatures(value, normalizedName, jaroWinkler, metaphone, soundexCode, bigrams, korean);
+    }
+
+    private static String readRef(ByteBuffer in, String[] strings) {
+        int ref = in.getInt();
+        return ref != NULL_REF ? strings[ref] : null;
+    }
+}
@@ -49,6 +49,9 @@ class AlertServiceTest {
     @Captor
     private ArgumentCaptor<AlertEntity> alertCaptor;
     
+    @Captor
+    private ArgumentCaptor<List<AlertEntity>> alertsCaptor;
+    
     private FilteringResult testFilteringResult;
     private CustomerInfo testCustomer;
     
@@ -165,6 +168,59 @@ class AlertServiceTest {
         }
     }
     
+    @Nested
+    @DisplayName("배치 Alert 생성 테스트")
+    class CreateAlertsBatchTest {
+        
+        @Test
+        @DisplayName("임계값 이상인 결과만 한 번에 저장하고 입력 순서대로 반환")
+        void shouldSaveAlertsInOneCall() throws Exception {
+            // given
+            FilteringResult lowScoreResult = FilteringResult.builder()
+                    .alert(false)
+                    .score(30.0)
+                    .matchedRules(List.of())
+                    .customerInfo(testCustomer)
+                    .build();
+            
+            when(objectMapper.writeValueAsString(any())).thenReturn("[]");
+            
+            // when
+            List<Optional<AlertEntity>> result = alertService.createAlertsIfNeeded(
+                    List.of(testFilteringResult, lowScoreResult, testFilteringResult));
+            
+            // then
+            assertThat(result).hasSize(3);
+            assertThat(result.get(0)).isPresent();
+            assertThat(result.get(1)).isEmpty();
+            assertThat(result.get(2)).isPresent();
+            assertThat(result.get(0).get().getAlertReference())
+                    .isNotEqualTo(result.get(2).get().getAlertReference());
+            verify(alertRepository).saveAll(alertsCaptor.capture());
+            assertThat(alertsCaptor.getValue()).hasSize(2);
+            verify(alertRepository, never()).save(any());
+        }
+        
+        @Test
+        @DisplayName("생성할 Alert가 없으면 저장하지 않음")
+        void shouldNotSaveWhenNoAlerts() {
+            // given
+            FilteringResult lowScoreResult = FilteringResult.builder()
+                    .alert(false)
+                    .score(30.0)
+                    .matchedRules(List.of())
+                    .customerInfo(testCustomer)
+                    .build();
+            
+            // when
+            List<Optional<AlertEntity>> result = alertService.createAlertsIfNeeded(List.of(lowScoreResult));
+            
+            // then
+            assertThat(result).containsExactly(Optional.empty());
+            verifyNoInteractions(alertRepository);
+        }
+    }
+    
     @Nested
     @DisplayName("Alert 조회 테스트")
     class GetAlertTest {
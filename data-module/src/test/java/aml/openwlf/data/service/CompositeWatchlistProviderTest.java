@@ -0,0 +1,104 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.filtering.CandidateIndex;
+import aml.openwlf.core.filtering.WatchlistProvider;
+import aml.openwlf.core.rule.WatchlistEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompositeWatchlistProvider 테스트")
+class CompositeWatchlistProviderTest {
+
+    private final FixedProvider internal = new FixedProvider(
+            WatchlistEntry.builder().id(1L).name("John Smith").listSource("INTERNAL").build());
+    private final FixedProvider sanctions = new FixedProvider(
+            WatchlistEntry.builder().id(1L).name("Maria Garcia").listSource("OFAC").build());
+
+    @Test
+    @DisplayName("두 목록을 합친 항목과 후보 색인을 제공")
+    void shouldCombineProviders() {
+        // given
+        CompositeWatchlistProvider composite = new CompositeWatchlistProvider(List.of(internal, sanctions));
+
+        // then
+        assertThat(composite.getAllEntries()).extracting(WatchlistEntry::getName)
+                .containsExactly("John Smith", "Maria Garcia");
+        assertThat(composite.getEntriesBySource("OFAC")).extracting(WatchlistEntry::getName)
+                .containsExactly("Maria Garcia");
+        assertThat(composite.getCandidateIndex().findCandidates("Jon Smith", 0.3))
+                .extracting(WatchlistEntry::getName)
+                .containsExactly("John Smith");
+        assertThat(composite.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("구성 목록의 버전이 바뀔 때만 다시 합침")
+    void shouldRebuildOnlyWhenVersionChanges() {
+        // given
+        CompositeWatchlistProvider composite = new CompositeWatchlistProvider(List.of(internal, sanctions));
+        List<WatchlistEntry> first = composite.getAllEntries();
+
+        // when
+        List<WatchlistEntry> unchanged = composite.getAllEntries();
+        sanctions.replace(WatchlistEntry.builder().id(2L).name("Ali Hassan").listSource("UN").build());
+        List<WatchlistEntry> changed = composite.getAllEntries();
+
+        // then
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed).extracting(WatchlistEntry::getName).containsExactly("John Smith", "Ali Hassan");
+        assertThat(composite.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("목록이 하나면 그대로 위임")
+    void shouldDelegateSingleProvider() {
+        // given
+        CompositeWatchlistProvider composite = new CompositeWatchlistProvider(List.of(sanctions));
+
+        // then
+        assertThat(composite.getAllEntries()).isSameAs(sanctions.getAllEntries());
+        assertThat(composite.getCandidateIndex()).isSameAs(sanctions.getCandidateIndex());
+        assertThat(composite.getVersion()).isEqualTo(1L);
+    }
+
+    private static class FixedProvider implements WatchlistProvider {
+
+        private List<WatchlistEntry> entries;
+        private CandidateIndex index;
+        private long version;
+
+        FixedProvider(WatchlistEntry entry) {
+            replace(entry);
+        }
+
+        void replace(WatchlistEntry entry) {
+            entries = List.of(entry);
+            index = CandidateIndex.build(entries);
+            version++;
+        }
+
+        @Override
+        public List<WatchlistEntry> getAllEntries() {
+            return entries;
+        }
+
+        @Override
+        public List<WatchlistEntry> getEntriesBySource(String source) {
+            return source.equals(entries.get(0).getListSource()) ? entries : List.of();
+        }
+
+        @Override
+        public CandidateIndex getCandidateIndex() {
+            return index;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.model.CustomerInfo;
+import aml.openwlf.core.model.FilteringResult;
+import aml.openwlf.data.config.PersistenceProperties;
+import aml.openwlf.data.entity.AlertEntity;
+import aml.openwlf.data.repository.FilteringResultJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FilteringPersistencePipeline 테스트")
+class FilteringPersistencePipelineTest {
+    
+    @Mock
+    private FilteringHistoryService historyService;
+    
+    @Mock
+    private AlertService alertService;
+    
+    @Mock
+    private FilteringResultJdbcRepository jdbcRepository;
+    
+    @Spy
+    private PersistenceProperties properties = new PersistenceProperties();
+    
+    @InjectMocks
+    private FilteringPersistencePipeline pipeline;
+    
+    @Captor
+    private ArgumentCaptor<List<FilteringResultJdbcRepository.Row>> rowsCaptor;
+    
+    private FilteringResult alertResult;
+    private FilteringResult cleanResult;
+    
+    @BeforeEach
+    void setUp() {
+        CustomerInfo customer = CustomerInfo.builder().name("John Smith").customerId("CUST-001").build();
+        alertResult = FilteringResult.builder().alert(true).score(85.0).matchedRules(List.of()).customerInfo(customer).build();
+        cleanResult = FilteringResult.builder().alert(false).score(10.0).matchedRules(List.of()).customerInfo(customer).build();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+    
+    @Nested
+    @DisplayName("동기 저장 모드 테스트")
+    class SyncModeTest {
+        
+        @Test
+        @DisplayName("이력과 Alert를 JPA 서비스로 즉시 저장")
+        void shouldPersistThroughServices() {
+            // given
+            pipeline.start();
+            AlertEntity alert = AlertEntity.builder().alertReference("ALT-20250101-ABCD1234").build();
+            when(alertService.createAlertIfNeeded(alertResult)).thenReturn(Optional.of(alert));
+            
+            // when
+            String reference = pipeline.persist(alertResult);
+            
+            // then
+            assertThat(reference).isEqualTo("ALT-20250101-ABCD1234");
+            verify(historyService).saveFilteringResult(alertResult);
+            verifyNoInteractions(jdbcRepository);
+        }
+        
+        @Test
+        @DisplayName("이력 저장 실패는 요청을 실패시키지 않음")
+        void shouldIgnoreHistoryFailure() {
+            // given
+            pipeline.start();
+            when(historyService.saveFilteringResult(cleanResult)).thenThrow(new RuntimeException("DB down"));
+            when(alertService.createAlertIfNeeded(cleanResult)).thenReturn(Optional.empty());
+            
+            // when
+            String reference = pipeline.persist(cleanResult);
+            
+            // then
+            assertThat(reference).isNull();
+        }
+    }
+    
+    @Nested
+    @DisplayName("Write-behind 모드 테스트")
+    class WriteBehindModeTest {
+        
+        @BeforeEach
+        void setUpWriteBehind() {
+            properties.setMode(PersistenceProperties.Mode.WRITE_BEHIND);
+            properties.setPollTimeoutMs(10);
+        }
+        
+        @Test
+        @DisplayName("선할당한 Alert Reference를 즉시 반환하고 종료 시 큐를 모두 저장")
+        void shouldReturnPreallocatedReferenceAndFlushOnShutdown() {
+            // given
+            pipeline.start();
+            when(alertService.requiresAlert(alertResult)).thenReturn(true);
+            when(alertService.requiresAlert(cleanResult)).thenReturn(false);
+            when(alertService.allocateAlertReference()).thenReturn("ALT-20250101-ABCD1234");
+            
+            // when
+            String alertReference = pipeline.persist(alertResult);
+            String cleanReference = pipeline.persist(cleanResult);
+            pipeline.shutdown();
+            
+            // then
+            assertThat(alertReference).isEqualTo("ALT-20250101-ABCD1234");
+            assertThat(cleanReference).isNull();
+            
+            verify(jdbcRepository, atLeastOnce()).insertAll(rowsCaptor.capture());
+            List<FilteringResultJdbcRepository.Row> rows = new ArrayList<>();
+            rowsCaptor.getAllValues().forEach(rows::addAll);
+            assertThat(rows).extracting(FilteringResultJdbcRepository.Row::alertReference)
+                    .containsExactly("ALT-20250101-ABCD1234", null);
+            
+            FilteringPersistencePipeline.PipelineStats stats = pipeline.getStats();
+            assertThat(stats.getWritten()).isEqualTo(2);
+            assertThat(stats.getQueueDepth()).isZero();
+            verifyNoInteractions(historyService);
+        }
+        
+        @Test
+        @DisplayName("종료 후 요청은 호출 스레드가 직접 저장하고 실패 건수를 집계")
+        void shouldWriteOnCallerThreadAfterShutdown() {
+            // given
+            pipeline.start();
+            when(alertService.requiresAlert(any())).thenReturn(false);
+            doThrow(new RuntimeException("constraint violation")).when(jdbcRepository).insertAll(any());
+            pipeline.shutdown();
+            
+            // when - 종료 후에는 요청 스레드가 직접 저장
+            pipeline.persist(cleanResult);
+            
+            // then
+            FilteringPersistencePipeline.PipelineStats stats = pipeline.getStats();
+            assertThat(stats.getCallerWrites()).isEqualTo(1);
+            assertThat(stats.getWritten()).isZero();
+            assertThat(stats.getFailed()).isEqualTo(1);
+            verify(jdbcRepository, times(2)).insertAll(any());
+        }
+    }    
+    @Nested
+    @DisplayName("메트릭 테스트")
+    class MetricsTest {
+        
+        private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        
+        @Test
+        @DisplayName("동기 저장은 이력·Alert 저장 시간을 작업별로 기록")
+        void shouldTimeHistoryAndAlertWrites() {
+            // given
+            pipeline.bindTo(registry);
+            pipeline.start();
+            when(alertService.createAlertIfNeeded(any())).thenReturn(Optional.empty());
+            
+            // when
+            pipeline.persist(cleanResult);
+            pipeline.persistAll(List.of(alertResult, cleanResult));
+            
+            // then
+            assertThat(writeCount("history")).isEqualTo(2.0);
+            assertThat(writeCount("alert")).isEqualTo(2.0);
+            assertThat(writeCount("batch")).isZero();
+        }
+        
+        @Test
+        @DisplayName("Write-behind 모드는 JDBC 배치 저장 시간과 저장 건수를 기록")
+        void shouldTimeBatchWrites() {
+            // given
+            properties.setMode(PersistenceProperties.Mode.WRITE_BEHIND);
+            properties.setPollTimeoutMs(10);
+            pipeline.bindTo(registry);
+            pipeline.start();
+            when(alertService.requiresAlert(any())).thenReturn(false);
+            
+            // when
+            pipeline.persist(cleanResult);
+            pipeline.shutdown();
+            
+            // then
+            assertThat(registry.get("openwlf.persistence.write").tags("operation", "batch", "mode", "WRITE_BEHIND")
+                    .functionTimer().count()).isGreaterThanOrEqualTo(1.0);
+            assertThat(registry.get("openwlf.persistence.rows").tag("outcome", "written")
+                    .functionCounter().count()).isEqualTo(1.0);
+            assertThat(writeCount("history")).isZero();
+        }
+        
+        private double writeCount(String operation) {
+            return registry.get("openwlf.persistence.write").tag("operation", operation)
+                    .functionTimer().count();
+        }
+    }
+}
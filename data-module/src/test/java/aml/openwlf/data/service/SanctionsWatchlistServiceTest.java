@@ -0,0 +1,161 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.matching.NameFeatureCompiler;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.data.config.WatchlistProviderProperties;
+import aml.openwlf.data.repository.EntityNameRepository;
+import aml.openwlf.data.repository.SanctionsEntityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SanctionsWatchlistService 테스트")
+class SanctionsWatchlistServiceTest {
+
+    @Mock
+    private SanctionsEntityRepository sanctionsRepository;
+
+    @Mock
+    private EntityNameRepository nameRepository;
+
+    @Mock
+    private NameFeatureCompiler featureCompiler;
+
+    private WatchlistProviderProperties properties;
+    private SanctionsWatchlistService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WatchlistProviderProperties();
+        properties.setMode(WatchlistProviderProperties.Mode.SANCTIONS);
+        properties.setSanctionsPageSize(2);
+        service = new SanctionsWatchlistService(sanctionsRepository, nameRepository, featureCompiler, properties);
+    }
+
+    @Nested
+    @DisplayName("캐시 적재 테스트")
+    class LoadTest {
+
+        @Test
+        @DisplayName("제재 대상을 페이지 단위로 읽어 이름과 별칭을 가진 항목으로 변환")
+        void shouldLoadEntitiesPageByPage() {
+            // given
+            when(sanctionsRepository.findActiveForScreening(eq(0L), isNull(), any(Pageable.class)))
+                    .thenReturn(List.of(entity(1L, "OFAC", "Kim Jong Un"), entity(2L, "UN", null)));
+            when(sanctionsRepository.findActiveForScreening(eq(2L), isNull(), any(Pageable.class)))
+                    .thenReturn(List.of(entity(5L, "EU", "Acme Trading")));
+            when(nameRepository.findForScreening(anyCollection())).thenReturn(List.of(
+                    name(1L, "Primary", "Kim Jong Un"),
+                    name(1L, "AKA", "Kim Jong-un"),
+                    name(2L, "Primary", "Ivan Petrov"),
+                    name(2L, "AKA", "Ivan Petrov")));
+
+            // when
+            service.initializeCache();
+
+            // then
+            assertThat(service.getAllEntries())
+                    .extracting(WatchlistEntry::getId)
+                    .containsExactly(1L, 2L, 5L);
+            assertThat(service.getAllEntries().get(0).getAliases()).containsExactly("Kim Jong-un");
+            assertThat(service.getAllEntries().get(0).getEntryType()).isEqualTo("INDIVIDUAL");
+            assertThat(service.getAllEntries().get(1).getName()).isEqualTo("Ivan Petrov");
+            assertThat(service.getAllEntries().get(1).getAliases()).isEmpty();
+            assertThat(service.getEntriesBySource("EU")).hasSize(1);
+            assertThat(service.getCandidateIndex().size()).isEqualTo(3);
+            assertThat(service.getVersion()).isEqualTo(1L);
+            verify(sanctionsRepository, times(2)).findActiveForScreening(any(), isNull(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("제재 리스트를 사용하지 않는 모드에서는 시작 시 적재하지 않음")
+        void shouldSkipLoadWhenNotScreened() {
+            // given
+            properties.setMode(WatchlistProviderProperties.Mode.WATCHLIST);
+
+            // when
+            service.initializeCache();
+
+            // then
+            assertThat(service.getAllEntries()).isEmpty();
+            verifyNoInteractions(sanctionsRepository, nameRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("동기화 완료 반영 테스트")
+    class SyncCompletedTest {
+
+        @Test
+        @DisplayName("동기화된 리스트만 다시 읽어 추가/변경/제거를 한 버전으로 반영")
+        void shouldApplySyncedSourceOnly() {
+            // given
+            when(sanctionsRepository.findActiveForScreening(eq(0L), isNull(), any(Pageable.class)))
+                    .thenReturn(List.of(entity(1L, "OFAC", "Person A"), entity(2L, "OFAC", "Person B")));
+            when(sanctionsRepository.findActiveForScreening(eq(2L), isNull(), any(Pageable.class)))
+                    .thenReturn(List.of(entity(3L, "UN", "Person C")));
+            service.initializeCache();
+
+            when(sanctionsRepository.findActiveForScreening(eq(0L), eq("OFAC"), any(Pageable.class)))
+                    .thenReturn(List.of(entity(2L, "OFAC", "Person B Renamed"), entity(4L, "OFAC", "Person D")));
+            when(sanctionsRepository.findActiveForScreening(eq(4L), eq("OFAC"), any(Pageable.class)))
+                    .thenReturn(List.of());
+
+            // when
+            service.onSyncCompleted(new SanctionsSyncCompletedEvent("OFAC", 3));
+
+            // then
+            assertThat(service.getVersion()).isEqualTo(2L);
+            assertThat(service.getEntriesBySource("OFAC"))
+                    .extracting(WatchlistEntry::getName)
+                    .containsExactlyInAnyOrder("Person B Renamed", "Person D");
+            assertThat(service.getEntriesBySource("UN")).extracting(WatchlistEntry::getId).containsExactly(3L);
+            assertThat(service.getCandidateIndex().size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("제재 리스트를 사용하지 않는 모드에서는 동기화 이벤트를 무시")
+        void shouldIgnoreSyncWhenNotScreened() {
+            // given
+            properties.setMode(WatchlistProviderProperties.Mode.WATCHLIST);
+
+            // when
+            service.onSyncCompleted(new SanctionsSyncCompletedEvent("OFAC", 3));
+
+            // then
+            assertThat(service.getVersion()).isZero();
+            verifyNoInteractions(sanctionsRepository, nameRepository);
+        }
+    }
+
+    private SanctionsEntityRepository.ScreeningView entity(Long id, String sourceFile, String primaryName) {
+        return new Entity(id, sourceFile, "Individual", primaryName, LocalDate.of(1980, 1, 1), "KP");
+    }
+
+    private EntityNameRepository.ScreeningNameView name(Long entityId, String nameType, String fullName) {
+        return new Name(entityId, nameType, fullName);
+    }
+
+    private record Entity(Long getEntityId, String getSourceFile, String getEntityType, String getPrimaryName,
+                          LocalDate getBirthDate, String getNationality)
+            implements SanctionsEntityRepository.ScreeningView {}
+
+    private record Name(Long getEntityId, String getNameType, String getFullName)
+            implements EntityNameRepository.ScreeningNameView {}
+}
@@ -1,6 +1,9 @@
 package aml.openwlf.data.service;
 
+import aml.openwlf.core.matching.EntryFeatures;
+import aml.openwlf.core.matching.NameFeatureCompiler;
 import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.rule.WatchlistColumns;
 import aml.openwlf.core.rule.WatchlistEntry;
 import aml.openwlf.data.entity.WatchlistEntryEntity;
 import aml.openwlf.data.repository.WatchlistEntryRepository;
@@ -18,8 +21,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +47,12 @@ class WatchlistDataServiceTest {
     @Mock
     private ObjectMapper objectMapper;
     
+    @Mock
+    private NameFeatureCompiler featureCompiler;
+    
+    @Mock
+    private WatchlistSnapshotFile snapshotFile;
+    
     @InjectMocks
     private WatchlistDataService watchlistDataService;
     
@@ -142,6 +153,61 @@ class WatchlistDataServiceTest {
             assertThat(euEntries).isEmpty();
         }
         
+        @Test
+        @DisplayName("getCandidateIndex - 캐시 갱신 시 역색인 재구축")
+        void shouldRebuildCandidateIndexOnRefresh() {
+            // given
+            List<WatchlistEntryEntity> entries = List.of(
+                    createWatchlistEntity(1L, "John Smith", "OFAC", true),
+                    createWatchlistEntity(2L, "Maria Garcia", "UN", true)
+            );
+            when(repository.findByIsActiveTrue()).thenReturn(entries);
+            
+            // when
+            watchlistDataService.refreshCache();
+            
+            // then
+            assertThat(watchlistDataService.getCandidateIndex().size()).isEqualTo(2);
+            assertThat(watchlistDataService.getCandidateIndex().findCandidates("Jon Smith", 0.3))
+                    .extracting(WatchlistEntry::getId)
+                    .containsExactly(1L);
+        }
+        
+        @Test
+        @DisplayName("getColumns - 캐시 항목과 같은 순서의 열 배치 반환")
+        void shouldExposeColumnsInCacheOrder() {
+            // given
+            when(repository.findByIsActiveTrue()).thenReturn(List.of(
+                    createWatchlistEntity(1L, "John Smith", "OFAC", true),
+                    createWatchlistEntity(2L, "Maria Garcia", "UN", true)));
+            
+            // when
+            watchlistDataService.refreshCache();
+            WatchlistColumns columns = watchlistDataService.getColumns();
+            
+            // then
+            assertThat(columns.getEntries()).containsExactlyElementsOf(watchlistDataService.getAllEntries());
+            assertThat(columns.entry(columns.ordinalOf(2L)).getName()).isEqualTo("Maria Garcia");
+        }
+        
+        @Test
+        @DisplayName("캐시 갱신 시 항목별 매칭 특징 사전 계산")
+        void shouldPrecompileFeaturesOnRefresh() {
+            // given
+            EntryFeatures features = new EntryFeatures(null, List.of());
+            when(repository.findByIsActiveTrue()).thenReturn(List.of(
+                    createWatchlistEntity(1L, "John Smith", "OFAC", true)));
+            when(featureCompiler.compileEntry(any(WatchlistEntry.class))).thenReturn(features);
+            
+            // when
+            watchlistDataService.refreshCache();
+            
+            // then
+            assertThat(watchlistDataService.getAllEntries())
+                    .extracting(WatchlistEntry::getFeatures)
+                    .containsExactly(features);
+        }
+        
         @Test
         @DisplayName("존재하지 않는 소스 조회 시 빈 리스트 반환")
         void shouldReturnEmptyListForNonExistentSource() {
@@ -153,6 +219,139 @@ class WatchlistDataServiceTest {
         }
     }
     
+    @Nested
+    @DisplayName("스냅샷 교체 테스트")
+    class SnapshotSwapTest {
+        
+        @Test
+        @DisplayName("갱신 중에도 이전 스냅샷을 그대로 조회")
+        void shouldServePreviousSnapshotDuringRefresh() {
+            // given
+            when(repository.findByIsActiveTrue()).thenReturn(List.of(
+                    createWatchlistEntity(1L, "Person A", "OFAC", true),
+                    createWatchlistEntity(2L, "Person B", "UN", true)));
+            watchlistDataService.refreshCache();
+            
+            List<Integer> sizesSeenDuringLoad = new ArrayList<>();
+            when(repository.findByIsActiveTrue()).thenAnswer(invocation -> {
+                sizesSeenDuringLoad.add(watchlistDataService.getAllEntries().size());
+                sizesSeenDuringLoad.add(watchlistDataService.getEntriesBySource("OFAC").size());
+                return List.of(createWatchlistEntity(3L, "Person C", "EU", true));
+            });
+            
+            // when
+            watchlistDataService.refreshCache();
+            
+            // then
+            assertThat(sizesSeenDuringLoad).containsExactly(2, 1);
+            assertThat(watchlistDataService.getAllEntries())
+                    .extracting(WatchlistEntry::getId)
+                    .containsExactly(3L);
+        }
+        
+        @Test
+        @DisplayName("교체 전에 가져간 스냅샷은 변경되지 않음")
+        void shouldKeepHeldSnapshotUnchanged() {
+            // given
+            when(repository.findByIsActiveTrue()).thenReturn(List.of(
+                    createWatchlistEntity(1L, "Person A", "OFAC", true)));
+            watchlistDataService.refreshCache();
+            List<WatchlistEntry> held = watchlistDataService.getAllEntries();
+            long heldVersion = watchlistDataService.getVersion();
+            
+            WatchlistEntryEntity added = createWatchlistEntity(2L, "Person B", "OFAC", true);
+            when(normalizationService.normalizeName(any())).thenReturn("PERSON B");
+            when(repository.save(any())).thenReturn(added);
+            
+            // when
+            watchlistDataService.saveEntry(added);
+            watchlistDataService.deleteEntry(1L);
+            
+            // then
+            assertThat(held).extracting(WatchlistEntry::getId).containsExactly(1L);
+            assertThat(watchlistDataService.getAllEntries()).extracting(WatchlistEntry::getId).containsExactly(2L);
+            assertThat(watchlistDataService.getEntriesBySource("OFAC")).hasSize(1);
+            assertThat(watchlistDataService.getVersion()).isEqualTo(heldVersion + 2);
+        }
+        
+        @Test
+        @DisplayName("캐시에 없는 항목 삭제는 버전을 올리지 않음")
+        void shouldNotAdvanceVersionWhenRemovingUncachedEntry() {
+            // given
+            long version = watchlistDataService.getVersion();
+            
+            // when
+            watchlistDataService.deleteEntry(99L);
+            
+            // then
+            assertThat(watchlistDataService.getVersion()).isEqualTo(version);
+        }
+    }
+    
+    @Nested
+    @DisplayName("스냅샷 파일 테스트")
+    class SnapshotFileTest {
+        
+        private final WatchlistSnapshotFile.Fingerprint fingerprint =
+                new WatchlistSnapshotFile.Fingerprint(1L, LocalDateTime.of(2024, 1, 1, 9, 0));
+        
+        @BeforeEach
+        void enableSnapshotFile() {
+            when(snapshotFile.isEnabled()).thenReturn(true);
+            when(repository.countByIsActiveTrue()).thenReturn(fingerprint.activeCount());
+            when(repository.findLastUpdatedAt()).thenReturn(fingerprint.lastUpdatedAt());
+        }
+        
+        @Test
+        @DisplayName("현재 DB 상태로 기록된 파일이 있으면 DB를 읽지 않고 적재")
+        void shouldLoadFromCurrentSnapshotFile() {
+            // given
+            WatchlistEntry entry = WatchlistEntry.builder().id(7L).name("John Smith").listSource("OFAC").build();
+            when(snapshotFile.read(fingerprint)).thenReturn(Optional.of(List.of(entry)));
+            long version = watchlistDataService.getVersion();
+            
+            // when
+            watchlistDataService.initializeCache();
+            
+            // then
+            assertThat(watchlistDataService.getAllEntries()).containsExactly(entry);
+            assertThat(watchlistDataService.getCandidateIndex().size()).isEqualTo(1);
+            assertThat(watchlistDataService.getVersion()).isEqualTo(version + 1);
+            verify(repository, times(1)).findByIsActiveTrue();
+        }
+        
+        @Test
+        @DisplayName("파일을 사용할 수 없으면 DB에서 적재하고 파일을 다시 기록")
+        void shouldFallBackToDatabaseAndWriteFile() throws Exception {
+            // given
+            when(snapshotFile.read(fingerprint)).thenReturn(Optional.empty());
+            when(repository.findByIsActiveTrue()).thenReturn(List.of(
+                    createWatchlistEntity(1L, "Person A", "OFAC", true)));
+            
+            // when
+            watchlistDataService.initializeCache();
+            
+            // then
+            assertThat(watchlistDataService.getAllEntries()).extracting(WatchlistEntry::getId).containsExactly(1L);
+            verify(snapshotFile).write(watchlistDataService.getAllEntries(), fingerprint);
+        }
+        
+        @Test
+        @DisplayName("파일 기록이 실패해도 갱신된 캐시는 유지")
+        void shouldKeepCacheWhenWriteFails() throws Exception {
+            // given
+            when(repository.findByIsActiveTrue()).thenReturn(List.of(
+                    createWatchlistEntity(1L, "Person A", "OFAC", true)));
+            doThrow(new IOException("disk full")).when(snapshotFile).write(any(), any());
+            
+            // when
+            watchlistDataService.refreshCache();
+            
+            // then
+            assertThat(watchlistDataService.getAllEntries()).hasSize(1);
+        }
+    }
+    
     @Nested
     @DisplayName("데이터베이스 조회 테스트")
     class DatabaseQueryTest {
@@ -272,6 +471,39 @@ class WatchlistDataServiceTest {
             Optional<WatchlistEntry> cached = watchlistDataService.getEntryFromCache(1L);
             assertThat(cached).isEmpty();
         }
+        
+        @Test
+        @DisplayName("일괄 저장은 전체 재적재 없이 한 번의 버전으로 캐시에 반영")
+        void shouldApplySaveAllWithoutReload() {
+            // given
+            when(repository.findByIsActiveTrue()).thenReturn(List.of(
+                    createWatchlistEntity(1L, "Person A", "OFAC", true),
+                    createWatchlistEntity(2L, "Person B", "UN", true)));
+            watchlistDataService.refreshCache();
+            long version = watchlistDataService.getVersion();
+            
+            List<WatchlistEntryEntity> batch = List.of(
+                    createWatchlistEntity(2L, "Person B", "UN", false),
+                    createWatchlistEntity(3L, "Person C", "OFAC", true),
+                    createWatchlistEntity(4L, "Person D", "EU", true));
+            when(normalizationService.normalizeName(any())).thenReturn("PERSON");
+            when(repository.saveAll(batch)).thenReturn(batch);
+            
+            // when
+            watchlistDataService.saveAll(batch);
+            
+            // then
+            verify(repository, times(2)).findByIsActiveTrue();
+            assertThat(watchlistDataService.getVersion()).isEqualTo(version + 1);
+            assertThat(watchlistDataService.getAllEntries())
+                    .extracting(WatchlistEntry::getId)
+                    .containsExactlyInAnyOrder(1L, 3L, 4L);
+            assertThat(watchlistDataService.getEntriesBySource("OFAC"))
+                    .extracting(WatchlistEntry::getId)
+                    .containsExactlyInAnyOrder(1L, 3L);
+            assertThat(watchlistDataService.getEntriesBySource("UN")).isEmpty();
+            assertThat(watchlistDataService.getCandidateIndex().size()).isEqualTo(3);
+        }
     }
     
     @Nested
@@ -0,0 +1,150 @@
+package aml.openwlf.data.service;
+
+import aml.openwlf.core.matching.AdvancedMatchingService;
+import aml.openwlf.core.matching.MatchingWeightProperties;
+import aml.openwlf.core.matching.NameFeatureCompiler;
+import aml.openwlf.core.matching.strategy.*;
+import aml.openwlf.core.normalization.NormalizationService;
+import aml.openwlf.core.rule.WatchlistEntry;
+import aml.openwlf.data.config.WatchlistSnapshotFileProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WatchlistSnapshotFile 테스트")
+class WatchlistSnapshotFileTest {
+
+    private static final WatchlistSnapshotFile.Fingerprint FINGERPRINT =
+            new WatchlistSnapshotFile.Fingerprint(3L, LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000));
+
+    @TempDir
+    Path tempDir;
+
+    private Path path;
+    private WatchlistSnapshotFile snapshotFile;
+    private List<WatchlistEntry> entries;
+
+    @BeforeEach
+    void setUp() {
+        path = tempDir.resolve("watchlist.snapshot");
+        WatchlistSnapshotFileProperties properties = new WatchlistSnapshotFileProperties();
+        properties.setEnabled(true);
+        properties.setPath(path.toString());
+        snapshotFile = new WatchlistSnapshotFile(properties);
+
+        NameFeatureCompiler compiler = new NameFeatureCompiler(new NormalizationService(),
+                new AdvancedMatchingService(
+                        new SoundexMatchingStrategy(),
+                        new MetaphoneMatchingStrategy(),
+                        new JaroWinklerMatchingStrategy(),
+                        new NGramMatchingStrategy(),
+                        new KoreanNameMatchingStrategy(),
+                        new MatchingWeightProperties()));
+
+        entries = new ArrayList<>(List.of(
+                WatchlistEntry.builder().id(1L).name("John Smith")
+                        .aliases(List.of("Johnny Smith", "J. Smith"))
+                        .dateOfBirth(LocalDate.of(1970, 1, 15)).nationality("US")
+                        .listSource("OFAC").entryType("INDIVIDUAL").build(),
+                WatchlistEntry.builder().id(2L).name("홍길동")
+                        .aliases(List.of()).nationality("KP")
+                        .listSource("UN").entryType("INDIVIDUAL").build(),
+                WatchlistEntry.builder().id(3L).name("Acme Trading LLC")
+                        .listSource("EU").entryType("ENTITY").build()));
+        entries.forEach(entry -> entry.setFeatures(compiler.compileEntry(entry)));
+    }
+
+    @Nested
+    @DisplayName("기록 및 적재 테스트")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("기록한 항목과 매칭 특징을 그대로 적재")
+        void shouldRoundTripEntriesAndFeatures() throws Exception {
+            // when
+            snapshotFile.write(entries, FINGERPRINT);
+            Optional<List<WatchlistEntry>> loaded = snapshotFile.read(FINGERPRINT);
+
+            // then
+            assertThat(loaded).isPresent();
+            assertThat(loaded.get()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(entries);
+            assertThat(loaded.get().get(2).getAliases()).isNull();
+        }
+
+        @Test
+        @DisplayName("같은 문자열은 한 번만 기록하고 적재 시 공유")
+        void shouldShareRepeatedStrings() throws Exception {
+            // when
+            snapshotFile.write(entries, FINGERPRINT);
+            List<WatchlistEntry> loaded = snapshotFile.read(FINGERPRINT).orElseThrow();
+
+            // then
+            assertThat(loaded.get(0).getEntryType()).isSameAs(loaded.get(1).getEntryType());
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 테스트")
+    class ValidationTest {
+
+        @Test
+        @DisplayName("DB 상태가 다르면 적재하지 않음")
+        void shouldRejectDifferentFingerprint() throws Exception {
+            // given
+            snapshotFile.write(entries, FINGERPRINT);
+
+            // when
+            Optional<List<WatchlistEntry>> loaded = snapshotFile.read(
+                    new WatchlistSnapshotFile.Fingerprint(4L, FINGERPRINT.lastUpdatedAt()));
+
+            // then
+            assertThat(loaded).isEmpty();
+        }
+
+        @Test
+        @DisplayName("본문이 손상되면 체크섬 불일치로 적재하지 않음")
+        void shouldRejectCorruptedBody() throws Exception {
+            // given
+            snapshotFile.write(entries, FINGERPRINT);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{0x7F}), Files.size(path) - 10);
+            }
+
+            // when
+            Optional<List<WatchlistEntry>> loaded = snapshotFile.read(FINGERPRINT);
+
+            // then
+            assertThat(loaded).isEmpty();
+        }
+
+        @Test
+        @DisplayName("파일이 없거나 스냅샷 형식이 아니면 적재하지 않음")
+        void shouldRejectMissingOrForeignFile() throws Exception {
+            // given
+            Optional<List<WatchlistEntry>> missing = snapshotFile.read(FINGERPRINT);
+            Files.write(path, new byte[128]);
+
+            // when
+            Optional<List<WatchlistEntry>> foreign = snapshotFile.read(FINGERPRINT);
+
+            // then
+            assertThat(missing).isEmpty();
+            assertThat(foreign).isEmpty();
+        }
+    }
+}